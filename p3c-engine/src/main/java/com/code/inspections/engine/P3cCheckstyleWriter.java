@@ -0,0 +1,48 @@
+package com.code.inspections.engine;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Checkstyle XML 格式的报告，每个检查过的文件一个 {@code <file>}，无法检查的文件输出 {@code <exception>}。
+ *
+ * @author liuzhihang
+ * @version P3cCheckstyleWriter.java, v 0.1 2026/10/18 liuzhihang
+ */
+public final class P3cCheckstyleWriter extends P3cReportWriter {
+
+    public P3cCheckstyleWriter(@NotNull Writer out) {
+        super(out);
+    }
+
+    @Override
+    protected void writeHeader() throws IOException {
+        out.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<checkstyle version=\"8.0\">\n");
+    }
+
+    @Override
+    protected void writeFile(@NotNull Path file, @NotNull List<P3cProblem> problems) throws IOException {
+        out.write("<file name=\"" + xml(file.toString()) + "\">\n");
+        for (P3cProblem problem : problems) {
+            out.write("<error line=\"" + problem.line() + "\" column=\"" + problem.column()
+                    + "\" severity=\"warning\" message=\"" + xml(problem.message())
+                    + "\" source=\"p3c." + problem.rule().getShortName() + "\"/>\n");
+        }
+        out.write("</file>\n");
+    }
+
+    @Override
+    protected void writeFailure(@NotNull Path file, @NotNull Exception error) throws IOException {
+        out.write("<file name=\"" + xml(file.toString()) + "\">\n<exception>" + xml(failureMessage(error))
+                + "</exception>\n</file>\n");
+    }
+
+    @Override
+    protected void writeFooter() throws IOException {
+        out.write("</checkstyle>\n");
+    }
+}
@@ -0,0 +1,160 @@
+package com.code.inspections.engine;
+
+import com.code.inspections.baseline.P3cBaselineFile;
+import com.code.inspections.javac.P3cOptions;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 按目录解析 {@code .p3c.properties}，与 IDE 中 P3cDirectoryConfig 的规则一致：
+ * 下级目录的配置覆盖上级目录，向上查找到根目录为止，有效配置按目录缓存，没有配置文件的目录共用上级目录的配置。
+ * <p>
+ * 根目录下的基线文件 {@value P3cBaselineFile#FILE_NAME} 与 IDE 共用，首次使用时加载，配置失效后按修改时间判断是否重新加载。
+ *
+ * @author liuzhihang
+ * @version P3cConfigResolver.java, v 0.1 2026/10/18 liuzhihang
+ */
+public final class P3cConfigResolver {
+
+    /**
+     * 配置文件名
+     */
+    public static final String FILE_NAME = ".p3c.properties";
+
+    /**
+     * 根目录，不在根目录下的文件使用基础配置
+     */
+    private final Path root;
+
+    /**
+     * 根目录的上级配置
+     */
+    private final P3cOptions base;
+
+    /**
+     * 目录的有效配置
+     */
+    private final Map<Path, P3cOptions> cache = new ConcurrentHashMap<>();
+
+    /**
+     * 是否使用基线过滤问题
+     */
+    private final boolean useBaseline;
+
+    /**
+     * 已加载的基线
+     */
+    private volatile P3cBaselineFile baseline;
+
+    /**
+     * 失效后是否已检查过基线文件的修改时间
+     */
+    private volatile boolean baselineChecked;
+
+    /**
+     * 已加载的基线文件的修改时间，文件不存在时为 null
+     */
+    private FileTime baselineModified;
+
+    public P3cConfigResolver(@NotNull Path root, @NotNull P3cOptions base) {
+        this(root, base, true);
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param root        根目录
+     * @param base        根目录的上级配置
+     * @param useBaseline 是否使用根目录下的基线过滤问题
+     */
+    public P3cConfigResolver(@NotNull Path root, @NotNull P3cOptions base, boolean useBaseline) {
+        this.root = root.toAbsolutePath().normalize();
+        this.base = base;
+        this.useBaseline = useBaseline;
+    }
+
+    /**
+     * 获取文件的有效配置
+     *
+     * @param file 文件
+     * @return 配置
+     */
+    @NotNull
+    public P3cOptions resolve(@NotNull Path file) {
+        Path directory = file.toAbsolutePath().normalize().getParent();
+        return directory == null || !directory.startsWith(root) ? base : resolveDirectory(directory);
+    }
+
+    /**
+     * 获取根目录下的基线，不使用基线或没有基线文件时为空基线
+     *
+     * @return 基线
+     */
+    @NotNull
+    public P3cBaselineFile getBaseline() {
+        if (!useBaseline) {
+            return P3cBaselineFile.EMPTY;
+        }
+        if (!baselineChecked) {
+            synchronized (this) {
+                if (!baselineChecked) {
+                    Path file = root.resolve(P3cBaselineFile.FILE_NAME);
+                    try {
+                        FileTime modified = Files.isRegularFile(file) ? Files.getLastModifiedTime(file) : null;
+                        if (baseline == null || !Objects.equals(modified, baselineModified)) {
+                            // 与 IDE 一致，无法解析的记录直接跳过
+                            baseline = P3cBaselineFile.load(file, line -> {
+                            });
+                            baselineModified = modified;
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("无法读取基线文件：" + file, e);
+                    }
+                    baselineChecked = true;
+                }
+            }
+        }
+        return baseline;
+    }
+
+    /**
+     * 配置文件或基线文件变化时清空缓存，基线文件没有修改时不重新读取
+     */
+    public void invalidate() {
+        cache.clear();
+        baselineChecked = false;
+    }
+
+    private P3cOptions resolveDirectory(Path directory) {
+        P3cOptions cached = cache.get(directory);
+        if (cached != null) {
+            return cached;
+        }
+        P3cOptions parent = directory.equals(root) || directory.getParent() == null ? base : resolveDirectory(directory.getParent());
+        Path file = directory.resolve(FILE_NAME);
+        P3cOptions options = Files.isRegularFile(file) ? parent.overlay(load(file)) : parent;
+        P3cOptions previous = cache.putIfAbsent(directory, options);
+        return previous != null ? previous : options;
+    }
+
+    private static Properties load(Path file) {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException("无法读取配置文件：" + file, e);
+        }
+        return properties;
+    }
+}
@@ -0,0 +1,193 @@
+package com.code.inspections.engine;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.AsynchronousCloseException;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 常驻的检查守护进程，引擎和规则保持加载和 JIT 编译后的状态，通过本地 Unix 域套接字接收检查请求，
+ * 用于 git 钩子等频繁的小批量检查，省去每次启动 JVM 和加载类的开销。
+ * <p>
+ * 协议为 UTF-8 文本，按行分隔：
+ * <ul>
+ *     <li>请求：每行一个文件或目录；{@code cwd <目录>} 指定相对路径的基准目录，默认为守护进程的工作目录；
+ *     单独一行 {@code staged} 表示检查 git 暂存区中的内容（{@link P3cSourceReader#GIT_INDEX}）；空行或关闭输出表示请求结束；单独一行 {@code stop} 停止守护进程</li>
+ *     <li>响应：每个问题一行，格式与命令行输出一致，无法检查的文件同样输出一行；
+ *     最后一行为 {@code done <文件数> <问题数> <无法检查数>}，随后关闭连接</li>
+ * </ul>
+ * 每个请求开始时重新读取 {@code .p3c.properties}。
+ * <p>
+ * 套接字只允许当前用户连接：新建的目录权限为 {@code rwx------}，套接字文件权限为 {@code rw-------}，
+ * 不支持 POSIX 权限的文件系统上保持默认权限。
+ *
+ * @author liuzhihang
+ * @version P3cDaemon.java, v 0.1 2026/10/18 liuzhihang
+ */
+public final class P3cDaemon implements AutoCloseable {
+
+    /**
+     * 新建的套接字目录的权限
+     */
+    private static final Set<PosixFilePermission> DIRECTORY_PERMISSIONS = PosixFilePermissions.fromString("rwx------");
+
+    /**
+     * 套接字文件的权限
+     */
+    private static final Set<PosixFilePermission> SOCKET_PERMISSIONS = PosixFilePermissions.fromString("rw-------");
+
+    private final P3cEngine engine;
+
+    private final P3cConfigResolver configs;
+
+    private final Path socket;
+
+    private final ServerSocketChannel server;
+
+    /**
+     * 处理连接的线程，检查本身在引擎的线程池中执行
+     */
+    private final ExecutorService connections = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "p3c-daemon-connection");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile boolean running = true;
+
+    /**
+     * 构造函数，绑定套接字
+     *
+     * @param engine  引擎
+     * @param configs 按目录解析的配置
+     * @param socket  套接字文件
+     * @throws IOException 套接字已被其他守护进程使用或无法绑定
+     */
+    public P3cDaemon(@NotNull P3cEngine engine, @NotNull P3cConfigResolver configs, @NotNull Path socket) throws IOException {
+        this.engine = engine;
+        this.configs = configs;
+        this.socket = socket.toAbsolutePath();
+        UnixDomainSocketAddress address = UnixDomainSocketAddress.of(this.socket);
+        if (Files.exists(this.socket)) {
+            removeStaleSocket(address);
+        }
+        boolean posix = this.socket.getFileSystem().supportedFileAttributeViews().contains("posix");
+        Path directory = this.socket.getParent();
+        if (directory != null && !Files.isDirectory(directory)) {
+            if (posix) {
+                Files.createDirectories(directory, PosixFilePermissions.asFileAttribute(DIRECTORY_PERMISSIONS));
+            } else {
+                Files.createDirectories(directory);
+            }
+        }
+        this.server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        try {
+            this.server.bind(address);
+            // 绑定时按 umask 创建套接字文件，在接收连接之前收紧为只有当前用户可读写
+            if (posix) {
+                Files.setPosixFilePermissions(this.socket, SOCKET_PERMISSIONS);
+            }
+        } catch (IOException e) {
+            this.server.close();
+            Files.deleteIfExists(this.socket);
+            throw e;
+        }
+    }
+
+    /**
+     * 接收请求，直到收到停止请求或被关闭
+     *
+     * @throws IOException 接收连接失败
+     */
+    public void serve() throws IOException {
+        while (running) {
+            SocketChannel channel;
+            try {
+                channel = server.accept();
+            } catch (AsynchronousCloseException e) {
+                return;
+            }
+            connections.execute(() -> handle(channel));
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        running = false;
+        connections.shutdown();
+        server.close();
+        Files.deleteIfExists(socket);
+    }
+
+    private void handle(SocketChannel channel) {
+        try (channel;
+             BufferedReader reader = new BufferedReader(Channels.newReader(channel, StandardCharsets.UTF_8));
+             PrintStream out = new PrintStream(Channels.newOutputStream(channel), false, StandardCharsets.UTF_8)) {
+            Path base = Paths.get("").toAbsolutePath();
+            List<Path> paths = new ArrayList<>();
+            P3cSourceReader sourceReader = P3cSourceReader.WORKING_TREE;
+            String line;
+            while ((line = reader.readLine()) != null && !line.isEmpty()) {
+                if ("stop".equals(line)) {
+                    out.println("stopped");
+                    out.flush();
+                    close();
+                    return;
+                }
+                if ("staged".equals(line)) {
+                    sourceReader = P3cSourceReader.GIT_INDEX;
+                } else if (line.startsWith("cwd ")) {
+                    base = Paths.get(line.substring(4));
+                } else {
+                    paths.add(base.resolve(line));
+                }
+            }
+            configs.invalidate();
+            P3cPrintListener listener = new P3cPrintListener(out, out);
+            engine.checkPaths(paths, sourceReader, listener);
+            out.println("done " + listener.getFileCount() + " " + listener.getProblemCount() + " " + listener.getFailedCount());
+            out.flush();
+        } catch (IOException ignored) {
+            // 客户端提前断开
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 套接字文件已存在时，能连接上说明守护进程仍在运行，否则是上次异常退出留下的文件
+     */
+    private static void removeStaleSocket(UnixDomainSocketAddress address) throws IOException {
+        boolean alive;
+        try (SocketChannel ignored = SocketChannel.open(address)) {
+            alive = true;
+        } catch (IOException e) {
+            alive = false;
+        }
+        if (alive) {
+            throw new IOException("守护进程已在运行：" + address.getPath());
+        }
+        if (Files.isDirectory(address.getPath()) || Files.isRegularFile(address.getPath())) {
+            throw new IOException("不是套接字文件：" + address.getPath());
+        }
+        Files.delete(address.getPath());
+    }
+}
@@ -0,0 +1,497 @@
+package com.code.inspections.engine;
+
+import com.code.inspections.baseline.P3cBaselineFile;
+import com.code.inspections.javac.P3cBaselineFilter;
+import com.code.inspections.javac.P3cOptions;
+import com.code.inspections.javac.P3cRuleScanner;
+import com.code.inspections.javac.SourceText;
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.tree.LineMap;
+import com.sun.source.util.JavacTask;
+import com.sun.source.util.Trees;
+import org.jetbrains.annotations.NotNull;
+
+import javax.tools.Diagnostic;
+import javax.tools.JavaCompiler;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 不依赖 IDE 的 Ali-P3C 检查引擎，使用 JDK 自带的编译器语法树 API 解析源码，规则由 {@link P3cRuleScanner} 执行。
+ * <p>
+ * 文件按批次解析，批次在 work-stealing 线程池中执行并继续拆分，同时在途的批次数有上限；
+ * 每个文件检查完成后立即把结果交给 {@link P3cFileListener}，语法树随批次释放，内存占用与仓库大小无关。
+ * 需要按顺序回调时，批次的结果先缓存，轮到该批次时再依次交出，交出之后才释放在途的名额。
+ * <p>
+ * 只解析语法树、不做类型解析，需要类型解析的规则（OverrideAnnotation、DuplicateVariableNaming）不运行，
+ * 需要这些规则时使用编译期插件。基线（{@link P3cConfigResolver#getBaseline()}）中已记录的问题不报告。
+ *
+ * @author liuzhihang
+ * @version P3cEngine.java, v 0.1 2026/10/18 liuzhihang
+ */
+public final class P3cEngine implements AutoCloseable {
+
+    /**
+     * 一次解析的文件数
+     */
+    public static final int BATCH_SIZE = 32;
+
+    /**
+     * 批次拆分到该文件数以下时不再拆分
+     */
+    private static final int MIN_SPLIT_SIZE = 4;
+
+    /**
+     * 只解析语法树，不运行注解处理器
+     */
+    private static final List<String> JAVAC_OPTIONS = List.of("-proc:none");
+
+    private final JavaCompiler compiler;
+
+    private final P3cConfigResolver configs;
+
+    private final Charset charset;
+
+    private final ForkJoinPool pool;
+
+    private final int parallelism;
+
+    /**
+     * 每个工作线程复用一个文件管理器
+     */
+    private final ThreadLocal<StandardJavaFileManager> fileManagers;
+
+    private final Queue<StandardJavaFileManager> openFileManagers = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 构造函数
+     *
+     * @param configs     按目录解析的配置
+     * @param charset     源码编码
+     * @param parallelism 并行线程数
+     */
+    public P3cEngine(@NotNull P3cConfigResolver configs, @NotNull Charset charset, int parallelism) {
+        this.compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("当前运行环境没有 Java 编译器，请使用 JDK 运行");
+        }
+        this.configs = configs;
+        this.charset = charset;
+        this.parallelism = Math.max(1, parallelism);
+        this.pool = new ForkJoinPool(this.parallelism);
+        this.fileManagers = ThreadLocal.withInitial(() -> {
+            StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, charset);
+            openFileManagers.add(fileManager);
+            return fileManager;
+        });
+    }
+
+    /**
+     * 列出目录下所有的 Java 源文件，跳过隐藏目录；每个目录按名称排列后深度优先遍历，多次运行的顺序一致
+     *
+     * @param root 文件或目录
+     * @return 源文件，使用后需要关闭
+     * @throws IOException 读取目录失败
+     */
+    @NotNull
+    public static Stream<Path> javaFiles(@NotNull Path root) throws IOException {
+        if (!Files.isDirectory(root)) {
+            return isJavaFile(root) ? Stream.of(root) : Stream.empty();
+        }
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(new SortedWalk(root),
+                Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * 检查文件和目录下的所有源文件，所有文件检查完成后返回
+     *
+     * @param paths    文件或目录
+     * @param listener 结果回调，不存在或无法读取的路径也通过 {@link P3cFileListener#fileFailed} 报告
+     * @throws InterruptedException 等待时被中断
+     */
+    public void checkPaths(@NotNull Collection<Path> paths, @NotNull P3cFileListener listener) throws InterruptedException {
+        checkPaths(paths, P3cSourceReader.WORKING_TREE, listener);
+    }
+
+    /**
+     * 检查文件和目录下的所有源文件，所有文件检查完成后返回
+     *
+     * @param paths    文件或目录
+     * @param reader   读取文件内容
+     * @param listener 结果回调，不存在或无法读取的路径也通过 {@link P3cFileListener#fileFailed} 报告
+     * @throws InterruptedException 等待时被中断
+     */
+    public void checkPaths(@NotNull Collection<Path> paths, @NotNull P3cSourceReader reader, @NotNull P3cFileListener listener)
+            throws InterruptedException {
+        for (Path path : paths) {
+            if (!Files.exists(path)) {
+                listener.fileFailed(path, new FileNotFoundException("文件不存在"));
+                continue;
+            }
+            try (Stream<Path> files = javaFiles(path)) {
+                check(files.iterator(), reader, listener);
+            } catch (IOException | UncheckedIOException e) {
+                listener.fileFailed(path, e);
+            }
+        }
+    }
+
+    /**
+     * 检查文件，所有文件检查完成后返回
+     *
+     * @param files    文件，按需读取
+     * @param listener 结果回调
+     * @throws InterruptedException 等待时被中断
+     */
+    public void check(@NotNull Iterator<Path> files, @NotNull P3cFileListener listener) throws InterruptedException {
+        check(files, P3cSourceReader.WORKING_TREE, listener);
+    }
+
+    /**
+     * 检查文件，所有文件检查完成后返回
+     *
+     * @param files    文件，按需读取
+     * @param reader   读取文件内容
+     * @param listener 结果回调
+     * @throws InterruptedException 等待时被中断
+     */
+    public void check(@NotNull Iterator<Path> files, @NotNull P3cSourceReader reader, @NotNull P3cFileListener listener)
+            throws InterruptedException {
+        // 同时在途的批次数有上限，文件列表按需读取
+        int maxInFlight = parallelism * 2;
+        Semaphore permits = new Semaphore(maxInFlight);
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        OrderedDelivery delivery = listener.isOrdered() ? new OrderedDelivery(listener, permits, failure) : null;
+        long sequence = 0;
+        while (files.hasNext() && failure.get() == null) {
+            List<Path> batch = new ArrayList<>(BATCH_SIZE);
+            while (batch.size() < BATCH_SIZE && files.hasNext()) {
+                batch.add(files.next());
+            }
+            permits.acquire();
+            long batchSequence = sequence++;
+            pool.execute(ForkJoinTask.adapt(() -> {
+                BatchResults results = delivery != null ? new BatchResults(batch) : null;
+                try {
+                    new BatchAction(batch, reader, results != null ? results : listener).invoke();
+                } catch (RuntimeException e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    if (delivery != null) {
+                        delivery.complete(batchSequence, results);
+                    } else {
+                        permits.release();
+                    }
+                }
+            }));
+        }
+        permits.acquire(maxInFlight);
+        permits.release(maxInFlight);
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+        for (StandardJavaFileManager fileManager : openFileManagers) {
+            try {
+                fileManager.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    /**
+     * 解析并检查一批文件
+     */
+    private void checkBatch(List<Path> batch, P3cSourceReader reader, P3cFileListener listener) {
+        // 编译器会包装传入的文件对象，按 URI 找回原始文件
+        Map<URI, SourceFile> sources = new LinkedHashMap<>();
+        for (Path path : batch) {
+            try {
+                SourceFile file = new SourceFile(path, reader.read(path, charset));
+                sources.put(file.toUri(), file);
+            } catch (IOException | UncheckedIOException e) {
+                listener.fileFailed(path, e);
+            }
+        }
+        if (sources.isEmpty()) {
+            return;
+        }
+        Map<URI, String> syntaxErrors = new HashMap<>();
+        JavacTask task = (JavacTask) compiler.getTask(null, fileManagers.get(), diagnostic -> {
+            if (diagnostic.getKind() == Diagnostic.Kind.ERROR && diagnostic.getSource() != null) {
+                syntaxErrors.putIfAbsent(diagnostic.getSource().toUri(), diagnostic.getLineNumber() + ": " + diagnostic.getMessage(null));
+            }
+        }, JAVAC_OPTIONS, null, sources.values());
+        Iterable<? extends CompilationUnitTree> units;
+        try {
+            units = task.parse();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        for (CompilationUnitTree unit : units) {
+            SourceFile file = sources.get(unit.getSourceFile().toUri());
+            // 有语法错误的文件不检查，避免在错误恢复生成的语法树上误报
+            String error = syntaxErrors.get(file.toUri());
+            if (error != null) {
+                listener.fileFailed(file.path, new IllegalArgumentException("语法错误，第 " + error));
+                continue;
+            }
+            P3cOptions options;
+            P3cBaselineFile baseline;
+            try {
+                options = configs.resolve(file.path);
+                baseline = configs.getBaseline();
+            } catch (RuntimeException e) {
+                listener.fileFailed(file.path, e);
+                continue;
+            }
+            List<P3cProblem> problems = new ArrayList<>();
+            LineMap lines = unit.getLineMap();
+            SourceText source = new SourceText(file.content);
+            // 列号按字符计算，LineMap.getColumnNumber 会把制表符展开为 8 列
+            new P3cRuleScanner(task, false, options, P3cBaselineFilter.wrap(baseline, unit, Trees.instance(task).getSourcePositions(), source,
+                    violation -> {
+                        long line = lines.getLineNumber(violation.start());
+                        problems.add(new P3cProblem(file.path, violation.rule(), (int) line,
+                                (int) (violation.start() - lines.getStartPosition(line)) + 1,
+                                violation.start(), violation.end(), violation.message()));
+                    }))
+                    .check(unit, source);
+            problems.sort(Comparator.comparingInt(P3cProblem::start));
+            listener.fileChecked(file.path, problems);
+        }
+    }
+
+    private static boolean isJavaFile(Path path) {
+        return path.getFileName() != null && path.getFileName().toString().endsWith(".java") && Files.isRegularFile(path);
+    }
+
+    private static boolean isHidden(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(".") && name.length() > 1;
+    }
+
+    /**
+     * 按名称顺序深度优先遍历目录，只保留正在遍历的各级目录的列表
+     */
+    private static final class SortedWalk implements Iterator<Path> {
+
+        private final Deque<Iterator<Path>> stack = new ArrayDeque<>();
+
+        private Path next;
+
+        private SortedWalk(Path root) {
+            stack.push(list(root));
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && !stack.isEmpty()) {
+                Iterator<Path> entries = stack.peek();
+                if (!entries.hasNext()) {
+                    stack.pop();
+                    continue;
+                }
+                Path entry = entries.next();
+                if (isHidden(entry)) {
+                    continue;
+                }
+                if (Files.isDirectory(entry, LinkOption.NOFOLLOW_LINKS)) {
+                    stack.push(list(entry));
+                } else if (isJavaFile(entry)) {
+                    next = entry;
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public Path next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Path result = next;
+            next = null;
+            return result;
+        }
+
+        private static Iterator<Path> list(Path directory) {
+            try (Stream<Path> entries = Files.list(directory)) {
+                return entries.sorted(Comparator.comparing(path -> path.getFileName().toString())).toList().iterator();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * 按顺序回调时缓存一个批次的结果，按文件在批次中的位置存放
+     */
+    private static final class BatchResults implements P3cFileListener {
+
+        private final Map<Path, Integer> positions = new IdentityHashMap<>();
+
+        private final FileResult[] results;
+
+        private BatchResults(List<Path> batch) {
+            for (int i = 0; i < batch.size(); i++) {
+                positions.put(batch.get(i), i);
+            }
+            this.results = new FileResult[batch.size()];
+        }
+
+        @Override
+        public void fileChecked(@NotNull Path file, @NotNull List<P3cProblem> problems) {
+            results[positions.get(file)] = new FileResult(file, problems, null);
+        }
+
+        @Override
+        public void fileFailed(@NotNull Path file, @NotNull Exception error) {
+            results[positions.get(file)] = new FileResult(file, null, error);
+        }
+
+        void replay(P3cFileListener listener) {
+            for (FileResult result : results) {
+                if (result == null) {
+                    continue;
+                }
+                if (result.error() != null) {
+                    listener.fileFailed(result.file(), result.error());
+                } else {
+                    listener.fileChecked(result.file(), result.problems());
+                }
+            }
+        }
+    }
+
+    private record FileResult(Path file, List<P3cProblem> problems, Exception error) {
+    }
+
+    /**
+     * 按批次顺序交出结果，交出之后释放在途的名额，未轮到的批次最多有在途名额个
+     */
+    private static final class OrderedDelivery {
+
+        private final P3cFileListener listener;
+
+        private final Semaphore permits;
+
+        private final AtomicReference<RuntimeException> failure;
+
+        private final Map<Long, BatchResults> completed = new HashMap<>();
+
+        private long next;
+
+        private OrderedDelivery(P3cFileListener listener, Semaphore permits, AtomicReference<RuntimeException> failure) {
+            this.listener = listener;
+            this.permits = permits;
+            this.failure = failure;
+        }
+
+        /**
+         * 批次完成，失败的批次也需要调用以免阻塞后面的批次；出现失败后不再交出结果，但仍然释放名额
+         */
+        synchronized void complete(long sequence, BatchResults results) {
+            completed.put(sequence, results);
+            while (completed.containsKey(next)) {
+                BatchResults ready = completed.remove(next);
+                next++;
+                try {
+                    if (failure.get() == null) {
+                        ready.replay(listener);
+                    }
+                } catch (RuntimeException e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    permits.release();
+                }
+            }
+        }
+    }
+
+    /**
+     * 可继续拆分的批次，空闲的工作线程可以窃取拆分出的一半
+     */
+    private final class BatchAction extends RecursiveAction {
+
+        private final List<Path> files;
+
+        private final P3cSourceReader reader;
+
+        private final P3cFileListener listener;
+
+        private BatchAction(List<Path> files, P3cSourceReader reader, P3cFileListener listener) {
+            this.files = files;
+            this.reader = reader;
+            this.listener = listener;
+        }
+
+        @Override
+        protected void compute() {
+            if (files.size() <= MIN_SPLIT_SIZE) {
+                checkBatch(files, reader, listener);
+                return;
+            }
+            int middle = files.size() / 2;
+            invokeAll(new BatchAction(files.subList(0, middle), reader, listener),
+                    new BatchAction(files.subList(middle, files.size()), reader, listener));
+        }
+    }
+
+    /**
+     * 已读入内存的源文件，解析和文本规则共用同一份内容
+     */
+    private static final class SourceFile extends SimpleJavaFileObject {
+
+        private final Path path;
+
+        private final String content;
+
+        private SourceFile(Path path, String content) {
+            super(path.toUri(), Kind.SOURCE);
+            this.path = path;
+            this.content = content;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return content;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.code.inspections.engine;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 接收独立引擎的检查结果，每个文件检查完成后立即回调，引擎不保存结果。
+ * <p>
+ * 回调在工作线程中执行，实现需要保证线程安全。{@link #isOrdered()} 返回 true 时引擎按文件顺序依次回调，
+ * 不会并发调用，未轮到的结果最多缓存同时在途的批次。
+ *
+ * @author liuzhihang
+ * @version P3cFileListener.java, v 0.1 2026/10/18 liuzhihang
+ */
+public interface P3cFileListener {
+
+    /**
+     * 文件检查完成
+     *
+     * @param file     文件
+     * @param problems 文件中的问题，按位置排列
+     */
+    void fileChecked(@NotNull Path file, @NotNull List<P3cProblem> problems);
+
+    /**
+     * 文件无法读取或解析
+     *
+     * @param file  文件
+     * @param error 异常
+     */
+    default void fileFailed(@NotNull Path file, @NotNull Exception error) {
+    }
+
+    /**
+     * 是否需要按文件顺序回调，报告需要稳定的顺序时返回 true
+     *
+     * @return 是否按顺序回调
+     */
+    default boolean isOrdered() {
+        return false;
+    }
+}
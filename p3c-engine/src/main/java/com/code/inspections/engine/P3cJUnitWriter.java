@@ -0,0 +1,64 @@
+package com.code.inspections.engine;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * JUnit XML 格式的报告，供只识别测试报告的 CI 展示。
+ * <p>
+ * 每个文件一个 {@code <testsuite>}，每个问题一个失败的 {@code <testcase>}，没有问题的文件输出一个通过的用例，
+ * 无法检查的文件输出一个错误的用例。统计数字写在每个 {@code <testsuite>} 上，根节点不写，因此不需要先收集全部结果。
+ *
+ * @author liuzhihang
+ * @version P3cJUnitWriter.java, v 0.1 2026/10/18 liuzhihang
+ */
+public final class P3cJUnitWriter extends P3cReportWriter {
+
+    private static final String PASSED = "P3C";
+
+    public P3cJUnitWriter(@NotNull Writer out) {
+        super(out);
+    }
+
+    @Override
+    protected void writeHeader() throws IOException {
+        out.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<testsuites name=\"P3C\">\n");
+    }
+
+    @Override
+    protected void writeFile(@NotNull Path file, @NotNull List<P3cProblem> problems) throws IOException {
+        String name = xml(file.toString());
+        if (problems.isEmpty()) {
+            out.write("<testsuite name=\"" + name + "\" tests=\"1\" failures=\"0\" errors=\"0\">\n"
+                    + "<testcase classname=\"" + name + "\" name=\"" + PASSED + "\"/>\n</testsuite>\n");
+            return;
+        }
+        out.write("<testsuite name=\"" + name + "\" tests=\"" + problems.size() + "\" failures=\"" + problems.size()
+                + "\" errors=\"0\">\n");
+        for (P3cProblem problem : problems) {
+            String rule = problem.rule().getShortName();
+            String message = xml(problem.message());
+            out.write("<testcase classname=\"" + name + "\" name=\"[" + rule + "] " + problem.line() + ":" + problem.column()
+                    + "\">\n<failure type=\"" + rule + "\" message=\"" + message + "\">" + name + ":" + problem.line() + ":"
+                    + problem.column() + ": [" + rule + "] " + message + "</failure>\n</testcase>\n");
+        }
+        out.write("</testsuite>\n");
+    }
+
+    @Override
+    protected void writeFailure(@NotNull Path file, @NotNull Exception error) throws IOException {
+        String name = xml(file.toString());
+        out.write("<testsuite name=\"" + name + "\" tests=\"1\" failures=\"0\" errors=\"1\">\n"
+                + "<testcase classname=\"" + name + "\" name=\"" + PASSED + "\">\n<error message=\""
+                + xml(failureMessage(error)) + "\"/>\n</testcase>\n</testsuite>\n");
+    }
+
+    @Override
+    protected void writeFooter() throws IOException {
+        out.write("</testsuites>\n");
+    }
+}
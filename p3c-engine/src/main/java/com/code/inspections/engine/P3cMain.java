@@ -0,0 +1,341 @@
+package com.code.inspections.engine;
+
+import com.code.inspections.javac.P3cOptions;
+import com.code.inspections.javac.P3cRule;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * 命令行入口，逐个文件输出 {@code 路径:行:列: [规则] 信息}，适合在没有 IDE 的 CI 中运行。
+ * <p>
+ * 也可以作为守护进程常驻（{@link P3cDaemon}）或监听目录（{@link P3cWatcher}），两者可以同时使用。
+ *
+ * @author liuzhihang
+ * @version P3cMain.java, v 0.1 2026/10/18 liuzhihang
+ */
+public final class P3cMain {
+
+    private static final String USAGE = """
+            用法：p3c-engine [选项] <文件或目录>...
+              --threads <N>          并行线程数，默认为 CPU 核数
+              --encoding <编码>      源码编码，默认为 UTF-8
+              --config <文件>        基础配置文件，格式与 .p3c.properties 一致
+              -D<键>=<值>            单个配置项，优先于配置文件
+              --fail-on-violation    发现问题时以退出码 1 结束
+              --no-baseline          报告全部问题，不使用当前目录下 .p3c-baseline 中的基线，抽样估计和记录趋势总是统计全部问题
+              --staged               检查 git 暂存区中的内容而不是工作区中的文件，用于提交前检查
+              --format <格式>        报告格式：text（默认）、sarif、checkstyle 或 junit，按文件顺序流式输出
+              --output <文件>        报告输出文件，默认为标准输出
+              --daemon <套接字>      以守护进程运行，通过 Unix 域套接字接收检查请求，给出的文件或目录用于预热
+              --watch                监听给出的目录，文件变化后重新检查
+              --sample <比例>        抽样估计：按模块分层随机抽取该比例的文件检查，输出各规则问题总数的估计和置信区间
+              --rules <规则,...>     只运行这些规则，使用规则的 shortName，例如 MagicValue
+              --seed <N>             抽样的随机种子，默认为 0，相同种子抽取相同的文件
+              --confidence <水平>    抽样估计的置信水平，默认为 0.95
+              --trend <文件>         记录趋势：汇总各模块、各规则的问题数，追加到趋势文件，只重新检查上次记录后变化的文件
+              --commit <标识>        记录趋势时的提交标识，例如提交的哈希值
+              --time <秒>            记录趋势时的提交时间，默认为当前时间
+            """;
+
+    private P3cMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.exit(run(args, new PrintStream(System.out, false, StandardCharsets.UTF_8),
+                new PrintStream(System.err, true, StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * 运行检查
+     *
+     * @param args 命令行参数
+     * @param out  问题输出
+     * @param err  错误和汇总输出
+     * @return 退出码，0 表示通过，1 表示发现问题，2 表示参数错误、守护进程无法启动或报告无法写入
+     * @throws InterruptedException 等待时被中断
+     */
+    static int run(String[] args, PrintStream out, PrintStream err) throws InterruptedException {
+        int threads = Runtime.getRuntime().availableProcessors();
+        Charset charset = StandardCharsets.UTF_8;
+        boolean failOnViolation = false;
+        boolean useBaseline = true;
+        boolean staged = false;
+        String format = "text";
+        Path output = null;
+        Path socket = null;
+        boolean watch = false;
+        double sample = 0;
+        long seed = 0;
+        double confidence = 0.95;
+        Path trend = null;
+        String commit = null;
+        long time = System.currentTimeMillis() / 1000;
+        Set<P3cRule> rules = EnumSet.allOf(P3cRule.class);
+        Properties properties = new Properties();
+        Properties overrides = new Properties();
+        List<Path> paths = new ArrayList<>();
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String arg = args[i];
+                switch (arg) {
+                    case "--threads" -> threads = Integer.parseInt(value(args, ++i, arg));
+                    case "--encoding" -> charset = Charset.forName(value(args, ++i, arg));
+                    case "--config" -> load(Paths.get(value(args, ++i, arg)), properties);
+                    case "--fail-on-violation" -> failOnViolation = true;
+                    case "--no-baseline" -> useBaseline = false;
+                    case "--staged" -> staged = true;
+                    case "--format" -> format = value(args, ++i, arg);
+                    case "--output" -> output = Paths.get(value(args, ++i, arg));
+                    case "--daemon" -> socket = Paths.get(value(args, ++i, arg));
+                    case "--watch" -> watch = true;
+                    case "--sample" -> sample = Double.parseDouble(value(args, ++i, arg));
+                    case "--rules" -> rules = parseRules(value(args, ++i, arg));
+                    case "--seed" -> seed = Long.parseLong(value(args, ++i, arg));
+                    case "--confidence" -> confidence = Double.parseDouble(value(args, ++i, arg));
+                    case "--trend" -> trend = Paths.get(value(args, ++i, arg));
+                    case "--commit" -> commit = value(args, ++i, arg);
+                    case "--time" -> time = Long.parseLong(value(args, ++i, arg));
+                    case "-h", "--help" -> {
+                        out.print(USAGE);
+                        return 0;
+                    }
+                    default -> {
+                        if (arg.startsWith("-D") && arg.indexOf('=') > 2) {
+                            overrides.setProperty(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+                        } else if (arg.startsWith("-")) {
+                            throw new IllegalArgumentException("未知的选项：" + arg);
+                        } else {
+                            paths.add(Paths.get(arg));
+                        }
+                    }
+                }
+            }
+            if (paths.isEmpty() && (socket == null || watch)) {
+                throw new IllegalArgumentException("缺少需要检查的文件或目录");
+            }
+            if (!"text".equals(format)) {
+                if (socket != null || watch) {
+                    throw new IllegalArgumentException("报告格式只能用于单次检查");
+                }
+                P3cReportWriter.of(format, Writer.nullWriter());
+            }
+            if (staged && (socket != null || watch || sample != 0 || trend != null)) {
+                throw new IllegalArgumentException("暂存区只能用于单次检查，守护进程的请求中使用 staged 指定");
+            }
+            if (sample != 0) {
+                if (!(sample > 0 && sample <= 1) || !(confidence > 0 && confidence < 1)) {
+                    throw new IllegalArgumentException("抽样比例需要在 (0, 1] 之间，置信水平需要在 (0, 1) 之间");
+                }
+                if (socket != null || watch || !"text".equals(format)) {
+                    throw new IllegalArgumentException("抽样估计只能用于单次检查，不能输出报告");
+                }
+            }
+            if (trend != null || commit != null) {
+                if (trend == null || commit == null || commit.isBlank()) {
+                    throw new IllegalArgumentException("记录趋势需要同时给出 --trend 和 --commit");
+                }
+                if (socket != null || watch || sample != 0 || !"text".equals(format)) {
+                    throw new IllegalArgumentException("记录趋势只能用于单次检查，不能输出报告");
+                }
+            }
+            if (rules.size() < P3cRule.values().length) {
+                List<String> disabled = new ArrayList<>();
+                for (P3cRule rule : EnumSet.complementOf(EnumSet.copyOf(rules))) {
+                    disabled.add(rule.getShortName());
+                }
+                properties.setProperty("disabledRules", String.join(",", disabled));
+            }
+            properties.putAll(overrides);
+        } catch (IllegalArgumentException | UncheckedIOException e) {
+            err.println(e.getMessage());
+            err.print(USAGE);
+            return 2;
+        }
+
+        P3cOptions options;
+        try {
+            options = P3cOptions.DEFAULT.overlay(properties);
+        } catch (IllegalArgumentException e) {
+            err.println(e.getMessage());
+            return 2;
+        }
+        // 抽样估计和趋势是问题总数的统计，不按基线过滤
+        P3cConfigResolver configs = new P3cConfigResolver(Paths.get("").toAbsolutePath(), options,
+                useBaseline && sample == 0 && trend == null);
+        try (P3cEngine engine = new P3cEngine(configs, charset, threads)) {
+            if (sample != 0) {
+                return estimate(engine, paths, rules, sample, seed, confidence, out, err);
+            }
+            if (trend != null) {
+                try {
+                    new P3cTrendRecorder(trend, configs).record(engine, paths, commit, time, err);
+                    return 0;
+                } catch (IOException | UncheckedIOException e) {
+                    err.println("无法记录趋势：" + e.getMessage());
+                    return 2;
+                }
+            }
+            if (socket == null && !watch) {
+                try (PrintStream report = output != null
+                        ? new PrintStream(Files.newOutputStream(output), false, StandardCharsets.UTF_8) : null) {
+                    P3cSourceReader reader = staged ? P3cSourceReader.GIT_INDEX : P3cSourceReader.WORKING_TREE;
+                    return check(engine, paths, reader, format, failOnViolation, report != null ? report : out, err);
+                } catch (IOException | UncheckedIOException e) {
+                    err.println("无法写入报告：" + e.getMessage());
+                    return 2;
+                }
+            }
+            return serve(engine, configs, paths, socket, watch, out, err);
+        }
+    }
+
+    /**
+     * 单次检查，文本格式逐个文件输出，其他格式按文件顺序流式写出报告
+     */
+    private static int check(P3cEngine engine, List<Path> paths, P3cSourceReader reader, String format, boolean failOnViolation,
+                             PrintStream out, PrintStream err) throws InterruptedException, IOException {
+        long start = System.nanoTime();
+        int files;
+        int problems;
+        int failed;
+        if ("text".equals(format)) {
+            P3cPrintListener listener = new P3cPrintListener(out, err);
+            engine.checkPaths(paths, reader, listener);
+            files = listener.getFileCount();
+            problems = listener.getProblemCount();
+            failed = listener.getFailedCount();
+        } else {
+            // 不关闭，标准输出和报告文件由调用方关闭
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            P3cReportWriter report = P3cReportWriter.of(format, writer);
+            engine.checkPaths(paths, reader, report);
+            report.finish();
+            files = report.getFileCount();
+            problems = report.getProblemCount();
+            failed = report.getFailedCount();
+        }
+        out.flush();
+        if (out.checkError()) {
+            throw new IOException("写入报告失败");
+        }
+        printSummary(err, files, problems, failed, start);
+        return failOnViolation && (problems > 0 || failed > 0) ? 1 : 0;
+    }
+
+    /**
+     * 抽样估计，只输出估计结果，不输出每个问题
+     */
+    private static int estimate(P3cEngine engine, List<Path> paths, Set<P3cRule> rules, double fraction, long seed, double confidence,
+                                PrintStream out, PrintStream err) throws InterruptedException {
+        long start = System.nanoTime();
+        P3cSampler sampler;
+        try {
+            sampler = P3cSampler.stratify(paths, rules);
+        } catch (IOException | UncheckedIOException e) {
+            err.println("无法读取目录：" + e.getMessage());
+            return 2;
+        }
+        engine.check(sampler.sample(fraction, seed).iterator(), sampler);
+        sampler.printEstimates(out, confidence);
+        out.flush();
+        err.printf("抽样估计耗时 %d ms%n", (System.nanoTime() - start) / 1_000_000);
+        return 0;
+    }
+
+    private static Set<P3cRule> parseRules(String value) {
+        Set<P3cRule> rules = EnumSet.noneOf(P3cRule.class);
+        for (String name : value.split(",")) {
+            if (name.isBlank()) {
+                continue;
+            }
+            P3cRule rule = P3cRule.of(name.trim());
+            if (rule == null) {
+                throw new IllegalArgumentException("未知的规则：" + name.trim());
+            }
+            rules.add(rule);
+        }
+        if (rules.isEmpty()) {
+            throw new IllegalArgumentException("选项缺少参数：--rules");
+        }
+        return rules;
+    }
+
+    private static void printSummary(PrintStream err, int files, int problems, int failed, long start) {
+        err.printf("检查了 %d 个文件，发现 %d 个问题，%d 个文件无法检查，耗时 %d ms%n", files, problems, failed,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * 守护进程或监听模式，直到收到停止请求或进程被终止
+     */
+    private static int serve(P3cEngine engine, P3cConfigResolver configs, List<Path> paths, Path socket, boolean watch,
+                             PrintStream out, PrintStream err) throws InterruptedException {
+        // 监听模式输出一次完整结果，仅守护进程时静默检查一遍用于预热
+        PrintStream initial = watch ? out : new PrintStream(OutputStream.nullOutputStream());
+        engine.checkPaths(paths, new P3cPrintListener(initial, watch ? err : initial));
+        out.flush();
+        try (P3cWatcher watcher = watch ? new P3cWatcher(engine, configs, paths, out) : null;
+             P3cDaemon daemon = socket != null ? new P3cDaemon(engine, configs, socket) : null) {
+            if (daemon != null) {
+                Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                    try {
+                        daemon.close();
+                    } catch (IOException ignored) {
+                    }
+                }));
+                err.println("守护进程已启动：" + socket.toAbsolutePath());
+            }
+            if (watcher != null && daemon != null) {
+                Thread thread = new Thread(() -> {
+                    try {
+                        watcher.run();
+                    } catch (InterruptedException ignored) {
+                    }
+                }, "p3c-watcher");
+                thread.setDaemon(true);
+                thread.start();
+                daemon.serve();
+            } else if (daemon != null) {
+                daemon.serve();
+            } else {
+                watcher.run();
+            }
+        } catch (IOException e) {
+            err.println(e.getMessage());
+            return 2;
+        }
+        return 0;
+    }
+
+    private static String value(String[] args, int index, String option) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("选项缺少参数：" + option);
+        }
+        return args[index];
+    }
+
+    private static void load(Path file, Properties properties) {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException("无法读取配置文件：" + file, e);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.code.inspections.engine;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 查找文件所属的模块：包含 {@code pom.xml}、{@code build.gradle} 或 {@code build.gradle.kts} 的最近的上级目录，
+ * 向上查找到给出的根目录为止，没有构建文件时为根目录本身。结果按目录缓存，不是线程安全的。
+ *
+ * @author liuzhihang
+ * @version P3cModules.java, v 0.1 2026/10/18 liuzhihang
+ */
+final class P3cModules {
+
+    private static final List<String> BUILD_FILES = List.of("pom.xml", "build.gradle", "build.gradle.kts");
+
+    private final Map<Path, Path> modules = new HashMap<>();
+
+    /**
+     * 文件所属的模块
+     *
+     * @param file 文件，绝对路径
+     * @param root 根目录，绝对路径
+     * @return 模块目录
+     */
+    @NotNull
+    Path moduleOf(@NotNull Path file, @NotNull Path root) {
+        return moduleOfDirectory(file.getParent(), root);
+    }
+
+    private Path moduleOfDirectory(Path directory, Path root) {
+        if (directory == null || !directory.startsWith(root)) {
+            return root;
+        }
+        Path cached = modules.get(directory);
+        if (cached != null) {
+            return cached;
+        }
+        Path module = null;
+        for (String buildFile : BUILD_FILES) {
+            if (Files.isRegularFile(directory.resolve(buildFile))) {
+                module = directory;
+                break;
+            }
+        }
+        if (module == null) {
+            module = directory.equals(root) ? root : moduleOfDirectory(directory.getParent(), root);
+        }
+        modules.put(directory, module);
+        return module;
+    }
+}
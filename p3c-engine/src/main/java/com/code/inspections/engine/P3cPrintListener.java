@@ -0,0 +1,76 @@
+package com.code.inspections.engine;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 以文本输出检查结果，每个问题一行：{@code 路径:行:列: [规则] 信息}，同一个文件的问题连续输出，并统计数量。
+ *
+ * @author liuzhihang
+ * @version P3cPrintListener.java, v 0.1 2026/10/18 liuzhihang
+ */
+public final class P3cPrintListener implements P3cFileListener {
+
+    private final PrintStream out;
+
+    private final PrintStream err;
+
+    private final AtomicInteger fileCount = new AtomicInteger();
+
+    private final AtomicInteger problemCount = new AtomicInteger();
+
+    private final AtomicInteger failedCount = new AtomicInteger();
+
+    /**
+     * 构造函数
+     *
+     * @param out 问题输出
+     * @param err 无法检查的文件输出，可以与问题输出相同
+     */
+    public P3cPrintListener(@NotNull PrintStream out, @NotNull PrintStream err) {
+        this.out = out;
+        this.err = err;
+    }
+
+    @Override
+    public void fileChecked(@NotNull Path file, @NotNull List<P3cProblem> problems) {
+        fileCount.incrementAndGet();
+        problemCount.addAndGet(problems.size());
+        if (problems.isEmpty()) {
+            return;
+        }
+        StringBuilder builder = new StringBuilder();
+        for (P3cProblem problem : problems) {
+            builder.append(file).append(':').append(problem.line()).append(':').append(problem.column())
+                    .append(": [").append(problem.rule().getShortName()).append("] ").append(problem.message())
+                    .append(System.lineSeparator());
+        }
+        synchronized (out) {
+            out.print(builder);
+        }
+    }
+
+    @Override
+    public void fileFailed(@NotNull Path file, @NotNull Exception error) {
+        failedCount.incrementAndGet();
+        synchronized (err) {
+            err.println(file + ": 无法检查，" + error.getMessage());
+        }
+    }
+
+    public int getFileCount() {
+        return fileCount.get();
+    }
+
+    public int getProblemCount() {
+        return problemCount.get();
+    }
+
+    public int getFailedCount() {
+        return failedCount.get();
+    }
+}
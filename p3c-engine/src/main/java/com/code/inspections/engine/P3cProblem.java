@@ -0,0 +1,22 @@
+package com.code.inspections.engine;
+
+import com.code.inspections.javac.P3cRule;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.file.Path;
+
+/**
+ * 独立引擎发现的一个问题，位置已换算为行列号。
+ *
+ * @param file    文件
+ * @param rule    规则
+ * @param line    行号，从 1 开始
+ * @param column  列号，从 1 开始
+ * @param start   起始位置（字符偏移）
+ * @param end     结束位置（字符偏移）
+ * @param message 问题描述
+ * @author liuzhihang
+ * @version P3cProblem.java, v 0.1 2026/10/18 liuzhihang
+ */
+public record P3cProblem(@NotNull Path file, @NotNull P3cRule rule, int line, int column, int start, int end, @NotNull String message) {
+}
@@ -0,0 +1,153 @@
+package com.code.inspections.engine;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 流式输出检查报告：每个文件的结果到达后立即写出，不在内存中保留问题，报告大小不影响内存占用。
+ * <p>
+ * 要求引擎按文件顺序回调，同样的输入多次运行得到的报告一致。第一次回调时写出报告头，
+ * {@link #finish()} 写出报告尾，输出目标由调用方关闭。
+ *
+ * @author liuzhihang
+ * @version P3cReportWriter.java, v 0.1 2026/10/18 liuzhihang
+ */
+public abstract class P3cReportWriter implements P3cFileListener {
+
+    protected final Writer out;
+
+    private boolean started;
+
+    private int fileCount;
+
+    private int problemCount;
+
+    private int failedCount;
+
+    protected P3cReportWriter(@NotNull Writer out) {
+        this.out = out;
+    }
+
+    /**
+     * 按格式名称创建报告
+     *
+     * @param format 格式：sarif、checkstyle 或 junit
+     * @param out    输出目标
+     * @return 报告
+     */
+    @NotNull
+    public static P3cReportWriter of(@NotNull String format, @NotNull Writer out) {
+        return switch (format) {
+            case "sarif" -> new P3cSarifWriter(out);
+            case "checkstyle" -> new P3cCheckstyleWriter(out);
+            case "junit" -> new P3cJUnitWriter(out);
+            default -> throw new IllegalArgumentException("不支持的报告格式：" + format);
+        };
+    }
+
+    @Override
+    public final boolean isOrdered() {
+        return true;
+    }
+
+    @Override
+    public final synchronized void fileChecked(@NotNull Path file, @NotNull List<P3cProblem> problems) {
+        fileCount++;
+        problemCount += problems.size();
+        try {
+            start();
+            writeFile(file, problems);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public final synchronized void fileFailed(@NotNull Path file, @NotNull Exception error) {
+        failedCount++;
+        try {
+            start();
+            writeFailure(file, error);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 写出报告尾并刷新输出，没有检查任何文件时同样输出完整的报告
+     *
+     * @throws IOException 写出失败
+     */
+    public final synchronized void finish() throws IOException {
+        start();
+        writeFooter();
+        out.flush();
+    }
+
+    public synchronized int getFileCount() {
+        return fileCount;
+    }
+
+    public synchronized int getProblemCount() {
+        return problemCount;
+    }
+
+    public synchronized int getFailedCount() {
+        return failedCount;
+    }
+
+    private void start() throws IOException {
+        if (!started) {
+            started = true;
+            writeHeader();
+        }
+    }
+
+    protected abstract void writeHeader() throws IOException;
+
+    protected abstract void writeFile(@NotNull Path file, @NotNull List<P3cProblem> problems) throws IOException;
+
+    protected abstract void writeFailure(@NotNull Path file, @NotNull Exception error) throws IOException;
+
+    protected abstract void writeFooter() throws IOException;
+
+    /**
+     * 无法检查的原因
+     */
+    @NotNull
+    protected static String failureMessage(@NotNull Exception error) {
+        return "无法检查，" + error.getMessage();
+    }
+
+    /**
+     * 转义 XML 属性和文本，去掉 XML 中不允许出现的控制字符
+     */
+    @NotNull
+    protected static String xml(@NotNull String text) {
+        StringBuilder builder = new StringBuilder(text.length() + 16);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '&' -> builder.append("&amp;");
+                case '<' -> builder.append("&lt;");
+                case '>' -> builder.append("&gt;");
+                case '"' -> builder.append("&quot;");
+                case '\'' -> builder.append("&apos;");
+                case '\n' -> builder.append("&#10;");
+                case '\r' -> builder.append("&#13;");
+                case '\t' -> builder.append("&#9;");
+                default -> {
+                    if (c >= 0x20) {
+                        builder.append(c);
+                    }
+                }
+            }
+        }
+        return builder.toString();
+    }
+}
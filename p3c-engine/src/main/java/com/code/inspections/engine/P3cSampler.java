@@ -0,0 +1,284 @@
+package com.code.inspections.engine;
+
+import com.code.inspections.javac.P3cRule;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * 抽样估计：按模块分层随机抽取文件检查，外推整个代码库中各规则的问题总数和置信区间。
+ * <p>
+ * 模块按 {@link P3cModules} 查找。问题数与文件大小高度相关，少数生成的映射表等大文件就可能占总数的一成以上，
+ * 因此每个模块再按文件大小分层，超过 {@link #TAKE_ALL_SIZE} 的文件全部检查。
+ * 其余各层按相同比例不放回抽样，至少抽取 2 个文件以便估计方差；
+ * 总数的估计为各层样本均值乘以文件数之和，方差按分层抽样公式计算并包含有限总体校正。
+ * <p>
+ * 只列出文件，不读取未抽中的文件，耗时与抽样比例基本成正比。
+ *
+ * @author liuzhihang
+ * @version P3cSampler.java, v 0.1 2026/10/18 liuzhihang
+ */
+final class P3cSampler implements P3cFileListener {
+
+    /**
+     * 文件大小分层的上界，单位字节，依次为小、中、大文件，超过最后一个上界的文件全部检查
+     */
+    private static final long[] SIZE_CLASSES = {8 * 1024, 32 * 1024, 128 * 1024};
+
+    /**
+     * 全部检查的文件大小下限
+     */
+    static final long TAKE_ALL_SIZE = SIZE_CLASSES[SIZE_CLASSES.length - 1];
+
+    /**
+     * 每层至少抽取的文件数
+     */
+    private static final int MIN_SAMPLE = 2;
+
+    /**
+     * 各层，按模块路径排列
+     */
+    private final List<Stratum> strata;
+
+    /**
+     * 需要估计的规则
+     */
+    private final Set<P3cRule> rules;
+
+    /**
+     * 抽中的文件所在的层
+     */
+    private final Map<Path, Stratum> sampled = new HashMap<>();
+
+    private P3cSampler(List<Stratum> strata, Set<P3cRule> rules) {
+        this.strata = strata;
+        this.rules = rules;
+    }
+
+    /**
+     * 列出文件并按模块分层
+     *
+     * @param paths 文件或目录
+     * @param rules 需要估计的规则
+     * @return 抽样估计
+     * @throws IOException 读取目录失败
+     */
+    @NotNull
+    static P3cSampler stratify(@NotNull List<Path> paths, @NotNull Set<P3cRule> rules) throws IOException {
+        Map<Path, Stratum> strata = new LinkedHashMap<>();
+        P3cModules modules = new P3cModules();
+        for (Path path : paths) {
+            Path root = path.toAbsolutePath().normalize();
+            try (Stream<Path> files = P3cEngine.javaFiles(root)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    Path module = modules.moduleOf(file, root);
+                    int sizeClass = sizeClass(Files.size(file));
+                    strata.computeIfAbsent(module.resolve("#" + sizeClass), key -> new Stratum(module, sizeClass)).population.add(file);
+                }
+            }
+        }
+        List<Stratum> sorted = new ArrayList<>(strata.values());
+        sorted.sort((a, b) -> a.module.equals(b.module) ? Integer.compare(a.sizeClass, b.sizeClass) : a.module.compareTo(b.module));
+        return new P3cSampler(sorted, rules);
+    }
+
+    private static int sizeClass(long size) {
+        int sizeClass = 0;
+        while (sizeClass < SIZE_CLASSES.length && size >= SIZE_CLASSES[sizeClass]) {
+            sizeClass++;
+        }
+        return sizeClass;
+    }
+
+    /**
+     * 在每层中随机抽取文件
+     *
+     * @param fraction 抽样比例，大于 0 且不大于 1
+     * @param seed     随机种子，相同种子抽取相同的文件
+     * @return 抽中的文件，按层和路径排列
+     */
+    @NotNull
+    List<Path> sample(double fraction, long seed) {
+        Random random = new Random(seed);
+        List<Path> files = new ArrayList<>();
+        for (Stratum stratum : strata) {
+            List<Path> population = stratum.population;
+            int size = stratum.sizeClass == SIZE_CLASSES.length ? population.size()
+                    : Math.min(population.size(), Math.max(MIN_SAMPLE, (int) Math.ceil(population.size() * fraction)));
+            // 部分洗牌，前 size 个即为不放回抽取的样本
+            List<Path> shuffled = new ArrayList<>(population);
+            for (int i = 0; i < size; i++) {
+                Collections.swap(shuffled, i, i + random.nextInt(shuffled.size() - i));
+            }
+            List<Path> sample = new ArrayList<>(shuffled.subList(0, size));
+            Collections.sort(sample);
+            for (Path file : sample) {
+                sampled.put(file, stratum);
+            }
+            files.addAll(sample);
+        }
+        return files;
+    }
+
+    @Override
+    public void fileChecked(@NotNull Path file, @NotNull List<P3cProblem> problems) {
+        Stratum stratum = sampled.get(file);
+        if (stratum == null) {
+            return;
+        }
+        long[] counts = new long[P3cRule.values().length];
+        for (P3cProblem problem : problems) {
+            counts[problem.rule().ordinal()]++;
+        }
+        synchronized (stratum) {
+            stratum.checked++;
+            for (int i = 0; i < counts.length; i++) {
+                stratum.sums[i] += counts[i];
+                stratum.squares[i] += counts[i] * counts[i];
+            }
+        }
+    }
+
+    @Override
+    public void fileFailed(@NotNull Path file, @NotNull Exception error) {
+        // 无法检查的文件不计入样本，所在层按剩余的样本估计
+    }
+
+    /**
+     * 输出各规则的估计值
+     *
+     * @param out        输出
+     * @param confidence 置信水平，例如 0.95
+     */
+    void printEstimates(@NotNull PrintStream out, double confidence) {
+        double z = normalQuantile(0.5 + confidence / 2);
+        long population = 0;
+        long checked = 0;
+        Set<Path> modules = new HashSet<>();
+        for (Stratum stratum : strata) {
+            population += stratum.population.size();
+            checked += stratum.checked;
+            modules.add(stratum.module);
+        }
+        out.printf("共 %d 个文件、%d 个模块，检查了 %d 个样本文件（%.1f%%），置信水平 %.0f%%%n", population, modules.size(), checked,
+                population == 0 ? 0.0 : checked * 100.0 / population, confidence * 100);
+        out.printf("%-28s %12s %25s %10s%n", "规则", "估计总数", "置信区间", "样本问题数");
+        for (P3cRule rule : P3cRule.values()) {
+            if (!rules.contains(rule)) {
+                continue;
+            }
+            Estimate estimate = estimate(rule.ordinal());
+            out.printf("%-28s %12.0f %12.0f - %-12.0f %10d%n", rule.getShortName(), estimate.total,
+                    Math.max(estimate.observed, estimate.total - z * Math.sqrt(estimate.variance)),
+                    estimate.total + z * Math.sqrt(estimate.variance), estimate.observed);
+        }
+    }
+
+    /**
+     * 分层估计总数和方差
+     */
+    private Estimate estimate(int rule) {
+        double total = 0;
+        double variance = 0;
+        long observed = 0;
+        for (Stratum stratum : strata) {
+            int n = stratum.checked;
+            int size = stratum.population.size();
+            observed += stratum.sums[rule];
+            if (n == 0) {
+                continue;
+            }
+            double mean = (double) stratum.sums[rule] / n;
+            total += size * mean;
+            if (n > 1) {
+                double sampleVariance = (stratum.squares[rule] - n * mean * mean) / (n - 1);
+                variance += (double) size * size * (1 - (double) n / size) * Math.max(0, sampleVariance) / n;
+            }
+        }
+        return new Estimate(observed, total, variance);
+    }
+
+    /**
+     * 标准正态分布的分位数，使用 Acklam 的有理函数近似，相对误差小于 1.2e-9
+     *
+     * @param p 概率，大于 0 且小于 1
+     * @return 分位数
+     */
+    static double normalQuantile(double p) {
+        double[] a = {-3.969683028665376e+01, 2.209460984245205e+02, -2.759285104469687e+02, 1.383577518672690e+02, -3.066479806614716e+01, 2.506628277459239e+00};
+        double[] b = {-5.447609879822406e+01, 1.615858368580409e+02, -1.556989798598866e+02, 6.680131188771972e+01, -1.328068155288572e+01};
+        double[] c = {-7.784894002430293e-03, -3.223964580411365e-01, -2.400758277161838e+00, -2.549732539343734e+00, 4.374664141464968e+00, 2.938163982698783e+00};
+        double[] d = {7.784695709041462e-03, 3.224671290700398e-01, 2.445134137142996e+00, 3.754408661907416e+00};
+        double low = 0.02425;
+        if (p < low) {
+            double q = Math.sqrt(-2 * Math.log(p));
+            return (((((c[0] * q + c[1]) * q + c[2]) * q + c[3]) * q + c[4]) * q + c[5]) / ((((d[0] * q + d[1]) * q + d[2]) * q + d[3]) * q + 1);
+        }
+        if (p > 1 - low) {
+            double q = Math.sqrt(-2 * Math.log(1 - p));
+            return -(((((c[0] * q + c[1]) * q + c[2]) * q + c[3]) * q + c[4]) * q + c[5]) / ((((d[0] * q + d[1]) * q + d[2]) * q + d[3]) * q + 1);
+        }
+        double q = p - 0.5;
+        double r = q * q;
+        return (((((a[0] * r + a[1]) * r + a[2]) * r + a[3]) * r + a[4]) * r + a[5]) * q
+                / (((((b[0] * r + b[1]) * r + b[2]) * r + b[3]) * r + b[4]) * r + 1);
+    }
+
+    /**
+     * 一层：一个模块中一个大小区间的文件和样本的统计
+     */
+    private static final class Stratum {
+
+        private final Path module;
+
+        /**
+         * 文件大小分层，等于 {@code SIZE_CLASSES.length} 时为全部检查的大文件
+         */
+        private final int sizeClass;
+
+        private final List<Path> population = new ArrayList<>();
+
+        /**
+         * 已检查的样本文件数
+         */
+        private int checked;
+
+        /**
+         * 各规则在样本文件中的问题数之和，按规则序号索引
+         */
+        private final long[] sums = new long[P3cRule.values().length];
+
+        /**
+         * 各规则每个样本文件问题数的平方和，按规则序号索引
+         */
+        private final long[] squares = new long[P3cRule.values().length];
+
+        private Stratum(Path module, int sizeClass) {
+            this.module = module;
+            this.sizeClass = sizeClass;
+        }
+    }
+
+    /**
+     * 估计值
+     *
+     * @param observed 样本中的问题数
+     * @param total    估计总数
+     * @param variance 估计总数的方差
+     */
+    private record Estimate(long observed, double total, double variance) {
+    }
+}
@@ -0,0 +1,131 @@
+package com.code.inspections.engine;
+
+import com.code.inspections.javac.P3cRule;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SARIF 2.1.0 格式的报告，可以直接上传到代码扫描平台。
+ * <p>
+ * 规则列表在报告头中按 {@link P3cRule} 的顺序写出，名称取自 {@code CodeInspectionsBundle}；
+ * 问题逐个写入 {@code results}。无法检查的文件作为 {@code toolExecutionNotifications} 写在报告尾，
+ * 只有这部分需要缓存，数量与无法检查的文件数相同。
+ *
+ * @author liuzhihang
+ * @version P3cSarifWriter.java, v 0.1 2026/10/18 liuzhihang
+ */
+public final class P3cSarifWriter extends P3cReportWriter {
+
+    private static final String SCHEMA = "https://json.schemastore.org/sarif-2.1.0.json";
+
+    private static final String INFORMATION_URI = "https://github.com/liuzhihang/code-inspections";
+
+    private final List<String> notifications = new ArrayList<>();
+
+    private boolean firstResult = true;
+
+    public P3cSarifWriter(@NotNull Writer out) {
+        super(out);
+    }
+
+    @Override
+    protected void writeHeader() throws IOException {
+        StringBuilder builder = new StringBuilder();
+        builder.append("{\"$schema\":").append(json(SCHEMA)).append(",\"version\":\"2.1.0\",\"runs\":[{\"tool\":{\"driver\":{")
+                .append("\"name\":\"Ali-P3C\",\"informationUri\":").append(json(INFORMATION_URI)).append(",\"rules\":[");
+        P3cRule[] rules = P3cRule.values();
+        for (int i = 0; i < rules.length; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("\n{\"id\":").append(json(rules[i].getShortName()))
+                    .append(",\"shortDescription\":{\"text\":").append(json(rules[i].getDisplayName()))
+                    .append("},\"defaultConfiguration\":{\"level\":\"warning\"}}");
+        }
+        builder.append("]}},\"results\":[");
+        out.write(builder.toString());
+    }
+
+    @Override
+    protected void writeFile(@NotNull Path file, @NotNull List<P3cProblem> problems) throws IOException {
+        if (problems.isEmpty()) {
+            return;
+        }
+        String uri = json(uri(file));
+        StringBuilder builder = new StringBuilder();
+        for (P3cProblem problem : problems) {
+            builder.append(firstResult ? "\n" : ",\n");
+            firstResult = false;
+            builder.append("{\"ruleId\":").append(json(problem.rule().getShortName()))
+                    .append(",\"ruleIndex\":").append(problem.rule().ordinal())
+                    .append(",\"level\":\"warning\",\"message\":{\"text\":").append(json(problem.message()))
+                    .append("},\"locations\":[{\"physicalLocation\":{\"artifactLocation\":{\"uri\":").append(uri)
+                    .append("},\"region\":{\"startLine\":").append(problem.line())
+                    .append(",\"startColumn\":").append(problem.column())
+                    .append(",\"charOffset\":").append(problem.start())
+                    .append(",\"charLength\":").append(Math.max(0, problem.end() - problem.start()))
+                    .append("}}}]}");
+        }
+        out.write(builder.toString());
+    }
+
+    @Override
+    protected void writeFailure(@NotNull Path file, @NotNull Exception error) {
+        notifications.add("{\"level\":\"error\",\"message\":{\"text\":" + json(failureMessage(error))
+                + "},\"locations\":[{\"physicalLocation\":{\"artifactLocation\":{\"uri\":" + json(uri(file)) + "}}}]}");
+    }
+
+    @Override
+    protected void writeFooter() throws IOException {
+        out.write("],\"invocations\":[{\"executionSuccessful\":true,\"toolExecutionNotifications\":[");
+        for (int i = 0; i < notifications.size(); i++) {
+            out.write(i > 0 ? ",\n" : "\n");
+            out.write(notifications.get(i));
+        }
+        out.write("]}]}]}\n");
+    }
+
+    /**
+     * 相对路径输出为相对 URI，绝对路径输出为 file URI
+     */
+    private static String uri(Path file) {
+        if (file.isAbsolute()) {
+            return file.toUri().toASCIIString();
+        }
+        String path = file.toString().replace('\\', '/');
+        try {
+            return new URI(null, null, path, null).toASCIIString();
+        } catch (URISyntaxException e) {
+            return path;
+        }
+    }
+
+    private static String json(String text) {
+        StringBuilder builder = new StringBuilder(text.length() + 2).append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\t' -> builder.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        builder.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+                }
+            }
+        }
+        return builder.append('"').toString();
+    }
+}
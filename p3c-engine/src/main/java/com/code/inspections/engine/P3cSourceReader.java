@@ -0,0 +1,72 @@
+package com.code.inspections.engine;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 读取待检查源文件的内容，默认读取工作区中的文件。
+ * <p>
+ * 提交前检查使用 {@link #GIT_INDEX}，通过 {@code git show :路径} 读取暂存区中的内容，
+ * 未暂存的修改不影响检查结果；配置和基线仍按文件路径查找。
+ *
+ * @author liuzhihang
+ * @version P3cSourceReader.java, v 0.1 2026/10/18 liuzhihang
+ */
+@FunctionalInterface
+public interface P3cSourceReader {
+
+    /**
+     * 读取工作区中的文件
+     */
+    P3cSourceReader WORKING_TREE = Files::readString;
+
+    /**
+     * 读取 git 暂存区中的内容
+     */
+    P3cSourceReader GIT_INDEX = P3cSourceReader::readIndex;
+
+    /**
+     * 读取文件内容
+     *
+     * @param path    文件
+     * @param charset 源码编码
+     * @return 文件内容
+     * @throws IOException 读取失败
+     */
+    @NotNull
+    String read(@NotNull Path path, @NotNull Charset charset) throws IOException;
+
+    /**
+     * 在文件所在目录执行 {@code git show :./文件名 --}，路径相对于该目录，不依赖当前目录和仓库根目录
+     */
+    private static String readIndex(Path path, Charset charset) throws IOException {
+        Path file = path.toAbsolutePath();
+        Process process = new ProcessBuilder("git", "show", ":./" + file.getFileName(), "--")
+                .directory(file.getParent().toFile())
+                .start();
+        process.getOutputStream().close();
+        byte[] content;
+        byte[] error;
+        try (InputStream out = process.getInputStream(); InputStream err = process.getErrorStream()) {
+            content = out.readAllBytes();
+            error = err.readAllBytes();
+        }
+        try {
+            if (process.waitFor() != 0) {
+                throw new IOException("无法读取暂存区中的内容：" + new String(error, StandardCharsets.UTF_8).strip());
+            }
+        } catch (InterruptedException e) {
+            process.destroy();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("读取暂存区时被中断");
+        }
+        return new String(content, charset);
+    }
+}
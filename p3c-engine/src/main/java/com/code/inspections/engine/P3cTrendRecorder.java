@@ -0,0 +1,232 @@
+package com.code.inspections.engine;
+
+import com.code.inspections.trend.P3cTrendFile;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 记录一次提交的问题数：汇总各模块、各规则的问题数，追加到 {@link P3cTrendFile} 趋势文件。
+ * <p>
+ * 每个文件的问题数缓存在趋势文件旁的 {@code .cache} 文件中，以文件大小、修改时间、内容校验值和配置指纹判断是否变化，
+ * 只重新检查变化的文件，按提交顺序依次记录时每次只检查该提交修改的文件。
+ * 缓存丢失或损坏时全部重新检查，结果相同。
+ *
+ * @author liuzhihang
+ * @version P3cTrendRecorder.java, v 0.1 2026/10/18 liuzhihang
+ */
+final class P3cTrendRecorder implements P3cFileListener {
+
+    private static final int CACHE_VERSION = 1;
+
+    private final Path trendFile;
+
+    private final Path cacheFile;
+
+    private final P3cConfigResolver configs;
+
+    /**
+     * 上次记录时各文件的结果，按绝对路径索引
+     */
+    private final Map<String, Entry> cached;
+
+    /**
+     * 本次需要检查的文件的新结果
+     */
+    private final Map<Path, Entry> pending = new ConcurrentHashMap<>();
+
+    private int failed;
+
+    P3cTrendRecorder(@NotNull Path trendFile, @NotNull P3cConfigResolver configs) {
+        this.trendFile = trendFile;
+        this.cacheFile = trendFile.resolveSibling(trendFile.getFileName() + ".cache");
+        this.configs = configs;
+        this.cached = loadCache(cacheFile);
+    }
+
+    /**
+     * 检查变化的文件并追加一次提交的记录
+     *
+     * @param engine 引擎
+     * @param paths  文件或目录，目录为模块查找的根目录
+     * @param commit 提交标识
+     * @param time   提交时间，单位秒
+     * @param err    汇总输出
+     * @throws IOException          读写趋势文件或缓存失败
+     * @throws InterruptedException 等待时被中断
+     */
+    void record(@NotNull P3cEngine engine, @NotNull List<Path> paths, @NotNull String commit, long time,
+                @NotNull PrintStream err) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        Map<String, Entry> current = new HashMap<>();
+        List<Path> changed = new ArrayList<>();
+        P3cModules modules = new P3cModules();
+        Path base = Path.of("").toAbsolutePath();
+        for (Path path : paths) {
+            Path root = path.toAbsolutePath().normalize();
+            try (Stream<Path> files = P3cEngine.javaFiles(root)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    String key = file.toString();
+                    Path module = modules.moduleOf(file, Files.isDirectory(root) ? root : base);
+                    String moduleName = module.startsWith(base) ? base.relativize(module).toString() : module.toString();
+                    moduleName = moduleName.isEmpty() ? "." : moduleName;
+                    Entry entry = cached.get(key);
+                    long size = Files.size(file);
+                    long modified = Files.getLastModifiedTime(file).toMillis();
+                    long fingerprint = configs.resolve(file).fingerprint();
+                    if (entry != null && entry.fingerprint == fingerprint && entry.size == size
+                            && (entry.modified == modified || entry.checksum == checksum(file))) {
+                        current.put(key, new Entry(moduleName, size, modified, entry.checksum,
+                                fingerprint, entry.counts));
+                        continue;
+                    }
+                    pending.put(file, new Entry(moduleName, size, modified, 0, fingerprint, Map.of()));
+                    changed.add(file);
+                }
+            }
+        }
+
+        engine.check(changed.iterator(), this);
+        for (Path file : changed) {
+            Entry entry = pending.get(file);
+            if (entry != null) {
+                current.put(file.toString(), entry);
+            }
+        }
+
+        Map<String, Map<String, Integer>> counts = new TreeMap<>();
+        int problems = 0;
+        for (Entry entry : current.values()) {
+            Map<String, Integer> module = counts.computeIfAbsent(entry.module, key -> new TreeMap<>());
+            for (Map.Entry<String, Integer> count : entry.counts.entrySet()) {
+                module.merge(count.getKey(), count.getValue(), Integer::sum);
+                problems += count.getValue();
+            }
+        }
+        P3cTrendFile.append(trendFile, commit, time, counts);
+        saveCache(cacheFile, current);
+        err.printf("记录提交 %s：共 %d 个文件，重新检查了 %d 个，%d 个问题，%d 个文件无法检查，耗时 %d ms%n", commit,
+                current.size(), changed.size() - failed, problems, failed, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @Override
+    public void fileChecked(@NotNull Path file, @NotNull List<P3cProblem> problems) {
+        Entry entry = pending.get(file);
+        if (entry == null) {
+            return;
+        }
+        Map<String, Integer> counts = new TreeMap<>();
+        for (P3cProblem problem : problems) {
+            counts.merge(problem.rule().getShortName(), 1, Integer::sum);
+        }
+        long checksum;
+        try {
+            checksum = checksum(file);
+        } catch (IOException e) {
+            fileFailed(file, e);
+            return;
+        }
+        pending.put(file, new Entry(entry.module, entry.size, entry.modified, checksum, entry.fingerprint, counts));
+    }
+
+    @Override
+    public void fileFailed(@NotNull Path file, @NotNull Exception error) {
+        // 无法检查的文件不计入本次提交，也不缓存，下次重新检查
+        if (pending.remove(file) != null) {
+            synchronized (this) {
+                failed++;
+            }
+        }
+    }
+
+    private static long checksum(Path file) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(Files.readAllBytes(file));
+        return crc.getValue();
+    }
+
+    private static Map<String, Entry> loadCache(Path file) {
+        Map<String, Entry> entries = new HashMap<>();
+        try (InputStream stream = Files.newInputStream(file);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(stream))) {
+            if (in.readInt() != CACHE_VERSION) {
+                return entries;
+            }
+            int size = in.readInt();
+            for (int i = 0; i < size; i++) {
+                String path = in.readUTF();
+                String module = in.readUTF();
+                long length = in.readLong();
+                long modified = in.readLong();
+                long checksum = in.readLong();
+                long fingerprint = in.readLong();
+                int rules = in.readUnsignedShort();
+                Map<String, Integer> counts = new TreeMap<>();
+                for (int j = 0; j < rules; j++) {
+                    counts.put(in.readUTF(), in.readInt());
+                }
+                entries.put(path, new Entry(module, length, modified, checksum, fingerprint, counts));
+            }
+            return entries;
+        } catch (NoSuchFileException e) {
+            return entries;
+        } catch (IOException e) {
+            // 缓存损坏时全部重新检查
+            return new HashMap<>();
+        }
+    }
+
+    private static void saveCache(Path file, Map<String, Entry> entries) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(CACHE_VERSION);
+            out.writeInt(entries.size());
+            for (Map.Entry<String, Entry> item : entries.entrySet()) {
+                Entry entry = item.getValue();
+                out.writeUTF(item.getKey());
+                out.writeUTF(entry.module);
+                out.writeLong(entry.size);
+                out.writeLong(entry.modified);
+                out.writeLong(entry.checksum);
+                out.writeLong(entry.fingerprint);
+                out.writeShort(entry.counts.size());
+                for (Map.Entry<String, Integer> count : entry.counts.entrySet()) {
+                    out.writeUTF(count.getKey());
+                    out.writeInt(count.getValue());
+                }
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 一个文件的结果
+     *
+     * @param module      所属模块，相对于当前目录
+     * @param size        文件大小
+     * @param modified    修改时间，单位毫秒
+     * @param checksum    内容的 CRC32 校验值
+     * @param fingerprint 配置指纹
+     * @param counts      规则的 shortName 到问题数，只包含有问题的规则
+     */
+    private record Entry(String module, long size, long modified, long checksum, long fingerprint, Map<String, Integer> counts) {
+    }
+}
@@ -0,0 +1,174 @@
+package com.code.inspections.engine;
+
+import com.code.inspections.baseline.P3cBaselineFile;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 监听源码目录，文件新建或修改后只重新检查变化的文件。
+ * <p>
+ * 编辑器保存时往往连续产生多个事件，收到事件后等待一段时间没有新事件再统一检查；
+ * {@code .p3c.properties} 或基线文件变化时清空配置缓存，新建的目录自动加入监听并检查其中的文件。
+ *
+ * @author liuzhihang
+ * @version P3cWatcher.java, v 0.1 2026/10/18 liuzhihang
+ */
+public final class P3cWatcher implements AutoCloseable {
+
+    /**
+     * 没有新事件的等待时间
+     */
+    private static final long QUIET_MILLIS = 200;
+
+    /**
+     * 持续有事件时最长的合并时间
+     */
+    private static final long MAX_BATCH_MILLIS = 2000;
+
+    private final P3cEngine engine;
+
+    private final P3cConfigResolver configs;
+
+    private final PrintStream out;
+
+    private final WatchService watchService;
+
+    /**
+     * 监听的目录
+     */
+    private final Map<WatchKey, Path> directories = new ConcurrentHashMap<>();
+
+    /**
+     * 构造函数，注册目录及其子目录，跳过隐藏目录
+     *
+     * @param engine  引擎
+     * @param configs 按目录解析的配置
+     * @param roots   监听的目录
+     * @param out     检查结果输出
+     * @throws IOException 无法监听目录
+     */
+    public P3cWatcher(@NotNull P3cEngine engine, @NotNull P3cConfigResolver configs, @NotNull Collection<Path> roots,
+                      @NotNull PrintStream out) throws IOException {
+        this.engine = engine;
+        this.configs = configs;
+        this.out = out;
+        this.watchService = roots.iterator().next().getFileSystem().newWatchService();
+        for (Path root : roots) {
+            register(root.toAbsolutePath().normalize());
+        }
+    }
+
+    /**
+     * 监听并检查变化的文件，直到被关闭或中断
+     *
+     * @throws InterruptedException 等待时被中断
+     */
+    public void run() throws InterruptedException {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                Set<Path> changed = new LinkedHashSet<>();
+                boolean configChanged = false;
+                long deadline = System.currentTimeMillis() + MAX_BATCH_MILLIS;
+                while (key != null) {
+                    configChanged |= collect(key, changed);
+                    key = System.currentTimeMillis() < deadline ? watchService.poll(QUIET_MILLIS, TimeUnit.MILLISECONDS) : null;
+                }
+                if (configChanged) {
+                    configs.invalidate();
+                }
+                // 已删除的文件不需要检查
+                changed.removeIf(path -> !Files.exists(path));
+                if (!changed.isEmpty()) {
+                    P3cPrintListener listener = new P3cPrintListener(out, out);
+                    engine.checkPaths(new ArrayList<>(changed), listener);
+                    out.printf("检查了 %d 个文件，发现 %d 个问题%n", listener.getFileCount(), listener.getProblemCount());
+                    out.flush();
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            // 已关闭
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+
+    /**
+     * 收集一个目录的事件
+     *
+     * @return 配置文件是否变化
+     */
+    private boolean collect(WatchKey key, Set<Path> changed) {
+        Path directory = directories.get(key);
+        boolean configChanged = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (directory == null) {
+                continue;
+            }
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                // 事件丢失，重新检查整个目录
+                changed.add(directory);
+                continue;
+            }
+            Path path = directory.resolve((Path) event.context());
+            String name = path.getFileName().toString();
+            if (P3cConfigResolver.FILE_NAME.equals(name) || P3cBaselineFile.FILE_NAME.equals(name)) {
+                configChanged = true;
+            } else if (name.startsWith(".")) {
+                continue;
+            } else if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(path)) {
+                // 新目录中的文件可能在注册监听之前已经创建
+                try {
+                    register(path);
+                    changed.add(path);
+                } catch (IOException | UncheckedIOException e) {
+                    out.println(path + ": 无法监听，" + e.getMessage());
+                }
+            } else if (name.endsWith(".java")) {
+                changed.add(path);
+            }
+        }
+        if (!key.reset()) {
+            directories.remove(key);
+        }
+        return configChanged;
+    }
+
+    private void register(Path root) throws IOException {
+        Files.walkFileTree(root, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                if (!dir.equals(root) && dir.getFileName().toString().startsWith(".")) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                WatchKey key = dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+                directories.put(key, dir);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+}
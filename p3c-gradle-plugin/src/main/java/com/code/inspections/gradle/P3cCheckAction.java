@@ -0,0 +1,110 @@
+package com.code.inspections.gradle;
+
+import com.code.inspections.engine.P3cConfigResolver;
+import com.code.inspections.engine.P3cEngine;
+import com.code.inspections.engine.P3cFileListener;
+import com.code.inspections.engine.P3cProblem;
+import com.code.inspections.javac.P3cOptions;
+import org.gradle.api.GradleException;
+import org.gradle.workers.WorkAction;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * 在 Worker 中检查一批文件，每个文件的结果写入结果目录中对应的文件，供后续增量执行复用。
+ * <p>
+ * 结果文件每行一条记录：{@code P 路径:行:列: [规则] 信息} 为问题，{@code F 路径: 无法检查，原因} 为无法检查的文件，
+ * 没有问题的文件结果为空文件。根目录下的文件使用相对路径，结果从构建缓存中取出到其他目录时仍然有效。
+ *
+ * @author liuzhihang
+ * @version P3cCheckAction.java, v 0.1 2026/10/18 liuzhihang
+ */
+public abstract class P3cCheckAction implements WorkAction<P3cCheckParameters> {
+
+    static final String PROBLEM = "P ";
+
+    static final String FAILURE = "F ";
+
+    @Override
+    public void execute() {
+        P3cCheckParameters parameters = getParameters();
+        Path root = parameters.getRootDirectory().get().getAsFile().toPath().toAbsolutePath().normalize();
+        Path results = parameters.getResultsDirectory().get().getAsFile().toPath();
+        Properties properties = new Properties();
+        properties.putAll(parameters.getOptions().get());
+        P3cConfigResolver configs = new P3cConfigResolver(root, P3cOptions.DEFAULT.overlay(properties));
+
+        List<Path> files = new ArrayList<>();
+        for (File file : parameters.getFiles()) {
+            files.add(file.toPath());
+        }
+        // Gradle 已经按 Worker 数量并行执行各批文件，批内只使用一个线程
+        try (P3cEngine engine = new P3cEngine(configs, Charset.forName(parameters.getEncoding().get()), 1)) {
+            engine.check(files.iterator(), new ResultWriter(root, results));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GradleException("P3C 检查被中断", e);
+        }
+    }
+
+    /**
+     * 源文件对应的结果文件，根目录下的文件按相对路径存放，其他文件按绝对路径存放
+     *
+     * @param root    根目录
+     * @param results 结果目录
+     * @param file    源文件
+     * @return 结果文件
+     */
+    @NotNull
+    static Path resultFile(@NotNull Path root, @NotNull Path results, @NotNull Path file) {
+        Path absolute = file.toAbsolutePath().normalize();
+        String name = absolute.startsWith(root)
+                ? root.relativize(absolute).toString()
+                : "_external/" + absolute.toString().replaceAll("[:\\\\/]+", "_");
+        return results.resolve(name + ".txt");
+    }
+
+    private record ResultWriter(Path root, Path results) implements P3cFileListener {
+
+        @Override
+        public void fileChecked(@NotNull Path file, @NotNull List<P3cProblem> problems) {
+            StringBuilder builder = new StringBuilder();
+            for (P3cProblem problem : problems) {
+                builder.append(PROBLEM).append(display(file)).append(':').append(problem.line()).append(':').append(problem.column())
+                        .append(": [").append(problem.rule().getShortName()).append("] ").append(problem.message())
+                        .append('\n');
+            }
+            write(file, builder.toString());
+        }
+
+        @Override
+        public void fileFailed(@NotNull Path file, @NotNull Exception error) {
+            write(file, FAILURE + display(file) + ": 无法检查，" + error.getMessage() + '\n');
+        }
+
+        private String display(Path file) {
+            Path absolute = file.toAbsolutePath().normalize();
+            return (absolute.startsWith(root) ? root.relativize(absolute) : absolute).toString();
+        }
+
+        private void write(Path file, String content) {
+            Path result = resultFile(root, results, file);
+            try {
+                Files.createDirectories(result.getParent());
+                Files.writeString(result, content, StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.code.inspections.gradle;
+
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.provider.MapProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.workers.WorkParameters;
+
+/**
+ * 一批文件的检查参数
+ *
+ * @author liuzhihang
+ * @version P3cCheckParameters.java, v 0.1 2026/10/18 liuzhihang
+ */
+public interface P3cCheckParameters extends WorkParameters {
+
+    /**
+     * 需要检查的文件
+     *
+     * @return 文件
+     */
+    ConfigurableFileCollection getFiles();
+
+    /**
+     * 查找 {@code .p3c.properties} 和基线文件的根目录
+     *
+     * @return 根目录
+     */
+    DirectoryProperty getRootDirectory();
+
+    /**
+     * 保存每个文件检查结果的目录
+     *
+     * @return 结果目录
+     */
+    DirectoryProperty getResultsDirectory();
+
+    /**
+     * 基础配置
+     *
+     * @return 配置
+     */
+    MapProperty<String, String> getOptions();
+
+    /**
+     * 源文件编码
+     *
+     * @return 编码
+     */
+    Property<String> getEncoding();
+}
@@ -0,0 +1,227 @@
+package com.code.inspections.gradle;
+
+import com.code.inspections.engine.P3cEngine;
+import org.gradle.api.DefaultTask;
+import org.gradle.api.GradleException;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.FileSystemOperations;
+import org.gradle.api.file.FileType;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.provider.MapProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.api.tasks.CacheableTask;
+import org.gradle.api.tasks.IgnoreEmptyDirectories;
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.InputFiles;
+import org.gradle.api.tasks.Internal;
+import org.gradle.api.tasks.Optional;
+import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.OutputFile;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+import org.gradle.api.tasks.SkipWhenEmpty;
+import org.gradle.api.tasks.TaskAction;
+import org.gradle.work.ChangeType;
+import org.gradle.work.FileChange;
+import org.gradle.work.InputChanges;
+import org.gradle.workers.WorkQueue;
+import org.gradle.workers.WorkerExecutor;
+
+import javax.inject.Inject;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 使用 P3C 规则检查 Java 源码。
+ * <p>
+ * 源码、目录配置文件、基线文件和基础配置都声明为输入，没有变化时任务直接跳过，也可以从构建缓存中取出结果。
+ * 只有源码变化时增量执行，只检查上次成功执行之后新增或修改的文件，删除的文件同时删除结果；
+ * 配置或基线变化、没有上次的结果时检查全部文件。基线中已记录的问题不报告。需要检查的文件分批提交给 Worker，由 Gradle 按 {@code --max-workers} 并行执行。
+ *
+ * @author liuzhihang
+ * @version P3cCheckTask.java, v 0.1 2026/10/18 liuzhihang
+ */
+@CacheableTask
+public abstract class P3cCheckTask extends DefaultTask {
+
+    /**
+     * 每个 Worker 检查的文件数量，过小时创建编译器的开销占比过高，过大时无法均匀分配到各个 Worker
+     */
+    private static final int FILES_PER_WORKER = P3cEngine.BATCH_SIZE * 2;
+
+    /**
+     * 需要检查的源码，{@link SkipWhenEmpty} 同时表示可以增量获取变化
+     *
+     * @return 源码
+     */
+    @InputFiles
+    @SkipWhenEmpty
+    @IgnoreEmptyDirectories
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public abstract ConfigurableFileCollection getSource();
+
+    /**
+     * 目录配置文件 {@code .p3c.properties}，不存在的文件会被忽略
+     *
+     * @return 配置文件
+     */
+    @Optional
+    @InputFiles
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public abstract ConfigurableFileCollection getConfigFiles();
+
+    /**
+     * 根目录下的基线文件 {@code .p3c-baseline}，与 IDE 共用，不存在时被忽略
+     *
+     * @return 基线文件
+     */
+    @Optional
+    @InputFiles
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public abstract ConfigurableFileCollection getBaselineFile();
+
+    /**
+     * 基础配置，键与 {@code .p3c.properties} 一致
+     *
+     * @return 配置
+     */
+    @Input
+    public abstract MapProperty<String, String> getOptions();
+
+    /**
+     * 源文件编码
+     *
+     * @return 编码
+     */
+    @Input
+    public abstract Property<String> getEncoding();
+
+    /**
+     * 发现问题时是否仍然让构建成功，影响缓存的结果能否直接使用，因此也是输入
+     *
+     * @return 是否忽略问题
+     */
+    @Input
+    public abstract Property<Boolean> getIgnoreFailures();
+
+    /**
+     * 查找 {@code .p3c.properties} 和基线文件的根目录，文件的内容已经是输入，目录本身不影响缓存
+     *
+     * @return 根目录
+     */
+    @Internal
+    public abstract DirectoryProperty getRootDirectory();
+
+    /**
+     * 每个文件的检查结果，增量执行时复用
+     *
+     * @return 结果目录
+     */
+    @OutputDirectory
+    public abstract DirectoryProperty getResultsDirectory();
+
+    /**
+     * 汇总的检查报告
+     *
+     * @return 报告文件
+     */
+    @OutputFile
+    public abstract RegularFileProperty getReportFile();
+
+    @Inject
+    protected abstract WorkerExecutor getWorkerExecutor();
+
+    @Inject
+    protected abstract FileSystemOperations getFileSystemOperations();
+
+    @TaskAction
+    public void check(InputChanges inputChanges) throws IOException {
+        Path root = getRootDirectory().get().getAsFile().toPath().toAbsolutePath().normalize();
+        File resultsDirectory = getResultsDirectory().get().getAsFile();
+        Path results = resultsDirectory.toPath();
+        if (!inputChanges.isIncremental()) {
+            getFileSystemOperations().delete(spec -> spec.delete(resultsDirectory));
+            Files.createDirectories(results);
+        }
+
+        List<File> changed = new ArrayList<>();
+        for (FileChange change : inputChanges.getFileChanges(getSource())) {
+            if (change.getFileType() == FileType.DIRECTORY || !change.getFile().getName().endsWith(".java")) {
+                continue;
+            }
+            if (change.getChangeType() == ChangeType.REMOVED) {
+                Files.deleteIfExists(P3cCheckAction.resultFile(root, results, change.getFile().toPath()));
+            } else {
+                changed.add(change.getFile());
+            }
+        }
+        getLogger().info("P3C 检查 {} 个文件（{}）", changed.size(), inputChanges.isIncremental() ? "增量" : "全部");
+
+        WorkQueue queue = getWorkerExecutor().noIsolation();
+        for (int from = 0; from < changed.size(); from += FILES_PER_WORKER) {
+            List<File> batch = changed.subList(from, Math.min(from + FILES_PER_WORKER, changed.size()));
+            queue.submit(P3cCheckAction.class, parameters -> {
+                parameters.getFiles().from(batch);
+                parameters.getRootDirectory().set(root.toFile());
+                parameters.getResultsDirectory().set(resultsDirectory);
+                parameters.getOptions().set(getOptions());
+                parameters.getEncoding().set(getEncoding());
+            });
+        }
+        queue.await();
+
+        report(results);
+    }
+
+    /**
+     * 按路径顺序合并所有文件的结果，逐个文件读取，不在内存中保留全部问题
+     */
+    private void report(Path results) throws IOException {
+        File reportFile = getReportFile().get().getAsFile();
+        int problemCount = 0;
+        int failedCount = 0;
+        try (Stream<Path> files = Files.walk(results);
+             BufferedWriter writer = Files.newBufferedWriter(reportFile.toPath(), StandardCharsets.UTF_8)) {
+            Iterator<Path> iterator = files.filter(Files::isRegularFile).sorted().iterator();
+            while (iterator.hasNext()) {
+                for (String line : Files.readAllLines(iterator.next(), StandardCharsets.UTF_8)) {
+                    String content = line.substring(P3cCheckAction.PROBLEM.length());
+                    if (line.startsWith(P3cCheckAction.PROBLEM)) {
+                        problemCount++;
+                        getLogger().warn(content);
+                    } else {
+                        failedCount++;
+                        getLogger().warn(content);
+                    }
+                    writer.write(content);
+                    writer.newLine();
+                }
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        if (failedCount > 0) {
+            getLogger().warn("P3C 有 {} 个文件无法检查", failedCount);
+        }
+        if (problemCount == 0) {
+            return;
+        }
+        String message = "P3C 检查发现 " + problemCount + " 个问题，报告：" + reportFile.toURI();
+        if (getIgnoreFailures().get()) {
+            getLogger().warn(message);
+        } else {
+            throw new GradleException(message);
+        }
+    }
+}
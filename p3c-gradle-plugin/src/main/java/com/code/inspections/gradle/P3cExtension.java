@@ -0,0 +1,33 @@
+package com.code.inspections.gradle;
+
+import org.gradle.api.provider.MapProperty;
+import org.gradle.api.provider.Property;
+
+/**
+ * {@code p3c { }} 配置块
+ * <pre>
+ * p3c {
+ *     ignoreFailures = false
+ *     options = [maxLineLength: '140', disabledRules: 'LineLengthLimit']
+ * }
+ * </pre>
+ *
+ * @author liuzhihang
+ * @version P3cExtension.java, v 0.1 2026/10/18 liuzhihang
+ */
+public abstract class P3cExtension {
+
+    /**
+     * 发现问题时是否仍然让构建成功，默认 false
+     *
+     * @return 是否忽略问题
+     */
+    public abstract Property<Boolean> getIgnoreFailures();
+
+    /**
+     * 基础配置，键与 {@code .p3c.properties} 一致，目录中的配置文件优先
+     *
+     * @return 配置
+     */
+    public abstract MapProperty<String, String> getOptions();
+}
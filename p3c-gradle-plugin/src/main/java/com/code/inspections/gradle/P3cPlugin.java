@@ -0,0 +1,59 @@
+package com.code.inspections.gradle;
+
+import com.code.inspections.baseline.P3cBaselineFile;
+import com.code.inspections.engine.P3cConfigResolver;
+import org.gradle.api.Plugin;
+import org.gradle.api.Project;
+import org.gradle.api.plugins.JavaBasePlugin;
+import org.gradle.api.tasks.SourceSetContainer;
+import org.gradle.api.tasks.TaskProvider;
+import org.gradle.language.base.plugins.LifecycleBasePlugin;
+
+import java.io.File;
+
+/**
+ * 注册 {@code p3c} 配置块和 {@code p3cCheck} 任务，应用了 Java 插件时检查所有 SourceSet 的源码，并加入 {@code check}。
+ *
+ * @author liuzhihang
+ * @version P3cPlugin.java, v 0.1 2026/10/18 liuzhihang
+ */
+public class P3cPlugin implements Plugin<Project> {
+
+    public static final String EXTENSION_NAME = "p3c";
+
+    public static final String TASK_NAME = "p3cCheck";
+
+    @Override
+    public void apply(Project project) {
+        P3cExtension extension = project.getExtensions().create(EXTENSION_NAME, P3cExtension.class);
+        extension.getIgnoreFailures().convention(false);
+
+        File rootDir = project.getRootDir();
+        TaskProvider<P3cCheckTask> checkTask = project.getTasks().register(TASK_NAME, P3cCheckTask.class, task -> {
+            task.setGroup(LifecycleBasePlugin.VERIFICATION_GROUP);
+            task.setDescription("使用 P3C 规则检查 Java 源码");
+            task.getOptions().convention(extension.getOptions());
+            task.getIgnoreFailures().convention(extension.getIgnoreFailures());
+            task.getEncoding().convention("UTF-8");
+            task.getRootDirectory().convention(project.getRootProject().getLayout().getProjectDirectory());
+            // 项目目录中的配置文件，以及项目目录到根目录之间各级目录的配置文件
+            task.getConfigFiles().from(project.fileTree(project.getProjectDir(), tree -> tree
+                    .include("**/" + P3cConfigResolver.FILE_NAME)
+                    .exclude("build/**")));
+            for (File dir = project.getProjectDir().getParentFile();
+                 dir != null && dir.toPath().startsWith(rootDir.toPath());
+                 dir = dir.getParentFile()) {
+                task.getConfigFiles().from(new File(dir, P3cConfigResolver.FILE_NAME));
+            }
+            task.getBaselineFile().from(new File(rootDir, P3cBaselineFile.FILE_NAME));
+            task.getResultsDirectory().convention(project.getLayout().getBuildDirectory().dir("p3c/results"));
+            task.getReportFile().convention(project.getLayout().getBuildDirectory().file("reports/p3c/p3c.txt"));
+        });
+
+        project.getPlugins().withType(JavaBasePlugin.class, plugin -> {
+            SourceSetContainer sourceSets = project.getExtensions().getByType(SourceSetContainer.class);
+            sourceSets.all(sourceSet -> checkTask.configure(task -> task.getSource().from(sourceSet.getJava())));
+            project.getTasks().named(LifecycleBasePlugin.CHECK_TASK_NAME).configure(check -> check.dependsOn(checkTask));
+        });
+    }
+}
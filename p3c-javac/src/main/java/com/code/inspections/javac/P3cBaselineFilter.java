@@ -0,0 +1,59 @@
+package com.code.inspections.javac;
+
+import com.code.inspections.baseline.FingerprintHash;
+import com.code.inspections.baseline.P3cBaselineFile;
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.util.SourcePositions;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * 按基线过滤一个编译单元中的问题，只把基线中没有的问题交给下游，指纹与 IDE 中的基线一致。
+ *
+ * @author liuzhihang
+ * @version P3cBaselineFilter.java, v 0.1 2026/10/18 liuzhihang
+ */
+public final class P3cBaselineFilter implements P3cViolationSink {
+
+    private final P3cBaselineFile baseline;
+
+    private final P3cMemberSignatures signatures;
+
+    private final SourceText source;
+
+    private final P3cViolationSink delegate;
+
+    private P3cBaselineFilter(P3cBaselineFile baseline, P3cMemberSignatures signatures, SourceText source, P3cViolationSink delegate) {
+        this.baseline = baseline;
+        this.signatures = signatures;
+        this.source = source;
+        this.delegate = delegate;
+    }
+
+    /**
+     * 包装问题回调，基线为空时直接返回原回调
+     *
+     * @param baseline  基线
+     * @param unit      编译单元
+     * @param positions 源码位置
+     * @param source    编译单元的源码
+     * @param delegate  下游的问题回调
+     * @return 问题回调
+     */
+    @NotNull
+    public static P3cViolationSink wrap(@NotNull P3cBaselineFile baseline, @NotNull CompilationUnitTree unit, @NotNull SourcePositions positions,
+                                        @NotNull SourceText source, @NotNull P3cViolationSink delegate) {
+        if (baseline.isEmpty()) {
+            return delegate;
+        }
+        return new P3cBaselineFilter(baseline, new P3cMemberSignatures(unit, positions, source), source, delegate);
+    }
+
+    @Override
+    public void report(@NotNull P3cViolation violation) {
+        long fingerprint = FingerprintHash.compute(violation.rule().getShortName(), signatures.signature(violation.start()),
+                source.getText(), violation.start());
+        if (!baseline.contains(fingerprint)) {
+            delegate.report(violation);
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package com.code.inspections.javac;
+
+import com.code.inspections.baseline.P3cBaselineFile;
+import com.sun.source.tree.ClassTree;
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.tree.LineMap;
+import com.sun.source.tree.Tree;
+import com.sun.source.util.JavacTask;
+import com.sun.source.util.Plugin;
+import com.sun.source.util.TaskEvent;
+import com.sun.source.util.TaskListener;
+import com.sun.source.util.TreePath;
+import com.sun.source.util.TreeScanner;
+import com.sun.source.util.Trees;
+import org.jetbrains.annotations.NotNull;
+
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Ali-P3C 的 javac 插件，在编译期直接检查编译器已经构建好的语法树，不需要再次解析源码，也不需要 IDE。
+ * <p>
+ * 使用方式：将本模块的 jar 加入 processor path，编译时添加参数 {@code -Xplugin:"P3C key=value ..."}，
+ * 配置键与 {@link P3cOptions} 一致，另外支持 {@code failOnViolation=true} 将问题作为编译错误报告，
+ * {@code baseline=<项目根目录>/.p3c-baseline} 不报告与 IDE 共用的基线中已记录的问题。
+ * <p>
+ * 每个顶层类型在分析阶段结束后检查，此时语法树已带有类型信息，需要类型解析的规则也可以运行。
+ *
+ * @author liuzhihang
+ * @version P3cJavacPlugin.java, v 0.1 2026/10/18 liuzhihang
+ */
+public class P3cJavacPlugin implements Plugin {
+
+    /**
+     * 插件名称，即 {@code -Xplugin:P3C}
+     */
+    public static final String NAME = "P3C";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public void init(JavacTask task, String... args) {
+        Properties properties = new Properties();
+        for (String arg : args) {
+            int index = arg.indexOf('=');
+            if (index > 0) {
+                properties.setProperty(arg.substring(0, index).trim(), arg.substring(index + 1).trim());
+            }
+        }
+        boolean failOnViolation = Boolean.parseBoolean((String) properties.remove("failOnViolation"));
+        P3cBaselineFile baseline = loadBaseline((String) properties.remove("baseline"));
+        P3cOptions options = P3cOptions.DEFAULT.overlay(properties);
+        task.addTaskListener(new AnalyzeListener(task, options, baseline, failOnViolation ? Diagnostic.Kind.ERROR : Diagnostic.Kind.WARNING));
+    }
+
+    /**
+     * 读取基线文件，未配置或文件不存在时为空基线，无法解析的记录与 IDE 一样跳过
+     */
+    private static P3cBaselineFile loadBaseline(String path) {
+        if (path == null || path.isEmpty()) {
+            return P3cBaselineFile.EMPTY;
+        }
+        try {
+            return P3cBaselineFile.load(Path.of(path), line -> {
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("无法读取基线文件：" + path, e);
+        }
+    }
+
+    /**
+     * 监听分析阶段，在类型脱糖之前检查
+     */
+    private static final class AnalyzeListener implements TaskListener {
+
+        private final JavacTask task;
+
+        private final Trees trees;
+
+        private final P3cOptions options;
+
+        private final P3cBaselineFile baseline;
+
+        private final Diagnostic.Kind kind;
+
+        /**
+         * 正在检查的编译单元
+         */
+        private final Map<CompilationUnitTree, UnitState> units = new IdentityHashMap<>();
+
+        private AnalyzeListener(JavacTask task, P3cOptions options, P3cBaselineFile baseline, Diagnostic.Kind kind) {
+            this.task = task;
+            this.trees = Trees.instance(task);
+            this.options = options;
+            this.baseline = baseline;
+            this.kind = kind;
+        }
+
+        /**
+         * 默认的编译策略下每个顶层类型分析完成后立即脱糖，语法树会被改写，因此在每个类型的分析阶段结束时检查该类型，
+         * 第一个类型分析完成时检查源码文本和包、导入声明
+         */
+        @Override
+        public void finished(TaskEvent e) {
+            if (e.getKind() != TaskEvent.Kind.ANALYZE || e.getCompilationUnit() == null) {
+                return;
+            }
+            CompilationUnitTree unit = e.getCompilationUnit();
+            UnitState state = units.get(unit);
+            if (state == null) {
+                state = start(unit);
+                units.put(unit, state);
+            }
+            if (state.scanner != null && e.getTypeElement() != null) {
+                TreePath path = trees.getPath(e.getTypeElement());
+                if (path != null && path.getCompilationUnit() == unit) {
+                    state.scanner.checkTree(path, state.source);
+                }
+            }
+            if (--state.remaining <= 0) {
+                units.remove(unit);
+            }
+        }
+
+        private UnitState start(CompilationUnitTree unit) {
+            CharSequence content;
+            try {
+                content = unit.getSourceFile().getCharContent(true);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            SourceText source = new SourceText(content);
+            TokenAnchors anchors = new TokenAnchors(unit);
+            P3cRuleScanner scanner = new P3cRuleScanner(task, true, options, P3cBaselineFilter.wrap(baseline, unit, trees.getSourcePositions(), source, violation -> {
+                // 问题位置与节点不在同一行时（例如代码块的右大括号），改用问题所在行的节点报告
+                Tree tree = violation.tree();
+                LineMap lines = unit.getLineMap();
+                if (tree == null || lines.getLineNumber(trees.getSourcePositions().getStartPosition(unit, tree)) != lines.getLineNumber(violation.start())) {
+                    tree = anchors.find(violation.start());
+                }
+                String message = "[" + NAME + ":" + violation.rule().getShortName() + "] " + violation.message();
+                trees.printMessage(kind, message, tree, unit);
+            }));
+            if (scanner.shouldSkip(unit, source)) {
+                return new UnitState(null, source, countTypes(unit));
+            }
+            TreePath root = new TreePath(unit);
+            if (unit.getPackage() != null) {
+                scanner.checkTree(new TreePath(root, unit.getPackage()), source);
+            }
+            for (Tree tree : unit.getImports()) {
+                scanner.checkTree(new TreePath(root, tree), source);
+            }
+            scanner.checkText(source);
+            return new UnitState(scanner, source, countTypes(unit));
+        }
+
+        /**
+         * 编译单元的检查状态
+         */
+        private static final class UnitState {
+
+            /**
+             * 规则，跳过的编译单元为 null
+             */
+            private final P3cRuleScanner scanner;
+
+            private final SourceText source;
+
+            /**
+             * 尚未完成分析的顶层类型数量
+             */
+            private int remaining;
+
+            private UnitState(P3cRuleScanner scanner, SourceText source, int remaining) {
+                this.scanner = scanner;
+                this.source = source;
+                this.remaining = remaining;
+            }
+        }
+
+        /**
+         * 按源码文本检查的规则没有对应的语法树节点，javac 只能在语法树节点上报告问题，
+         * 因此在问题位置附近找一个代码块、标识符或字面量节点作为报告位置
+         */
+        private final class TokenAnchors {
+
+            private final CompilationUnitTree unit;
+
+            private int[] starts;
+
+            private Tree[] anchors;
+
+            private TokenAnchors(CompilationUnitTree unit) {
+                this.unit = unit;
+            }
+
+            @NotNull
+            Tree find(int offset) {
+                if (starts == null) {
+                    collect();
+                }
+                int low = 0;
+                int high = starts.length - 1;
+                int found = -1;
+                while (low <= high) {
+                    int mid = (low + high) >>> 1;
+                    if (starts[mid] <= offset) {
+                        found = mid;
+                        low = mid + 1;
+                    } else {
+                        high = mid - 1;
+                    }
+                }
+                // 前一个节点不在问题所在行时使用后一个节点，例如单独一行的注释报告在其后的代码上
+                LineMap lines = unit.getLineMap();
+                if (found + 1 < starts.length && (found < 0 || lines.getLineNumber(starts[found]) != lines.getLineNumber(offset))) {
+                    found++;
+                }
+                return found < 0 ? unit : anchors[found];
+            }
+
+            private void collect() {
+                Map<Integer, Tree> byStart = new TreeMap<>();
+                new TreeScanner<Void, Void>() {
+                    @Override
+                    public Void scan(Tree tree, Void unused) {
+                        if (tree != null) {
+                            switch (tree.getKind()) {
+                                case BLOCK, IDENTIFIER, PRIMITIVE_TYPE, INT_LITERAL, LONG_LITERAL, FLOAT_LITERAL, DOUBLE_LITERAL,
+                                     BOOLEAN_LITERAL, CHAR_LITERAL, STRING_LITERAL, NULL_LITERAL ->
+                                        byStart.putIfAbsent((int) trees.getSourcePositions().getStartPosition(unit, tree), tree);
+                                default -> {
+                                }
+                            }
+                        }
+                        return super.scan(tree, unused);
+                    }
+                }.scan(unit, null);
+                byStart.remove(-1);
+                starts = new int[byStart.size()];
+                anchors = new Tree[byStart.size()];
+                int i = 0;
+                for (Map.Entry<Integer, Tree> entry : byStart.entrySet()) {
+                    starts[i] = entry.getKey();
+                    anchors[i++] = entry.getValue();
+                }
+            }
+        }
+    }
+
+    private static int countTypes(CompilationUnitTree unit) {
+        int count = 0;
+        for (Tree type : unit.getTypeDecls()) {
+            if (type instanceof ClassTree) {
+                count++;
+            }
+        }
+        return Math.max(count, 1);
+    }
+}
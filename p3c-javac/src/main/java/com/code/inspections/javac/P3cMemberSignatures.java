@@ -0,0 +1,331 @@
+package com.code.inspections.javac;
+
+import com.sun.source.tree.ClassTree;
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.tree.MethodTree;
+import com.sun.source.tree.NewClassTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.tree.TypeParameterTree;
+import com.sun.source.tree.VariableTree;
+import com.sun.source.util.SourcePositions;
+import com.sun.source.util.TreeScanner;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * 在 javac 语法树上生成问题所在成员的签名，格式与 IDE 中 {@code ViolationFingerprint.signature} 一致，
+ * 例如 {@code com.foo.Bar#baz(String,int)}，不在成员内时为文件名，两端对同一份源码得到相同的基线指纹。
+ * <p>
+ * 成员的范围按 IDE 绑定注释的方式扩展：前面紧邻的文档注释、不隔空行且单独成行的普通注释，以及同一行末尾的注释都属于该成员。
+ * 局部类和匿名类没有全限定名，签名由外层成员和类名（匿名类为 {@code {}}）拼接。
+ *
+ * @author liuzhihang
+ * @version P3cMemberSignatures.java, v 0.1 2026/10/18 liuzhihang
+ */
+public final class P3cMemberSignatures {
+
+    /**
+     * 匿名类、初始化块等没有名称的成员
+     */
+    private static final String UNNAMED = "{}";
+
+    private final CompilationUnitTree unit;
+
+    private final SourcePositions positions;
+
+    private final SourceText source;
+
+    private final String fileName;
+
+    public P3cMemberSignatures(@NotNull CompilationUnitTree unit, @NotNull SourcePositions positions, @NotNull SourceText source) {
+        this.unit = unit;
+        this.positions = positions;
+        this.source = source;
+        String name = unit.getSourceFile().getName();
+        this.fileName = name.substring(Math.max(name.lastIndexOf('/'), name.lastIndexOf('\\')) + 1);
+    }
+
+    /**
+     * 获取偏移量所在成员的签名
+     *
+     * @param offset 问题在文件中的偏移量
+     * @return 成员签名
+     */
+    @NotNull
+    public String signature(int offset) {
+        String prefix = unit.getPackageName() == null ? "" : unit.getPackageName() + ".";
+        for (Tree type : unit.getTypeDecls()) {
+            if (type instanceof ClassTree classTree && contains(memberStart(classTree), memberEnd(classTree), offset)) {
+                return classSignature(classTree, prefix + classTree.getSimpleName(), null, offset);
+            }
+        }
+        return fileName;
+    }
+
+    /**
+     * 类或其中包含偏移量的成员的签名
+     *
+     * @param node          类
+     * @param qualifiedName 全限定名，局部类和匿名类为 null
+     * @param outer         外层成员的签名，有全限定名时不使用
+     * @param offset        偏移量
+     * @return 成员签名
+     */
+    private String classSignature(ClassTree node, @Nullable String qualifiedName, @Nullable String outer, int offset) {
+        String name = node.getSimpleName().isEmpty() ? UNNAMED : node.getSimpleName().toString();
+        String signature = qualifiedName != null ? qualifiedName : outer == null ? name : outer + '#' + name;
+        String typeParameter = typeParameter(node.getTypeParameters(), signature, offset);
+        if (typeParameter != null) {
+            return typeParameter;
+        }
+        for (Tree member : node.getMembers()) {
+            int start = memberStart(member);
+            if (start < 0 || !contains(start, memberEnd(member), offset)) {
+                continue;
+            }
+            if (member instanceof ClassTree nested) {
+                String nestedName = qualifiedName == null ? null : qualifiedName + '.' + nested.getSimpleName();
+                return classSignature(nested, nestedName, signature, offset);
+            }
+            String memberSignature = signature + '#' + memberName(member, name);
+            if (member instanceof MethodTree method) {
+                String methodTypeParameter = typeParameter(method.getTypeParameters(), memberSignature, offset);
+                if (methodTypeParameter != null) {
+                    return methodTypeParameter;
+                }
+            }
+            return localClassSignature(member, memberSignature, offset);
+        }
+        return signature;
+    }
+
+    /**
+     * 成员中包含偏移量的局部类或匿名类的签名，没有时为成员本身的签名
+     */
+    private String localClassSignature(Tree member, String memberSignature, int offset) {
+        ClassTree[] found = new ClassTree[1];
+        new TreeScanner<Void, Void>() {
+            @Override
+            public Void scan(Tree tree, Void unused) {
+                if (tree == null || found[0] != null) {
+                    return null;
+                }
+                long start = positions.getStartPosition(unit, tree);
+                long end = positions.getEndPosition(unit, tree);
+                if (start >= 0 && end >= 0 && (offset < start || offset >= end)) {
+                    return null;
+                }
+                return super.scan(tree, unused);
+            }
+
+            @Override
+            public Void visitClass(ClassTree node, Void unused) {
+                if (node != member && contains(memberStart(node), memberEnd(node), offset)) {
+                    found[0] = node;
+                    return null;
+                }
+                return super.visitClass(node, unused);
+            }
+
+            @Override
+            public Void visitNewClass(NewClassTree node, Void unused) {
+                // IDE 中匿名类的范围从类名开始，javac 中从左大括号开始；枚举常量的类体没有 new，两端都从左大括号开始
+                ClassTree body = node.getClassBody();
+                if (body == null) {
+                    return super.visitNewClass(node, unused);
+                }
+                boolean creation = node.getEnclosingExpression() != null || source.startsWith("new", (int) positions.getStartPosition(unit, node));
+                int start = (int) positions.getStartPosition(unit, creation ? node.getIdentifier() : body);
+                if (contains(start, (int) positions.getEndPosition(unit, body), offset)) {
+                    found[0] = body;
+                    return null;
+                }
+                return super.visitNewClass(node, unused);
+            }
+        }.scan(member, null);
+        return found[0] == null ? memberSignature : classSignature(found[0], null, memberSignature, offset);
+    }
+
+    /**
+     * 包含偏移量的类型参数的签名
+     */
+    @Nullable
+    private String typeParameter(List<? extends TypeParameterTree> typeParameters, String owner, int offset) {
+        for (TypeParameterTree typeParameter : typeParameters) {
+            if (contains((int) positions.getStartPosition(unit, typeParameter), (int) positions.getEndPosition(unit, typeParameter), offset)) {
+                return owner + '#' + typeParameter.getName();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 成员名称，方法带参数类型，参数类型使用源码中的写法
+     *
+     * @param member    成员
+     * @param className 所在类的名称，用于构造方法
+     * @return 成员名称
+     */
+    private String memberName(Tree member, String className) {
+        if (member instanceof VariableTree variable) {
+            return variable.getName().toString();
+        }
+        if (!(member instanceof MethodTree method)) {
+            return UNNAMED;
+        }
+        String name = method.getName().contentEquals("<init>") ? className : method.getName().toString();
+        StringBuilder builder = new StringBuilder(name).append('(');
+        List<? extends VariableTree> parameters = method.getParameters();
+        for (int i = 0; i < parameters.size(); i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(parameterType(parameters.get(i)));
+        }
+        return builder.append(')').toString();
+    }
+
+    /**
+     * 参数类型的源码文本，即类型开始到参数名之前的部分，包括可变参数的 {@code ...}
+     */
+    private String parameterType(VariableTree parameter) {
+        Tree type = parameter.getType();
+        int start = type == null ? -1 : (int) positions.getStartPosition(unit, type);
+        int end = type == null ? -1 : (int) positions.getEndPosition(unit, type);
+        int name = end < 0 ? -1 : source.findIdentifier(parameter.getName().toString(), end, (int) positions.getEndPosition(unit, parameter));
+        if (start < 0 || name < start) {
+            return type == null ? "" : type.toString();
+        }
+        CharSequence text = source.getText();
+        while (name > start && Character.isWhitespace(text.charAt(name - 1))) {
+            name--;
+        }
+        return text.subSequence(start, name).toString();
+    }
+
+    private static boolean contains(int start, int end, int offset) {
+        return start >= 0 && offset >= start && offset < end;
+    }
+
+    /**
+     * 成员的起始位置，包括前面绑定到成员的注释：最近的文档注释，没有文档注释时为单独成行、中间没有空行的普通注释
+     */
+    private int memberStart(Tree member) {
+        int start = (int) positions.getStartPosition(unit, member);
+        if (start < 0 || positions.getEndPosition(unit, member) < 0) {
+            return -1;
+        }
+        CharSequence text = source.getText();
+        int result = start;
+        boolean plain = true;
+        int i = start;
+        while (true) {
+            int whitespaceEnd = i;
+            while (i > 0 && Character.isWhitespace(text.charAt(i - 1))) {
+                i--;
+            }
+            int lineBreaks = lineBreaks(i, whitespaceEnd);
+            if (lineBreaks > 1) {
+                plain = false;
+            }
+            int comment = commentEndingAt(i);
+            if (comment < 0) {
+                return result;
+            }
+            int commentStart = source.commentStart(comment);
+            if (isDocComment(commentStart, source.commentEnd(comment))) {
+                return commentStart;
+            }
+            int before = commentStart;
+            while (before > 0 && Character.isWhitespace(text.charAt(before - 1)) && text.charAt(before - 1) != '\n') {
+                before--;
+            }
+            if (plain && before > 0 && text.charAt(before - 1) == '\n') {
+                result = commentStart;
+            }
+            i = commentStart;
+        }
+    }
+
+    /**
+     * 成员的结束位置，包括同一行中紧跟在后面的注释
+     */
+    private int memberEnd(Tree member) {
+        int end = (int) positions.getEndPosition(unit, member);
+        if (end < 0) {
+            return end;
+        }
+        CharSequence text = source.getText();
+        int result = end;
+        int i = end;
+        if (i < text.length() && text.charAt(i) == ';') {
+            result = ++i;
+        }
+        while (true) {
+            while (i < text.length() && (text.charAt(i) == ' ' || text.charAt(i) == '\t')) {
+                i++;
+            }
+            int comment = commentStartingAt(i);
+            if (comment < 0) {
+                return result;
+            }
+            result = source.commentEnd(comment);
+            i = result;
+        }
+    }
+
+    private int lineBreaks(int from, int to) {
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (source.charAt(i) == '\n') {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 以指定位置结束的注释，注释按位置排列，二分查找
+     */
+    private int commentEndingAt(int end) {
+        int low = 0;
+        int high = source.commentCount() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int commentEnd = source.commentEnd(mid);
+            if (commentEnd == end) {
+                return mid;
+            }
+            if (commentEnd < end) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return -1;
+    }
+
+    private int commentStartingAt(int start) {
+        int low = 0;
+        int high = source.commentCount() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int commentStart = source.commentStart(mid);
+            if (commentStart == start) {
+                return mid;
+            }
+            if (commentStart < start) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return -1;
+    }
+
+    private boolean isDocComment(int start, int end) {
+        return source.startsWith("/**", start) && end - start > 4;
+    }
+}
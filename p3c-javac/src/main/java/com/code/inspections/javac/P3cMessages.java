@@ -0,0 +1,44 @@
+package com.code.inspections.javac;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.text.MessageFormat;
+import java.util.Locale;
+import java.util.ResourceBundle;
+
+/**
+ * 脱离 IntelliJ 平台读取 {@code CodeInspectionsBundle} 中的消息，与 IDE 中的问题描述保持一致。
+ *
+ * @author liuzhihang
+ * @version P3cMessages.java, v 0.1 2026/10/18 liuzhihang
+ */
+public final class P3cMessages {
+
+    /**
+     * 与 IDE 插件共用的资源包
+     */
+    private static final String BUNDLE = "bundle.CodeInspectionsBundle";
+
+    private P3cMessages() {
+    }
+
+    /**
+     * 获取消息
+     *
+     * @param key    消息键
+     * @param params 格式化参数
+     * @return 消息
+     */
+    @NotNull
+    public static String message(@NotNull String key, @NotNull Object... params) {
+        String pattern = Holder.BUNDLE.getString(key);
+        return params.length == 0 ? pattern : MessageFormat.format(pattern, params);
+    }
+
+    /**
+     * 首次获取消息时才加载资源包
+     */
+    private static final class Holder {
+        private static final ResourceBundle BUNDLE = ResourceBundle.getBundle(P3cMessages.BUNDLE, Locale.getDefault(), P3cMessages.class.getClassLoader());
+    }
+}
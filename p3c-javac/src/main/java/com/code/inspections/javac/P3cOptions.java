@@ -0,0 +1,182 @@
+package com.code.inspections.javac;
+
+import com.code.inspections.settings.SuffixTrie;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 脱离 IDE 运行规则时的不可变配置。
+ * <p>
+ * 配置键与 IDE 设置和 {@code .p3c.properties} 中的键一致，默认值与 IDE 设置的默认值一致，
+ * 另外支持 {@code disabledRules}（逗号分隔的规则名称）和 {@code testSourceDirectories}（测试源码目录，用于测试类命名规则）。
+ *
+ * @author liuzhihang
+ * @version P3cOptions.java, v 0.1 2026/10/18 liuzhihang
+ */
+public final class P3cOptions {
+
+    /**
+     * 默认配置
+     */
+    public static final P3cOptions DEFAULT = new P3cOptions(new Properties());
+
+    /**
+     * 原始配置，叠加下级配置时使用
+     */
+    private final Properties properties;
+
+    private final boolean skipGeneratedFiles;
+
+    private final List<String> generatedDirectories;
+
+    private final List<String> generatedMarkers;
+
+    private final long maxFileSize;
+
+    private final SuffixTrie classNameSuffixes;
+
+    private final Set<String> reservedWords;
+
+    private final int maxLineLength;
+
+    private final List<String> testSourceDirectories;
+
+    private final Set<P3cRule> enabledRules;
+
+    /**
+     * 配置指纹，第一次需要时计算
+     */
+    private long fingerprint;
+
+    private P3cOptions(@NotNull Properties properties) {
+        this.properties = properties;
+        this.skipGeneratedFiles = Boolean.parseBoolean(properties.getProperty("skipGeneratedFiles", "true"));
+        this.generatedDirectories = split(properties.getProperty("generatedDirectories",
+                "build/generated,target/generated-sources,target/generated-test-sources,generated-sources"));
+        this.generatedMarkers = split(properties.getProperty("generatedMarkers",
+                "Generated by the protocol buffer compiler,DO NOT EDIT,@mbg.generated,MyBatis Generator,Autogenerated,auto-generated"));
+        this.maxFileSize = parseInt(properties.getProperty("maxFileSizeKb"), 10 * 1024) * 1024L;
+        this.classNameSuffixes = SuffixTrie.of(split(properties.getProperty("classNameSuffixes", "DO,PO,DTO,BO,VO,UID")));
+        this.reservedWords = Collections.unmodifiableSet(new LinkedHashSet<>(split(properties.getProperty("reservedWords", "if,for,while,do,switch"))));
+        this.maxLineLength = parseInt(properties.getProperty("maxLineLength"), 120);
+        this.testSourceDirectories = split(properties.getProperty("testSourceDirectories", "src/test/java"));
+        Set<P3cRule> rules = EnumSet.allOf(P3cRule.class);
+        for (String name : split(properties.getProperty("disabledRules", ""))) {
+            P3cRule rule = P3cRule.of(name);
+            if (rule == null) {
+                throw new IllegalArgumentException("未知的规则：" + name);
+            }
+            rules.remove(rule);
+        }
+        this.enabledRules = Collections.unmodifiableSet(rules);
+    }
+
+    /**
+     * 在当前配置上叠加新的配置项，返回新的配置
+     *
+     * @param overrides 配置项
+     * @return 新的配置
+     */
+    @NotNull
+    public P3cOptions overlay(@NotNull Properties overrides) {
+        if (overrides.isEmpty()) {
+            return this;
+        }
+        Properties merged = new Properties();
+        merged.putAll(properties);
+        merged.putAll(overrides);
+        return new P3cOptions(merged);
+    }
+
+    public boolean isSkipGeneratedFiles() {
+        return skipGeneratedFiles;
+    }
+
+    @NotNull
+    public List<String> getGeneratedDirectories() {
+        return generatedDirectories;
+    }
+
+    @NotNull
+    public List<String> getGeneratedMarkers() {
+        return generatedMarkers;
+    }
+
+    public long getMaxFileSize() {
+        return maxFileSize;
+    }
+
+    @NotNull
+    public SuffixTrie getClassNameSuffixes() {
+        return classNameSuffixes;
+    }
+
+    @NotNull
+    public Set<String> getReservedWords() {
+        return reservedWords;
+    }
+
+    public int getMaxLineLength() {
+        return maxLineLength;
+    }
+
+    @NotNull
+    public List<String> getTestSourceDirectories() {
+        return testSourceDirectories;
+    }
+
+    public boolean isEnabled(@NotNull P3cRule rule) {
+        return enabledRules.contains(rule);
+    }
+
+    /**
+     * 配置指纹：按键排序后所有配置项的 64 位 FNV-1a 散列，配置项相同时跨进程保持一致，
+     * 用于判断缓存的检查结果是否仍然有效
+     *
+     * @return 指纹，不为 0
+     */
+    public long fingerprint() {
+        long hash = fingerprint;
+        if (hash == 0) {
+            hash = 0xcbf29ce484222325L;
+            for (Map.Entry<Object, Object> entry : new TreeMap<>(properties).entrySet()) {
+                String item = entry.getKey() + "=" + entry.getValue() + "\n";
+                for (int i = 0; i < item.length(); i++) {
+                    hash = (hash ^ item.charAt(i)) * 0x100000001b3L;
+                }
+            }
+            fingerprint = hash == 0 ? 1 : hash;
+        }
+        return fingerprint;
+    }
+
+    private static int parseInt(String value, int defaultValue) {
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("配置值不是整数：" + value, e);
+        }
+    }
+
+    private static List<String> split(String value) {
+        List<String> items = new ArrayList<>();
+        for (String item : value.split(",")) {
+            if (!item.isBlank()) {
+                items.add(item.trim());
+            }
+        }
+        return Collections.unmodifiableList(items);
+    }
+}
@@ -0,0 +1,92 @@
+package com.code.inspections.javac;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * 编译期检查支持的规则，名称与 plugin.xml 中检查的 shortName 一致，报告和配置中都使用该名称。
+ *
+ * @author liuzhihang
+ * @version P3cRule.java, v 0.1 2026/10/18 liuzhihang
+ */
+public enum P3cRule {
+
+    NAMING_CONVENTION("NamingConvention", "ali.p3c.name.convention.key", false),
+    CHINESE_AND_PINYIN_MIX("ChineseAndPinyinMix", "ali.p3c.name.chinese.pinyin.mix.key", false),
+    SENSITIVE_WORDS("SensitiveWords", "ali.p3c.name.sensitive.words.key", false),
+    CLASS_NAME_UPPER_CASE("ClassNameUpperCase", "ali.p3c.name.class.name.upper.case.key", false),
+    METHOD_AND_PARAMETER_NAMING("MethodAndParameterNaming", "ali.p3c.name.method.name.lower.case.key", false),
+    CLASS_NAMING("ClassNaming", "ali.p3c.name.class.name.key", false),
+    ARRAY_DEFINITION("ArrayDefinition", "ali.p3c.name.array.definition.key", false),
+    BOOLEAN_VARIABLE_NAMING("BooleanVariableNaming", "ali.p3c.name.boolean.variable.key", false),
+    DUPLICATE_VARIABLE_NAMING("DuplicateVariableNaming", "ali.p3c.name.duplicate.variable.naming.key", true),
+    CONSTANT_NAMING("ConstantNaming", "ali.p3c.name.constant.name.upper.case.key", false),
+    ENUM_NAMING("EnumNaming", "ali.p3c.name.enum.naming.key", false),
+    MAGIC_VALUE("MagicValue", "ali.p3c.constant.magic.value.key", false),
+    LOWERCASE_LONG_LITERAL("LowercaseLongLiteral", "ali.p3c.constant.lowercase.long.literal.key", false),
+    BRACES_STYLE("BracesStyle", "ali.p3c.style.braces.style.key", false),
+    BRACES_SPACES("BracesSpaces", "ali.p3c.style.braces.spaces.key", false),
+    RESERVED_WORDS_SPACES("ReservedWordsSpaces", "ali.p3c.style.reserved.words.spaces.key", false),
+    OPERATOR_SPACING("OperatorSpacing", "ali.p3c.style.operator.spaces.key", false),
+    INDENTATION_AND_TAB("IndentationAndTab", "ali.p3c.style.indent.spaces.key", false),
+    COMMENT_SPACES("CommentSpaces", "ali.p3c.style.comment.spaces.key", false),
+    NO_SPACE_BETWEEN_CAST_AND_VALUE("NoSpaceBetweenCastAndValue", "ali.p3c.style.cast.spaces.key", false),
+    LINE_LENGTH_LIMIT("LineLengthLimit", "ali.p3c.style.line.length.key", false),
+    OVERRIDE_ANNOTATION("OverrideAnnotation", "ali.p3c.oop.override.annotation.key", true);
+
+    /**
+     * 规则名称，即 IDE 中检查的 shortName
+     */
+    private final String shortName;
+
+    /**
+     * 检查名称在 {@code CodeInspectionsBundle} 中的键
+     */
+    private final String key;
+
+    /**
+     * 是否需要类型解析，只解析语法树时不运行
+     */
+    private final boolean attributed;
+
+    P3cRule(String shortName, String key, boolean attributed) {
+        this.shortName = shortName;
+        this.key = key;
+        this.attributed = attributed;
+    }
+
+    @NotNull
+    public String getShortName() {
+        return shortName;
+    }
+
+    /**
+     * 检查名称，与 IDE 设置中显示的一致
+     *
+     * @return 检查名称
+     */
+    @NotNull
+    public String getDisplayName() {
+        return P3cMessages.message(key);
+    }
+
+    public boolean isAttributed() {
+        return attributed;
+    }
+
+    /**
+     * 按名称查找规则
+     *
+     * @param shortName 规则名称
+     * @return 规则，不存在时返回 null
+     */
+    @Nullable
+    public static P3cRule of(@NotNull String shortName) {
+        for (P3cRule rule : values()) {
+            if (rule.shortName.equals(shortName)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+}
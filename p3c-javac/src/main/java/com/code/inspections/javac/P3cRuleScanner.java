@@ -0,0 +1,845 @@
+package com.code.inspections.javac;
+
+import com.code.inspections.ali.name.IdentifierClassifier;
+import com.code.inspections.ali.name.IdentifierTokens;
+import com.sun.source.tree.AnnotationTree;
+import com.sun.source.tree.ArrayTypeTree;
+import com.sun.source.tree.AssignmentTree;
+import com.sun.source.tree.BinaryTree;
+import com.sun.source.tree.BlockTree;
+import com.sun.source.tree.ClassTree;
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.tree.CompoundAssignmentTree;
+import com.sun.source.tree.ConditionalExpressionTree;
+import com.sun.source.tree.DoWhileLoopTree;
+import com.sun.source.tree.EnhancedForLoopTree;
+import com.sun.source.tree.ExpressionTree;
+import com.sun.source.tree.ForLoopTree;
+import com.sun.source.tree.IdentifierTree;
+import com.sun.source.tree.IfTree;
+import com.sun.source.tree.LambdaExpressionTree;
+import com.sun.source.tree.LiteralTree;
+import com.sun.source.tree.MemberReferenceTree;
+import com.sun.source.tree.MemberSelectTree;
+import com.sun.source.tree.MethodTree;
+import com.sun.source.tree.ModifiersTree;
+import com.sun.source.tree.PrimitiveTypeTree;
+import com.sun.source.tree.SwitchTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.tree.TypeCastTree;
+import com.sun.source.tree.TypeParameterTree;
+import com.sun.source.tree.VariableTree;
+import com.sun.source.tree.WhileLoopTree;
+import com.sun.source.util.JavacTask;
+import com.sun.source.util.SourcePositions;
+import com.sun.source.util.TreePath;
+import com.sun.source.util.TreePathScanner;
+import com.sun.source.util.Trees;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 在 javac 语法树上运行 Ali-P3C 规则，规则语义与 {@code com.code.inspections.ali} 中的检查一致。
+ * <p>
+ * 命名规则复用 IDE 插件中的 {@link IdentifierTokens} 和 {@link IdentifierClassifier}；javac 语法树不保留括号、运算符等标记，
+ * 样式规则借助 {@link SourceText} 在源码上定位。需要类型解析的规则（覆写注解、父子类同名字段）只在语法树已完成属性分析时运行，
+ * 例如编译期插件在分析阶段结束后调用；只解析语法树时自动跳过。
+ * <p>
+ * 一个实例同一时间只检查一个编译单元，不是线程安全的。
+ *
+ * @author liuzhihang
+ * @version P3cRuleScanner.java, v 0.1 2026/10/18 liuzhihang
+ */
+public class P3cRuleScanner extends TreePathScanner<Void, Void> {
+
+    /**
+     * 敏感词，与 SensitiveWordsInspection 一致，按完整单词序列匹配字段名
+     */
+    private static final String[][] SENSITIVE_TOKENS = {{"black", "list"}, {"white", "list"}, {"slave"}, {"sb"}, {"wtf"}};
+
+    /**
+     * 分词缓存达到该数量后清空，避免长时间运行时无限增长
+     */
+    private static final int TOKEN_CACHE_LIMIT = 10_000;
+
+    /**
+     * 检查文件头标记时读取的最大字符数
+     */
+    private static final int HEADER_LENGTH = 4096;
+
+    private final Trees trees;
+
+    private final Elements elements;
+
+    private final Types types;
+
+    /**
+     * 语法树是否已完成属性分析
+     */
+    private final boolean attributed;
+
+    private final P3cOptions options;
+
+    private final P3cViolationSink sink;
+
+    /**
+     * 标识符分词缓存，与 IDE 中的会话缓存作用相同
+     */
+    private final Map<String, IdentifierTokens> tokenCache = new HashMap<>();
+
+    private SourcePositions positions;
+
+    private CompilationUnitTree unit;
+
+    private SourceText source;
+
+    /**
+     * 构造函数
+     *
+     * @param task       编译任务，用于获取源码位置和类型信息
+     * @param attributed 语法树是否已完成属性分析
+     * @param options    配置
+     * @param sink       问题回调
+     */
+    public P3cRuleScanner(@NotNull JavacTask task, boolean attributed, @NotNull P3cOptions options, @NotNull P3cViolationSink sink) {
+        this.trees = Trees.instance(task);
+        this.elements = task.getElements();
+        this.types = task.getTypes();
+        this.attributed = attributed;
+        this.options = options;
+        this.sink = sink;
+    }
+
+    /**
+     * 检查一个编译单元，生成代码和超大文件直接跳过
+     *
+     * @param unit   编译单元
+     * @param source 编译单元的源码
+     */
+    public void check(@NotNull CompilationUnitTree unit, @NotNull SourceText source) {
+        if (!shouldSkip(unit, source)) {
+            checkTree(new TreePath(unit), source);
+            checkText(source);
+        }
+    }
+
+    /**
+     * 检查语法树中的一部分，例如编译期插件在每个顶层类型分析完成、尚未脱糖时检查该类型
+     *
+     * @param path   语法树路径
+     * @param source 编译单元的源码
+     */
+    public void checkTree(@NotNull TreePath path, @NotNull SourceText source) {
+        this.unit = path.getCompilationUnit();
+        this.source = source;
+        this.positions = trees.getSourcePositions();
+        try {
+            scan(path, null);
+        } finally {
+            this.unit = null;
+            this.source = null;
+            if (tokenCache.size() > TOKEN_CACHE_LIMIT) {
+                tokenCache.clear();
+            }
+        }
+    }
+
+    /**
+     * 运行直接检查源码文本的规则
+     *
+     * @param source 编译单元的源码
+     */
+    public void checkText(@NotNull SourceText source) {
+        P3cTextRules.check(source, options, sink);
+    }
+
+    /**
+     * 是否跳过编译单元，与 IDE 中的 P3cFileFilter 判断方式一致
+     *
+     * @param unit   编译单元
+     * @param source 编译单元的源码
+     * @return 需要跳过返回 true
+     */
+    public boolean shouldSkip(@NotNull CompilationUnitTree unit, @NotNull SourceText source) {
+        if (!options.isSkipGeneratedFiles()) {
+            return false;
+        }
+        if (source.length() > options.getMaxFileSize()) {
+            return true;
+        }
+        String path = unit.getSourceFile().toUri().getPath();
+        if (path != null) {
+            for (String directory : options.getGeneratedDirectories()) {
+                if (path.contains("/" + directory + "/")) {
+                    return true;
+                }
+            }
+        }
+        String header = source.getText().subSequence(0, Math.min(source.length(), HEADER_LENGTH)).toString();
+        for (String marker : options.getGeneratedMarkers()) {
+            if (header.contains(marker)) {
+                return true;
+            }
+        }
+        for (Tree type : unit.getTypeDecls()) {
+            if (type instanceof ClassTree classTree) {
+                for (AnnotationTree annotation : classTree.getModifiers().getAnnotations()) {
+                    if (simpleName(annotation.getAnnotationType().toString()).equals("Generated")) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Void visitClass(ClassTree node, Void unused) {
+        String name = node.getSimpleName().toString();
+        if (name.isEmpty()) {
+            // 匿名类只检查类体的左大括号
+            checkLeftBrace(source.findCodeChar('{', start(node), end(node)));
+            return super.visitClass(node, unused);
+        }
+        int nameOffset = nameOffset(name, end(node.getModifiers()) >= 0 ? end(node.getModifiers()) : start(node), end(node));
+        checkIdentifier(name, nameOffset, node);
+        IdentifierTokens tokens = tokens(name);
+        Tree.Kind kind = node.getKind();
+
+        // 类名使用 UpperCamelCase 风格，例外后缀除外
+        if (!options.getClassNameSuffixes().matchesSuffixOf(name) && !IdentifierClassifier.is(tokens.getVerdict(), IdentifierClassifier.UPPER_CAMEL)) {
+            report(P3cRule.CLASS_NAME_UPPER_CASE, node, nameOffset, nameOffset + name.length(), "ali.p3c.name.class.name.upper.case.message");
+        }
+
+        // 抽象类、异常类和测试类的命名，跳过接口和注解类型
+        if (kind != Tree.Kind.INTERFACE && kind != Tree.Kind.ANNOTATION_TYPE) {
+            boolean isAbstract = node.getModifiers().getFlags().contains(Modifier.ABSTRACT);
+            if (isAbstract && !name.startsWith("Abstract") && !name.startsWith("Base")) {
+                report(P3cRule.CLASS_NAMING, node, nameOffset, nameOffset + name.length(), "ali.p3c.name.class.name.message");
+            }
+            if (isExceptionClass(node) && !name.endsWith("Exception")) {
+                report(P3cRule.CLASS_NAMING, node, nameOffset, nameOffset + name.length(), "ali.p3c.name.class.name.message");
+            }
+            if (isInTestSource() && !name.endsWith("Test")) {
+                report(P3cRule.CLASS_NAMING, node, nameOffset, nameOffset + name.length(), "ali.p3c.name.class.name.message");
+            }
+        }
+
+        // 枚举类名以 Enum 结尾
+        if (kind == Tree.Kind.ENUM && !name.endsWith("Enum")) {
+            report(P3cRule.ENUM_NAMING, node, nameOffset, nameOffset + name.length(), "ali.p3c.name.enum.naming.message");
+        }
+
+        checkLeftBrace(source.findCodeChar('{', nameOffset + name.length(), end(node)));
+        return super.visitClass(node, unused);
+    }
+
+    @Override
+    public Void visitMethod(MethodTree node, Void unused) {
+        String name = node.getName().toString();
+        if (node.getReturnType() != null) {
+            Tree from = node.getReturnType();
+            int nameOffset = nameOffset(name, end(from), end(node));
+            checkIdentifier(name, nameOffset, node);
+            if (!IdentifierClassifier.is(tokens(name).getVerdict(), IdentifierClassifier.LOWER_CAMEL)) {
+                report(P3cRule.METHOD_AND_PARAMETER_NAMING, node, nameOffset, nameOffset + name.length(), "ali.p3c.name.method.name.lower.case.message");
+            }
+            if (attributed && isMissingOverride(node)) {
+                report(P3cRule.OVERRIDE_ANNOTATION, node, nameOffset, nameOffset + name.length(), "ali.p3c.oop.override.annotation.message");
+            }
+        }
+        return super.visitMethod(node, unused);
+    }
+
+    @Override
+    public Void visitVariable(VariableTree node, Void unused) {
+        String name = node.getName().toString();
+        Tree parent = getCurrentPath().getParentPath().getLeaf();
+        int nameOffset = nameOffset(name, end(elementType(node.getType())), end(node));
+        int nameEnd = nameOffset + name.length();
+        checkIdentifier(name, nameOffset, node);
+        IdentifierTokens tokens = tokens(name);
+
+        if (parent instanceof ClassTree classTree) {
+            checkField(node, classTree, tokens, nameOffset, nameEnd);
+        } else if (parent instanceof MethodTree method && method.getParameters().contains(node)) {
+            if (!IdentifierClassifier.is(tokens.getVerdict(), IdentifierClassifier.LOWER_CAMEL)) {
+                report(P3cRule.METHOD_AND_PARAMETER_NAMING, node, nameOffset, nameEnd, "ali.p3c.name.method.name.lower.case.message");
+            }
+        }
+
+        // 数组定义时中括号紧跟类型，而不是变量名
+        if (node.getType() instanceof ArrayTypeTree) {
+            int next = source.nextCodeChar(nameEnd);
+            if (next >= 0 && source.charAt(next) == '[') {
+                report(P3cRule.ARRAY_DEFINITION, node, nameOffset, nameEnd, "ali.p3c.name.array.definition.message");
+            }
+        }
+        return super.visitVariable(node, unused);
+    }
+
+    @Override
+    public Void visitTypeParameter(TypeParameterTree node, Void unused) {
+        checkIdentifier(node.getName().toString(), start(node), node);
+        return super.visitTypeParameter(node, unused);
+    }
+
+    @Override
+    public Void visitIdentifier(IdentifierTree node, Void unused) {
+        String name = node.getName().toString();
+        if (!"this".equals(name) && !"super".equals(name)) {
+            checkIdentifier(name, start(node), node);
+        }
+        return super.visitIdentifier(node, unused);
+    }
+
+    @Override
+    public Void visitMemberSelect(MemberSelectTree node, Void unused) {
+        String name = node.getIdentifier().toString();
+        int end = end(node);
+        if (end >= 0 && !"*".equals(name) && !"class".equals(name) && !"this".equals(name) && !"super".equals(name)) {
+            checkIdentifier(name, end - name.length(), node);
+        }
+        return super.visitMemberSelect(node, unused);
+    }
+
+    @Override
+    public Void visitMemberReference(MemberReferenceTree node, Void unused) {
+        String name = node.getName().toString();
+        int end = end(node);
+        if (end >= 0 && !"<init>".equals(name)) {
+            checkIdentifier(name, end - name.length(), node);
+        }
+        return super.visitMemberReference(node, unused);
+    }
+
+    @Override
+    public Void visitAnnotation(AnnotationTree node, Void unused) {
+        // 注解属性名同样使用 lowerCamelCase 风格
+        for (ExpressionTree argument : node.getArguments()) {
+            if (argument instanceof AssignmentTree assignment && assignment.getVariable() instanceof IdentifierTree identifier) {
+                String name = identifier.getName().toString();
+                if (!IdentifierClassifier.is(tokens(name).getVerdict(), IdentifierClassifier.LOWER_CAMEL)) {
+                    int offset = start(identifier);
+                    report(P3cRule.METHOD_AND_PARAMETER_NAMING, identifier, offset, offset + name.length(), "ali.p3c.name.method.name.lower.case.message");
+                }
+            }
+        }
+        return super.visitAnnotation(node, unused);
+    }
+
+    @Override
+    public Void visitLiteral(LiteralTree node, Void unused) {
+        Tree.Kind kind = node.getKind();
+        int start = start(node);
+        int end = end(node);
+        if (kind == Tree.Kind.LONG_LITERAL && end > 0 && source.charAt(end - 1) == 'l') {
+            report(P3cRule.LOWERCASE_LONG_LITERAL, node, start, end, "ali.p3c.constant.lowercase.long.literal.message");
+        }
+        if (kind != Tree.Kind.NULL_LITERAL && isMagicValue()) {
+            report(P3cRule.MAGIC_VALUE, node, start, end, "ali.p3c.constant.magic.value.message");
+        }
+        return super.visitLiteral(node, unused);
+    }
+
+    @Override
+    public Void visitBinary(BinaryTree node, Void unused) {
+        checkOperator(node, end(node.getLeftOperand()), operator(node.getKind()), start(node.getRightOperand()));
+        return super.visitBinary(node, unused);
+    }
+
+    @Override
+    public Void visitAssignment(AssignmentTree node, Void unused) {
+        checkOperator(node, end(node.getVariable()), "=", start(node.getExpression()));
+        return super.visitAssignment(node, unused);
+    }
+
+    @Override
+    public Void visitCompoundAssignment(CompoundAssignmentTree node, Void unused) {
+        checkOperator(node, end(node.getVariable()), operator(node.getKind()), start(node.getExpression()));
+        return super.visitCompoundAssignment(node, unused);
+    }
+
+    @Override
+    public Void visitConditionalExpression(ConditionalExpressionTree node, Void unused) {
+        checkOperator(node, end(node.getCondition()), "?", start(node.getTrueExpression()));
+        checkOperator(node, end(node.getTrueExpression()), ":", start(node.getFalseExpression()));
+        return super.visitConditionalExpression(node, unused);
+    }
+
+    @Override
+    public Void visitTypeCast(TypeCastTree node, Void unused) {
+        // 强制转换的右括号与值之间没有空格
+        int close = source.findCodeChar(')', end(node.getType()), start(node.getExpression()));
+        if (close >= 0 && close + 1 < source.length() && Character.isWhitespace(source.charAt(close + 1))) {
+            report(P3cRule.NO_SPACE_BETWEEN_CAST_AND_VALUE, node, start(node), end(node), "ali.p3c.style.cast.spaces.message");
+        }
+        return super.visitTypeCast(node, unused);
+    }
+
+    @Override
+    public Void visitBlock(BlockTree node, Void unused) {
+        checkBlock(node);
+        return super.visitBlock(node, unused);
+    }
+
+    @Override
+    public Void visitIf(IfTree node, Void unused) {
+        checkReservedWord(node, "if");
+        return super.visitIf(node, unused);
+    }
+
+    @Override
+    public Void visitForLoop(ForLoopTree node, Void unused) {
+        checkReservedWord(node, "for");
+        return super.visitForLoop(node, unused);
+    }
+
+    @Override
+    public Void visitEnhancedForLoop(EnhancedForLoopTree node, Void unused) {
+        checkReservedWord(node, "for");
+        return super.visitEnhancedForLoop(node, unused);
+    }
+
+    @Override
+    public Void visitWhileLoop(WhileLoopTree node, Void unused) {
+        checkReservedWord(node, "while");
+        return super.visitWhileLoop(node, unused);
+    }
+
+    @Override
+    public Void visitDoWhileLoop(DoWhileLoopTree node, Void unused) {
+        checkReservedWord(node, "do");
+        return super.visitDoWhileLoop(node, unused);
+    }
+
+    @Override
+    public Void visitSwitch(SwitchTree node, Void unused) {
+        checkReservedWord(node, "switch");
+        return super.visitSwitch(node, unused);
+    }
+
+    /**
+     * 检查所有标识符都要满足的规则：不以下划线或美元符号开始和结束，不使用中文和拼音英文混合
+     */
+    private void checkIdentifier(String name, int offset, Tree tree) {
+        if (offset < 0 || name.isEmpty()) {
+            return;
+        }
+        IdentifierTokens tokens = tokens(name);
+        int end = offset + name.length();
+        if (IdentifierClassifier.is(tokens.getVerdict(), IdentifierClassifier.LEADING_SPECIAL | IdentifierClassifier.TRAILING_SPECIAL)) {
+            report(P3cRule.NAMING_CONVENTION, tree, offset, end, "ali.p3c.name.convention.message");
+        }
+        if (tokens.has(IdentifierTokens.MIXED_CHINESE_LATIN)) {
+            report(P3cRule.CHINESE_AND_PINYIN_MIX, tree, offset, end, "ali.p3c.name.chinese.pinyin.mix.message");
+        }
+        if (tokens.has(IdentifierTokens.CHINESE)) {
+            report(P3cRule.CHINESE_AND_PINYIN_MIX, tree, offset, end, "ali.p3c.name.chinese.pinyin.mix.message");
+        }
+    }
+
+    /**
+     * 检查字段和枚举常量
+     */
+    private void checkField(VariableTree node, ClassTree owner, IdentifierTokens tokens, int nameOffset, int nameEnd) {
+        Set<Modifier> flags = node.getModifiers().getFlags();
+        boolean enumConstant = isEnumConstant(node, owner);
+        // 接口和注解中的字段、枚举常量隐含 static final
+        boolean implicit = enumConstant || owner.getKind() == Tree.Kind.INTERFACE || owner.getKind() == Tree.Kind.ANNOTATION_TYPE;
+        boolean isStatic = implicit || flags.contains(Modifier.STATIC);
+        boolean isFinal = implicit || flags.contains(Modifier.FINAL);
+        boolean upperSnake = IdentifierClassifier.is(tokens.getVerdict(), IdentifierClassifier.UPPER_SNAKE);
+
+        if (isStatic && isFinal && !upperSnake) {
+            report(P3cRule.CONSTANT_NAMING, node, nameOffset, nameEnd, "ali.p3c.name.constant.name.upper.case.message");
+        }
+        if (enumConstant && !upperSnake) {
+            report(P3cRule.ENUM_NAMING, node, nameOffset, nameEnd, "ali.p3c.name.enum.naming.message");
+        }
+
+        // POJO 中的布尔类型字段不加 is 前缀
+        String name = node.getName().toString();
+        if (!isStatic && !isFinal && isBooleanType(node.getType())
+                && name.startsWith("is") && name.length() > 2 && Character.isUpperCase(name.charAt(2))) {
+            report(P3cRule.BOOLEAN_VARIABLE_NAMING, node, nameOffset, nameEnd, "ali.p3c.name.boolean.variable.message");
+        }
+
+        for (String[] words : SENSITIVE_TOKENS) {
+            if (tokens.containsSequence(words)) {
+                report(P3cRule.SENSITIVE_WORDS, node, nameOffset, nameEnd, "ali.p3c.name.sensitive.words.message");
+                break;
+            }
+        }
+
+        if (attributed && !enumConstant && hidesSuperField(node)) {
+            report(P3cRule.DUPLICATE_VARIABLE_NAMING, node, nameOffset, nameEnd, "ali.p3c.name.duplicate.variable.naming.message");
+        }
+    }
+
+    /**
+     * 检查代码块的大括号换行，与 BracesStyleInspection 一致
+     */
+    private void checkBlock(BlockTree node) {
+        if (!options.isEnabled(P3cRule.BRACES_STYLE)) {
+            return;
+        }
+        int end = end(node);
+        int lBrace = source.findCodeChar('{', start(node), end);
+        int rBrace = end - 1;
+        if (lBrace < 0 || rBrace <= lBrace || source.charAt(rBrace) != '}') {
+            return;
+        }
+        if (node.getStatements().isEmpty()) {
+            if (rBrace != lBrace + 1) {
+                report(P3cRule.BRACES_STYLE, node, lBrace, end, "ali.p3c.style.braces.style.message0");
+            }
+            return;
+        }
+        if (isNewlineBefore(lBrace)) {
+            report(P3cRule.BRACES_STYLE, node, lBrace, lBrace + 1, "ali.p3c.style.braces.style.message1");
+        }
+        if (!isNewlineAfter(lBrace)) {
+            report(P3cRule.BRACES_STYLE, node, lBrace, lBrace + 1, "ali.p3c.style.braces.style.message2");
+        }
+        if (!isNewlineBefore(rBrace)) {
+            report(P3cRule.BRACES_STYLE, node, rBrace, end, "ali.p3c.style.braces.style.message3");
+        }
+        // 右大括号后是 else 时不换行，文件末尾的右大括号后必须换行
+        int next = source.nextCodeChar(end);
+        if (next >= 0 && source.startsWith("else", next) && !Character.isJavaIdentifierPart(next + 4 < source.length() ? source.charAt(next + 4) : ' ')) {
+            if (isNewlineBefore(next)) {
+                report(P3cRule.BRACES_STYLE, node, next, next + 4, "ali.p3c.style.braces.style.message4");
+            }
+        } else if (next < 0 && !isNewlineAfter(rBrace)) {
+            report(P3cRule.BRACES_STYLE, node, rBrace, end, "ali.p3c.style.braces.style.message4");
+        }
+    }
+
+    /**
+     * 类体的左大括号前需要空格
+     */
+    private void checkLeftBrace(int lBrace) {
+        if (lBrace > 0 && !Character.isWhitespace(source.charAt(lBrace - 1))) {
+            report(P3cRule.BRACES_SPACES, null, lBrace, lBrace + 1, "ali.p3c.style.braces.spaces.message3");
+        }
+    }
+
+    /**
+     * 保留字与左括号之间需要空格
+     */
+    private void checkReservedWord(Tree node, String keyword) {
+        if (!options.getReservedWords().contains(keyword)) {
+            return;
+        }
+        int start = start(node);
+        int next = start + keyword.length();
+        if (start >= 0 && source.startsWith(keyword, start) && next < source.length() && !Character.isWhitespace(source.charAt(next))) {
+            report(P3cRule.RESERVED_WORDS_SPACES, node, next, next + 1, "ali.p3c.style.reserved.words.spaces.message");
+        }
+    }
+
+    /**
+     * 运算符左右两边各有一个空格，运算符随换行位于行首或行尾时不检查对应的一侧
+     */
+    private void checkOperator(Tree node, int leftEnd, String operator, int rightStart) {
+        if (leftEnd < 0 || rightStart < 0 || !options.isEnabled(P3cRule.OPERATOR_SPACING)) {
+            return;
+        }
+        int start = source.nextCodeChar(leftEnd);
+        if (start < 0 || !source.startsWith(operator, start)) {
+            return;
+        }
+        int end = start + operator.length();
+        if (!isSingleSpaceOrLineBreak(leftEnd, start) || !isSingleSpaceOrLineBreak(end, rightStart)) {
+            report(P3cRule.OPERATOR_SPACING, node, start, end, "ali.p3c.style.operator.spaces.message");
+        }
+    }
+
+    private boolean isSingleSpaceOrLineBreak(int from, int to) {
+        if (to - from == 1 && source.charAt(from) == ' ') {
+            return true;
+        }
+        return source.hasLineBreak(from - 1, to);
+    }
+
+    /**
+     * 字面量是否为魔法值，与 MagicValueInspection 一致：不在比较表达式或三目表达式中，直接初始化局部变量，
+     * 或者位于方法、lambda 的代码块中
+     */
+    private boolean isMagicValue() {
+        TreePath path = getCurrentPath();
+        Tree literal = path.getLeaf();
+        for (TreePath current = path.getParentPath(); current != null; current = current.getParentPath()) {
+            if (current.getLeaf() instanceof BinaryTree || current.getLeaf() instanceof ConditionalExpressionTree) {
+                return false;
+            }
+        }
+        TreePath parentPath = path.getParentPath();
+        if (parentPath.getLeaf() instanceof VariableTree variable) {
+            if (variable.getInitializer() != literal) {
+                return false;
+            }
+            Tree owner = parentPath.getParentPath().getLeaf();
+            return !(owner instanceof ClassTree) && !(owner instanceof MethodTree);
+        }
+        TreePath current = parentPath;
+        while (current != null && !(current.getLeaf() instanceof BlockTree)) {
+            current = current.getParentPath();
+        }
+        for (; current != null; current = current.getParentPath()) {
+            if (current.getLeaf() instanceof MethodTree || current.getLeaf() instanceof LambdaExpressionTree) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 枚举常量的修饰符由编译器隐式添加，源码中没有修饰符文本
+     */
+    private boolean isEnumConstant(VariableTree node, ClassTree owner) {
+        if (owner.getKind() != Tree.Kind.ENUM) {
+            return false;
+        }
+        if (attributed) {
+            Element element = trees.getElement(getCurrentPath());
+            return element != null && element.getKind() == ElementKind.ENUM_CONSTANT;
+        }
+        ModifiersTree modifiers = node.getModifiers();
+        if (!modifiers.getFlags().containsAll(List.of(Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL))) {
+            return false;
+        }
+        int start = start(modifiers);
+        int end = end(modifiers);
+        return start < 0 || end < 0 || source.findIdentifier("static", start, end) < 0;
+    }
+
+    private boolean isBooleanType(Tree type) {
+        if (type instanceof PrimitiveTypeTree primitive) {
+            return primitive.getPrimitiveTypeKind() == TypeKind.BOOLEAN;
+        }
+        if (type == null) {
+            return false;
+        }
+        String text = type.toString();
+        return "Boolean".equals(text) || "java.lang.Boolean".equals(text);
+    }
+
+    /**
+     * 是否为直接继承 java.lang.Exception 的类，没有类型信息时按继承的类名判断
+     */
+    private boolean isExceptionClass(ClassTree node) {
+        Tree extendsClause = node.getExtendsClause();
+        if (extendsClause == null) {
+            return false;
+        }
+        if (attributed) {
+            TypeMirror type = trees.getTypeMirror(new TreePath(getCurrentPath(), extendsClause));
+            if (type instanceof DeclaredType declared && declared.asElement() instanceof TypeElement typeElement) {
+                return typeElement.getQualifiedName().contentEquals("java.lang.Exception");
+            }
+        }
+        String name = extendsClause.toString();
+        return "Exception".equals(name) || "java.lang.Exception".equals(name);
+    }
+
+    private boolean isInTestSource() {
+        String path = unit.getSourceFile().toUri().getPath();
+        if (path == null) {
+            return false;
+        }
+        for (String directory : options.getTestSourceDirectories()) {
+            if (path.contains("/" + directory + "/")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 方法覆写了父类或接口的方法，但没有 {@code @Override} 注解
+     */
+    private boolean isMissingOverride(MethodTree node) {
+        for (AnnotationTree annotation : node.getModifiers().getAnnotations()) {
+            if ("Override".equals(simpleName(annotation.getAnnotationType().toString()))) {
+                return false;
+            }
+        }
+        if (!(trees.getElement(getCurrentPath()) instanceof ExecutableElement method)
+                || method.getModifiers().contains(Modifier.STATIC)
+                || !(method.getEnclosingElement() instanceof TypeElement owner)) {
+            return false;
+        }
+        return overridesAny(method, owner, owner.asType());
+    }
+
+    private boolean overridesAny(ExecutableElement method, TypeElement owner, TypeMirror type) {
+        for (TypeMirror superType : types.directSupertypes(type)) {
+            if (!(types.asElement(superType) instanceof TypeElement superElement)) {
+                continue;
+            }
+            for (Element member : superElement.getEnclosedElements()) {
+                if (member instanceof ExecutableElement candidate
+                        && candidate.getSimpleName().contentEquals(method.getSimpleName())
+                        && elements.overrides(method, candidate, owner)) {
+                    return true;
+                }
+            }
+            if (overridesAny(method, owner, superType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 字段与父类（含父类的父类和接口）中的字段同名
+     */
+    private boolean hidesSuperField(VariableTree node) {
+        Element field = trees.getElement(getCurrentPath());
+        if (field == null || !(field.getEnclosingElement() instanceof TypeElement owner)) {
+            return false;
+        }
+        TypeMirror superclass = owner.getSuperclass();
+        return superclass.getKind() == TypeKind.DECLARED && hasField(superclass, node.getName().toString());
+    }
+
+    private boolean hasField(TypeMirror type, String name) {
+        if (!(types.asElement(type) instanceof TypeElement typeElement)) {
+            return false;
+        }
+        for (Element member : typeElement.getEnclosedElements()) {
+            if (member.getKind() == ElementKind.FIELD && member.getSimpleName().contentEquals(name)) {
+                return true;
+            }
+        }
+        for (TypeMirror superType : types.directSupertypes(type)) {
+            if (hasField(superType, name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isNewlineBefore(int offset) {
+        for (int i = offset - 1; i >= 0; i--) {
+            char c = source.charAt(i);
+            if (c == '\n') {
+                return true;
+            }
+            if (!Character.isWhitespace(c)) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private boolean isNewlineAfter(int offset) {
+        for (int i = offset + 1; i < source.length(); i++) {
+            char c = source.charAt(i);
+            if (c == '\n') {
+                return true;
+            }
+            if (!Character.isWhitespace(c)) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 在声明的类型之后查找名称的位置，javac 语法树不记录名称的位置
+     */
+    private int nameOffset(String name, int from, int limit) {
+        int start = start(getCurrentPath().getLeaf());
+        int offset = source.findIdentifier(name, Math.max(from, start), limit);
+        return offset >= 0 ? offset : source.findIdentifier(name, start, limit);
+    }
+
+    /**
+     * C 风格数组的中括号可能位于名称之后，从元素类型之后查找名称
+     */
+    @Nullable
+    private static Tree elementType(@Nullable Tree type) {
+        Tree current = type;
+        while (current instanceof ArrayTypeTree array) {
+            current = array.getType();
+        }
+        return current;
+    }
+
+    private IdentifierTokens tokens(String name) {
+        return tokenCache.computeIfAbsent(name, IdentifierTokens::tokenize);
+    }
+
+    private int start(Tree tree) {
+        return tree == null ? -1 : (int) positions.getStartPosition(unit, tree);
+    }
+
+    private int end(Tree tree) {
+        return tree == null ? -1 : (int) positions.getEndPosition(unit, tree);
+    }
+
+    private void report(P3cRule rule, @Nullable Tree tree, int start, int end, String key, Object... params) {
+        if (options.isEnabled(rule) && (attributed || !rule.isAttributed())) {
+            sink.report(new P3cViolation(rule, tree, start, end, P3cMessages.message(key, params)));
+        }
+    }
+
+    private static String simpleName(String name) {
+        return name.substring(name.lastIndexOf('.') + 1);
+    }
+
+    private static String operator(Tree.Kind kind) {
+        return switch (kind) {
+            case MULTIPLY -> "*";
+            case DIVIDE -> "/";
+            case REMAINDER -> "%";
+            case PLUS -> "+";
+            case MINUS -> "-";
+            case LEFT_SHIFT -> "<<";
+            case RIGHT_SHIFT -> ">>";
+            case UNSIGNED_RIGHT_SHIFT -> ">>>";
+            case LESS_THAN -> "<";
+            case GREATER_THAN -> ">";
+            case LESS_THAN_EQUAL -> "<=";
+            case GREATER_THAN_EQUAL -> ">=";
+            case EQUAL_TO -> "==";
+            case NOT_EQUAL_TO -> "!=";
+            case AND -> "&";
+            case XOR -> "^";
+            case OR -> "|";
+            case CONDITIONAL_AND -> "&&";
+            case CONDITIONAL_OR -> "||";
+            case MULTIPLY_ASSIGNMENT -> "*=";
+            case DIVIDE_ASSIGNMENT -> "/=";
+            case REMAINDER_ASSIGNMENT -> "%=";
+            case PLUS_ASSIGNMENT -> "+=";
+            case MINUS_ASSIGNMENT -> "-=";
+            case LEFT_SHIFT_ASSIGNMENT -> "<<=";
+            case RIGHT_SHIFT_ASSIGNMENT -> ">>=";
+            case UNSIGNED_RIGHT_SHIFT_ASSIGNMENT -> ">>>=";
+            case AND_ASSIGNMENT -> "&=";
+            case XOR_ASSIGNMENT -> "^=";
+            case OR_ASSIGNMENT -> "|=";
+            default -> kind.name().toLowerCase(Locale.ROOT);
+        };
+    }
+}
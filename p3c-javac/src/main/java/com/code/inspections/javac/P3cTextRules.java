@@ -0,0 +1,169 @@
+package com.code.inspections.javac;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 直接检查源码文本的规则：注释空格、注释中的敏感词、制表符缩进、单行长度和换行位置、小括号内侧空格。
+ * <p>
+ * 对应 IDE 中在空白、注释和整行文本上工作的检查，全文只扫描一遍。
+ *
+ * @author liuzhihang
+ * @version P3cTextRules.java, v 0.1 2026/10/18 liuzhihang
+ */
+final class P3cTextRules {
+
+    /**
+     * 注释中的敏感词，与 SensitiveWordsInspection 一致
+     */
+    private static final Pattern SENSITIVE_PATTERN = Pattern.compile("(?i)\\b(blackList|whiteList|slave|SB|WTF)\\b");
+
+    /**
+     * 不能出现在行尾的运算符，与 LineLengthLimitInspection 一致
+     */
+    private static final String[] LINE_END_OPERATORS = {"+", "-", "*", "/", "%", "<<", ">>", ">>>", "|", "^", "!", "~", "=",
+            "+=", "-=", "*=", "/=", "%=", "<<=", ">>=", ">>>=", "&=", "^=", "|="};
+
+    private P3cTextRules() {
+    }
+
+    /**
+     * 检查源码文本
+     *
+     * @param source  源码
+     * @param options 配置
+     * @param sink    问题回调
+     */
+    static void check(@NotNull SourceText source, @NotNull P3cOptions options, @NotNull P3cViolationSink sink) {
+        checkComments(source, options, sink);
+        checkCode(source, options, sink);
+        if (options.isEnabled(P3cRule.LINE_LENGTH_LIMIT)) {
+            checkLines(source, options.getMaxLineLength(), sink);
+        }
+    }
+
+    private static void checkComments(SourceText source, P3cOptions options, P3cViolationSink sink) {
+        boolean spaces = options.isEnabled(P3cRule.COMMENT_SPACES);
+        boolean sensitive = options.isEnabled(P3cRule.SENSITIVE_WORDS);
+        for (int i = 0; i < source.commentCount(); i++) {
+            int start = source.commentStart(i);
+            int end = source.commentEnd(i);
+            // 双斜线后有且仅有一个空格
+            if (spaces && source.startsWith("//", start) && start + 2 < end) {
+                char first = source.charAt(start + 2);
+                if (first != ' ' || start + 3 < end && source.charAt(start + 3) == ' ') {
+                    sink.report(new P3cViolation(P3cRule.COMMENT_SPACES, null, start, end, P3cMessages.message("ali.p3c.style.comment.spaces.message")));
+                }
+            }
+            if (sensitive) {
+                Matcher matcher = SENSITIVE_PATTERN.matcher(source.getText()).region(start, end);
+                while (matcher.find()) {
+                    sink.report(new P3cViolation(P3cRule.SENSITIVE_WORDS, null, matcher.start(), matcher.end(), P3cMessages.message("ali.p3c.name.sensitive.words.message")));
+                }
+            }
+        }
+    }
+
+    private static void checkCode(SourceText source, P3cOptions options, P3cViolationSink sink) {
+        boolean tabs = options.isEnabled(P3cRule.INDENTATION_AND_TAB);
+        boolean braces = options.isEnabled(P3cRule.BRACES_SPACES);
+        int length = source.length();
+        int i = 0;
+        while (i < length) {
+            if (!source.isCode(i)) {
+                i++;
+                continue;
+            }
+            char c = source.charAt(i);
+            if (Character.isWhitespace(c)) {
+                // 一段空白中出现制表符只报告一次
+                int end = i;
+                boolean tab = false;
+                while (end < length && source.isCode(end) && Character.isWhitespace(source.charAt(end))) {
+                    tab |= source.charAt(end) == '\t';
+                    end++;
+                }
+                if (tabs && tab) {
+                    sink.report(new P3cViolation(P3cRule.INDENTATION_AND_TAB, null, i, end, P3cMessages.message("ali.p3c.style.indent.spaces.message")));
+                }
+                i = end;
+                continue;
+            }
+            if (braces && c == '(' && i + 1 < length && isSpace(source.charAt(i + 1))) {
+                // 左小括号后不需要空格，换行不算
+                int end = skipSpaces(source, i + 1);
+                if (end < length && source.charAt(end) != '\n' && source.charAt(end) != '\r') {
+                    sink.report(new P3cViolation(P3cRule.BRACES_SPACES, null, i + 1, end, P3cMessages.message("ali.p3c.style.braces.spaces.message1")));
+                }
+            }
+            if (braces && c == ')' && i > 0 && isSpace(source.charAt(i - 1))) {
+                // 右小括号前不需要空格，位于行首的缩进不算
+                int start = i - 1;
+                while (start > 0 && isSpace(source.charAt(start - 1))) {
+                    start--;
+                }
+                char before = start > 0 ? source.charAt(start - 1) : '\n';
+                if (before != '\n' && before != '\r') {
+                    sink.report(new P3cViolation(P3cRule.BRACES_SPACES, null, start, i, P3cMessages.message("ali.p3c.style.braces.spaces.message2")));
+                }
+            }
+            i++;
+        }
+    }
+
+    private static void checkLines(SourceText source, int maxLineLength, P3cViolationSink sink) {
+        CharSequence text = source.getText();
+        int length = text.length();
+        int lineStart = 0;
+        while (lineStart <= length) {
+            int lineEnd = lineStart;
+            while (lineEnd < length && text.charAt(lineEnd) != '\n' && text.charAt(lineEnd) != '\r') {
+                lineEnd++;
+            }
+            checkLine(text.subSequence(lineStart, lineEnd).toString().trim(), lineStart, lineEnd, maxLineLength, sink);
+            if (lineEnd < length && text.charAt(lineEnd) == '\r' && lineEnd + 1 < length && text.charAt(lineEnd + 1) == '\n') {
+                lineEnd++;
+            }
+            lineStart = lineEnd + 1;
+        }
+    }
+
+    private static void checkLine(String line, int start, int end, int maxLineLength, P3cViolationSink sink) {
+        // 跳过明显的单行和多行注释
+        if (line.isEmpty() || line.startsWith("//") || line.startsWith("/*") || line.startsWith("*") || line.endsWith("*/")) {
+            return;
+        }
+        if (line.length() > maxLineLength) {
+            sink.report(new P3cViolation(P3cRule.LINE_LENGTH_LIMIT, null, start, end, P3cMessages.message("ali.p3c.style.line.length.message0", maxLineLength)));
+        }
+        for (String operator : LINE_END_OPERATORS) {
+            if (line.endsWith(operator)) {
+                sink.report(new P3cViolation(P3cRule.LINE_LENGTH_LIMIT, null, start, end, P3cMessages.message("ali.p3c.style.line.length.message1")));
+                break;
+            }
+        }
+        if (line.endsWith(".")) {
+            sink.report(new P3cViolation(P3cRule.LINE_LENGTH_LIMIT, null, start, end, P3cMessages.message("ali.p3c.style.line.length.message2")));
+        }
+        if (line.startsWith(",")) {
+            sink.report(new P3cViolation(P3cRule.LINE_LENGTH_LIMIT, null, start, end, P3cMessages.message("ali.p3c.style.line.length.message3")));
+        }
+        if (line.startsWith("(") || line.startsWith(")")) {
+            sink.report(new P3cViolation(P3cRule.LINE_LENGTH_LIMIT, null, start, end, P3cMessages.message("ali.p3c.style.line.length.message4")));
+        }
+    }
+
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\t';
+    }
+
+    private static int skipSpaces(SourceText source, int from) {
+        int i = from;
+        while (i < source.length() && isSpace(source.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+}
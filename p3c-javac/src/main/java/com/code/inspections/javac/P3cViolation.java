@@ -0,0 +1,19 @@
+package com.code.inspections.javac;
+
+import com.sun.source.tree.Tree;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * 规则发现的一个问题。
+ *
+ * @param rule    规则
+ * @param tree    问题所在的语法树节点，按源码文本检查的规则为 null
+ * @param start   问题起始位置（字符偏移）
+ * @param end     问题结束位置（字符偏移）
+ * @param message 问题描述
+ * @author liuzhihang
+ * @version P3cViolation.java, v 0.1 2026/10/18 liuzhihang
+ */
+public record P3cViolation(@NotNull P3cRule rule, @Nullable Tree tree, int start, int end, @NotNull String message) {
+}
@@ -0,0 +1,20 @@
+package com.code.inspections.javac;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * 接收规则发现的问题，问题按发现的顺序逐个交给调用方，规则本身不保存问题。
+ *
+ * @author liuzhihang
+ * @version P3cViolationSink.java, v 0.1 2026/10/18 liuzhihang
+ */
+@FunctionalInterface
+public interface P3cViolationSink {
+
+    /**
+     * 接收一个问题
+     *
+     * @param violation 问题
+     */
+    void report(@NotNull P3cViolation violation);
+}
@@ -0,0 +1,253 @@
+package com.code.inspections.javac;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * 一个编译单元的源码文本，构造时做一次轻量的词法扫描，标记出注释和字符串字面量，
+ * 规则据此在源码上定位 javac 语法树不保留的标记（括号、运算符、名称等）。
+ *
+ * @author liuzhihang
+ * @version SourceText.java, v 0.1 2026/10/18 liuzhihang
+ */
+public final class SourceText {
+
+    /**
+     * 源码文本
+     */
+    private final CharSequence text;
+
+    /**
+     * 注释、字符串和字符字面量所占的位置
+     */
+    private final BitSet nonCode;
+
+    /**
+     * 注释的起止位置，依次为 start0, end0, start1, end1 ...
+     */
+    private final int[] comments;
+
+    public SourceText(@NotNull CharSequence text) {
+        this.text = text;
+        this.nonCode = new BitSet(text.length());
+        int[] ranges = new int[16];
+        int count = 0;
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            char c = text.charAt(i);
+            int end;
+            if (c == '/' && i + 1 < length && text.charAt(i + 1) == '/') {
+                end = i + 2;
+                while (end < length && text.charAt(end) != '\n' && text.charAt(end) != '\r') {
+                    end++;
+                }
+            } else if (c == '/' && i + 1 < length && text.charAt(i + 1) == '*') {
+                end = indexOf("*/", i + 2);
+                end = end < 0 ? length : end + 2;
+            } else if (c == '"' && startsWith("\"\"\"", i)) {
+                end = skipQuoted(i + 3, "\"\"\"");
+            } else if (c == '"' || c == '\'') {
+                end = skipQuoted(i + 1, String.valueOf(c));
+            } else {
+                i++;
+                continue;
+            }
+            nonCode.set(i, end);
+            if (c == '/') {
+                if (count + 2 > ranges.length) {
+                    ranges = Arrays.copyOf(ranges, ranges.length * 2);
+                }
+                ranges[count++] = i;
+                ranges[count++] = end;
+            }
+            i = end;
+        }
+        this.comments = Arrays.copyOf(ranges, count);
+    }
+
+    @NotNull
+    public CharSequence getText() {
+        return text;
+    }
+
+    public int length() {
+        return text.length();
+    }
+
+    public char charAt(int index) {
+        return text.charAt(index);
+    }
+
+    /**
+     * 注释数量
+     *
+     * @return 注释数量
+     */
+    public int commentCount() {
+        return comments.length / 2;
+    }
+
+    public int commentStart(int index) {
+        return comments[index * 2];
+    }
+
+    public int commentEnd(int index) {
+        return comments[index * 2 + 1];
+    }
+
+    /**
+     * 位置是否在代码中，即不在注释和字面量中
+     *
+     * @param index 位置
+     * @return 在代码中返回 true
+     */
+    public boolean isCode(int index) {
+        return index >= 0 && index < text.length() && !nonCode.get(index);
+    }
+
+    /**
+     * 从指定位置向后查找第一个不是空白的代码字符，跳过注释
+     *
+     * @param from 起始位置（包含）
+     * @return 位置，不存在时返回 -1
+     */
+    public int nextCodeChar(int from) {
+        for (int i = Math.max(from, 0); i < text.length(); i++) {
+            if (nonCode.get(i)) {
+                i = nonCode.nextClearBit(i) - 1;
+            } else if (!Character.isWhitespace(text.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 从指定位置向前查找第一个不是空白的代码字符，跳过注释
+     *
+     * @param from 起始位置（包含）
+     * @return 位置，不存在时返回 -1
+     */
+    public int prevCodeChar(int from) {
+        for (int i = Math.min(from, text.length() - 1); i >= 0; i--) {
+            if (nonCode.get(i)) {
+                i = nonCode.previousClearBit(i) + 1;
+            } else if (!Character.isWhitespace(text.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 在代码中查找指定字符
+     *
+     * @param c     字符
+     * @param from  起始位置（包含）
+     * @param limit 结束位置（不包含）
+     * @return 位置，不存在时返回 -1
+     */
+    public int findCodeChar(char c, int from, int limit) {
+        int end = Math.min(limit, text.length());
+        for (int i = Math.max(from, 0); i < end; i++) {
+            if (text.charAt(i) == c && !nonCode.get(i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 在代码中查找完整的标识符
+     *
+     * @param name  标识符
+     * @param from  起始位置（包含）
+     * @param limit 结束位置（不包含）
+     * @return 位置，不存在时返回 -1
+     */
+    public int findIdentifier(@NotNull String name, int from, int limit) {
+        int end = Math.min(limit, text.length()) - name.length();
+        for (int i = Math.max(from, 0); i <= end; i++) {
+            if (!nonCode.get(i) && startsWith(name, i)
+                    && (i == 0 || !Character.isJavaIdentifierPart(text.charAt(i - 1)))
+                    && (i + name.length() == text.length() || !Character.isJavaIdentifierPart(text.charAt(i + name.length())))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 文本在指定位置是否以给定内容开始
+     *
+     * @param prefix 内容
+     * @param index  位置
+     * @return 是返回 true
+     */
+    public boolean startsWith(@NotNull String prefix, int index) {
+        if (index < 0 || index + prefix.length() > text.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (text.charAt(index + i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 两个位置之间（不含两端）是否有换行
+     *
+     * @param from 起始位置
+     * @param to   结束位置
+     * @return 有换行返回 true
+     */
+    public boolean hasLineBreak(int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            char c = text.charAt(i);
+            if (c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int indexOf(String target, int from) {
+        for (int i = from; i <= text.length() - target.length(); i++) {
+            if (startsWith(target, i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 跳过字符串、字符或文本块字面量，处理转义字符
+     *
+     * @param from  内容起始位置
+     * @param quote 结束引号
+     * @return 字面量结束位置（不包含）
+     */
+    private int skipQuoted(int from, String quote) {
+        boolean textBlock = quote.length() > 1;
+        int i = from;
+        while (i < text.length()) {
+            char c = text.charAt(i);
+            if (c == '\\') {
+                i += 2;
+            } else if (startsWith(quote, i)) {
+                return i + quote.length();
+            } else if (!textBlock && (c == '\n' || c == '\r')) {
+                // 未闭合的字面量到行尾结束
+                return i;
+            } else {
+                i++;
+            }
+        }
+        return text.length();
+    }
+}
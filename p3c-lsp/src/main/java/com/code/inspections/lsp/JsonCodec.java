@@ -0,0 +1,271 @@
+package com.code.inspections.lsp;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 语言服务器协议使用的 JSON 编解码。
+ * <p>
+ * 解析结果为 {@link Map}、{@link List}、{@link String}、{@link Long}、{@link Double}、{@link Boolean} 和 null 组成的树，
+ * 输出时接受同样的类型，其他 {@link Number} 和 {@link Collection} 也可以直接输出。
+ *
+ * @author liuzhihang
+ * @version JsonCodec.java, v 0.1 2026/10/18 liuzhihang
+ */
+final class JsonCodec {
+
+    private final String text;
+
+    private int pos;
+
+    private JsonCodec(String text) {
+        this.text = text;
+    }
+
+    /**
+     * 解析文本
+     *
+     * @param text 文本
+     * @return 根节点
+     */
+    @Nullable
+    static Object parse(@NotNull String text) {
+        JsonCodec parser = new JsonCodec(text);
+        Object value = parser.readValue();
+        parser.skipWhitespace();
+        if (parser.pos < text.length()) {
+            throw parser.error("多余的内容");
+        }
+        return value;
+    }
+
+    /**
+     * 输出为文本
+     *
+     * @param value 节点
+     * @return 文本
+     */
+    @NotNull
+    static String write(@Nullable Object value) {
+        StringBuilder builder = new StringBuilder();
+        write(value, builder);
+        return builder.toString();
+    }
+
+    private Object readValue() {
+        skipWhitespace();
+        if (pos >= text.length()) {
+            throw error("内容不完整");
+        }
+        char c = text.charAt(pos);
+        return switch (c) {
+            case '{' -> readObject();
+            case '[' -> readArray();
+            case '"' -> readString();
+            case 't' -> readLiteral("true", Boolean.TRUE);
+            case 'f' -> readLiteral("false", Boolean.FALSE);
+            case 'n' -> readLiteral("null", null);
+            default -> {
+                if (c != '-' && (c < '0' || c > '9')) {
+                    throw error("无法识别的字符 " + c);
+                }
+                yield readNumber();
+            }
+        };
+    }
+
+    private Map<String, Object> readObject() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        pos++;
+        skipWhitespace();
+        if (peek() == '}') {
+            pos++;
+            return map;
+        }
+        while (true) {
+            skipWhitespace();
+            if (peek() != '"') {
+                throw error("缺少字段名");
+            }
+            String key = readString();
+            skipWhitespace();
+            expect(':');
+            map.put(key, readValue());
+            skipWhitespace();
+            if (peek() == ',') {
+                pos++;
+            } else {
+                expect('}');
+                return map;
+            }
+        }
+    }
+
+    private List<Object> readArray() {
+        List<Object> list = new ArrayList<>();
+        pos++;
+        skipWhitespace();
+        if (peek() == ']') {
+            pos++;
+            return list;
+        }
+        while (true) {
+            list.add(readValue());
+            skipWhitespace();
+            if (peek() == ',') {
+                pos++;
+            } else {
+                expect(']');
+                return list;
+            }
+        }
+    }
+
+    private String readString() {
+        pos++;
+        StringBuilder builder = new StringBuilder();
+        while (pos < text.length()) {
+            char c = text.charAt(pos++);
+            if (c == '"') {
+                return builder.toString();
+            }
+            if (c != '\\') {
+                builder.append(c);
+                continue;
+            }
+            if (pos >= text.length()) {
+                break;
+            }
+            char escaped = text.charAt(pos++);
+            switch (escaped) {
+                case 'b' -> builder.append('\b');
+                case 'f' -> builder.append('\f');
+                case 'n' -> builder.append('\n');
+                case 'r' -> builder.append('\r');
+                case 't' -> builder.append('\t');
+                case 'u' -> {
+                    if (pos + 4 > text.length()) {
+                        throw error("转义字符不完整");
+                    }
+                    builder.append((char) Integer.parseInt(text.substring(pos, pos + 4), 16));
+                    pos += 4;
+                }
+                default -> builder.append(escaped);
+            }
+        }
+        throw error("字符串缺少结束引号");
+    }
+
+    private Object readNumber() {
+        int start = pos;
+        boolean integral = true;
+        while (pos < text.length()) {
+            char c = text.charAt(pos);
+            if (c == '.' || c == 'e' || c == 'E') {
+                integral = false;
+            } else if (c != '-' && c != '+' && (c < '0' || c > '9')) {
+                break;
+            }
+            pos++;
+        }
+        String number = text.substring(start, pos);
+        try {
+            return integral ? (Object) Long.parseLong(number) : (Object) Double.parseDouble(number);
+        } catch (NumberFormatException e) {
+            throw error("无效的数字 " + number);
+        }
+    }
+
+    private Object readLiteral(String literal, Object value) {
+        if (!text.startsWith(literal, pos)) {
+            throw error("无法识别的内容");
+        }
+        pos += literal.length();
+        return value;
+    }
+
+    private void skipWhitespace() {
+        while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) {
+            pos++;
+        }
+    }
+
+    private char peek() {
+        return pos < text.length() ? text.charAt(pos) : 0;
+    }
+
+    private void expect(char c) {
+        if (peek() != c) {
+            throw error("缺少 " + c);
+        }
+        pos++;
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException("第 " + pos + " 个字符：" + message);
+    }
+
+    private static void write(Object value, StringBuilder builder) {
+        if (value == null) {
+            builder.append("null");
+        } else if (value instanceof String string) {
+            writeString(string, builder);
+        } else if (value instanceof Number || value instanceof Boolean) {
+            builder.append(value);
+        } else if (value instanceof Map<?, ?> map) {
+            builder.append('{');
+            boolean first = true;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (!first) {
+                    builder.append(',');
+                }
+                first = false;
+                writeString(String.valueOf(entry.getKey()), builder);
+                builder.append(':');
+                write(entry.getValue(), builder);
+            }
+            builder.append('}');
+        } else if (value instanceof Collection<?> collection) {
+            builder.append('[');
+            boolean first = true;
+            for (Object item : collection) {
+                if (!first) {
+                    builder.append(',');
+                }
+                first = false;
+                write(item, builder);
+            }
+            builder.append(']');
+        } else {
+            throw new IllegalArgumentException("不支持输出为 JSON 的类型：" + value.getClass().getName());
+        }
+    }
+
+    private static void writeString(String string, StringBuilder builder) {
+        builder.append('"');
+        for (int i = 0; i < string.length(); i++) {
+            char c = string.charAt(i);
+            switch (c) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\t' -> builder.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        builder.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+                }
+            }
+        }
+        builder.append('"');
+    }
+}
@@ -0,0 +1,39 @@
+package com.code.inspections.lsp;
+
+import com.code.inspections.javac.P3cRule;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * 文档中的一个问题，位置为字符偏移量，文档修改后随之移动
+ *
+ * @param rule    规则
+ * @param start   开始位置
+ * @param end     结束位置，不包含
+ * @param message 提示信息
+ * @param fix     快速修复，没有时为 null
+ * @param text    是否由直接检查源码文本的规则发现，这类规则每次分析都在全文上运行
+ * @author liuzhihang
+ * @version P3cDiagnostic.java, v 0.1 2026/10/18 liuzhihang
+ */
+record P3cDiagnostic(@NotNull P3cRule rule, int start, int end, @NotNull String message, @Nullable P3cQuickFix fix, boolean text) {
+
+    /**
+     * 文档在 {@code [from, to)} 处被替换后的问题
+     *
+     * @param from  被替换的开始位置
+     * @param to    被替换的结束位置
+     * @param delta 替换后长度的变化
+     * @return 问题与被替换的部分重叠时返回 null
+     */
+    @Nullable
+    P3cDiagnostic shift(int from, int to, int delta) {
+        if (end <= from) {
+            return this;
+        }
+        if (start >= to) {
+            return new P3cDiagnostic(rule, start + delta, end + delta, message, fix == null ? null : fix.shift(from, to, delta), text);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,251 @@
+package com.code.inspections.lsp;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.net.URI;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * 编辑器中打开的文档，按增量同步的修改维护文本、上次分析的问题和分析之后被修改过的区域。
+ * <p>
+ * 修改时问题随文本移动，与修改区域重叠的问题直接丢弃；下次分析只需要重新检查修改过的区域。
+ * 所有方法都需要在文档对象上同步后调用。
+ *
+ * @author liuzhihang
+ * @version P3cDocument.java, v 0.1 2026/10/18 liuzhihang
+ */
+final class P3cDocument {
+
+    private final String uri;
+
+    private final Path path;
+
+    private final StringBuilder text;
+
+    private int version;
+
+    /**
+     * 每行的开始位置，修改后重新计算
+     */
+    private int[] lineStarts;
+
+    private List<P3cDiagnostic> diagnostics = List.of();
+
+    /**
+     * 需要重新分析整个文档，例如刚打开或配置变化
+     */
+    private boolean fullyDirty = true;
+
+    /**
+     * 上次分析之后修改过的区域，{@code dirtyStart > dirtyEnd} 表示没有修改
+     */
+    private int dirtyStart = 1;
+
+    private int dirtyEnd;
+
+    /**
+     * 等待执行的分析
+     */
+    ScheduledFuture<?> pending;
+
+    P3cDocument(@NotNull String uri, @NotNull String text, int version) {
+        this.uri = uri;
+        this.path = toPath(uri);
+        this.text = new StringBuilder(text);
+        this.version = version;
+    }
+
+    @NotNull
+    String getUri() {
+        return uri;
+    }
+
+    @NotNull
+    Path getPath() {
+        return path;
+    }
+
+    @NotNull
+    String getText() {
+        return text.toString();
+    }
+
+    int getVersion() {
+        return version;
+    }
+
+    @NotNull
+    List<P3cDiagnostic> getDiagnostics() {
+        return diagnostics;
+    }
+
+    boolean isFullyDirty() {
+        return fullyDirty;
+    }
+
+    int getDirtyStart() {
+        return dirtyStart;
+    }
+
+    int getDirtyEnd() {
+        return dirtyEnd;
+    }
+
+    boolean isDirty() {
+        return fullyDirty || dirtyStart <= dirtyEnd;
+    }
+
+    /**
+     * 下次分析整个文档
+     */
+    void markFullyDirty() {
+        fullyDirty = true;
+    }
+
+    /**
+     * 替换全文
+     */
+    void setText(@NotNull String newText, int newVersion) {
+        text.setLength(0);
+        text.append(newText);
+        version = newVersion;
+        lineStarts = null;
+        diagnostics = List.of();
+        fullyDirty = true;
+    }
+
+    /**
+     * 替换文档的一部分，已有的问题和修改区域随之移动
+     *
+     * @param from       开始位置
+     * @param to         结束位置，不包含
+     * @param newText    替换后的文本
+     * @param newVersion 修改后的版本
+     */
+    void replace(int from, int to, @NotNull String newText, int newVersion) {
+        text.replace(from, to, newText);
+        version = newVersion;
+        lineStarts = null;
+        int delta = newText.length() - (to - from);
+
+        List<P3cDiagnostic> shifted = new ArrayList<>(diagnostics.size());
+        for (P3cDiagnostic diagnostic : diagnostics) {
+            P3cDiagnostic moved = diagnostic.shift(from, to, delta);
+            if (moved != null) {
+                shifted.add(moved);
+            }
+        }
+        diagnostics = shifted;
+
+        int newEnd = from + newText.length();
+        if (dirtyStart > dirtyEnd) {
+            dirtyStart = from;
+            dirtyEnd = newEnd;
+        } else {
+            int start = dirtyStart < from ? dirtyStart : dirtyStart >= to ? dirtyStart + delta : from;
+            int end = dirtyEnd <= from ? dirtyEnd : dirtyEnd >= to ? dirtyEnd + delta : newEnd;
+            dirtyStart = Math.min(start, from);
+            dirtyEnd = Math.max(end, newEnd);
+        }
+    }
+
+    /**
+     * 合并分析结果，分析期间文档又被修改时放弃结果，等待下次分析
+     *
+     * @param analyzedVersion 分析时的版本
+     * @param result          分析结果
+     * @return 是否已合并
+     */
+    boolean merge(int analyzedVersion, @NotNull P3cDocumentAnalyzer.Result result) {
+        if (analyzedVersion != version) {
+            return false;
+        }
+        List<P3cDiagnostic> merged = new ArrayList<>(result.treeDiagnostics());
+        if (!result.full()) {
+            // 保留没有重新检查的区域中的问题
+            for (P3cDiagnostic diagnostic : diagnostics) {
+                if (!diagnostic.text() && !result.covers(diagnostic.start())) {
+                    merged.add(diagnostic);
+                }
+            }
+        }
+        merged.addAll(result.textDiagnostics());
+        merged.sort(Comparator.comparingInt(P3cDiagnostic::start));
+        diagnostics = merged;
+        fullyDirty = false;
+        dirtyStart = 1;
+        dirtyEnd = 0;
+        return true;
+    }
+
+    /**
+     * 行号和列号转换为偏移量，均从 0 开始，列号按 UTF-16 计算
+     */
+    int offsetAt(int line, int character) {
+        int[] starts = lineStarts();
+        if (line >= starts.length) {
+            return text.length();
+        }
+        int lineEnd = line + 1 < starts.length ? starts[line + 1] : text.length();
+        return Math.min(starts[Math.max(line, 0)] + Math.max(character, 0), lineEnd);
+    }
+
+    /**
+     * 偏移量所在的行号，从 0 开始
+     */
+    int lineAt(int offset) {
+        int[] starts = lineStarts();
+        int low = 0;
+        int high = starts.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (starts[mid] <= offset) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 偏移量所在的列号，从 0 开始
+     */
+    int columnAt(int offset) {
+        return offset - lineStarts()[lineAt(offset)];
+    }
+
+    private int[] lineStarts() {
+        if (lineStarts == null) {
+            int count = 1;
+            for (int i = 0; i < text.length(); i++) {
+                if (text.charAt(i) == '\n') {
+                    count++;
+                }
+            }
+            int[] starts = new int[count];
+            int line = 1;
+            for (int i = 0; i < text.length(); i++) {
+                if (text.charAt(i) == '\n') {
+                    starts[line++] = i + 1;
+                }
+            }
+            lineStarts = starts;
+        }
+        return lineStarts;
+    }
+
+    private static Path toPath(String uri) {
+        try {
+            return Path.of(URI.create(uri));
+        } catch (IllegalArgumentException | FileSystemNotFoundException e) {
+            // 未保存的文档没有对应的文件
+            return Path.of(uri.replaceAll("[^A-Za-z0-9._-]", "_") + ".java");
+        }
+    }
+}
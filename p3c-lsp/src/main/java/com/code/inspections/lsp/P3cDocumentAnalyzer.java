@@ -0,0 +1,242 @@
+package com.code.inspections.lsp;
+
+import com.code.inspections.baseline.P3cBaselineFile;
+import com.code.inspections.engine.P3cConfigResolver;
+import com.code.inspections.javac.P3cBaselineFilter;
+import com.code.inspections.javac.P3cOptions;
+import com.code.inspections.javac.P3cRuleScanner;
+import com.code.inspections.javac.P3cViolation;
+import com.code.inspections.javac.SourceText;
+import com.sun.source.tree.ClassTree;
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.util.JavacTask;
+import com.sun.source.util.SourcePositions;
+import com.sun.source.util.TreePath;
+import com.sun.source.util.Trees;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.tools.Diagnostic;
+import javax.tools.JavaCompiler;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 分析文档：解析整个文档，只对修改过的成员重新运行语法树规则，直接检查源码文本的规则在全文上运行。
+ * <p>
+ * 修改区域落在某个类的声明头（注解、修饰符、类名、继承和左大括号）时重新检查整个类，落在成员中时只检查该成员，
+ * 嵌套类按同样的方式继续细分。只解析语法树，与独立引擎一样不运行需要类型解析的规则，也一样不报告基线中已记录的问题。
+ * <p>
+ * 只在分析线程中使用，不是线程安全的。
+ *
+ * @author liuzhihang
+ * @version P3cDocumentAnalyzer.java, v 0.1 2026/10/18 liuzhihang
+ */
+final class P3cDocumentAnalyzer {
+
+    private static final List<String> JAVAC_OPTIONS = List.of("-proc:none");
+
+    private final JavaCompiler compiler;
+
+    private final StandardJavaFileManager fileManager;
+
+    private final P3cConfigResolver configs;
+
+    P3cDocumentAnalyzer(@NotNull P3cConfigResolver configs) {
+        this.compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("当前运行环境没有 Java 编译器，请使用 JDK 运行");
+        }
+        this.fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8);
+        this.configs = configs;
+    }
+
+    /**
+     * 分析结果
+     *
+     * @param full            是否分析了整个文档
+     * @param ranges          重新检查的区域，依次为开始和结束位置
+     * @param treeDiagnostics 重新检查的区域中语法树规则发现的问题
+     * @param textDiagnostics 全文中文本规则发现的问题
+     */
+    record Result(boolean full, int[] ranges, List<P3cDiagnostic> treeDiagnostics, List<P3cDiagnostic> textDiagnostics) {
+
+        /**
+         * 位置是否在重新检查的区域中
+         */
+        boolean covers(int offset) {
+            for (int i = 0; i < ranges.length; i += 2) {
+                if (offset >= ranges[i] && offset < ranges[i + 1]) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * 分析文档
+     *
+     * @param path       文档对应的文件，用于读取目录配置
+     * @param text       文档内容
+     * @param full       是否分析整个文档
+     * @param dirtyStart 修改过的区域的开始位置
+     * @param dirtyEnd   修改过的区域的结束位置
+     * @return 分析结果，有语法错误时返回 null，保留原有的问题等待下次分析
+     */
+    @Nullable
+    Result analyze(@NotNull Path path, @NotNull String text, boolean full, int dirtyStart, int dirtyEnd) {
+        boolean[] syntaxError = {false};
+        JavacTask task = (JavacTask) compiler.getTask(null, fileManager, diagnostic -> {
+            if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                syntaxError[0] = true;
+            }
+        }, JAVAC_OPTIONS, null, List.of(new DocumentSource(path, text)));
+        CompilationUnitTree unit;
+        try {
+            Iterator<? extends CompilationUnitTree> units = task.parse().iterator();
+            if (!units.hasNext()) {
+                return null;
+            }
+            unit = units.next();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (syntaxError[0]) {
+            return null;
+        }
+
+        P3cOptions options = configs.resolve(path);
+        P3cBaselineFile baseline = configs.getBaseline();
+        SourceText source = new SourceText(text);
+        SourcePositions positions = Trees.instance(task).getSourcePositions();
+        P3cQuickFixes fixes = new P3cQuickFixes(unit, positions, source);
+        List<P3cDiagnostic> treeDiagnostics = new ArrayList<>();
+        List<P3cDiagnostic> textDiagnostics = new ArrayList<>();
+        P3cRuleScanner scanner = new P3cRuleScanner(task, false, options, P3cBaselineFilter.wrap(baseline, unit, positions, source,
+                violation -> treeDiagnostics.add(toDiagnostic(violation, fixes, false))));
+        if (scanner.shouldSkip(unit, source)) {
+            return new Result(true, new int[]{0, text.length()}, List.of(), List.of());
+        }
+
+        List<TreePath> paths = new ArrayList<>();
+        TreePath root = new TreePath(unit);
+        if (full) {
+            paths.add(root);
+        } else {
+            new DirtyRegions(task, unit, source, dirtyStart, dirtyEnd, paths).collect(root);
+        }
+        int[] ranges = new int[paths.size() * 2];
+        for (int i = 0; i < paths.size(); i++) {
+            Tree leaf = paths.get(i).getLeaf();
+            ranges[i * 2] = leaf == unit ? 0 : (int) positions.getStartPosition(unit, leaf);
+            ranges[i * 2 + 1] = leaf == unit ? text.length() : (int) positions.getEndPosition(unit, leaf);
+            scanner.checkTree(paths.get(i), source);
+        }
+        new P3cRuleScanner(task, false, options, P3cBaselineFilter.wrap(baseline, unit, positions, source,
+                violation -> textDiagnostics.add(toDiagnostic(violation, fixes, true))))
+                .checkText(source);
+        return new Result(full, ranges, treeDiagnostics, textDiagnostics);
+    }
+
+    private static P3cDiagnostic toDiagnostic(P3cViolation violation, P3cQuickFixes fixes, boolean text) {
+        return new P3cDiagnostic(violation.rule(), violation.start(), violation.end(), violation.message(), fixes.of(violation), text);
+    }
+
+    /**
+     * 找出与修改区域相交的最小范围：包声明、导入声明、类的声明头或成员
+     */
+    private static final class DirtyRegions {
+
+        private final CompilationUnitTree unit;
+
+        private final SourcePositions positions;
+
+        private final SourceText source;
+
+        private final int dirtyStart;
+
+        private final int dirtyEnd;
+
+        private final List<TreePath> paths;
+
+        private DirtyRegions(JavacTask task, CompilationUnitTree unit, SourceText source, int dirtyStart, int dirtyEnd, List<TreePath> paths) {
+            this.unit = unit;
+            this.positions = Trees.instance(task).getSourcePositions();
+            this.source = source;
+            this.dirtyStart = dirtyStart;
+            this.dirtyEnd = dirtyEnd;
+            this.paths = paths;
+        }
+
+        void collect(TreePath root) {
+            if (unit.getPackage() != null && intersects(unit.getPackage())) {
+                paths.add(new TreePath(root, unit.getPackage()));
+            }
+            for (Tree tree : unit.getImports()) {
+                if (intersects(tree)) {
+                    paths.add(new TreePath(root, tree));
+                }
+            }
+            for (Tree tree : unit.getTypeDecls()) {
+                if (tree instanceof ClassTree classTree && intersects(classTree)) {
+                    collectClass(new TreePath(root, classTree), classTree);
+                }
+            }
+        }
+
+        private void collectClass(TreePath path, ClassTree node) {
+            // 声明头变化会影响类名、继承和左大括号相关的规则，重新检查整个类
+            int start = (int) positions.getStartPosition(unit, node);
+            int from = Math.max(start, (int) positions.getEndPosition(unit, node.getModifiers()));
+            int lBrace = source.findCodeChar('{', from, (int) positions.getEndPosition(unit, node));
+            if (lBrace < 0 || start <= dirtyEnd && dirtyStart <= lBrace) {
+                paths.add(path);
+                return;
+            }
+            for (Tree member : node.getMembers()) {
+                if (!intersects(member)) {
+                    continue;
+                }
+                if (member instanceof ClassTree nested) {
+                    collectClass(new TreePath(path, nested), nested);
+                } else {
+                    paths.add(new TreePath(path, member));
+                }
+            }
+        }
+
+        private boolean intersects(Tree tree) {
+            long start = positions.getStartPosition(unit, tree);
+            long end = positions.getEndPosition(unit, tree);
+            return start >= 0 && start <= dirtyEnd && dirtyStart <= end;
+        }
+    }
+
+    /**
+     * 编辑器中的文档内容
+     */
+    private static final class DocumentSource extends SimpleJavaFileObject {
+
+        private final String content;
+
+        private DocumentSource(Path path, String content) {
+            super(path.toUri(), Kind.SOURCE);
+            this.content = content;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return content;
+        }
+    }
+}
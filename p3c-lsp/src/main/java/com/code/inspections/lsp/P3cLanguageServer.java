@@ -0,0 +1,471 @@
+package com.code.inspections.lsp;
+
+import com.code.inspections.baseline.P3cBaselineFile;
+import com.code.inspections.engine.P3cConfigResolver;
+import com.code.inspections.javac.P3cOptions;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ali-P3C 语言服务器，通过标准输入输出使用语言服务器协议（LSP），为只支持 LSP 的编辑器提供问题提示和快速修复，不需要 IDE 和网络。
+ * <p>
+ * 文档使用增量同步，每次修改后按文档分别延迟分析，连续输入时只在停顿后分析一次；
+ * 分析时只重新检查修改过的成员（见 {@link P3cDocumentAnalyzer}）。
+ * 工作区中的 {@code .p3c.properties} 按目录生效，根目录的 {@code .p3c-baseline} 中已记录的问题不提示，两者保存后重新分析所有打开的文档。
+ *
+ * @author liuzhihang
+ * @version P3cLanguageServer.java, v 0.1 2026/10/18 liuzhihang
+ */
+public final class P3cLanguageServer {
+
+    /**
+     * 最后一次修改之后等待的时间
+     */
+    private static final long DEBOUNCE_MILLIS = 300;
+
+    /**
+     * LSP 规定的错误码：方法不存在
+     */
+    private static final int METHOD_NOT_FOUND = -32601;
+
+    /**
+     * LSP 规定的错误码：服务端内部错误
+     */
+    private static final int INTERNAL_ERROR = -32603;
+
+    /**
+     * 增量同步
+     */
+    private static final int SYNC_INCREMENTAL = 2;
+
+    /**
+     * 问题级别：警告
+     */
+    private static final int SEVERITY_WARNING = 2;
+
+    private final InputStream in;
+
+    private final OutputStream out;
+
+    private final Map<String, P3cDocument> documents = new ConcurrentHashMap<>();
+
+    /**
+     * 分析在单独的线程中执行，读取请求的线程不会被阻塞
+     */
+    private final ScheduledExecutorService analyzerThread = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "p3c-lsp-analyzer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private P3cConfigResolver configs = new P3cConfigResolver(Paths.get("").toAbsolutePath(), P3cOptions.DEFAULT);
+
+    private P3cDocumentAnalyzer analyzer;
+
+    private boolean shutdown;
+
+    P3cLanguageServer(InputStream in, OutputStream out) {
+        this.in = new BufferedInputStream(in);
+        this.out = out;
+    }
+
+    public static void main(String[] args) throws IOException {
+        PrintStream stdout = System.out;
+        // 标准输出只用于协议消息
+        System.setOut(System.err);
+        System.exit(new P3cLanguageServer(System.in, stdout).run());
+    }
+
+    /**
+     * 处理消息直到收到 exit 通知或输入结束
+     *
+     * @return 退出码，收到 shutdown 请求后退出为 0
+     * @throws IOException 读写失败
+     */
+    int run() throws IOException {
+        while (true) {
+            String body;
+            try {
+                body = readMessage();
+            } catch (EOFException e) {
+                return shutdown ? 0 : 1;
+            }
+            Map<String, Object> message;
+            try {
+                message = map(JsonCodec.parse(body));
+            } catch (IllegalArgumentException e) {
+                log("无法解析消息：" + e.getMessage());
+                continue;
+            }
+            String method = (String) message.get("method");
+            Object id = message.get("id");
+            if ("exit".equals(method)) {
+                analyzerThread.shutdownNow();
+                return shutdown ? 0 : 1;
+            }
+            try {
+                Object result = handle(method, map(message.get("params")), id != null);
+                if (id != null) {
+                    respond(id, result);
+                }
+            } catch (ResponseErrorException e) {
+                respondError(id, e.code, e.getMessage());
+            } catch (RuntimeException e) {
+                if (id != null) {
+                    respondError(id, INTERNAL_ERROR, String.valueOf(e));
+                } else {
+                    log(method + " 处理失败：" + e);
+                }
+            }
+        }
+    }
+
+    private Object handle(String method, Map<String, Object> params, boolean request) {
+        switch (method == null ? "" : method) {
+            case "initialize" -> {
+                return initialize(params);
+            }
+            case "shutdown" -> {
+                shutdown = true;
+                return null;
+            }
+            case "textDocument/didOpen" -> didOpen(map(params.get("textDocument")));
+            case "textDocument/didChange" -> didChange(params);
+            case "textDocument/didClose" -> didClose((String) map(params.get("textDocument")).get("uri"));
+            case "textDocument/didSave" -> configChanged((String) map(params.get("textDocument")).get("uri"));
+            case "workspace/didChangeWatchedFiles" -> {
+                for (Object change : list(params.get("changes"))) {
+                    configChanged((String) map(change).get("uri"));
+                }
+            }
+            case "textDocument/codeAction" -> {
+                return codeActions(params);
+            }
+            default -> {
+                // 未知的通知直接忽略，未知的请求返回错误
+                if (request) {
+                    throw new ResponseErrorException(METHOD_NOT_FOUND, "不支持的方法：" + method);
+                }
+            }
+        }
+        return null;
+    }
+
+    private Object initialize(Map<String, Object> params) {
+        Path root = null;
+        if (params.get("rootUri") instanceof String rootUri) {
+            root = Path.of(URI.create(rootUri));
+        } else if (params.get("rootPath") instanceof String rootPath) {
+            root = Paths.get(rootPath);
+        }
+        if (root != null) {
+            configs = new P3cConfigResolver(root, P3cOptions.DEFAULT);
+        }
+        analyzer = new P3cDocumentAnalyzer(configs);
+
+        Map<String, Object> sync = new LinkedHashMap<>();
+        sync.put("openClose", true);
+        sync.put("change", SYNC_INCREMENTAL);
+        sync.put("save", Map.of("includeText", false));
+        Map<String, Object> capabilities = new LinkedHashMap<>();
+        capabilities.put("textDocumentSync", sync);
+        capabilities.put("codeActionProvider", Map.of("codeActionKinds", List.of("quickfix")));
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("capabilities", capabilities);
+        result.put("serverInfo", Map.of("name", "p3c-lsp"));
+        return result;
+    }
+
+    private void didOpen(Map<String, Object> textDocument) {
+        if (!"java".equals(textDocument.get("languageId"))) {
+            return;
+        }
+        String uri = (String) textDocument.get("uri");
+        P3cDocument document = new P3cDocument(uri, (String) textDocument.get("text"), number(textDocument.get("version")));
+        documents.put(uri, document);
+        schedule(document, 0);
+    }
+
+    private void didChange(Map<String, Object> params) {
+        Map<String, Object> textDocument = map(params.get("textDocument"));
+        P3cDocument document = documents.get((String) textDocument.get("uri"));
+        if (document == null) {
+            return;
+        }
+        int version = number(textDocument.get("version"));
+        synchronized (document) {
+            for (Object item : list(params.get("contentChanges"))) {
+                Map<String, Object> change = map(item);
+                String text = (String) change.get("text");
+                if (change.get("range") == null) {
+                    document.setText(text, version);
+                } else {
+                    Map<String, Object> range = map(change.get("range"));
+                    document.replace(offset(document, range.get("start")), offset(document, range.get("end")), text, version);
+                }
+            }
+        }
+        schedule(document, DEBOUNCE_MILLIS);
+    }
+
+    private void didClose(String uri) {
+        P3cDocument document = documents.remove(uri);
+        if (document != null) {
+            synchronized (document) {
+                if (document.pending != null) {
+                    document.pending.cancel(false);
+                }
+            }
+            notify("textDocument/publishDiagnostics", Map.of("uri", uri, "diagnostics", List.of()));
+        }
+    }
+
+    /**
+     * 配置文件或基线文件保存或变化后，所有打开的文档重新分析
+     */
+    private void configChanged(String uri) {
+        if (uri == null || !uri.endsWith("/" + P3cConfigResolver.FILE_NAME) && !uri.endsWith("/" + P3cBaselineFile.FILE_NAME)) {
+            return;
+        }
+        configs.invalidate();
+        for (P3cDocument document : documents.values()) {
+            synchronized (document) {
+                document.markFullyDirty();
+            }
+            schedule(document, DEBOUNCE_MILLIS);
+        }
+    }
+
+    private List<Object> codeActions(Map<String, Object> params) {
+        String uri = (String) map(params.get("textDocument")).get("uri");
+        P3cDocument document = documents.get(uri);
+        List<Object> actions = new ArrayList<>();
+        if (document == null) {
+            return actions;
+        }
+        synchronized (document) {
+            Map<String, Object> range = map(params.get("range"));
+            int start = offset(document, range.get("start"));
+            int end = offset(document, range.get("end"));
+            for (P3cDiagnostic diagnostic : document.getDiagnostics()) {
+                if (diagnostic.fix() == null || diagnostic.start() > end || diagnostic.end() < start) {
+                    continue;
+                }
+                List<Object> edits = new ArrayList<>();
+                for (P3cTextEdit edit : diagnostic.fix().edits()) {
+                    edits.add(Map.of("range", range(document, edit.start(), edit.end()), "newText", edit.newText()));
+                }
+                Map<String, Object> action = new LinkedHashMap<>();
+                action.put("title", diagnostic.fix().title());
+                action.put("kind", "quickfix");
+                action.put("diagnostics", List.of(toJson(document, diagnostic)));
+                action.put("edit", Map.of("changes", Map.of(uri, edits)));
+                actions.add(action);
+            }
+        }
+        return actions;
+    }
+
+    /**
+     * 延迟分析文档，再次修改时重新计时
+     */
+    private void schedule(P3cDocument document, long delay) {
+        synchronized (document) {
+            if (document.pending != null) {
+                document.pending.cancel(false);
+            }
+            document.pending = analyzerThread.schedule(() -> analyze(document), delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void analyze(P3cDocument document) {
+        String text;
+        int version;
+        boolean full;
+        int dirtyStart;
+        int dirtyEnd;
+        synchronized (document) {
+            if (!document.isDirty() || documents.get(document.getUri()) != document) {
+                return;
+            }
+            text = document.getText();
+            version = document.getVersion();
+            full = document.isFullyDirty();
+            dirtyStart = document.getDirtyStart();
+            dirtyEnd = document.getDirtyEnd();
+        }
+        P3cDocumentAnalyzer.Result result;
+        try {
+            result = analyzer.analyze(document.getPath(), text, full, dirtyStart, dirtyEnd);
+        } catch (RuntimeException e) {
+            log(document.getUri() + " 分析失败：" + e);
+            return;
+        }
+        if (result == null) {
+            return;
+        }
+        Map<String, Object> params = new LinkedHashMap<>();
+        synchronized (document) {
+            if (!document.merge(version, result)) {
+                return;
+            }
+            List<Object> diagnostics = new ArrayList<>();
+            for (P3cDiagnostic diagnostic : document.getDiagnostics()) {
+                diagnostics.add(toJson(document, diagnostic));
+            }
+            params.put("uri", document.getUri());
+            params.put("version", version);
+            params.put("diagnostics", diagnostics);
+        }
+        notify("textDocument/publishDiagnostics", params);
+    }
+
+    private static Map<String, Object> toJson(P3cDocument document, P3cDiagnostic diagnostic) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("range", range(document, diagnostic.start(), diagnostic.end()));
+        json.put("severity", SEVERITY_WARNING);
+        json.put("code", diagnostic.rule().getShortName());
+        json.put("source", "P3C");
+        json.put("message", diagnostic.message());
+        return json;
+    }
+
+    private static Map<String, Object> range(P3cDocument document, int start, int end) {
+        return Map.of("start", position(document, start), "end", position(document, end));
+    }
+
+    private static Map<String, Object> position(P3cDocument document, int offset) {
+        return Map.of("line", document.lineAt(offset), "character", document.columnAt(offset));
+    }
+
+    private static int offset(P3cDocument document, Object position) {
+        Map<String, Object> map = map(position);
+        return document.offsetAt(number(map.get("line")), number(map.get("character")));
+    }
+
+    private String readMessage() throws IOException {
+        int length = -1;
+        while (true) {
+            String header = readHeaderLine();
+            if (header.isEmpty()) {
+                break;
+            }
+            int colon = header.indexOf(':');
+            if (colon > 0 && header.substring(0, colon).trim().equalsIgnoreCase("Content-Length")) {
+                length = Integer.parseInt(header.substring(colon + 1).trim());
+            }
+        }
+        if (length < 0) {
+            throw new IOException("消息缺少 Content-Length");
+        }
+        byte[] body = in.readNBytes(length);
+        if (body.length < length) {
+            throw new EOFException();
+        }
+        return new String(body, StandardCharsets.UTF_8);
+    }
+
+    private String readHeaderLine() throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int c;
+        while ((c = in.read()) != '\n') {
+            if (c < 0) {
+                throw new EOFException();
+            }
+            if (c != '\r') {
+                line.write(c);
+            }
+        }
+        return line.toString(StandardCharsets.US_ASCII);
+    }
+
+    private void respond(Object id, Object result) {
+        Map<String, Object> message = new LinkedHashMap<>();
+        message.put("jsonrpc", "2.0");
+        message.put("id", id);
+        message.put("result", result);
+        send(message);
+    }
+
+    private void respondError(Object id, int code, String text) {
+        Map<String, Object> message = new LinkedHashMap<>();
+        message.put("jsonrpc", "2.0");
+        message.put("id", id);
+        message.put("error", Map.of("code", code, "message", text));
+        send(message);
+    }
+
+    private void notify(String method, Object params) {
+        Map<String, Object> message = new LinkedHashMap<>();
+        message.put("jsonrpc", "2.0");
+        message.put("method", method);
+        message.put("params", params);
+        send(message);
+    }
+
+    private void log(String text) {
+        notify("window/logMessage", Map.of("type", 1, "message", text));
+    }
+
+    private void send(Map<String, Object> message) {
+        byte[] body = JsonCodec.write(message).getBytes(StandardCharsets.UTF_8);
+        byte[] header = ("Content-Length: " + body.length + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII);
+        synchronized (out) {
+            try {
+                out.write(header);
+                out.write(body);
+                out.flush();
+            } catch (IOException e) {
+                // 编辑器已关闭连接，等待输入结束后退出
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> map(Object value) {
+        return value instanceof Map ? (Map<String, Object>) value : Map.of();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Object> list(Object value) {
+        return value instanceof List ? (List<Object>) value : List.of();
+    }
+
+    private static int number(Object value) {
+        return value instanceof Number number ? number.intValue() : 0;
+    }
+
+    /**
+     * 需要以指定错误码答复请求的错误，只在处理请求时抛出，其他异常按内部错误答复
+     */
+    private static final class ResponseErrorException extends RuntimeException {
+
+        /**
+         * LSP 规定的错误码
+         */
+        private final int code;
+
+        ResponseErrorException(int code, String message) {
+            super(message, null, false, false);
+            this.code = code;
+        }
+    }
+}
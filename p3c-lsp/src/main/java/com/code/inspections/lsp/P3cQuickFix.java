@@ -0,0 +1,36 @@
+package com.code.inspections.lsp;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 快速修复，与 IDE 中对应检查的 LocalQuickFix 效果一致
+ *
+ * @param title 名称，与 IDE 中的修复名称相同
+ * @param edits 修改
+ * @author liuzhihang
+ * @version P3cQuickFix.java, v 0.1 2026/10/18 liuzhihang
+ */
+record P3cQuickFix(@NotNull String title, @NotNull List<P3cTextEdit> edits) {
+
+    /**
+     * 文档在 {@code [from, to)} 处被替换后的修复
+     *
+     * @return 修改的位置被替换时返回 null
+     */
+    @Nullable
+    P3cQuickFix shift(int from, int to, int delta) {
+        List<P3cTextEdit> shifted = new ArrayList<>(edits.size());
+        for (P3cTextEdit edit : edits) {
+            P3cTextEdit moved = edit.shift(from, to, delta);
+            if (moved == null) {
+                return null;
+            }
+            shifted.add(moved);
+        }
+        return new P3cQuickFix(title, shifted);
+    }
+}
@@ -0,0 +1,230 @@
+package com.code.inspections.lsp;
+
+import com.code.inspections.javac.P3cMessages;
+import com.code.inspections.javac.P3cViolation;
+import com.code.inspections.javac.SourceText;
+import com.sun.source.tree.ClassTree;
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.tree.LiteralTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.tree.VariableTree;
+import com.sun.source.util.SourcePositions;
+import com.sun.source.util.TreeScanner;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.lang.model.element.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 按问题生成快速修复，修复结果与 {@code com.code.inspections.ali} 中对应检查的 LocalQuickFix 一致。
+ * <p>
+ * IDE 中的修复只替换声明处的标识符，这里同样只修改问题所在位置，不重命名引用。
+ * 没有等价文本修改的修复（例如敏感词跳转到编辑位置）不提供。
+ *
+ * @author liuzhihang
+ * @version P3cQuickFixes.java, v 0.1 2026/10/18 liuzhihang
+ */
+final class P3cQuickFixes {
+
+    private final CompilationUnitTree unit;
+
+    private final SourcePositions positions;
+
+    private final SourceText source;
+
+    /**
+     * 编译单元中的类，按开始位置排列，用于查找字面量所在的类，第一次需要时收集
+     */
+    private List<ClassTree> classes;
+
+    P3cQuickFixes(@NotNull CompilationUnitTree unit, @NotNull SourcePositions positions, @NotNull SourceText source) {
+        this.unit = unit;
+        this.positions = positions;
+        this.source = source;
+    }
+
+    /**
+     * 生成快速修复
+     *
+     * @param violation 问题
+     * @return 快速修复，没有时返回 null
+     */
+    @Nullable
+    P3cQuickFix of(@NotNull P3cViolation violation) {
+        int start = violation.start();
+        int end = violation.end();
+        if (start < 0 || end > source.length() || start >= end) {
+            return null;
+        }
+        String name = source.getText().subSequence(start, end).toString();
+        Tree tree = violation.tree();
+        return switch (violation.rule()) {
+            case NAMING_CONVENTION -> rename("ali.p3c.name.convention.fix", start, end, name,
+                    name.replaceAll("^[_$]", "").replaceAll("[_$]$", ""));
+            case METHOD_AND_PARAMETER_NAMING -> rename("ali.p3c.name.method.name.lower.case.fix", start, end, name, toLowerCamelCase(name));
+            case CLASS_NAME_UPPER_CASE -> rename("ali.p3c.name.class.name.upper.case.fix", start, end, name, toUpperCamelCase(name));
+            case CONSTANT_NAMING -> rename("ali.p3c.name.constant.name.upper.case.fix", start, end, name,
+                    name.replaceAll("([a-z])([A-Z])", "$1_$2").toUpperCase());
+            case BOOLEAN_VARIABLE_NAMING -> rename("ali.p3c.name.boolean.variable.fix", start, end, name,
+                    name.startsWith("is") ? "has" + name.substring(2) : name);
+            case ENUM_NAMING -> tree instanceof ClassTree
+                    ? rename("ali.p3c.name.enum.naming.fix", start, end, name, name + "Enum")
+                    : rename("ali.p3c.name.enum.naming.fix", start, end, name, name.toUpperCase());
+            case CLASS_NAMING -> tree instanceof ClassTree classTree ? renameClass(classTree, start, end, name) : null;
+            case LOWERCASE_LONG_LITERAL -> rename("ali.p3c.constant.lowercase.long.literal.fix", start, end, name, name.replace('l', 'L'));
+            case ARRAY_DEFINITION -> tree instanceof VariableTree ? moveArrayBrackets(start, end) : null;
+            case MAGIC_VALUE -> tree instanceof LiteralTree literal ? extractConstant(literal, start, end, name) : null;
+            default -> null;
+        };
+    }
+
+    private static P3cQuickFix rename(String key, int start, int end, String name, String newName) {
+        if (newName.isEmpty() || newName.equals(name)) {
+            return null;
+        }
+        return new P3cQuickFix(P3cMessages.message(key), List.of(new P3cTextEdit(start, end, newName)));
+    }
+
+    /**
+     * 与 ClassNamingInspection 一致：抽象类加 Abstract 前缀，异常类加 Exception 后缀，测试类加 Test 后缀
+     */
+    private static P3cQuickFix renameClass(ClassTree node, int start, int end, String name) {
+        String newName;
+        if (node.getModifiers().getFlags().contains(Modifier.ABSTRACT) && !name.startsWith("Abstract") && !name.startsWith("Base")) {
+            newName = "Abstract" + name;
+        } else if (node.getExtendsClause() != null && node.getExtendsClause().toString().endsWith("Exception")) {
+            newName = name + "Exception";
+        } else {
+            newName = name + "Test";
+        }
+        return new P3cQuickFix(P3cMessages.message("ali.p3c.name.class.name.fix", newName), List.of(new P3cTextEdit(start, end, newName)));
+    }
+
+    /**
+     * {@code Type name[]} 改为 {@code Type[] name}：删除变量名后的中括号，在变量名前补上
+     */
+    private P3cQuickFix moveArrayBrackets(int nameStart, int nameEnd) {
+        int dimensions = 0;
+        int pos = source.nextCodeChar(nameEnd);
+        int bracketsEnd = nameEnd;
+        while (pos >= 0 && source.charAt(pos) == '[') {
+            int close = source.nextCodeChar(pos + 1);
+            if (close < 0 || source.charAt(close) != ']') {
+                break;
+            }
+            dimensions++;
+            bracketsEnd = close + 1;
+            pos = source.nextCodeChar(bracketsEnd);
+        }
+        if (dimensions == 0) {
+            return null;
+        }
+        int typeEnd = source.prevCodeChar(nameStart) + 1;
+        return new P3cQuickFix(P3cMessages.message("ali.p3c.name.array.definition.fix"), List.of(
+                new P3cTextEdit(typeEnd, typeEnd, "[]".repeat(dimensions)),
+                new P3cTextEdit(nameEnd, bracketsEnd, "")));
+    }
+
+    /**
+     * 与 MagicValueInspection 一致：在所在类的开头声明常量，字面量替换为常量名
+     */
+    private P3cQuickFix extractConstant(LiteralTree literal, int start, int end, String text) {
+        String type = switch (literal.getKind()) {
+            case INT_LITERAL -> "int";
+            case LONG_LITERAL -> "long";
+            case FLOAT_LITERAL -> "float";
+            case DOUBLE_LITERAL -> "double";
+            case BOOLEAN_LITERAL -> "boolean";
+            case CHAR_LITERAL -> "char";
+            case STRING_LITERAL -> "String";
+            default -> null;
+        };
+        ClassTree owner = enclosingClass(start);
+        // 枚举中常量必须在枚举值之后声明，不提供修复
+        if (type == null || owner == null || owner.getKind() == Tree.Kind.ENUM) {
+            return null;
+        }
+        int from = Math.max((int) positions.getStartPosition(unit, owner), (int) positions.getEndPosition(unit, owner.getModifiers()));
+        int lBrace = source.findCodeChar('{', from, start);
+        if (lBrace < 0) {
+            return null;
+        }
+        String constantName = "CONST_" + text.replace("\"", "").replaceAll("\\W", "_").toUpperCase();
+        boolean interfaceLike = owner.getKind() == Tree.Kind.INTERFACE || owner.getKind() == Tree.Kind.ANNOTATION_TYPE;
+        String declaration = "\n" + indentOf(source, lBrace) + "    " + (interfaceLike ? "" : "private static final ")
+                + type + " " + constantName + " = " + text + ";\n";
+        return new P3cQuickFix(P3cMessages.message("ali.p3c.constant.magic.value.fix"), List.of(
+                new P3cTextEdit(lBrace + 1, lBrace + 1, declaration),
+                new P3cTextEdit(start, end, constantName)));
+    }
+
+    /**
+     * 包含该位置的最内层的类
+     */
+    private ClassTree enclosingClass(int offset) {
+        if (classes == null) {
+            List<ClassTree> found = new ArrayList<>();
+            new TreeScanner<Void, Void>() {
+                @Override
+                public Void visitClass(ClassTree node, Void unused) {
+                    found.add(node);
+                    return super.visitClass(node, unused);
+                }
+            }.scan(unit, null);
+            classes = found;
+        }
+        // 按开始位置排列，后出现的包含该位置的类一定嵌套在前面的类中
+        ClassTree owner = null;
+        for (ClassTree node : classes) {
+            long start = positions.getStartPosition(unit, node);
+            if (start > offset) {
+                break;
+            }
+            if (offset < positions.getEndPosition(unit, node)) {
+                owner = node;
+            }
+        }
+        return owner;
+    }
+
+    private static String indentOf(SourceText source, int offset) {
+        int lineStart = offset;
+        while (lineStart > 0 && source.charAt(lineStart - 1) != '\n') {
+            lineStart--;
+        }
+        int end = lineStart;
+        while (end < offset && (source.charAt(end) == ' ' || source.charAt(end) == '\t')) {
+            end++;
+        }
+        return source.getText().subSequence(lineStart, end).toString();
+    }
+
+    /**
+     * 与 MethodAndParameterNamingInspection 一致，按下划线分隔转换
+     */
+    private static String toLowerCamelCase(String name) {
+        String[] parts = name.split("_");
+        StringBuilder builder = new StringBuilder(parts.length == 0 ? "" : parts[0].toLowerCase());
+        for (int i = 1; i < parts.length; i++) {
+            if (!parts[i].isEmpty()) {
+                builder.append(parts[i].substring(0, 1).toUpperCase()).append(parts[i].substring(1).toLowerCase());
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 与 ClassNameUpperCaseInspection 一致，按下划线分隔转换
+     */
+    private static String toUpperCamelCase(String name) {
+        StringBuilder builder = new StringBuilder();
+        for (String part : name.split("_")) {
+            if (!part.isEmpty()) {
+                builder.append(Character.toUpperCase(part.charAt(0))).append(part.substring(1));
+            }
+        }
+        return builder.toString();
+    }
+}
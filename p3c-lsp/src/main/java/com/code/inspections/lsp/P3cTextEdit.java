@@ -0,0 +1,35 @@
+package com.code.inspections.lsp;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * 文档中的一处替换，位置为字符偏移量
+ *
+ * @param start   开始位置
+ * @param end     结束位置，不包含
+ * @param newText 替换后的文本
+ * @author liuzhihang
+ * @version P3cTextEdit.java, v 0.1 2026/10/18 liuzhihang
+ */
+record P3cTextEdit(int start, int end, @NotNull String newText) {
+
+    /**
+     * 文档在 {@code [from, to)} 处被替换后的位置
+     *
+     * @param from  被替换的开始位置
+     * @param to    被替换的结束位置
+     * @param delta 替换后长度的变化
+     * @return 新的位置，与被替换的部分重叠时返回 null
+     */
+    @Nullable
+    P3cTextEdit shift(int from, int to, int delta) {
+        if (end <= from) {
+            return this;
+        }
+        if (start >= to) {
+            return new P3cTextEdit(start + delta, end + delta, newText);
+        }
+        return null;
+    }
+}
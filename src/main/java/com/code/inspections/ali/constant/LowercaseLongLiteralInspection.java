@@ -1,29 +1,39 @@
 package com.code.inspections.ali.constant;
 
+import com.code.inspections.base.AbstractP3cInspection;
+import com.code.inspections.base.P3cProblemsHolder;
 import com.code.inspections.bundle.CodeInspectionsBundle;
 import com.intellij.codeInspection.*;
+import com.intellij.openapi.project.DumbAware;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.*;
-import com.siyeh.ig.BaseInspectionVisitor;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.function.Supplier;
+
 /**
  * 检查 long 或 Long 赋值时是否使用了大写 L。如果使用了小写 l，会被视为潜在的代码质量问题，
  * 因为小写 l 容易与数字 1 混淆，从而造成误解。
+ * <p>
+ * 只根据字面量的词法类型判断，不需要类型推断，索引未就绪时也可以运行。
  *
  * @author liuzhihang
  * @version LowercaseLongLiteralInspection.java, v 0.1 2024/5/4 liuzhihang
  */
-public class LowercaseLongLiteralInspection extends AbstractBaseJavaLocalInspectionTool {
+public class LowercaseLongLiteralInspection extends AbstractP3cInspection implements DumbAware {
 
     /**
      * 错误提示信息
      */
-    private static final String MESSAGE = CodeInspectionsBundle.message("ali.p3c.constant.lowercase.long.literal.message");
+    private static final Supplier<String> MESSAGE = CodeInspectionsBundle.messagePointer("ali.p3c.constant.lowercase.long.literal.message");
     /**
      * 快速修复提示信息
      */
-    private static final String QUICK_FIX = CodeInspectionsBundle.message("ali.p3c.constant.lowercase.long.literal.fix");
+    private static final Supplier<String> QUICK_FIX = CodeInspectionsBundle.messagePointer("ali.p3c.constant.lowercase.long.literal.fix");
+    /**
+     * 快速修复，无状态，所有问题共用一个实例
+     */
+    private static final LocalQuickFix FIX_LONG_LITERAL_CASE = new FixLongLiteralCaseQuickFix();
 
     /**
      * 创建一个访问者，用于访问 Java 代码元素并检测潜在的问题。
@@ -35,45 +45,32 @@ public class LowercaseLongLiteralInspection extends AbstractBaseJavaLocalInspect
      */
     @NotNull
     @Override
-    public PsiElementVisitor buildVisitor(@NotNull ProblemsHolder holder, boolean isOnTheFly, @NotNull LocalInspectionToolSession session) {
-        return new BaseInspectionVisitor() {
+    protected PsiElementVisitor buildP3cVisitor(@NotNull P3cProblemsHolder holder, boolean isOnTheFly, @NotNull LocalInspectionToolSession session) {
+        return new JavaElementVisitor() {
             /**
-             * 访问字面量表达式，检查是否为 long 类型且以小写 'l' 结尾。
+             * 访问字面量表达式，检查是否为 long 字面量且以小写 'l' 结尾。
              *
              * @param literalExpression 被访问的字面量表达式。
              */
             @Override
             public void visitLiteralExpression(@NotNull PsiLiteralExpression literalExpression) {
-                PsiType type = literalExpression.getType();
-                if (type == PsiType.LONG) { // 检查类型是否为 long
-                    String text = literalExpression.getText();
-                    if (text.endsWith("l") || text.endsWith("L")) { // 检查文本末尾是否是 'l' 或 'L'
-                        if (text.endsWith("l")) { // 如果是小写 'l'，则注册一个问题并提供快速修复
-                            holder.registerProblem(literalExpression,
-                                    MESSAGE,
-                                    ProblemHighlightType.GENERIC_ERROR_OR_WARNING,
-                                    new FixLongLiteralCaseQuickFix(literalExpression));
-                        }
-                    }
+                // 字面量的唯一子节点是词法单元，long 字面量的词法类型为 LONG_LITERAL，不需要 getType() 推断
+                if (literalExpression.getFirstChild() instanceof PsiJavaToken token
+                        && token.getTokenType() == JavaTokenType.LONG_LITERAL
+                        && token.getText().endsWith("l")) { // 如果是小写 'l'，则注册一个问题并提供快速修复
+                    holder.registerProblem(literalExpression,
+                            MESSAGE.get(),
+                            ProblemHighlightType.GENERIC_ERROR_OR_WARNING,
+                            FIX_LONG_LITERAL_CASE);
                 }
             }
         };
     }
 
     /**
-     * 为 long 字面量的小写 'l' 提供快速修复的类。
+     * 为 long 字面量的小写 'l' 提供快速修复的类，字面量从问题描述符中获取，不持有 PSI 引用。
      */
-    private static class FixLongLiteralCaseQuickFix implements LocalQuickFix {
-        private final PsiLiteralExpression literalExpression;
-
-        /**
-         * 构造函数。
-         *
-         * @param literalExpression 需要进行修复的字面量表达式。
-         */
-        FixLongLiteralCaseQuickFix(PsiLiteralExpression literalExpression) {
-            this.literalExpression = literalExpression;
-        }
+    private static class FixLongLiteralCaseQuickFix implements LocalQuickFix, DumbAware {
 
         /**
          * 返回快速修复的显示名称。
@@ -83,7 +80,7 @@ public class LowercaseLongLiteralInspection extends AbstractBaseJavaLocalInspect
         @NotNull
         @Override
         public String getFamilyName() {
-            return QUICK_FIX;
+            return QUICK_FIX.get();
         }
 
         /**
@@ -1,44 +1,54 @@
 package com.code.inspections.ali.constant;
 
+import com.code.inspections.base.AbstractP3cInspection;
+import com.code.inspections.base.P3cProblemsHolder;
 import com.code.inspections.bundle.CodeInspectionsBundle;
-import com.intellij.codeInspection.AbstractBaseJavaLocalInspectionTool;
+import com.intellij.codeInspection.LocalInspectionToolSession;
 import com.intellij.codeInspection.LocalQuickFix;
 import com.intellij.codeInspection.ProblemDescriptor;
-import com.intellij.codeInspection.ProblemsHolder;
+import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.*;
 import com.intellij.psi.util.PsiTreeUtil;
 import org.jetbrains.annotations.Nls;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.function.Supplier;
+
 /**
  * 【强制】不允许任何魔法值（即未经预先定义的常量）直接出现在代码中
  *
  * @author liuzhihang
  * @version MagicValueInspection.java, v 0.1 2024/5/4 liuzhihang
  */
-public class MagicValueInspection extends AbstractBaseJavaLocalInspectionTool {
+public class MagicValueInspection extends AbstractP3cInspection {
 
     /**
      * 提示信息
      */
-    private static final String MESSAGE = CodeInspectionsBundle.message("ali.p3c.constant.magic.value.message");
+    private static final Supplier<String> MESSAGE = CodeInspectionsBundle.messagePointer("ali.p3c.constant.magic.value.message");
 
     /**
      * 快速修复
      */
-    private static final String QUICK_FIX = CodeInspectionsBundle.message("ali.p3c.constant.magic.value.fix");
+    private static final Supplier<String> QUICK_FIX = CodeInspectionsBundle.messagePointer("ali.p3c.constant.magic.value.fix");
+
+    /**
+     * 替换为静态常量的快速修复，无状态，所有问题共用一个实例。
+     */
+    private static final LocalQuickFix REPLACE_WITH_STATIC_CONSTANT_FIX = new ReplaceWithStaticConstantQuickFix();
 
     /**
      * 构建并返回一个PsiElementVisitor，用于访问Java元素并检测字面量表达式是否可替换为静态常量。
      *
      * @param holder     用于报告问题的ProblemsHolder对象。
      * @param isOnTheFly 表示是否在飞行模式下执行检查。
+     * @param session    本地检查会话。
      * @return 返回一个Java元素访问者，它将访问字面量表达式并检查是否应该被替换为静态常量。
      */
     @Override
     @NotNull
-    public PsiElementVisitor buildVisitor(@NotNull ProblemsHolder holder, boolean isOnTheFly) {
+    protected PsiElementVisitor buildP3cVisitor(@NotNull P3cProblemsHolder holder, boolean isOnTheFly, @NotNull LocalInspectionToolSession session) {
         return new JavaElementVisitor() {
             /**
              * 访问字面量表达式，检查是否符合条件被替换为静态常量。
@@ -60,7 +70,7 @@ public class MagicValueInspection extends AbstractBaseJavaLocalInspectionTool {
                     // 检查字面量是否直接赋值给局部变量
                     if (parent instanceof PsiVariable variable) {
                         if (variable instanceof PsiLocalVariable) {
-                            holder.registerProblem(expression, MESSAGE, new ReplaceWithStaticConstantQuickFix(expression));
+                            holder.registerProblem(expression, MESSAGE.get(), REPLACE_WITH_STATIC_CONSTANT_FIX);
                         }
                     } else {
                         // 若不是直接赋值给局部变量，尝试在方法或lambda表达式内查找合适的静态常量定义位置
@@ -71,10 +81,10 @@ public class MagicValueInspection extends AbstractBaseJavaLocalInspectionTool {
                                 // 在方法或lambda表达式内，但排除在方法参数列表中的赋值情况
                                 if (methodOrLambda instanceof PsiMethod method) {
                                     if (!PsiTreeUtil.isAncestor(method.getParameterList(), expression, true)) {
-                                        holder.registerProblem(expression, MESSAGE, new ReplaceWithStaticConstantQuickFix(expression));
+                                        holder.registerProblem(expression, MESSAGE.get(), REPLACE_WITH_STATIC_CONSTANT_FIX);
                                     }
                                 } else if (methodOrLambda instanceof PsiLambdaExpression) {
-                                    holder.registerProblem(expression, MESSAGE, new ReplaceWithStaticConstantQuickFix(expression));
+                                    holder.registerProblem(expression, MESSAGE.get(), REPLACE_WITH_STATIC_CONSTANT_FIX);
                                 }
                             }
                         }
@@ -93,6 +103,7 @@ public class MagicValueInspection extends AbstractBaseJavaLocalInspectionTool {
     private boolean isInComparisonExpression(PsiLiteralExpression expression) {
         PsiElement current = expression.getParent();
         while (current != null) {
+            ProgressManager.checkCanceled();
             if (current instanceof PsiBinaryExpression || current instanceof PsiConditionalExpression) {
                 return true;
             }
@@ -103,13 +114,10 @@ public class MagicValueInspection extends AbstractBaseJavaLocalInspectionTool {
 
     /**
      * 提供一个快速修复，将字面量替换为静态常量。
+     * <p>
+     * 字面量从问题描述符中获取，不持有 PSI 引用。
      */
     private static class ReplaceWithStaticConstantQuickFix implements LocalQuickFix {
-        private final PsiLiteralExpression literalExpression;
-
-        ReplaceWithStaticConstantQuickFix(PsiLiteralExpression literalExpression) {
-            this.literalExpression = literalExpression;
-        }
 
         /**
          * 返回快速修复的家族名称。
@@ -120,7 +128,7 @@ public class MagicValueInspection extends AbstractBaseJavaLocalInspectionTool {
         @NotNull
         @Override
         public String getFamilyName() {
-            return QUICK_FIX;
+            return QUICK_FIX.get();
         }
 
         /**
@@ -131,7 +139,9 @@ public class MagicValueInspection extends AbstractBaseJavaLocalInspectionTool {
          */
         @Override
         public void applyFix(@NotNull Project project, @NotNull ProblemDescriptor descriptor) {
-            PsiLiteralExpression expr = (PsiLiteralExpression) descriptor.getPsiElement();
+            if (!(descriptor.getPsiElement() instanceof PsiLiteralExpression expr) || expr.getType() == null) {
+                return;
+            }
             String fieldType = expr.getType().getCanonicalText();
             PsiClass containingClass = PsiTreeUtil.getParentOfType(expr, PsiClass.class, true);
             if (containingClass != null) {
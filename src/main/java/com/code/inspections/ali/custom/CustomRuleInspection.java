@@ -0,0 +1,128 @@
+package com.code.inspections.ali.custom;
+
+import com.code.inspections.ali.name.IdentifierTokenCache;
+import com.code.inspections.base.AbstractP3cInspection;
+import com.code.inspections.base.P3cProblemsHolder;
+import com.code.inspections.rules.CompiledRule;
+import com.code.inspections.rules.P3cRuleSet;
+import com.code.inspections.rules.RuleTarget;
+import com.intellij.codeInspection.LocalInspectionToolSession;
+import com.intellij.codeInspection.ProblemHighlightType;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.*;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 执行项目根目录 {@code .p3c-rules.yaml} 中声明的自定义命名规则。
+ * <p>
+ * 规则在加载时已编译，构建访问者时按文件的包名筛选一次，访问元素时只调用编译后的判断。
+ *
+ * @author liuzhihang
+ * @version CustomRuleInspection.java, v 0.1 2026/10/18 liuzhihang
+ */
+public class CustomRuleInspection extends AbstractP3cInspection {
+
+    /**
+     * 预热时读取并编译规则文件
+     *
+     * @param project 项目
+     */
+    @Override
+    public void warmUp(@NotNull Project project) {
+        P3cRuleSet.getInstance(project).getRules();
+    }
+
+    /**
+     * 构建检查访问者
+     *
+     * @param holder     问题持有者
+     * @param isOnTheFly 是否为实时检查
+     * @param session    本地检查会话
+     * @return 检查访问者
+     */
+    @NotNull
+    @Override
+    protected PsiElementVisitor buildP3cVisitor(@NotNull P3cProblemsHolder holder, boolean isOnTheFly, @NotNull LocalInspectionToolSession session) {
+        List<CompiledRule> rules = P3cRuleSet.getInstance(holder.getProject()).getRules();
+        if (rules.isEmpty() || !(holder.getFile() instanceof PsiJavaFile javaFile)) {
+            return PsiElementVisitor.EMPTY_VISITOR;
+        }
+        // 按包名筛选一次，再按检查目标分组
+        String packageName = javaFile.getPackageName();
+        Map<RuleTarget, List<CompiledRule>> rulesByTarget = new EnumMap<>(RuleTarget.class);
+        for (CompiledRule rule : rules) {
+            if (rule.appliesToPackage(packageName)) {
+                rulesByTarget.computeIfAbsent(rule.target(), target -> new ArrayList<>()).add(rule);
+            }
+        }
+        if (rulesByTarget.isEmpty()) {
+            return PsiElementVisitor.EMPTY_VISITOR;
+        }
+        return new JavaElementVisitor() {
+            @Override
+            public void visitClass(@NotNull PsiClass aClass) {
+                check(RuleTarget.CLASS, aClass.getName(), aClass.getNameIdentifier());
+            }
+
+            @Override
+            public void visitMethod(@NotNull PsiMethod method) {
+                if (!method.isConstructor()) {
+                    check(RuleTarget.METHOD, method.getName(), method.getNameIdentifier());
+                }
+            }
+
+            @Override
+            public void visitField(@NotNull PsiField field) {
+                check(RuleTarget.FIELD, field.getName(), field.getNameIdentifier());
+            }
+
+            @Override
+            public void visitParameter(@NotNull PsiParameter parameter) {
+                check(RuleTarget.PARAMETER, parameter.getName(), parameter.getNameIdentifier());
+            }
+
+            @Override
+            public void visitLocalVariable(@NotNull PsiLocalVariable variable) {
+                check(RuleTarget.VARIABLE, variable.getName(), variable.getNameIdentifier());
+            }
+
+            /**
+             * 对名称执行指定目标的规则
+             *
+             * @param target     检查目标
+             * @param name       名称
+             * @param identifier 名称标识符
+             */
+            private void check(RuleTarget target, String name, PsiIdentifier identifier) {
+                List<CompiledRule> targetRules = rulesByTarget.get(target);
+                if (targetRules == null || name == null || identifier == null) {
+                    return;
+                }
+                for (CompiledRule rule : targetRules) {
+                    if (rule.isViolatedBy(IdentifierTokenCache.get(session, name))) {
+                        holder.registerProblem(identifier, rule.message(), highlightType(rule.severity()));
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * 规则严重级别对应的高亮类型
+     *
+     * @param severity 严重级别
+     * @return 高亮类型
+     */
+    private static ProblemHighlightType highlightType(String severity) {
+        return switch (severity) {
+            case "ERROR" -> ProblemHighlightType.ERROR;
+            case "WEAK_WARNING" -> ProblemHighlightType.WEAK_WARNING;
+            default -> ProblemHighlightType.WARNING;
+        };
+    }
+}
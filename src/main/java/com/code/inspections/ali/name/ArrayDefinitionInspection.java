@@ -1,32 +1,44 @@
 package com.code.inspections.ali.name;
 
+import com.code.inspections.base.AbstractP3cInspection;
+import com.code.inspections.base.P3cProblemsHolder;
 import com.code.inspections.bundle.CodeInspectionsBundle;
-import com.intellij.codeInspection.AbstractBaseJavaLocalInspectionTool;
+import com.intellij.codeInspection.LocalInspectionToolSession;
 import com.intellij.codeInspection.LocalQuickFix;
 import com.intellij.codeInspection.ProblemDescriptor;
 import com.intellij.codeInspection.ProblemsHolder;
+import com.intellij.openapi.project.DumbAware;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.*;
 import org.jetbrains.annotations.Nls;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.function.Supplier;
+
 /**
  * 【强制】类型与中括号紧挨相连来定义数组。
+ * <p>
+ * 只检查变量名后是否有中括号，检查和修复都不需要解析类型，索引未就绪时也可以运行。
  *
  * @author liuzhihang
  * @version ArrayDefinitionInspection.java, v 0.1 2024/5/1 liuzhihang
  */
-public class ArrayDefinitionInspection extends AbstractBaseJavaLocalInspectionTool {
+public class ArrayDefinitionInspection extends AbstractP3cInspection implements DumbAware {
 
     /**
      * 错误提示
      */
-    private static final String MESSAGE = CodeInspectionsBundle.message("ali.p3c.name.array.definition.message");
+    private static final Supplier<String> MESSAGE = CodeInspectionsBundle.messagePointer("ali.p3c.name.array.definition.message");
 
     /**
      * 快速修复
      */
-    private static final String QUICK_FIX = CodeInspectionsBundle.message("ali.p3c.name.array.definition.fix");
+    private static final Supplier<String> QUICK_FIX = CodeInspectionsBundle.messagePointer("ali.p3c.name.array.definition.fix");
+
+    /**
+     * 快速修复，无状态，所有问题共用一个实例
+     */
+    private static final LocalQuickFix FIX_ARRAY_DEFINITION_FIX = new FixArrayDefinitionFix();
 
 
     /**
@@ -34,25 +46,27 @@ public class ArrayDefinitionInspection extends AbstractBaseJavaLocalInspectionTo
      *
      * @param holder     ProblemsHolder
      * @param isOnTheFly 是否是 on the fly
+     * @param session    本地检查会话
      * @return PsiElementVisitor
      */
     @NotNull
     @Override
-    public PsiElementVisitor buildVisitor(@NotNull ProblemsHolder holder, boolean isOnTheFly) {
+    protected PsiElementVisitor buildP3cVisitor(@NotNull P3cProblemsHolder holder, boolean isOnTheFly, @NotNull LocalInspectionToolSession session) {
         return new JavaElementVisitor() {
 
 
             @Override
             public void visitVariable(@NotNull PsiVariable variable) {
                 super.visitVariable(variable);
-                PsiType type = variable.getType();
-                if (type instanceof PsiArrayType && variable.getNameIdentifier() != null) {
-                    @NotNull PsiElement[] children = variable.getChildren();
-                    for (PsiElement child : children) {
-                        if (child instanceof PsiJavaToken && ((PsiJavaToken) child).getTokenType() == JavaTokenType.LBRACKET) {
-                            holder.registerProblem(variable.getNameIdentifier(), MESSAGE, new FixArrayDefinitionFix());
-                            break;
-                        }
+                // C 风格的数组声明中，中括号是变量的直接子节点，Java 风格的中括号在类型元素中
+                PsiIdentifier nameIdentifier = variable.getNameIdentifier();
+                if (nameIdentifier == null) {
+                    return;
+                }
+                for (PsiElement child = nameIdentifier.getNextSibling(); child != null; child = child.getNextSibling()) {
+                    if (child instanceof PsiJavaToken token && token.getTokenType() == JavaTokenType.LBRACKET) {
+                        holder.registerProblem(nameIdentifier, MESSAGE.get(), FIX_ARRAY_DEFINITION_FIX);
+                        break;
                     }
                 }
             }
@@ -64,7 +78,7 @@ public class ArrayDefinitionInspection extends AbstractBaseJavaLocalInspectionTo
     /**
      * 快速修复
      */
-    private static class FixArrayDefinitionFix implements LocalQuickFix {
+    private static class FixArrayDefinitionFix implements LocalQuickFix, DumbAware {
 
         /**
          * 快速修复名称
@@ -75,7 +89,7 @@ public class ArrayDefinitionInspection extends AbstractBaseJavaLocalInspectionTo
         @NotNull
         @Override
         public String getFamilyName() {
-            return QUICK_FIX;
+            return QUICK_FIX.get();
         }
 
         /**
@@ -87,45 +101,10 @@ public class ArrayDefinitionInspection extends AbstractBaseJavaLocalInspectionTo
         @Override
         public void applyFix(@NotNull Project project, @NotNull ProblemDescriptor descriptor) {
             PsiElement element = descriptor.getPsiElement().getParent();
-            if (element instanceof PsiVariable) {
-                PsiVariable variable = (PsiVariable) element;
-                PsiType type = variable.getType();
-                PsiElementFactory factory = JavaPsiFacade.getElementFactory(project);
-
-                // 提取所有的唯独并构造修复后的类型字符串
-                StringBuilder typeString = new StringBuilder();
-                while (type instanceof PsiArrayType) {
-                    typeString.append("[]");
-                    type = ((PsiArrayType) type).getComponentType();
-                }
-                typeString.insert(0, type.getCanonicalText());
-
-                // 保留修饰符
-                StringBuilder variableBuilder = new StringBuilder();
-                for (PsiElement modifierOrAnnotation : variable.getModifierList().getChildren()) {
-                    if (modifierOrAnnotation instanceof PsiAnnotation || modifierOrAnnotation instanceof PsiModifier || modifierOrAnnotation instanceof PsiKeyword) {
-                        variableBuilder.append(modifierOrAnnotation.getText()).append(" ");
-                    }
-                }
-
-                // 生成新的声明代码
-                variableBuilder.append(typeString).append(" ").append(variable.getName());
-                if (variable.getInitializer() != null) {
-                    variableBuilder.append(" = ").append(variable.getInitializer().getText());
-                }
-                variableBuilder.append(";");
-                PsiElement newElement;
-                if (variable instanceof PsiField) {
-                    newElement = factory.createFieldFromText(variableBuilder.toString(), null);
-                } else {
-                    newElement = factory.createStatementFromText(variableBuilder.toString(), null);
-
-                }
-                variable.replace(newElement);
-
+            if (element instanceof PsiVariable variable) {
+                // 把 int a[] 改为 int[] a，同一语句中声明的多个变量同时拆开；只修改语法树，不解析类型，保留注解和注释
+                variable.normalizeDeclaration();
             }
-
         }
-
     }
 }
@@ -1,42 +1,51 @@
 package com.code.inspections.ali.name;
 
+import com.code.inspections.base.AbstractP3cInspection;
+import com.code.inspections.base.P3cProblemsHolder;
 import com.code.inspections.bundle.CodeInspectionsBundle;
-import com.intellij.codeInspection.AbstractBaseJavaLocalInspectionTool;
+import com.intellij.codeInspection.LocalInspectionToolSession;
 import com.intellij.codeInspection.LocalQuickFix;
 import com.intellij.codeInspection.ProblemDescriptor;
-import com.intellij.codeInspection.ProblemsHolder;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.*;
 import org.jetbrains.annotations.Nls;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.function.Supplier;
+
 /**
  * POJO 类中的任何布尔类型的变量，都不要加 is 前缀，否则部分框架解析会引起序列化错误。
  *
  * @author liuzhihang
  * @version BooleanVariableNamingInspection.java, v 0.1 2024/5/3 liuzhihang
  */
-public class BooleanVariableNamingInspection extends AbstractBaseJavaLocalInspectionTool {
+public class BooleanVariableNamingInspection extends AbstractP3cInspection {
 
     /**
      * 错误提示
      */
-    private static final String MESSAGE = CodeInspectionsBundle.message("ali.p3c.name.boolean.variable.message");
+    private static final Supplier<String> MESSAGE = CodeInspectionsBundle.messagePointer("ali.p3c.name.boolean.variable.message");
     /**
      * 快速修复
      */
-    private static final String QUICK_FIX = CodeInspectionsBundle.message("ali.p3c.name.boolean.variable.fix");
+    private static final Supplier<String> QUICK_FIX = CodeInspectionsBundle.messagePointer("ali.p3c.name.boolean.variable.fix");
+
+    /**
+     * 快速修复，无状态，所有问题共用一个实例
+     */
+    private static final LocalQuickFix REMOVE_IS_PREFIX_FIX = new RemoveIsPrefixQuickFix();
 
     /**
      * 创建一个访客对象，用于遍历Java文件中的元素并执行检查。
      *
      * @param holder     用于存储问题描述的对象。
      * @param isOnTheFly 表示检查是否在飞行模式下进行。
+     * @param session    本地检查会话。
      * @return 返回一个PsiElementVisitor对象，该对象会访问代码中的字段并执行命名检查。
      */
     @Override
     @NotNull
-    public PsiElementVisitor buildVisitor(@NotNull ProblemsHolder holder, boolean isOnTheFly) {
+    protected PsiElementVisitor buildP3cVisitor(@NotNull P3cProblemsHolder holder, boolean isOnTheFly, @NotNull LocalInspectionToolSession session) {
         return new JavaElementVisitor() {
             /**
              * 访问字段，并检查是否为布尔类型、非静态且非常量，
@@ -55,7 +64,7 @@ public class BooleanVariableNamingInspection extends AbstractBaseJavaLocalInspec
                     String fieldName = field.getName();
                     // 检查字段名是否以"is"开头，并且长度大于2，且第三个字符是大写字母
                     if (fieldName.startsWith("is") && fieldName.length() > 2 && Character.isUpperCase(fieldName.charAt(2))) {
-                        holder.registerProblem(field, MESSAGE, new RemoveIsPrefixQuickFix());
+                        holder.registerProblem(field, MESSAGE.get(), REMOVE_IS_PREFIX_FIX);
                     }
                 }
             }
@@ -75,7 +84,7 @@ public class BooleanVariableNamingInspection extends AbstractBaseJavaLocalInspec
         @NotNull
         @Override
         public String getFamilyName() {
-            return QUICK_FIX;
+            return QUICK_FIX.get();
         }
 
         /**
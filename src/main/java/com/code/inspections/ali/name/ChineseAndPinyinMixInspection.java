@@ -1,15 +1,16 @@
 package com.code.inspections.ali.name;
 
+import com.code.inspections.base.AbstractP3cInspection;
+import com.code.inspections.base.P3cProblemsHolder;
 import com.code.inspections.bundle.CodeInspectionsBundle;
-import com.intellij.codeInspection.AbstractBaseJavaLocalInspectionTool;
+import com.intellij.codeInspection.LocalInspectionToolSession;
 import com.intellij.codeInspection.ProblemHighlightType;
-import com.intellij.codeInspection.ProblemsHolder;
 import com.intellij.psi.JavaElementVisitor;
 import com.intellij.psi.PsiElementVisitor;
 import com.intellij.psi.PsiIdentifier;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.regex.Pattern;
+import java.util.function.Supplier;
 
 /**
  * 【强制】所有编程相关的命名严禁使用拼音与英文混合的方式，更不允许直接使用中文的方式。
@@ -20,45 +21,39 @@ import java.util.regex.Pattern;
  * @author liuzhihang
  * @version ChineseAndPinyinMixInspection.java, v 0.1 2024/4/30 22:25 zijun
  */
-public class ChineseAndPinyinMixInspection extends AbstractBaseJavaLocalInspectionTool {
+public class ChineseAndPinyinMixInspection extends AbstractP3cInspection {
 
     /**
      * 错误提示
      */
-    private static final String MESSAGE = CodeInspectionsBundle.message("ali.p3c.name.chinese.pinyin.mix.message");
-    /**
-     * 匹配拼音与英文混合
-     */
-    private static final Pattern PINYIN_ENGLISH_PATTERN = Pattern.compile("[a-zA-Z]+[\\u4e00-\\u9fa5]|[\\u4e00-\\u9fa5]+[a-zA-Z]");
-    /**
-     * 匹配中文字符
-     */
-    private static final Pattern CHINESE_CHAR_PATTERN = Pattern.compile("[\\u4e00-\\u9fa5]");
+    private static final Supplier<String> MESSAGE = CodeInspectionsBundle.messagePointer("ali.p3c.name.chinese.pinyin.mix.message");
 
     /**
      * 构建检查器
      *
      * @param holder     ProblemsHolder
      * @param isOnTheFly 是否是 on the fly
+     * @param session    本地检查会话
      * @return PsiElementVisitor
      */
     @NotNull
     @Override
-    public PsiElementVisitor buildVisitor(@NotNull ProblemsHolder holder, boolean isOnTheFly) {
+    protected PsiElementVisitor buildP3cVisitor(@NotNull P3cProblemsHolder holder, boolean isOnTheFly, @NotNull LocalInspectionToolSession session) {
         return new JavaElementVisitor() {
             @Override
             public void visitIdentifier(@NotNull PsiIdentifier identifier) {
                 super.visitIdentifier(identifier);
-                String name = identifier.getText();
+                // 读取会话中缓存的分词结果
+                IdentifierTokens tokens = IdentifierTokenCache.get(session, identifier.getText());
 
                 // 检查拼音与英文混合
-                if (PINYIN_ENGLISH_PATTERN.matcher(name).find()) {
-                    holder.registerProblem(identifier, MESSAGE, ProblemHighlightType.WARNING);
+                if (tokens.has(IdentifierTokens.MIXED_CHINESE_LATIN)) {
+                    holder.registerProblem(identifier, MESSAGE.get(), ProblemHighlightType.WARNING);
                 }
 
                 // 检查是否包含中文字符
-                if (CHINESE_CHAR_PATTERN.matcher(name).find()) {
-                    holder.registerProblem(identifier, MESSAGE, ProblemHighlightType.WARNING);
+                if (tokens.has(IdentifierTokens.CHINESE)) {
+                    holder.registerProblem(identifier, MESSAGE.get(), ProblemHighlightType.WARNING);
                 }
             }
         };
@@ -1,10 +1,12 @@
 package com.code.inspections.ali.name;
 
+import com.code.inspections.base.AbstractP3cInspection;
+import com.code.inspections.base.P3cProblemsHolder;
 import com.code.inspections.bundle.CodeInspectionsBundle;
-import com.intellij.codeInspection.AbstractBaseJavaLocalInspectionTool;
+import com.code.inspections.settings.SuffixTrie;
+import com.intellij.codeInspection.LocalInspectionToolSession;
 import com.intellij.codeInspection.LocalQuickFixOnPsiElement;
 import com.intellij.codeInspection.ProblemHighlightType;
-import com.intellij.codeInspection.ProblemsHolder;
 import com.intellij.codeInspection.util.IntentionName;
 import com.intellij.openapi.command.WriteCommandAction;
 import com.intellij.openapi.project.Project;
@@ -15,9 +17,7 @@ import org.jetbrains.annotations.Nullable;
 
 import javax.swing.*;
 import java.awt.*;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
 
 
 /**
@@ -26,39 +26,31 @@ import java.util.stream.Collectors;
  * @author liuzhihang
  * @version ClassNameUpperCaseInspection.java, v 0.1 2024/5/1 liuzhihang
  */
-public class ClassNameUpperCaseInspection extends AbstractBaseJavaLocalInspectionTool {
+public class ClassNameUpperCaseInspection extends AbstractP3cInspection {
 
-    /**
-     * 自定义后缀
-     */
-    private List<String> customSuffixes = new ArrayList<>() {{
-        add("DO");
-        add("PO");
-        add("DTO");
-        add("BO");
-        add("VO");
-        add("UID");
-    }};
     /**
      * 错误提示信息
      */
-    private static final String MESSAGE = CodeInspectionsBundle.message("ali.p3c.name.class.name.upper.case.message");
+    private static final Supplier<String> MESSAGE = CodeInspectionsBundle.messagePointer("ali.p3c.name.class.name.upper.case.message");
 
     /**
      * 错误修复提示信息
      */
-    private static final String QUICK_FIX = CodeInspectionsBundle.message("ali.p3c.name.class.name.upper.case.fix");
+    private static final Supplier<String> QUICK_FIX = CodeInspectionsBundle.messagePointer("ali.p3c.name.class.name.upper.case.fix");
 
     /**
      * 创建检查访问者
      *
      * @param holder     问题持有者
      * @param isOnTheFly 是否为实时检查
+     * @param session    本地检查会话
      * @return 返回问题检查访问者
      */
     @NotNull
     @Override
-    public PsiElementVisitor buildVisitor(@NotNull ProblemsHolder holder, boolean isOnTheFly) {
+    protected PsiElementVisitor buildP3cVisitor(@NotNull P3cProblemsHolder holder, boolean isOnTheFly, @NotNull LocalInspectionToolSession session) {
+        // 例外后缀从文件所在目录的配置中读取，已编译为后缀字典树
+        SuffixTrie customSuffixes = holder.getConfig().classNameSuffixes();
         return new JavaElementVisitor() {
             /**
              * 访问类
@@ -68,28 +60,17 @@ public class ClassNameUpperCaseInspection extends AbstractBaseJavaLocalInspectio
             @Override
             public void visitClass(@NotNull PsiClass psiClass) {
                 String className = psiClass.getName();
-                // 检查是否为例外类名，如DO_、PO_等开头的类名不需要遵循UpperCamelCase规范
-                if (!isExceptionClassName(className)) {
-                    // 使用正则表达式检查类名是否以大写字母开头，且仅包含字母和数字
-                    if (!className.matches("^[A-Z][a-zA-Z0-9]*$")) {
-                        holder.registerProblem(psiClass.getNameIdentifier(), MESSAGE, ProblemHighlightType.GENERIC_ERROR_OR_WARNING, new RenameToUpperCaseFix(psiClass));
-                    }
+                if (className == null) {
+                    return;
                 }
-            }
-
-            /**
-             * 判断类名是否为例外类名（不需要遵循UpperCamelCase规范）
-             *
-             * @param className  类名
-             * @return 如果是异常类名，返回true；否则返回false
-             */
-            private boolean isExceptionClassName(String className) {
-                for (String customSuffix : customSuffixes) {
-                    if (className.endsWith(customSuffix.trim())) {
-                        return true;
+                int verdict = IdentifierTokenCache.get(session, className).getVerdict();
+                // 检查是否为例外类名，如DO_、PO_等开头的类名不需要遵循UpperCamelCase规范
+                if (!customSuffixes.matchesSuffixOf(className)) {
+                    // 检查类名是否以大写字母开头，且仅包含字母和数字
+                    if (!IdentifierClassifier.is(verdict, IdentifierClassifier.UPPER_CAMEL)) {
+                        holder.registerProblem(psiClass.getNameIdentifier(), MESSAGE.get(), ProblemHighlightType.GENERIC_ERROR_OR_WARNING, new RenameToUpperCaseFix(psiClass));
                     }
                 }
-                return false;
             }
         };
     }
@@ -103,12 +84,11 @@ public class ClassNameUpperCaseInspection extends AbstractBaseJavaLocalInspectio
     public JComponent createOptionsPanel() {
         JPanel panel = new JPanel(new FlowLayout(FlowLayout.LEFT)); // 使用FlowLayout以左对齐方式布局
 
-        JLabel label = new JLabel("例外后缀：");
-        panel.add(label);
+        // 例外后缀是共用的应用级设置，在设置页中修改
+        addSettingsLink(panel, "在 Ali-P3C 设置中修改类名例外后缀");
 
-        JTextField inputField = new JTextField(customSuffixes.stream().collect(Collectors.joining(",")), 20);
-        inputField.setToolTipText("Enter comma-separated class name suffixes.");
-        panel.add(inputField);
+        // 添加单文件问题数上限
+        addProblemLimitField(panel);
 
         return panel;
     }
@@ -116,14 +96,11 @@ public class ClassNameUpperCaseInspection extends AbstractBaseJavaLocalInspectio
 
     /**
      * 提供一个快速修正，将类名改为UpperCamelCase
+     * <p>
+     * 父类 {@link LocalQuickFixOnPsiElement} 通过智能指针保存类名标识符，修正时再从标识符找到类，不持有 PSI 引用。
      */
     private static class RenameToUpperCaseFix extends LocalQuickFixOnPsiElement {
 
-        /**
-         * 需要修正的类
-         */
-        private final PsiClass psiClass;
-
         /**
          * 构造函数
          *
@@ -131,7 +108,6 @@ public class ClassNameUpperCaseInspection extends AbstractBaseJavaLocalInspectio
          */
         public RenameToUpperCaseFix(PsiClass psiClass) {
             super(psiClass.getNameIdentifier());
-            this.psiClass = psiClass;
         }
 
         /**
@@ -153,7 +129,7 @@ public class ClassNameUpperCaseInspection extends AbstractBaseJavaLocalInspectio
         @NotNull
         @Override
         public String getFamilyName() {
-            return QUICK_FIX;
+            return QUICK_FIX.get();
         }
 
         /**
@@ -166,6 +142,9 @@ public class ClassNameUpperCaseInspection extends AbstractBaseJavaLocalInspectio
          */
         @Override
         public void invoke(@NotNull Project project, @NotNull PsiFile file, @NotNull PsiElement startElement, @NotNull PsiElement endElement) {
+            if (!(startElement.getParent() instanceof PsiClass psiClass)) {
+                return;
+            }
             // 生成新的类名
             String newName = toUpperCamelCase(psiClass.getName());
             try {
@@ -1,10 +1,11 @@
 package com.code.inspections.ali.name;
 
+import com.code.inspections.base.AbstractP3cInspection;
+import com.code.inspections.base.P3cProblemsHolder;
 import com.code.inspections.bundle.CodeInspectionsBundle;
-import com.intellij.codeInspection.AbstractBaseJavaLocalInspectionTool;
+import com.intellij.codeInspection.LocalInspectionToolSession;
 import com.intellij.codeInspection.LocalQuickFix;
 import com.intellij.codeInspection.ProblemDescriptor;
-import com.intellij.codeInspection.ProblemsHolder;
 import com.intellij.openapi.command.WriteCommandAction;
 import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.module.Module;
@@ -18,6 +19,8 @@ import com.intellij.psi.*;
 import org.jetbrains.annotations.Nls;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.function.Supplier;
+
 /**
  * 【强制】抽象类命名使用 Abstract 或 Base 开头；异常类命名使用 Exception 结尾，测试类命名以它要
  * 测试的类的名称开始，以 Test 结尾。
@@ -25,7 +28,7 @@ import org.jetbrains.annotations.NotNull;
  * @author liuzhihang
  * @date 2021/10/13 20:06
  */
-public class ClassNamingInspection extends AbstractBaseJavaLocalInspectionTool {
+public class ClassNamingInspection extends AbstractP3cInspection {
 
     /**
      * LOG
@@ -35,18 +38,19 @@ public class ClassNamingInspection extends AbstractBaseJavaLocalInspectionTool {
     /**
      * 提示信息
      */
-    private static final String MESSAGE = CodeInspectionsBundle.message("ali.p3c.name.class.name.message");
+    private static final Supplier<String> MESSAGE = CodeInspectionsBundle.messagePointer("ali.p3c.name.class.name.message");
 
     /**
      * 创建用于检查Java元素的访问者。
      *
      * @param holder     用于报告问题的对象。
      * @param isOnTheFly 标记检查是否即时进行。
+     * @param session    本地检查会话。
      * @return 一个Java元素访问者。
      */
     @NotNull
     @Override
-    public PsiElementVisitor buildVisitor(@NotNull ProblemsHolder holder, boolean isOnTheFly) {
+    protected PsiElementVisitor buildP3cVisitor(@NotNull P3cProblemsHolder holder, boolean isOnTheFly, @NotNull LocalInspectionToolSession session) {
         return new JavaElementVisitor() {
             @Override
             public void visitClass(@NotNull PsiClass psiClass) {
@@ -61,19 +65,19 @@ public class ClassNamingInspection extends AbstractBaseJavaLocalInspectionTool {
                 boolean isAbstract = psiClass.hasModifierProperty(PsiModifier.ABSTRACT);
                 if (isAbstract && !className.startsWith("Abstract") && !className.startsWith("Base")) {
                     String newName = className.startsWith("Base") ? "Base" + className : "Abstract" + className;
-                    holder.registerProblem(psiClass, MESSAGE, new NamingConventionFix(newName));
+                    holder.registerProblem(psiClass, MESSAGE.get(), new NamingConventionFix(newName));
                 }
 
                 // 检查异常类是否以"Exception"结尾
                 if (isExceptionClass(psiClass) && !className.endsWith("Exception")) {
                     String newName = className + "Exception";
-                    holder.registerProblem(psiClass, MESSAGE, new NamingConventionFix(newName));
+                    holder.registerProblem(psiClass, MESSAGE.get(), new NamingConventionFix(newName));
                 }
 
                 // 检查位于测试源根目录下的类是否以"Test"结尾
                 if (isPsiClassInTestSourceRoot(psiClass) && !className.endsWith("Test")) {
                     String newName = className + "Test";
-                    holder.registerProblem(psiClass, MESSAGE, new NamingConventionFix(newName));
+                    holder.registerProblem(psiClass, MESSAGE.get(), new NamingConventionFix(newName));
                 }
 
             }
@@ -87,7 +91,7 @@ public class ClassNamingInspection extends AbstractBaseJavaLocalInspectionTool {
      * @param psiClass 要检查的类。
      * @return 类在测试源根目录下则返回true，否则返回false。
      */
-    private boolean isPsiClassInTestSourceRoot(PsiClass psiClass) {
+    static boolean isPsiClassInTestSourceRoot(PsiClass psiClass) {
         VirtualFile virtualFile = psiClass.getContainingFile().getVirtualFile();
         if (virtualFile == null) return false;
 
@@ -113,7 +117,7 @@ public class ClassNamingInspection extends AbstractBaseJavaLocalInspectionTool {
      * @param psiClass 要检查的类。
      * @return 如果类是异常类则返回true，否则返回false。
      */
-    private boolean isExceptionClass(PsiClass psiClass) {
+    static boolean isExceptionClass(PsiClass psiClass) {
         // Example: Check if the class extends java.lang.Exception or java.lang.RuntimeException
         PsiClassType[] supers = psiClass.getSuperTypes();
         for (PsiClassType superType : supers) {
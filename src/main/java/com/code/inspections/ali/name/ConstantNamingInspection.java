@@ -1,5 +1,7 @@
 package com.code.inspections.ali.name;
 
+import com.code.inspections.base.AbstractP3cInspection;
+import com.code.inspections.base.P3cProblemsHolder;
 import com.code.inspections.bundle.CodeInspectionsBundle;
 import com.intellij.codeInspection.*;
 import com.intellij.openapi.project.Project;
@@ -8,31 +10,34 @@ import com.intellij.psi.util.PsiTreeUtil;
 import org.jetbrains.annotations.Nls;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.function.Supplier;
+
 /**
  * 常量命名检查工具类，用于检查常量是否遵循大写字母和下划线的命名规范
  */
-public class ConstantNamingInspection extends AbstractBaseJavaLocalInspectionTool {
+public class ConstantNamingInspection extends AbstractP3cInspection {
 
     /**
      * 检查不合规常量的提示信息
      */
-    private static final String MESSAGE = CodeInspectionsBundle.message("ali.p3c.name.constant.name.upper.case.message");
+    private static final Supplier<String> MESSAGE = CodeInspectionsBundle.messagePointer("ali.p3c.name.constant.name.upper.case.message");
 
     /**
      * 提供快速修复方案的提示信息
      */
-    private static final String QUICK_FIX_MESSAGE = CodeInspectionsBundle.message("ali.p3c.name.constant.name.upper.case.fix");
+    private static final Supplier<String> QUICK_FIX_MESSAGE = CodeInspectionsBundle.messagePointer("ali.p3c.name.constant.name.upper.case.fix");
 
     /**
      * 构建检查访问者，针对字段进行检查
      *
      * @param holder 问题持有者
      * @param isOnTheFly 是否为实时检查
+     * @param session    本地检查会话
      * @return 返回字段检查访问者
      */
     @NotNull
     @Override
-    public PsiElementVisitor buildVisitor(@NotNull ProblemsHolder holder, boolean isOnTheFly) {
+    protected PsiElementVisitor buildP3cVisitor(@NotNull P3cProblemsHolder holder, boolean isOnTheFly, @NotNull LocalInspectionToolSession session) {
         return new JavaElementVisitor() {
             /**
              * 访问字段，检查是否为静态最终常量并遵循命名规范
@@ -43,7 +48,7 @@ public class ConstantNamingInspection extends AbstractBaseJavaLocalInspectionToo
             public void visitField(@NotNull PsiField field) {
                 // 检查字段是否为静态最终常量
                 if (field.hasModifierProperty(PsiModifier.FINAL) && field.hasModifierProperty(PsiModifier.STATIC)) {
-                    checkConstantNamingConvention(holder, field);
+                    checkConstantNamingConvention(holder, session, field);
                 }
             }
         };
@@ -53,14 +58,15 @@ public class ConstantNamingInspection extends AbstractBaseJavaLocalInspectionToo
      * 检查常量命名是否符合预期规范
      *
      * @param holder 问题持有者
+     * @param session 本地检查会话
      * @param field 需要检查的字段
      */
-    private void checkConstantNamingConvention(ProblemsHolder holder, PsiField field) {
-        // 获取字段名并检查是否符合"^[A-Z_]+$"的正则表达式，即全大写字母和下划线
+    private void checkConstantNamingConvention(ProblemsHolder holder, LocalInspectionToolSession session, PsiField field) {
+        // 获取字段名并检查是否为全大写字母、数字和下划线
         String fieldName = field.getName();
-        if (!fieldName.matches("^[A-Z_]+$")) {
+        if (!IdentifierClassifier.is(IdentifierTokenCache.get(session, fieldName).getVerdict(), IdentifierClassifier.UPPER_SNAKE)) {
             // 如果不符合，则注册问题，并提供快速修复方案
-            holder.registerProblem(field.getNameIdentifier(), MESSAGE, ProblemHighlightType.ERROR, new ConstantNamingQuickFix(fieldName));
+            holder.registerProblem(field.getNameIdentifier(), MESSAGE.get(), ProblemHighlightType.ERROR, new ConstantNamingQuickFix(fieldName));
         }
     }
 
@@ -88,7 +94,7 @@ public class ConstantNamingInspection extends AbstractBaseJavaLocalInspectionToo
         @NotNull
         @Override
         public String getFamilyName() {
-            return QUICK_FIX_MESSAGE;
+            return QUICK_FIX_MESSAGE.get();
         }
 
         /**
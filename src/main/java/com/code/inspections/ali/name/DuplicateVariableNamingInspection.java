@@ -1,42 +1,62 @@
 package com.code.inspections.ali.name;
 
+import com.code.inspections.base.AbstractP3cInspection;
+import com.code.inspections.base.P3cProblemsHolder;
 import com.code.inspections.bundle.CodeInspectionsBundle;
 import com.intellij.codeInspection.*;
+import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.psi.*;
 import org.jetbrains.annotations.Nls;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.List;
+import java.util.function.Supplier;
+
 
 /**
  * 检查Java代码中是否存在子父类成员变量或不同代码块局部变量之间完全相同的命名，
  * 以提升代码的可理解性。
+ * <p>
+ * 子类的字段与父类同名时提示错误，父类的字段上同时提示隐藏了它的子类，两个方向都通过 {@link P3cFieldShadowingGraph} 查询，不搜索继承者。
  *
  * @author liuzhihang
  * @version DuplicateVariableNamingInspection.java, v 0.1 2024/5/4 liuzhihang
  */
-public class DuplicateVariableNamingInspection extends AbstractBaseJavaLocalInspectionTool {
+public class DuplicateVariableNamingInspection extends AbstractP3cInspection {
 
     /**
      * 错误提示信息。
      */
-    private static final String MESSAGE = CodeInspectionsBundle.message("ali.p3c.name.duplicate.variable.naming.message");
+    private static final Supplier<String> MESSAGE = CodeInspectionsBundle.messagePointer("ali.p3c.name.duplicate.variable.naming.message");
 
     /**
      * 创建一个快速修复，用于解决命名冲突的问题。
      */
-    private static final String QUICK_FIX = CodeInspectionsBundle.message("ali.p3c.name.duplicate.variable.naming.fix");
+    private static final Supplier<String> QUICK_FIX = CodeInspectionsBundle.messagePointer("ali.p3c.name.duplicate.variable.naming.fix");
+
+    /**
+     * 提示中最多列出的子类数
+     */
+    private static final int MAX_LISTED_SUBCLASSES = 3;
+
+    /**
+     * 删除字段及其访问器的快速修复，无状态，所有问题共用一个实例。
+     */
+    private static final LocalQuickFix REMOVE_FIELD_AND_ACCESSORS_FIX = new RemoveFieldAndAccessorsFix();
 
     /**
      * 创建一个访问者来检查字段是否与超类中的字段同名。
      *
      * @param holder     用于存储问题的容器。
      * @param isOnTheFly 表示检查是否在飞行模式下进行。
+     * @param session    本地检查会话。
      * @return 返回一个Java元素遍历访问者。
      */
     @NotNull
     @Override
-    public PsiElementVisitor buildVisitor(@NotNull ProblemsHolder holder, boolean isOnTheFly) {
+    protected PsiElementVisitor buildP3cVisitor(@NotNull P3cProblemsHolder holder, boolean isOnTheFly, @NotNull LocalInspectionToolSession session) {
         return new JavaElementVisitor() {
             /**
              * 访问字段，检查该字段是否在超类中已定义。
@@ -48,14 +68,11 @@ public class DuplicateVariableNamingInspection extends AbstractBaseJavaLocalInsp
                 super.visitField(field);
                 PsiClass containingClass = field.getContainingClass();
                 if (containingClass != null) {
-                    PsiClass superClass = containingClass.getSuperClass();
-                    if (superClass != null) {
-                        PsiField superField = superClass.findFieldByName(field.getName(), true);
-                        if (superField != null) {
-                            // 如果找到同名字段，则注册一个问题，并提供一个快速修复方案。
-                            holder.registerProblem(field, MESSAGE, ProblemHighlightType.ERROR, new RemoveFieldAndAccessorsFix(field));
-                        }
+                    // 父类中有同名字段时注册一个问题，并提供一个快速修复方案；父类从项目的字段隐藏图中查询
+                    if (P3cFieldShadowingGraph.getInstance(field.getProject()).findShadowedClass(field) != null) {
+                        holder.registerProblem(field, MESSAGE.get(), ProblemHighlightType.ERROR, REMOVE_FIELD_AND_ACCESSORS_FIX);
                     }
+                    reportShadowingSubclasses(field, holder);
                 }
             }
 
@@ -74,6 +91,10 @@ public class DuplicateVariableNamingInspection extends AbstractBaseJavaLocalInsp
                 PsiClass superClass = psiClass.getSuperClass();
                 if (superClass != null) {
                     for (PsiField superField : superClass.getFields()) {
+                        ProgressManager.checkCanceled();
+                        if (holder.shouldStop()) {
+                            break;
+                        }
                         PsiField subclassField = psiClass.findFieldByName(superField.getName(), true);
                         if (subclassField != null) {
                             // 已经在visitField中处理了字段重复的情况，这里不再处理。
@@ -82,7 +103,7 @@ public class DuplicateVariableNamingInspection extends AbstractBaseJavaLocalInsp
                         PsiMethod getter = findGetter(superField, psiClass);
                         PsiMethod setter = findSetter(superField, psiClass);
                         if (getter != null || setter != null) {
-                            holder.registerProblem(psiClass, MESSAGE, ProblemHighlightType.ERROR, new RemoveRedundantAccessorsFix(superField, getter, setter));
+                            holder.registerProblem(psiClass, MESSAGE.get(), ProblemHighlightType.ERROR, new RemoveRedundantAccessorsFix(superField.getName()));
                         }
                     }
                 }
@@ -90,6 +111,33 @@ public class DuplicateVariableNamingInspection extends AbstractBaseJavaLocalInsp
         };
     }
 
+    @Override
+    public void warmUp(@NotNull Project project) {
+        P3cFieldShadowingGraph.getInstance(project).buildInBackground();
+    }
+
+    /**
+     * 在父类的字段上提示隐藏了它的子类，子类可能在其他文件中，从项目的字段隐藏图中查询。
+     *
+     * @param field  字段
+     * @param holder 问题持有者
+     */
+    private static void reportShadowingSubclasses(PsiField field, P3cProblemsHolder holder) {
+        List<String> subclasses = P3cFieldShadowingGraph.getInstance(field.getProject()).findShadowingClasses(field);
+        if (subclasses.isEmpty()) {
+            return;
+        }
+        StringBuilder names = new StringBuilder();
+        for (int i = 0; i < Math.min(MAX_LISTED_SUBCLASSES, subclasses.size()); i++) {
+            names.append(i == 0 ? "" : ", ").append(StringUtil.getShortName(subclasses.get(i)));
+        }
+        if (subclasses.size() > MAX_LISTED_SUBCLASSES) {
+            names.append(" ...");
+        }
+        holder.registerProblem(field.getNameIdentifier(), CodeInspectionsBundle.message("ali.p3c.name.duplicate.variable.shadowed.message",
+                subclasses.size(), names), ProblemHighlightType.WEAK_WARNING);
+    }
+
     /**
      * 查找给定字段的getter方法。
      *
@@ -126,18 +174,10 @@ public class DuplicateVariableNamingInspection extends AbstractBaseJavaLocalInsp
 
     /**
      * 提供一个快速修复方案，用于删除具有相同名称的字段及其访问器方法。
+     * <p>
+     * 字段从问题描述符中获取，不持有 PSI 引用。
      */
     private static class RemoveFieldAndAccessorsFix implements LocalQuickFix {
-        private final PsiField field;
-
-        /**
-         * 构造函数。
-         *
-         * @param field 需要被删除的字段。
-         */
-        RemoveFieldAndAccessorsFix(@NotNull PsiField field) {
-            this.field = field;
-        }
 
         /**
          * 获取快速修复的显示名称。
@@ -148,7 +188,7 @@ public class DuplicateVariableNamingInspection extends AbstractBaseJavaLocalInsp
         @NotNull
         @Override
         public String getFamilyName() {
-            return QUICK_FIX;
+            return QUICK_FIX.get();
         }
 
         /**
@@ -159,7 +199,9 @@ public class DuplicateVariableNamingInspection extends AbstractBaseJavaLocalInsp
          */
         @Override
         public void applyFix(@NotNull Project project, @NotNull ProblemDescriptor descriptor) {
-            PsiElementFactory factory = JavaPsiFacade.getInstance(project).getElementFactory();
+            if (!(descriptor.getPsiElement() instanceof PsiField field) || field.getContainingClass() == null) {
+                return;
+            }
             PsiMethod getter = findGetter(field, field.getContainingClass());
             PsiMethod setter = findSetter(field, field.getContainingClass());
 
@@ -176,23 +218,25 @@ public class DuplicateVariableNamingInspection extends AbstractBaseJavaLocalInsp
 
     /**
      * 提供一个快速修复方案，用于删除继承自父类的字段及其对应的getter和setter方法。
+     * <p>
+     * 只保存父类字段名称，应用时从问题描述符中的类重新查找，不持有 PSI 引用。
      */
     private static class RemoveRedundantAccessorsFix implements LocalQuickFix {
-        private final PsiField superField;
-        private final PsiMethod getter;
-        private final PsiMethod setter;
-
-        RemoveRedundantAccessorsFix(@NotNull PsiField superField, PsiMethod getter, PsiMethod setter) {
-            this.superField = superField;
-            this.getter = getter;
-            this.setter = setter;
+
+        /**
+         * 父类字段名称
+         */
+        private final String superFieldName;
+
+        RemoveRedundantAccessorsFix(@NotNull String superFieldName) {
+            this.superFieldName = superFieldName;
         }
 
         @Nls(capitalization = Nls.Capitalization.Sentence)
         @NotNull
         @Override
         public String getFamilyName() {
-            return QUICK_FIX;
+            return QUICK_FIX.get();
         }
 
         /**
@@ -203,6 +247,15 @@ public class DuplicateVariableNamingInspection extends AbstractBaseJavaLocalInsp
          */
         @Override
         public void applyFix(@NotNull Project project, @NotNull ProblemDescriptor descriptor) {
+            if (!(descriptor.getPsiElement() instanceof PsiClass psiClass) || psiClass.getSuperClass() == null) {
+                return;
+            }
+            PsiField superField = psiClass.getSuperClass().findFieldByName(superFieldName, true);
+            if (superField == null) {
+                return;
+            }
+            PsiMethod getter = findGetter(superField, psiClass);
+            PsiMethod setter = findSetter(superField, psiClass);
             if (getter != null) {
                 getter.delete();
             }
@@ -1,21 +1,26 @@
 package com.code.inspections.ali.name;
 
+import com.code.inspections.base.AbstractP3cInspection;
+import com.code.inspections.base.P3cProblemsHolder;
 import com.code.inspections.bundle.CodeInspectionsBundle;
 import com.intellij.codeInspection.*;
 import com.intellij.openapi.command.WriteCommandAction;
 import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.*;
 import org.jetbrains.annotations.Nls;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.function.Supplier;
+
 /**
  * 枚举类名带上 Enum 后缀，枚举成员名称需要全大写，单词间用下划线隔开。
  *
  * @author liuzhihang
  * @version EnumNamingInspection.java, v 0.1 2024/5/4 liuzhihang
  */
-public class EnumNamingInspection extends AbstractBaseJavaLocalInspectionTool {
+public class EnumNamingInspection extends AbstractP3cInspection {
 
     /**
      * 日志
@@ -25,12 +30,17 @@ public class EnumNamingInspection extends AbstractBaseJavaLocalInspectionTool {
     /**
      * 枚举类名带上 Enum 后缀，枚举成员名称需要全大写，单词间用下划线隔开。
      */
-    private static final String MESSAGE = CodeInspectionsBundle.message("ali.p3c.name.enum.naming.message");
+    private static final Supplier<String> MESSAGE = CodeInspectionsBundle.messagePointer("ali.p3c.name.enum.naming.message");
 
     /**
      * 修复
      */
-    private static final String QUICK_FIX = CodeInspectionsBundle.message("ali.p3c.name.enum.naming.fix");
+    private static final Supplier<String> QUICK_FIX = CodeInspectionsBundle.messagePointer("ali.p3c.name.enum.naming.fix");
+
+    /**
+     * 快速修复，无状态，所有问题共用一个实例
+     */
+    private static final LocalQuickFix APPEND_ENUM_SUFFIX_FIX = new AppendEnumSuffixFix();
 
 
     /**
@@ -38,10 +48,11 @@ public class EnumNamingInspection extends AbstractBaseJavaLocalInspectionTool {
      *
      * @param holder     用于存储检查问题的对象。
      * @param isOnTheFly 表示检查是否在飞行模式下进行，即实时编码时。
+     * @param session    本地检查会话。
      * @return 返回一个Java元素访问者对象，该对象会访问类元素并检查枚举命名。
      */
     @Override
-    public @NotNull PsiElementVisitor buildVisitor(@NotNull ProblemsHolder holder, boolean isOnTheFly) {
+    protected @NotNull PsiElementVisitor buildP3cVisitor(@NotNull P3cProblemsHolder holder, boolean isOnTheFly, @NotNull LocalInspectionToolSession session) {
         // 创建一个Java元素访问者，专门检查类元素是否为枚举，并对枚举及其常量进行命名规范检查
         return new JavaElementVisitor() {
             @Override
@@ -50,16 +61,20 @@ public class EnumNamingInspection extends AbstractBaseJavaLocalInspectionTool {
                 if (psiClass.isEnum()) {
                     // 检查枚举类名是否以"Enum"结尾
                     if (!psiClass.getName().endsWith("Enum")) {
-                        holder.registerProblem(psiClass, MESSAGE, ProblemHighlightType.ERROR, new AppendEnumSuffixFix());
+                        holder.registerProblem(psiClass, MESSAGE.get(), ProblemHighlightType.ERROR, APPEND_ENUM_SUFFIX_FIX);
                     }
                     // 遍历枚举中的所有字段，即枚举常量
                     for (PsiField field : psiClass.getFields()) {
+                        ProgressManager.checkCanceled();
+                        if (holder.shouldStop()) {
+                            break;
+                        }
                         // 仅处理枚举常量
                         if (field instanceof PsiEnumConstant) {
                             String fieldName = field.getName();
-                            // 检查枚举常量名是否符合大写字母和下划线的模式
-                            if (!fieldName.matches("^[A-Z_]+$")) {
-                                holder.registerProblem(field, MESSAGE, ProblemHighlightType.ERROR, new FixEnumConstantNameFix(fieldName));
+                            // 检查枚举常量名是否符合大写字母、数字和下划线的模式
+                            if (!IdentifierClassifier.is(IdentifierTokenCache.get(session, fieldName).getVerdict(), IdentifierClassifier.UPPER_SNAKE)) {
+                                holder.registerProblem(field, MESSAGE.get(), ProblemHighlightType.ERROR, new FixEnumConstantNameFix(fieldName));
                             }
                         }
                     }
@@ -81,7 +96,7 @@ public class EnumNamingInspection extends AbstractBaseJavaLocalInspectionTool {
         @NotNull
         @Override
         public String getFamilyName() {
-            return QUICK_FIX;
+            return QUICK_FIX.get();
         }
 
         /**
@@ -136,7 +151,7 @@ public class EnumNamingInspection extends AbstractBaseJavaLocalInspectionTool {
         @NotNull
         @Override
         public String getFamilyName() {
-            return QUICK_FIX;
+            return QUICK_FIX.get();
         }
 
         /**
@@ -0,0 +1,148 @@
+package com.code.inspections.ali.name;
+
+import com.code.inspections.settings.SuffixTrie;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * 命名规则共用的标识符分类器。
+ * <p>
+ * 按字符类别对名称扫描一次，把结果合并为一个 int 位标记，各命名规则根据标记判断，不再各自编译正则表达式，
+ * 分类过程不分配任何对象。
+ *
+ * @author liuzhihang
+ * @version IdentifierClassifier.java, v 0.1 2026/10/18 liuzhihang
+ */
+public final class IdentifierClassifier {
+
+    /**
+     * lowerCamelCase：小写字母开头，只包含字母和数字
+     */
+    public static final int LOWER_CAMEL = 1;
+
+    /**
+     * UpperCamelCase：大写字母开头，只包含字母和数字
+     */
+    public static final int UPPER_CAMEL = 1 << 1;
+
+    /**
+     * UPPER_SNAKE_CASE：只包含大写字母、数字和下划线，且不以数字开头
+     */
+    public static final int UPPER_SNAKE = 1 << 2;
+
+    /**
+     * 以下划线或美元符号开始
+     */
+    public static final int LEADING_SPECIAL = 1 << 3;
+
+    /**
+     * 以下划线或美元符号结束
+     */
+    public static final int TRAILING_SPECIAL = 1 << 4;
+
+    /**
+     * 以例外后缀结尾
+     */
+    public static final int EXCEPTION_SUFFIX = 1 << 5;
+
+    /**
+     * 字符类别
+     */
+    private static final byte OTHER = 0;
+    private static final byte LOWER = 1;
+    private static final byte UPPER = 2;
+    private static final byte DIGIT = 3;
+    private static final byte UNDERSCORE = 4;
+    private static final byte DOLLAR = 5;
+
+    /**
+     * ASCII 字符类别表，非 ASCII 字符均为 OTHER
+     */
+    private static final byte[] CHAR_CLASS = new byte[128];
+
+    static {
+        for (char c = 'a'; c <= 'z'; c++) {
+            CHAR_CLASS[c] = LOWER;
+        }
+        for (char c = 'A'; c <= 'Z'; c++) {
+            CHAR_CLASS[c] = UPPER;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            CHAR_CLASS[c] = DIGIT;
+        }
+        CHAR_CLASS['_'] = UNDERSCORE;
+        CHAR_CLASS['$'] = DOLLAR;
+    }
+
+    private IdentifierClassifier() {
+    }
+
+    /**
+     * 对名称分类
+     *
+     * @param name 名称
+     * @return 分类标记
+     */
+    public static int classify(@NotNull CharSequence name) {
+        return classify(name, null);
+    }
+
+    /**
+     * 对名称分类，并判断是否以例外后缀结尾
+     *
+     * @param name     名称
+     * @param suffixes 例外后缀，为 null 时不判断
+     * @return 分类标记
+     */
+    public static int classify(@NotNull CharSequence name, @Nullable SuffixTrie suffixes) {
+        int length = name.length();
+        if (length == 0) {
+            return 0;
+        }
+        // 出现过的字符类别，第 n 位表示类别 n
+        int seen = 0;
+        byte first = charClass(name.charAt(0));
+        byte last = first;
+        for (int i = 0; i < length; i++) {
+            last = charClass(name.charAt(i));
+            seen |= 1 << last;
+        }
+
+        int verdict = 0;
+        boolean alphanumeric = (seen & ~(1 << LOWER | 1 << UPPER | 1 << DIGIT)) == 0;
+        if (alphanumeric && first == LOWER) {
+            verdict |= LOWER_CAMEL;
+        }
+        if (alphanumeric && first == UPPER) {
+            verdict |= UPPER_CAMEL;
+        }
+        if ((seen & ~(1 << UPPER | 1 << DIGIT | 1 << UNDERSCORE)) == 0 && first != DIGIT) {
+            verdict |= UPPER_SNAKE;
+        }
+        if (first == UNDERSCORE || first == DOLLAR) {
+            verdict |= LEADING_SPECIAL;
+        }
+        if (last == UNDERSCORE || last == DOLLAR) {
+            verdict |= TRAILING_SPECIAL;
+        }
+        if (suffixes != null && suffixes.matchesSuffixOf(name)) {
+            verdict |= EXCEPTION_SUFFIX;
+        }
+        return verdict;
+    }
+
+    /**
+     * 分类标记中是否包含指定标记
+     *
+     * @param verdict 分类标记
+     * @param flag    指定标记
+     * @return 包含返回 true
+     */
+    public static boolean is(int verdict, int flag) {
+        return (verdict & flag) != 0;
+    }
+
+    private static byte charClass(char c) {
+        return c < CHAR_CLASS.length ? CHAR_CLASS[c] : OTHER;
+    }
+}
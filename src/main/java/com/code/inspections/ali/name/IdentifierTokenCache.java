@@ -0,0 +1,48 @@
+package com.code.inspections.ali.name;
+
+import com.intellij.codeInspection.LocalInspectionToolSession;
+import com.intellij.openapi.util.Key;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 一次检查会话内的标识符分词缓存。
+ * <p>
+ * 同一个文件的各命名规则共用平台创建的 {@link LocalInspectionToolSession}，分词结果保存在会话的用户数据中，
+ * 每个标识符在一次高亮过程中只分词一次，会话结束后随会话释放。规则可能并发执行，因此使用并发容器。
+ *
+ * @author liuzhihang
+ * @version IdentifierTokenCache.java, v 0.1 2026/10/18 liuzhihang
+ */
+public final class IdentifierTokenCache {
+
+    /**
+     * 会话中保存缓存的 Key
+     */
+    private static final Key<Map<String, IdentifierTokens>> CACHE_KEY = Key.create("ali.p3c.identifier.tokens");
+
+    private IdentifierTokenCache() {
+    }
+
+    /**
+     * 获取标识符的分词结果，不存在时分词并缓存
+     *
+     * @param session 本地检查会话
+     * @param name    标识符
+     * @return 分词结果
+     */
+    @NotNull
+    public static IdentifierTokens get(@NotNull LocalInspectionToolSession session, @NotNull String name) {
+        Map<String, IdentifierTokens> cache = session.getUserData(CACHE_KEY);
+        if (cache == null) {
+            cache = session.putUserDataIfAbsent(CACHE_KEY, new ConcurrentHashMap<>());
+        }
+        IdentifierTokens tokens = cache.get(name);
+        if (tokens == null) {
+            tokens = cache.computeIfAbsent(name, IdentifierTokens::tokenize);
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,287 @@
+package com.code.inspections.ali.name;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * 标识符的分词结果，按驼峰、下划线、美元符号以及中英文边界切分，并记录每个词的字符类别。
+ * <p>
+ * 分词结果不可变，由 {@link IdentifierTokenCache} 在一次检查会话中按名称缓存，供所有命名规则共用。
+ *
+ * @author liuzhihang
+ * @version IdentifierTokens.java, v 0.1 2026/10/18 liuzhihang
+ */
+public final class IdentifierTokens {
+
+    /**
+     * 词中包含小写字母
+     */
+    public static final int LOWER = 1;
+
+    /**
+     * 词中包含大写字母
+     */
+    public static final int UPPER = 1 << 1;
+
+    /**
+     * 词中包含数字
+     */
+    public static final int DIGIT = 1 << 2;
+
+    /**
+     * 词中包含中文字符
+     */
+    public static final int CHINESE = 1 << 3;
+
+    /**
+     * 词中包含其他字符
+     */
+    public static final int OTHER = 1 << 4;
+
+    /**
+     * 英文字母与中文字符相邻，即拼音或英文与中文混用
+     */
+    public static final int MIXED_CHINESE_LATIN = 1 << 5;
+
+    /**
+     * 标识符
+     */
+    private final String name;
+
+    /**
+     * {@link IdentifierClassifier} 的分类标记
+     */
+    private final int verdict;
+
+    /**
+     * 每个词的起始位置
+     */
+    private final int[] starts;
+
+    /**
+     * 每个词的结束位置（不包含）
+     */
+    private final int[] ends;
+
+    /**
+     * 每个词的字符类别
+     */
+    private final int[] tokenFlags;
+
+    /**
+     * 所有词的字符类别合并，以及 {@link #MIXED_CHINESE_LATIN}
+     */
+    private final int flags;
+
+    private IdentifierTokens(String name, int verdict, int[] starts, int[] ends, int[] tokenFlags, int flags) {
+        this.name = name;
+        this.verdict = verdict;
+        this.starts = starts;
+        this.ends = ends;
+        this.tokenFlags = tokenFlags;
+        this.flags = flags;
+    }
+
+    /**
+     * 对标识符分词
+     *
+     * @param name 标识符
+     * @return 分词结果
+     */
+    @NotNull
+    public static IdentifierTokens tokenize(@NotNull String name) {
+        int length = name.length();
+        int[] starts = new int[length];
+        int[] ends = new int[length];
+        int[] tokenFlags = new int[length];
+        int count = 0;
+        int flags = 0;
+
+        int start = -1;
+        int current = 0;
+        int previous = 0;
+        for (int i = 0; i < length; i++) {
+            char c = name.charAt(i);
+            int charFlag = charFlag(c);
+            if ((previous & (LOWER | UPPER)) != 0 && charFlag == CHINESE || previous == CHINESE && (charFlag & (LOWER | UPPER)) != 0) {
+                flags |= MIXED_CHINESE_LATIN;
+            }
+            if (charFlag == 0) {
+                // 下划线和美元符号只作为分隔符
+                if (start >= 0) {
+                    starts[count] = start;
+                    ends[count] = i;
+                    tokenFlags[count++] = current;
+                    start = -1;
+                }
+            } else if (start < 0) {
+                start = i;
+                current = charFlag;
+            } else if (isBoundary(name, i, previous, charFlag)) {
+                // HTTPServer 这样的连续大写，最后一个大写字母属于下一个词
+                int split = previous == UPPER && charFlag == LOWER ? i - 1 : i;
+                starts[count] = start;
+                ends[count] = split;
+                tokenFlags[count++] = split == i ? current : current & ~UPPER | flagsOf(name, start, split);
+                start = split;
+                current = flagsOf(name, split, i) | charFlag;
+            } else {
+                current |= charFlag;
+            }
+            previous = charFlag;
+        }
+        if (start >= 0) {
+            starts[count] = start;
+            ends[count] = length;
+            tokenFlags[count++] = current;
+        }
+        for (int i = 0; i < count; i++) {
+            flags |= tokenFlags[i];
+        }
+        return new IdentifierTokens(name, IdentifierClassifier.classify(name),
+                Arrays.copyOf(starts, count), Arrays.copyOf(ends, count), Arrays.copyOf(tokenFlags, count), flags);
+    }
+
+    /**
+     * 获取标识符
+     *
+     * @return 标识符
+     */
+    @NotNull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 获取 {@link IdentifierClassifier} 的分类标记
+     *
+     * @return 分类标记
+     */
+    public int getVerdict() {
+        return verdict;
+    }
+
+    /**
+     * 是否包含指定的字符类别标记
+     *
+     * @param flag 标记
+     * @return 包含返回 true
+     */
+    public boolean has(int flag) {
+        return (flags & flag) != 0;
+    }
+
+    /**
+     * 词的数量
+     *
+     * @return 词的数量
+     */
+    public int size() {
+        return starts.length;
+    }
+
+    /**
+     * 获取词的文本，会分配新的字符串，只用于初始化等非检查路径
+     *
+     * @param index 词的下标
+     * @return 词的文本
+     */
+    @NotNull
+    public String token(int index) {
+        return name.substring(starts[index], ends[index]);
+    }
+
+    /**
+     * 获取词的字符类别
+     *
+     * @param index 词的下标
+     * @return 字符类别
+     */
+    public int tokenFlags(int index) {
+        return tokenFlags[index];
+    }
+
+    /**
+     * 从指定词开始，连续的词是否依次与给定的词相同（忽略大小写）
+     *
+     * @param index 起始词的下标
+     * @param words 给定的词，需要为小写
+     * @return 相同返回 true
+     */
+    public boolean matchesAt(int index, @NotNull String[] words) {
+        if (index + words.length > starts.length) {
+            return false;
+        }
+        for (int i = 0; i < words.length; i++) {
+            int start = starts[index + i];
+            int tokenLength = ends[index + i] - start;
+            if (tokenLength != words[i].length() || !name.regionMatches(true, start, words[i], 0, tokenLength)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 连续的词是否与给定的词相同（忽略大小写）
+     *
+     * @param words 给定的词，需要为小写
+     * @return 相同返回 true
+     */
+    public boolean containsSequence(@NotNull String[] words) {
+        for (int i = 0; i + words.length <= starts.length; i++) {
+            if (matchesAt(i, words)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 两个相邻字符之间是否需要切分
+     */
+    private static boolean isBoundary(String name, int index, int previous, int charFlag) {
+        if ((previous == CHINESE) != (charFlag == CHINESE)) {
+            return true;
+        }
+        if (charFlag == UPPER) {
+            return previous == LOWER || previous == DIGIT;
+        }
+        // 连续两个及以上大写字母后出现小写字母
+        return charFlag == LOWER && previous == UPPER && index >= 2 && charFlag(name.charAt(index - 2)) == UPPER;
+    }
+
+    /**
+     * 计算区间内字符类别的合并
+     */
+    private static int flagsOf(String name, int start, int end) {
+        int flags = 0;
+        for (int i = start; i < end; i++) {
+            flags |= charFlag(name.charAt(i));
+        }
+        return flags;
+    }
+
+    /**
+     * 字符类别，分隔符返回 0
+     */
+    private static int charFlag(char c) {
+        if (c >= 'a' && c <= 'z') {
+            return LOWER;
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return UPPER;
+        }
+        if (c >= '0' && c <= '9') {
+            return DIGIT;
+        }
+        if (c == '_' || c == '$') {
+            return 0;
+        }
+        if (c >= '\u4e00' && c <= '\u9fa5') {
+            return CHINESE;
+        }
+        return OTHER;
+    }
+}
@@ -1,5 +1,7 @@
 package com.code.inspections.ali.name;
 
+import com.code.inspections.base.AbstractP3cInspection;
+import com.code.inspections.base.P3cProblemsHolder;
 import com.code.inspections.bundle.CodeInspectionsBundle;
 import com.intellij.codeInspection.*;
 import com.intellij.codeInspection.ui.SingleCheckboxOptionsPanel;
@@ -12,23 +14,30 @@ import org.jetbrains.annotations.NotNull;
 
 import javax.swing.*;
 
+import java.util.function.Supplier;
+
 /**
  * 【强制】方法名、参数名都统一使用 lowerCamelCase 风格的检查工具类。
  *
  * @author liuzhihang
  * @version MethodAndParameterNamingInspection.java, v 0.1 2024/5/1 liuzhihang
  */
-public class MethodAndParameterNamingInspection extends AbstractBaseJavaLocalInspectionTool {
+public class MethodAndParameterNamingInspection extends AbstractP3cInspection {
 
     /**
      * 提示信息
      */
-    private static final String MESSAGE = CodeInspectionsBundle.message("ali.p3c.name.method.name.lower.case.message");
+    private static final Supplier<String> MESSAGE = CodeInspectionsBundle.messagePointer("ali.p3c.name.method.name.lower.case.message");
 
     /**
      * 快速修复
      */
-    private static final String QUICK_FIX = CodeInspectionsBundle.message("ali.p3c.name.method.name.lower.case.fix");
+    private static final Supplier<String> QUICK_FIX = CodeInspectionsBundle.messagePointer("ali.p3c.name.method.name.lower.case.fix");
+
+    /**
+     * 快速修复，无状态，所有问题共用一个实例
+     */
+    private static final LocalQuickFix LOWER_CAMEL_CASE_FIX = new LowerCamelCaseFix();
 
     /**
      * 创建设置面板
@@ -49,11 +58,12 @@ public class MethodAndParameterNamingInspection extends AbstractBaseJavaLocalIns
      *
      * @param holder     问题持有者
      * @param isOnTheFly 是否为实时检查
+     * @param session    本地检查会话
      * @return 检查访问者对象
      */
     @NotNull
     @Override
-    public PsiElementVisitor buildVisitor(@NotNull ProblemsHolder holder, boolean isOnTheFly) {
+    protected PsiElementVisitor buildP3cVisitor(@NotNull P3cProblemsHolder holder, boolean isOnTheFly, @NotNull LocalInspectionToolSession session) {
         return new JavaElementVisitor() {
             /**
              * 检查方法及其参数名
@@ -88,8 +98,8 @@ public class MethodAndParameterNamingInspection extends AbstractBaseJavaLocalIns
             private void checkName(ProblemsHolder holder, PsiIdentifier identifier, PsiElement element) {
                 if (identifier != null) {
                     String name = identifier.getText();
-                    if (!isValidName(name, element)) {
-                        holder.registerProblem(identifier, MESSAGE, ProblemHighlightType.GENERIC_ERROR_OR_WARNING, new LowerCamelCaseFix());
+                    if (!isValidName(IdentifierTokenCache.get(session, name), element)) {
+                        holder.registerProblem(identifier, MESSAGE.get(), ProblemHighlightType.GENERIC_ERROR_OR_WARNING, LOWER_CAMEL_CASE_FIX);
                     }
                 }
             }
@@ -99,12 +109,12 @@ public class MethodAndParameterNamingInspection extends AbstractBaseJavaLocalIns
     /**
      * 判断名称是否有效
      *
-     * @param name 名称
+     * @param tokens 名称的分词结果
      * @return 是否符合lowerCamelCase风格
      */
-    private boolean isValidName(String name, PsiElement element) {
-        // 使用正则表达式检查名称是否符合lowerCamelCase风格
-        return name.matches("^[a-z][a-zA-Z0-9]*$");
+    private boolean isValidName(IdentifierTokens tokens, PsiElement element) {
+        // 检查名称是否符合lowerCamelCase风格
+        return IdentifierClassifier.is(tokens.getVerdict(), IdentifierClassifier.LOWER_CAMEL);
     }
 
     /**
@@ -131,7 +141,7 @@ public class MethodAndParameterNamingInspection extends AbstractBaseJavaLocalIns
         @NotNull
         @Override
         public String getFamilyName() {
-            return QUICK_FIX;
+            return QUICK_FIX.get();
         }
 
         /**
@@ -1,11 +1,16 @@
 package com.code.inspections.ali.name;
 
+import com.code.inspections.base.AbstractP3cInspection;
+import com.code.inspections.base.P3cProblemsHolder;
 import com.code.inspections.bundle.CodeInspectionsBundle;
 import com.intellij.codeInspection.*;
+import com.intellij.openapi.project.DumbAware;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.*;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.function.Supplier;
+
 /**
  * 【强制】所有编程相关的命名均不能以下划线或美元符号开始，也不能以下划线或美元符号结束。
  * 反例：_name / __name / $Object / name_ / name$ / Object$
@@ -13,16 +18,21 @@ import org.jetbrains.annotations.NotNull;
  * @author liuzhihang
  * @version NamingConventionInspection.java, v 0.1 2024年04月30日 20:16 liuzhihang
  */
-public class NamingConventionInspection extends AbstractBaseJavaLocalInspectionTool {
+public class NamingConventionInspection extends AbstractP3cInspection implements DumbAware {
 
     /**
      * 命名不符合规范的问题提示信息
      */
-    private static final String MESSAGE = CodeInspectionsBundle.message("ali.p3c.name.convention.message");
+    private static final Supplier<String> MESSAGE = CodeInspectionsBundle.messagePointer("ali.p3c.name.convention.message");
     /**
      * 命名不符合规范的问题修复提示信息
      */
-    private static final String QUICK_FIX_NAME = CodeInspectionsBundle.message("ali.p3c.name.convention.fix");
+    private static final Supplier<String> QUICK_FIX_NAME = CodeInspectionsBundle.messagePointer("ali.p3c.name.convention.fix");
+
+    /**
+     * 快速修复，无状态，所有问题共用一个实例
+     */
+    private static final LocalQuickFix NAMING_CONVENTION_FIX = new NamingConventionFix();
 
     /**
      * 构建并返回一个访问者对象，用于检查Java标识符是否符合命名规范。
@@ -30,11 +40,12 @@ public class NamingConventionInspection extends AbstractBaseJavaLocalInspectionT
      *
      * @param holder     用于收集和报告问题的问题持有者对象。
      * @param isOnTheFly 表示是否是在飞行模式下进行检查，即编辑器中实时进行的检查。
+     * @param session    本地检查会话。
      * @return 返回一个实现了Java元素访问者接口的对象，用于访问和检查Java标识符。
      */
     @NotNull
     @Override
-    public PsiElementVisitor buildVisitor(@NotNull ProblemsHolder holder, boolean isOnTheFly) {
+    protected PsiElementVisitor buildP3cVisitor(@NotNull P3cProblemsHolder holder, boolean isOnTheFly, @NotNull LocalInspectionToolSession session) {
         // 创建一个Java元素访问者，重访标识符以检查其是否符合命名约定
         return new JavaElementVisitor() {
             /**
@@ -48,8 +59,9 @@ public class NamingConventionInspection extends AbstractBaseJavaLocalInspectionT
                 super.visitIdentifier(identifier);
                 String name = identifier.getText();
                 // 检查标识符名称是否以特定字符开头或结尾，若是，则登记一个错误
-                if (name.startsWith("_") || name.endsWith("_") || name.startsWith("$") || name.endsWith("$")) {
-                    holder.registerProblem(identifier, MESSAGE, ProblemHighlightType.GENERIC_ERROR_OR_WARNING, new NamingConventionFix());
+                int verdict = IdentifierTokenCache.get(session, name).getVerdict();
+                if (IdentifierClassifier.is(verdict, IdentifierClassifier.LEADING_SPECIAL | IdentifierClassifier.TRAILING_SPECIAL)) {
+                    holder.registerProblem(identifier, MESSAGE.get(), ProblemHighlightType.GENERIC_ERROR_OR_WARNING, NAMING_CONVENTION_FIX);
                 }
             }
         };
@@ -59,7 +71,7 @@ public class NamingConventionInspection extends AbstractBaseJavaLocalInspectionT
      * 单一内部类实现LocalQuickFix，尝试同时移除标识符的首尾下划线或美元符号。
      * 注意：此实现可能不是最高效或最精确的，因为每次应用都会尝试两端的修正。
      */
-    private static class NamingConventionFix implements LocalQuickFix {
+    private static class NamingConventionFix implements LocalQuickFix, DumbAware {
 
         /**
          * 返回一个字符串，表示此快速修复的名称。
@@ -69,7 +81,7 @@ public class NamingConventionInspection extends AbstractBaseJavaLocalInspectionT
         @NotNull
         @Override
         public String getFamilyName() {
-            return QUICK_FIX_NAME;
+            return QUICK_FIX_NAME.get();
         }
 
         /**
@@ -0,0 +1,635 @@
+package com.code.inspections.ali.name;
+
+import com.intellij.codeInsight.daemon.DaemonCodeAnalyzer;
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ModalityState;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.components.Service;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ModuleRootEvent;
+import com.intellij.openapi.roots.ModuleRootListener;
+import com.intellij.openapi.roots.ProjectFileIndex;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.psi.*;
+import com.intellij.psi.search.FileTypeIndex;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.psi.util.PsiUtilCore;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.TestOnly;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 项目范围的字段隐藏图：项目源码中每个类和接口的父类、父接口和声明的字段名，以及父类到子类的反向边。
+ * 节点按所在模块和全限定名区分，不同模块中的同名类互不覆盖。
+ * <p>
+ * 第一次使用时在后台从类的存根（stub）构建一次，只读取类声明、继承关系和字段名，不解析方法体；
+ * 构建完成后重新高亮已打开的文件。之后只重新读取变化的文件，变化的文件有两个来源：
+ * <ul>
+ *     <li>PSI 事件，覆盖编辑器中尚未保存的修改，目录移动或删除时整体重新构建；</li>
+ *     <li>{@link PsiModificationTracker} 的计数变化后，比较每个文件读取时的修改时间戳和路径，
+ *     覆盖版本控制和外部工具对未加载 PSI 的文件的修改，这些修改只增加计数，没有 PSI 事件。
+ *     文件结构也变化时再从索引中查找新增的文件。</li>
+ * </ul>
+ * 模块或源码目录变化时整体重新构建。
+ * <p>
+ * 两个方向的查询都查表：{@link #findShadowingClasses} 沿子类向下查找隐藏了某个字段的子类，不需要搜索继承者；
+ * {@link #findShadowedClass} 沿父类及其父接口向上查找被隐藏的字段所在的类。
+ * 图只包含项目源码中的类，父类或父接口在依赖库中时向上的查询从库类的存根继续。
+ *
+ * @author liuzhihang
+ * @version P3cFieldShadowingGraph.java, v 0.1 2026/10/18 liuzhihang
+ */
+@Service(Service.Level.PROJECT)
+public final class P3cFieldShadowingGraph implements Disposable {
+
+    private final Project project;
+
+    /**
+     * 类到节点
+     */
+    private final Map<ClassKey, ClassNode> classes = new HashMap<>();
+
+    /**
+     * 父类到直接子类
+     */
+    private final Map<ClassKey, Set<ClassKey>> subclasses = new HashMap<>();
+
+    /**
+     * 已读取的文件，用于文件变化时移除旧的节点，以及比较修改时间戳
+     */
+    private final Map<VirtualFile, FileEntry> files = new HashMap<>();
+
+    /**
+     * 上次查询后变化的文件
+     */
+    private final Set<VirtualFile> dirtyFiles = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 是否已构建完成，未完成时查询没有结果
+     */
+    private volatile boolean ready;
+
+    /**
+     * 是否已开始构建
+     */
+    private volatile boolean building;
+
+    /**
+     * 整体失效的次数，构建期间失效时丢弃构建结果重新构建
+     */
+    private volatile int generation;
+
+    /**
+     * 上次比较文件时 PSI 的修改计数
+     */
+    private volatile long modificationCount;
+
+    /**
+     * 上次查找新增文件时 VFS 的结构修改计数
+     */
+    private volatile long structureModificationCount;
+
+    public P3cFieldShadowingGraph(@NotNull Project project) {
+        this.project = project;
+        PsiManager.getInstance(project).addPsiTreeChangeListener(new ChangeListener(), this);
+        project.getMessageBus().connect(this).subscribe(ModuleRootListener.TOPIC, new ModuleRootListener() {
+            @Override
+            public void rootsChanged(@NotNull ModuleRootEvent event) {
+                invalidate();
+            }
+        });
+    }
+
+    /**
+     * 获取项目的字段隐藏图
+     *
+     * @param project 项目
+     * @return 字段隐藏图
+     */
+    public static P3cFieldShadowingGraph getInstance(@NotNull Project project) {
+        return project.getService(P3cFieldShadowingGraph.class);
+    }
+
+    /**
+     * 在后台构建，已构建或正在构建时直接返回
+     */
+    public void buildInBackground() {
+        if (ready || building) {
+            return;
+        }
+        int buildGeneration;
+        synchronized (this) {
+            if (ready || building) {
+                return;
+            }
+            building = true;
+            buildGeneration = generation;
+        }
+        // 写操作会取消非阻塞读操作并自动重试，索引期间等待索引完成
+        ReadAction.nonBlocking(this::collectAll)
+                .inSmartMode(project)
+                .expireWith(this)
+                .finishOnUiThread(ModalityState.nonModal(), snapshot -> {
+                    if (replaceAll(snapshot, buildGeneration)) {
+                        DaemonCodeAnalyzer.getInstance(project).restart();
+                    } else {
+                        buildInBackground();
+                    }
+                })
+                .submit(AppExecutorUtil.getAppExecutorService());
+    }
+
+    /**
+     * 在当前线程中重新构建，丢弃正在进行的后台构建，供测试在检查之前得到确定的图
+     */
+    @TestOnly
+    public void buildNow() {
+        int buildGeneration;
+        synchronized (this) {
+            generation++;
+            dirtyFiles.clear();
+            buildGeneration = generation;
+        }
+        replaceAll(ReadAction.compute(this::collectAll), buildGeneration);
+    }
+
+    /**
+     * 查找隐藏了该字段的子类：直接或间接继承字段所在的类，并声明了同名字段的项目中的类。
+     * 子类中已隐藏的字段再被更下层的子类隐藏时，只返回最上层的子类。需要在读操作中调用。
+     *
+     * @param field 字段
+     * @return 子类的全限定名，按名称排列；图尚未构建完成时返回空列表
+     */
+    @NotNull
+    public List<String> findShadowingClasses(@NotNull PsiField field) {
+        PsiClass owner = field.getContainingClass();
+        String name = field.getName();
+        ClassKey ownerKey = owner == null ? null : key(owner);
+        if (ownerKey == null || !refresh()) {
+            return List.of();
+        }
+        synchronized (this) {
+            List<String> result = new ArrayList<>();
+            Deque<ClassKey> queue = new ArrayDeque<>(subclasses.getOrDefault(ownerKey, Set.of()));
+            Set<ClassKey> visited = new HashSet<>();
+            while (!queue.isEmpty()) {
+                ClassKey subclass = queue.poll();
+                if (!visited.add(subclass)) {
+                    continue;
+                }
+                ClassNode node = classes.get(subclass);
+                if (node != null && node.fields.contains(name)) {
+                    result.add(subclass.name());
+                    continue;
+                }
+                queue.addAll(subclasses.getOrDefault(subclass, Set.of()));
+            }
+            result.sort(null);
+            return result;
+        }
+    }
+
+    /**
+     * 查找该字段隐藏的字段所在的类：先沿父类向上查找最近的声明了同名字段的类，再查找这些父类的父接口中的常量，
+     * 与在父类上调用 {@code findFieldByName(name, true)} 的范围一致。需要在读操作中调用。
+     * <p>
+     * 项目源码中的父类和父接口只查表；进入依赖库时，从库类的存根继续查找。
+     * 局部类、匿名类和项目源码之外的类不在图中，图尚未构建完成时也没有结果，这些情况直接沿 PSI 的父类查找，结果与查表一致。
+     *
+     * @param field 字段
+     * @return 父类或父接口的全限定名，没有时返回 null
+     */
+    @Nullable
+    public String findShadowedClass(@NotNull PsiField field) {
+        PsiClass owner = field.getContainingClass();
+        String name = field.getName();
+        if (owner == null) {
+            return null;
+        }
+        ClassKey ownerKey = key(owner);
+        if (ownerKey == null || !refresh()) {
+            return findInSuperClass(owner.getSuperClass(), name);
+        }
+        List<ClassKey> libraryClasses = new ArrayList<>();
+        boolean inGraph;
+        synchronized (this) {
+            ClassNode node = classes.get(ownerKey);
+            inGraph = node != null;
+            String found = inGraph ? findInGraph(node, name, libraryClasses) : null;
+            if (found != null) {
+                return found;
+            }
+        }
+        // 在锁外读取 PSI：项目源码之外的类从自身的父类查找，进入依赖库时从库类的存根继续
+        if (!inGraph) {
+            return findInSuperClass(owner.getSuperClass(), name);
+        }
+        JavaPsiFacade facade = JavaPsiFacade.getInstance(project);
+        for (ClassKey libraryClass : libraryClasses) {
+            String found = findInSuperClass(facade.findClass(libraryClass.name(), owner.getResolveScope()), name);
+            if (found != null) {
+                return found;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 在图中沿父类链查找同名字段，父类链上都没有时再查找父类的父接口，需要持有锁
+     *
+     * @param node           字段所在的类
+     * @param name           字段名
+     * @param libraryClasses 遇到的不在图中的父类和父接口，由调用方在锁外从存根继续查找
+     * @return 声明同名字段的类的全限定名，图中没有时返回 null
+     */
+    @Nullable
+    private String findInGraph(ClassNode node, String name, List<ClassKey> libraryClasses) {
+        Deque<ClassKey> interfaces = new ArrayDeque<>();
+        Set<ClassKey> visited = new HashSet<>();
+        ClassKey superKey = node.superKey;
+        while (superKey != null && visited.add(superKey)) {
+            ClassNode superNode = classes.get(superKey);
+            if (superNode == null) {
+                libraryClasses.add(superKey);
+                break;
+            }
+            if (superNode.fields.contains(name)) {
+                return superKey.name();
+            }
+            interfaces.addAll(superNode.interfaces);
+            superKey = superNode.superKey;
+        }
+        while (!interfaces.isEmpty()) {
+            ClassKey interfaceKey = interfaces.poll();
+            if (!visited.add(interfaceKey)) {
+                continue;
+            }
+            ClassNode interfaceNode = classes.get(interfaceKey);
+            if (interfaceNode == null) {
+                libraryClasses.add(interfaceKey);
+            } else if (interfaceNode.fields.contains(name)) {
+                return interfaceKey.name();
+            } else {
+                interfaces.addAll(interfaceNode.interfaces);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 从父类开始沿 PSI 查找同名字段，包括父类的父接口
+     *
+     * @param superClass 父类
+     * @param name       字段名
+     * @return 声明同名字段的类的全限定名，局部类返回类名，没有时返回 null
+     */
+    @Nullable
+    private static String findInSuperClass(@Nullable PsiClass superClass, @NotNull String name) {
+        PsiField superField = superClass == null ? null : superClass.findFieldByName(name, true);
+        PsiClass declaring = superField == null ? null : superField.getContainingClass();
+        if (declaring == null) {
+            return null;
+        }
+        return declaring.getQualifiedName() != null ? declaring.getQualifiedName() : declaring.getName();
+    }
+
+    /**
+     * 类在图中的键，依赖库中的类没有模块
+     *
+     * @param psiClass 类
+     * @return 键，没有全限定名的类返回 null
+     */
+    @Nullable
+    private ClassKey key(@Nullable PsiClass psiClass) {
+        String name = psiClass == null ? null : psiClass.getQualifiedName();
+        if (name == null) {
+            return null;
+        }
+        VirtualFile file = PsiUtilCore.getVirtualFile(psiClass);
+        Module module = file == null ? null : ProjectFileIndex.getInstance(project).getModuleForFile(file);
+        return new ClassKey(module == null ? null : module.getName(), name);
+    }
+
+    /**
+     * 重新读取变化的文件。
+     * <p>
+     * 读取类会解析父类引用、访问索引，在锁外进行，避免其他高亮线程在锁上等待而无法响应取消；
+     * 只在替换节点时加锁。读取在读操作中进行，期间文件不会再次变化。
+     *
+     * @return 图是否可用
+     */
+    private boolean refresh() {
+        if (!ready) {
+            buildInBackground();
+            return false;
+        }
+        findChangedFiles();
+        if (dirtyFiles.isEmpty()) {
+            return true;
+        }
+        PsiManager psiManager = PsiManager.getInstance(project);
+        for (VirtualFile file : new ArrayList<>(dirtyFiles)) {
+            ProgressManager.checkCanceled();
+            int readGeneration = generation;
+            long stamp = file.getModificationStamp();
+            List<ClassNode> nodes = new ArrayList<>();
+            if (file.isValid() && psiManager.findFile(file) instanceof PsiJavaFile javaFile) {
+                collect(javaFile, nodes);
+            }
+            synchronized (this) {
+                // 读取完成后再替换，取消时保留在变化的文件中；其他线程已替换或图已整体失效时丢弃
+                if (readGeneration == generation && dirtyFiles.remove(file)) {
+                    removeFile(file);
+                    addFile(file, new FileNodes(stamp, nodes));
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * PSI 的修改计数变化后，找出没有 PSI 事件的变化：修改时间戳变化、失效或路径变化的文件，以及文件结构变化后新增的文件。
+     * 计数在比较完成后才更新，比较中途取消时下次查询重新比较。
+     */
+    private void findChangedFiles() {
+        long count = PsiModificationTracker.getInstance(project).getModificationCount();
+        if (count == modificationCount) {
+            return;
+        }
+        long structureCount = VirtualFileManager.getInstance().getStructureModificationCount();
+        boolean structureChanged = structureCount != structureModificationCount;
+        int readGeneration = generation;
+        synchronized (this) {
+            for (Map.Entry<VirtualFile, FileEntry> entry : files.entrySet()) {
+                VirtualFile file = entry.getKey();
+                if (!file.isValid() || file.getModificationStamp() != entry.getValue().stamp
+                        || (structureChanged && !file.getPath().equals(entry.getValue().path))) {
+                    dirtyFiles.add(file);
+                }
+            }
+        }
+        if (structureChanged) {
+            // 索引期间无法查找新增的文件，不更新计数，等索引完成后的查询再查找
+            if (DumbService.isDumb(project)) {
+                return;
+            }
+            for (VirtualFile file : FileTypeIndex.getFiles(JavaFileType.INSTANCE, GlobalSearchScope.projectScope(project))) {
+                ProgressManager.checkCanceled();
+                synchronized (this) {
+                    if (!files.containsKey(file)) {
+                        dirtyFiles.add(file);
+                    }
+                }
+            }
+        }
+        // 比较期间图整体失效时，计数由重新构建的结果决定
+        if (readGeneration == generation) {
+            modificationCount = count;
+            structureModificationCount = structureCount;
+        }
+    }
+
+    /**
+     * 从存根读取项目中的所有类，同时记录读取时的修改计数
+     */
+    private Snapshot collectAll() {
+        long count = PsiModificationTracker.getInstance(project).getModificationCount();
+        long structureCount = VirtualFileManager.getInstance().getStructureModificationCount();
+        Map<VirtualFile, FileNodes> result = new HashMap<>();
+        PsiManager psiManager = PsiManager.getInstance(project);
+        Collection<VirtualFile> javaFiles = FileTypeIndex.getFiles(JavaFileType.INSTANCE, GlobalSearchScope.projectScope(project));
+        for (VirtualFile file : javaFiles) {
+            ProgressManager.checkCanceled();
+            if (psiManager.findFile(file) instanceof PsiJavaFile javaFile) {
+                List<ClassNode> nodes = new ArrayList<>();
+                collect(javaFile, nodes);
+                result.put(file, new FileNodes(file.getModificationStamp(), nodes));
+            }
+        }
+        return new Snapshot(count, structureCount, result);
+    }
+
+    private void collect(PsiJavaFile file, List<ClassNode> nodes) {
+        for (PsiClass psiClass : file.getClasses()) {
+            collect(psiClass, nodes);
+        }
+    }
+
+    private void collect(PsiClass psiClass, List<ClassNode> nodes) {
+        ClassKey key = key(psiClass);
+        if (key != null && !psiClass.isEnum()) {
+            // 接口的父类是 Object，不作为父类记录；接口中的常量也会被实现类的子类中的字段隐藏，同样记录字段名
+            ClassKey superKey = psiClass.isInterface() ? null : key(psiClass.getSuperClass());
+            List<ClassKey> interfaces = new ArrayList<>();
+            for (PsiClass superInterface : psiClass.getInterfaces()) {
+                ClassKey interfaceKey = key(superInterface);
+                if (interfaceKey != null) {
+                    interfaces.add(interfaceKey);
+                }
+            }
+            Set<String> fields = new HashSet<>();
+            for (PsiField field : psiClass.getFields()) {
+                fields.add(field.getName());
+            }
+            nodes.add(new ClassNode(key, superKey, interfaces, fields));
+        }
+        for (PsiClass inner : psiClass.getInnerClasses()) {
+            collect(inner, nodes);
+        }
+    }
+
+    /**
+     * 替换为新构建的图
+     *
+     * @return 构建期间没有整体失效时返回 true
+     */
+    private synchronized boolean replaceAll(Snapshot snapshot, int buildGeneration) {
+        building = false;
+        if (buildGeneration != generation) {
+            return false;
+        }
+        classes.clear();
+        subclasses.clear();
+        files.clear();
+        for (Map.Entry<VirtualFile, FileNodes> entry : snapshot.files.entrySet()) {
+            addFile(entry.getKey(), entry.getValue());
+        }
+        // 构建期间变化的文件在下次查询时重新读取，读取之后的其他变化由修改计数发现
+        modificationCount = snapshot.modificationCount;
+        structureModificationCount = snapshot.structureModificationCount;
+        ready = true;
+        return true;
+    }
+
+    private void addFile(VirtualFile file, FileNodes fileNodes) {
+        if (!file.isValid()) {
+            return;
+        }
+        List<ClassKey> keys = new ArrayList<>(fileNodes.nodes.size());
+        for (ClassNode node : fileNodes.nodes) {
+            classes.put(node.key, node);
+            if (node.superKey != null) {
+                subclasses.computeIfAbsent(node.superKey, key -> new HashSet<>()).add(node.key);
+            }
+            keys.add(node.key);
+        }
+        files.put(file, new FileEntry(fileNodes.stamp, file.getPath(), keys));
+    }
+
+    private void removeFile(VirtualFile file) {
+        FileEntry entry = files.remove(file);
+        if (entry == null) {
+            return;
+        }
+        for (ClassKey key : entry.classes) {
+            ClassNode node = classes.remove(key);
+            if (node != null && node.superKey != null) {
+                Set<ClassKey> siblings = subclasses.get(node.superKey);
+                if (siblings != null) {
+                    siblings.remove(key);
+                    if (siblings.isEmpty()) {
+                        subclasses.remove(node.superKey);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 丢弃整个图，下次查询时在后台重新构建
+     */
+    private synchronized void invalidate() {
+        ready = false;
+        generation++;
+        dirtyFiles.clear();
+    }
+
+    @Override
+    public void dispose() {
+    }
+
+    /**
+     * 类在图中的键
+     *
+     * @param module 所在模块的名称，依赖库中的类为 null
+     * @param name   全限定名
+     */
+    private record ClassKey(@Nullable String module, @NotNull String name) {
+    }
+
+    /**
+     * 类节点
+     *
+     * @param key        类
+     * @param superKey   父类，接口和没有父类时为 null
+     * @param interfaces 实现或继承的接口
+     * @param fields     声明的字段名
+     */
+    private record ClassNode(ClassKey key, ClassKey superKey, List<ClassKey> interfaces, Set<String> fields) {
+    }
+
+    /**
+     * 读取的一个文件中的类
+     *
+     * @param stamp 读取时文件的修改时间戳
+     * @param nodes 类节点
+     */
+    private record FileNodes(long stamp, List<ClassNode> nodes) {
+    }
+
+    /**
+     * 已读取的文件
+     *
+     * @param stamp   读取时文件的修改时间戳
+     * @param path    读取时文件的路径，移动或重命名后重新读取
+     * @param classes 文件中声明的类
+     */
+    private record FileEntry(long stamp, String path, List<ClassKey> classes) {
+    }
+
+    /**
+     * 构建时读取的所有文件
+     *
+     * @param modificationCount          读取时 PSI 的修改计数
+     * @param structureModificationCount 读取时 VFS 的结构修改计数
+     * @param files                      文件中的类
+     */
+    private record Snapshot(long modificationCount, long structureModificationCount, Map<VirtualFile, FileNodes> files) {
+    }
+
+    /**
+     * 记录变化的 Java 文件
+     */
+    private final class ChangeListener extends PsiTreeChangeAdapter {
+
+        @Override
+        public void childAdded(@NotNull PsiTreeChangeEvent event) {
+            changed(event);
+        }
+
+        @Override
+        public void childRemoved(@NotNull PsiTreeChangeEvent event) {
+            changed(event);
+        }
+
+        @Override
+        public void childReplaced(@NotNull PsiTreeChangeEvent event) {
+            changed(event);
+        }
+
+        @Override
+        public void childMoved(@NotNull PsiTreeChangeEvent event) {
+            changed(event);
+        }
+
+        @Override
+        public void childrenChanged(@NotNull PsiTreeChangeEvent event) {
+            changed(event);
+        }
+
+        @Override
+        public void propertyChanged(@NotNull PsiTreeChangeEvent event) {
+            changed(event);
+        }
+
+        private void changed(PsiTreeChangeEvent event) {
+            if (!ready && !building) {
+                return;
+            }
+            PsiFile file = event.getFile();
+            if (file == null) {
+                // 文件本身被添加、删除或移动；目录变化时无法确定涉及的文件，整体重新构建
+                if (event.getChild() instanceof PsiFile child) {
+                    file = child;
+                } else if (event.getChild() instanceof PsiDirectory || event.getOldChild() instanceof PsiDirectory
+                        || event.getNewChild() instanceof PsiDirectory) {
+                    invalidate();
+                    return;
+                } else if (event.getElement() instanceof PsiFile element) {
+                    file = element;
+                }
+            }
+            if (file instanceof PsiJavaFile) {
+                dirtyFiles.add(file.getViewProvider().getVirtualFile());
+            }
+        }
+    }
+}
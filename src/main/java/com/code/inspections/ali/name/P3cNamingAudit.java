@@ -0,0 +1,453 @@
+package com.code.inspections.ali.name;
+
+import com.code.inspections.base.AbstractP3cInspection;
+import com.code.inspections.base.P3cFileFilter;
+import com.code.inspections.bundle.CodeInspectionsBundle;
+import com.code.inspections.settings.P3cDirectoryConfig;
+import com.code.inspections.settings.SuffixTrie;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.*;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.search.PsiShortNamesCache;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 项目范围的命名审计：直接从存根索引读取类、方法、字段和枚举常量的名称，运行 ClassNameUpperCase、ClassNaming、
+ * ConstantNaming、EnumNaming 和 NamingConvention 规则，不解析方法体，也不加载语法树。
+ * <p>
+ * 先按名称判断，名称本身不可能违反规则时（例如常量风格的字段名）不读取声明；
+ * 需要修饰符、父类或所在源码目录的规则从存根中读取。问题位置从文件文本中按声明的语法查找名称得到，不构建语法树。
+ * <p>
+ * 与逐个文件的检查相比：参数、局部变量和引用处的标识符不在存根中，NamingConvention 只审计声明的类、方法和字段；
+ * 不使用基线过滤。生成代码和超大文件按目录配置跳过。
+ *
+ * @author liuzhihang
+ * @version P3cNamingAudit.java, v 0.1 2026/10/18 liuzhihang
+ */
+public final class P3cNamingAudit {
+
+    /**
+     * 每个读操作中处理的名称数，读操作之间可以执行写操作
+     */
+    private static final int NAMES_PER_READ_ACTION = 256;
+
+    /**
+     * 缓存文本的文件数
+     */
+    private static final int MAX_CACHED_TEXTS = 64;
+
+    private static final Pattern CLASS_DECLARATION = Pattern.compile("\\b(?:class|interface|enum|record)\\s+");
+
+    /**
+     * 出现在名称之前、但说明名称不是声明的关键字
+     */
+    private static final Set<String> NOT_TYPES = Set.of("return", "new", "throw", "else", "case", "yield", "assert", "do",
+            "instanceof", "extends", "implements", "throws", "package", "import");
+
+    private final Project project;
+
+    private final GlobalSearchScope scope;
+
+    private final Consumer<Violation> consumer;
+
+    private final ClassNameUpperCaseInspection classNameUpperCase;
+
+    private final ClassNamingInspection classNaming;
+
+    private final ConstantNamingInspection constantNaming;
+
+    private final EnumNamingInspection enumNaming;
+
+    private final NamingConventionInspection namingConvention;
+
+    /**
+     * 文件是否跳过
+     */
+    private final Map<VirtualFile, Boolean> skipped = new HashMap<>();
+
+    /**
+     * 最近有问题的文件的文本，查找问题位置时使用
+     */
+    private final Map<VirtualFile, CharSequence> texts = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<VirtualFile, CharSequence> eldest) {
+            return size() > MAX_CACHED_TEXTS;
+        }
+    };
+
+    /**
+     * 同一文件中同名的声明依次向后查找，按规则记录下次查找的开始位置
+     */
+    private final Map<String, Integer> searchFrom = new HashMap<>();
+
+    /**
+     * 名称的声明种类，决定在文件文本中查找位置时匹配的语法
+     */
+    enum Declaration {
+        /**
+         * 类、接口、枚举或记录类的名称
+         */
+        CLASS,
+        /**
+         * 方法或字段的名称
+         */
+        MEMBER,
+        /**
+         * 枚举常量
+         */
+        ENUM_CONSTANT,
+        /**
+         * 任意完整匹配的单词
+         */
+        WORD
+    }
+
+    /**
+     * 审计发现的问题
+     *
+     * @param inspection 规则对应的检查
+     * @param file       文件
+     * @param offset     名称在文件中的位置
+     * @param line       行号，从 0 开始
+     * @param message    提示信息
+     */
+    public record Violation(@NotNull AbstractP3cInspection inspection, @NotNull VirtualFile file, int offset, int line,
+                            @NotNull String message) {
+    }
+
+    private P3cNamingAudit(Project project, GlobalSearchScope scope, List<? extends AbstractP3cInspection> inspections,
+                           Consumer<Violation> consumer) {
+        this.project = project;
+        this.scope = scope;
+        this.consumer = consumer;
+        this.classNameUpperCase = find(inspections, ClassNameUpperCaseInspection.class);
+        this.classNaming = find(inspections, ClassNamingInspection.class);
+        this.constantNaming = find(inspections, ConstantNamingInspection.class);
+        this.enumNaming = find(inspections, EnumNamingInspection.class);
+        this.namingConvention = find(inspections, NamingConventionInspection.class);
+    }
+
+    /**
+     * 运行审计，在索引就绪后分批执行读操作，可以取消
+     *
+     * @param project     项目
+     * @param scope       审计范围
+     * @param inspections 已启用的检查，只运行其中的命名规则
+     * @param consumer    问题回调，在读操作中调用
+     * @param indicator   进度
+     */
+    public static void run(@NotNull Project project, @NotNull GlobalSearchScope scope, @NotNull List<? extends AbstractP3cInspection> inspections,
+                           @NotNull Consumer<Violation> consumer, @NotNull ProgressIndicator indicator) {
+        P3cNamingAudit audit = new P3cNamingAudit(project, scope, inspections, consumer);
+        if (audit.classNameUpperCase == null && audit.classNaming == null && audit.constantNaming == null
+                && audit.enumNaming == null && audit.namingConvention == null) {
+            return;
+        }
+        DumbService dumbService = DumbService.getInstance(project);
+        PsiShortNamesCache cache = PsiShortNamesCache.getInstance(project);
+        String[] classNames = dumbService.runReadActionInSmartMode(cache::getAllClassNames);
+        String[] fieldNames = dumbService.runReadActionInSmartMode(cache::getAllFieldNames);
+        String[] methodNames = audit.namingConvention == null ? new String[0] : dumbService.runReadActionInSmartMode(cache::getAllMethodNames);
+        int total = classNames.length + fieldNames.length + methodNames.length;
+        indicator.setIndeterminate(false);
+        int done = 0;
+        done = audit.runBatches(classNames, done, total, indicator, audit::auditClasses);
+        done = audit.runBatches(fieldNames, done, total, indicator, audit::auditFields);
+        audit.runBatches(methodNames, done, total, indicator, audit::auditMethods);
+    }
+
+    private int runBatches(String[] names, int done, int total, ProgressIndicator indicator, Consumer<String> action) {
+        DumbService dumbService = DumbService.getInstance(project);
+        for (int start = 0; start < names.length; start += NAMES_PER_READ_ACTION) {
+            indicator.checkCanceled();
+            indicator.setFraction((double) (done + start) / Math.max(1, total));
+            int from = start;
+            dumbService.runReadActionInSmartMode(() -> {
+                for (int i = from; i < Math.min(names.length, from + NAMES_PER_READ_ACTION); i++) {
+                    indicator.checkCanceled();
+                    action.accept(names[i]);
+                }
+            });
+        }
+        return done + names.length;
+    }
+
+    private void auditClasses(String name) {
+        int verdict = IdentifierClassifier.classify(name);
+        for (PsiClass psiClass : PsiShortNamesCache.getInstance(project).getClassesByName(name, scope)) {
+            VirtualFile file = fileOf(psiClass);
+            if (file == null) {
+                continue;
+            }
+            if (classNameUpperCase != null && !IdentifierClassifier.is(verdict, IdentifierClassifier.UPPER_CAMEL)) {
+                SuffixTrie suffixes = P3cDirectoryConfig.getInstance(project).getSnapshot(file.getParent()).classNameSuffixes();
+                if (!suffixes.matchesSuffixOf(name)) {
+                    report(classNameUpperCase, file, name, Declaration.CLASS, "ali.p3c.name.class.name.upper.case.message");
+                }
+            }
+            if (namingConvention != null && isSpecial(verdict)) {
+                report(namingConvention, file, name, Declaration.CLASS, "ali.p3c.name.convention.message");
+            }
+            if (classNaming != null && !psiClass.isInterface() && !psiClass.isAnnotationType()) {
+                boolean abstractName = psiClass.hasModifierProperty(PsiModifier.ABSTRACT) && !name.startsWith("Abstract") && !name.startsWith("Base");
+                boolean exceptionName = !name.endsWith("Exception") && ClassNamingInspection.isExceptionClass(psiClass);
+                boolean testName = !name.endsWith("Test") && ClassNamingInspection.isPsiClassInTestSourceRoot(psiClass);
+                if (abstractName || exceptionName || testName) {
+                    report(classNaming, file, name, Declaration.CLASS, "ali.p3c.name.class.name.message");
+                }
+            }
+            if (enumNaming != null && psiClass.isEnum()) {
+                if (!name.endsWith("Enum")) {
+                    report(enumNaming, file, name, Declaration.CLASS, "ali.p3c.name.enum.naming.message");
+                }
+                int enumStart = -1;
+                for (PsiField field : psiClass.getFields()) {
+                    if (field instanceof PsiEnumConstant
+                            && !IdentifierClassifier.is(IdentifierClassifier.classify(field.getName()), IdentifierClassifier.UPPER_SNAKE)) {
+                        enumStart = enumStart < 0 ? classOffset(file, name) : enumStart;
+                        report(enumNaming, file, field.getName(), Declaration.ENUM_CONSTANT, "ali.p3c.name.enum.naming.message", enumStart);
+                    }
+                }
+            }
+        }
+    }
+
+    private void auditFields(String name) {
+        int verdict = IdentifierClassifier.classify(name);
+        boolean special = namingConvention != null && isSpecial(verdict);
+        boolean notConstantName = constantNaming != null && !IdentifierClassifier.is(verdict, IdentifierClassifier.UPPER_SNAKE);
+        // 名称本身不违反任何规则时不读取声明
+        if (!special && !notConstantName) {
+            return;
+        }
+        for (PsiField field : PsiShortNamesCache.getInstance(project).getFieldsByName(name, scope)) {
+            VirtualFile file = fileOf(field);
+            if (file == null) {
+                continue;
+            }
+            if (special && field instanceof PsiEnumConstant constant && constant.getContainingClass() != null) {
+                String enumName = constant.getContainingClass().getName();
+                report(namingConvention, file, name, Declaration.ENUM_CONSTANT, "ali.p3c.name.convention.message",
+                        enumName == null ? 0 : classOffset(file, enumName));
+            } else if (special) {
+                report(namingConvention, file, name, Declaration.MEMBER, "ali.p3c.name.convention.message");
+            }
+            if (notConstantName && field.hasModifierProperty(PsiModifier.STATIC) && field.hasModifierProperty(PsiModifier.FINAL)) {
+                report(constantNaming, file, name, Declaration.MEMBER, "ali.p3c.name.constant.name.upper.case.message");
+            }
+        }
+    }
+
+    private void auditMethods(String name) {
+        if (!isSpecial(IdentifierClassifier.classify(name))) {
+            return;
+        }
+        for (PsiMethod method : PsiShortNamesCache.getInstance(project).getMethodsByName(name, scope)) {
+            VirtualFile file = fileOf(method);
+            if (file != null) {
+                report(namingConvention, file, name, Declaration.MEMBER, "ali.p3c.name.convention.message");
+            }
+        }
+    }
+
+    private static boolean isSpecial(int verdict) {
+        return IdentifierClassifier.is(verdict, IdentifierClassifier.LEADING_SPECIAL | IdentifierClassifier.TRAILING_SPECIAL);
+    }
+
+    /**
+     * 声明所在的文件，跳过的文件返回 null
+     */
+    private VirtualFile fileOf(PsiElement element) {
+        PsiFile psiFile = element.getContainingFile();
+        VirtualFile file = psiFile == null ? null : psiFile.getVirtualFile();
+        if (file == null) {
+            return null;
+        }
+        Boolean skip = skipped.get(file);
+        if (skip == null) {
+            skip = P3cFileFilter.shouldSkip(psiFile);
+            skipped.put(file, skip);
+        }
+        return skip ? null : file;
+    }
+
+    private void report(AbstractP3cInspection inspection, VirtualFile file, String name, Declaration declaration, String messageKey) {
+        report(inspection, file, name, declaration, messageKey, 0);
+    }
+
+    /**
+     * 上报问题，位置从文件文本中查找
+     *
+     * @param minFrom 最早的查找位置，枚举常量从枚举类的声明开始查找
+     */
+    private void report(AbstractP3cInspection inspection, VirtualFile file, String name, Declaration declaration, String messageKey,
+                        int minFrom) {
+        CharSequence text = text(file);
+        String key = inspection.getShortName() + '#' + file.getPath() + '#' + name;
+        int from = Math.max(minFrom, searchFrom.getOrDefault(key, 0));
+        int found = findName(text, name, declaration, from);
+        if (found < 0 && declaration != Declaration.CLASS) {
+            // 一行声明多个字段等不符合声明语法的情况，退回查找完整匹配的单词
+            found = findName(text, name, Declaration.WORD, from);
+        }
+        if (found >= 0) {
+            searchFrom.put(key, found + name.length());
+        }
+        int offset = Math.max(0, found);
+        consumer.accept(new Violation(inspection, file, offset, StringUtil.offsetToLineNumber(text, offset),
+                CodeInspectionsBundle.message(messageKey)));
+    }
+
+    /**
+     * 类的声明在文件中的位置，找不到时返回 0
+     */
+    private int classOffset(VirtualFile file, String className) {
+        return Math.max(0, findName(text(file), className, Declaration.CLASS, 0));
+    }
+
+    private CharSequence text(VirtualFile file) {
+        return texts.computeIfAbsent(file, key -> {
+            PsiFile psiFile = PsiManager.getInstance(project).findFile(key);
+            return psiFile == null ? "" : psiFile.getViewProvider().getContents();
+        });
+    }
+
+    /**
+     * 在文件文本中查找声明的名称，跳过注释、字符串和文本块，只匹配声明的语法：
+     * 类名在 class 等关键字之后；方法和字段名前面是类型，后面是左括号、等号、分号、逗号或 {@code []}；
+     * 枚举常量从枚举类的声明开始查找，前面是左大括号、逗号或注解，后面是逗号、分号、左括号、左大括号或右大括号。
+     * 方法调用、字段和枚举常量的引用不会被匹配。
+     *
+     * @param text        文件文本
+     * @param name        名称
+     * @param declaration 声明的种类
+     * @param from        开始位置
+     * @return 位置，找不到时返回 -1
+     */
+    static int findName(CharSequence text, String name, Declaration declaration, int from) {
+        Matcher matcher = CLASS_DECLARATION.matcher(text);
+        int i = from;
+        int length = text.length();
+        // 上一个记号：单词或符号，跳过空白和注释
+        String previousWord = null;
+        char previousChar = 0;
+        while (i < length) {
+            char c = text.charAt(i);
+            if (c == '/' && i + 1 < length && text.charAt(i + 1) == '/') {
+                while (i < length && text.charAt(i) != '\n') {
+                    i++;
+                }
+            } else if (c == '/' && i + 1 < length && text.charAt(i + 1) == '*') {
+                int end = StringUtil.indexOf(text, "*/", i + 2);
+                i = end < 0 ? length : end + 2;
+            } else if (c == '"' && StringUtil.startsWith(text, i, "\"\"\"")) {
+                i += 3;
+                while (i < length && !StringUtil.startsWith(text, i, "\"\"\"")) {
+                    i += text.charAt(i) == '\\' ? 2 : 1;
+                }
+                i += 3;
+                previousWord = null;
+                previousChar = c;
+            } else if (c == '"' || c == '\'') {
+                i++;
+                while (i < length && text.charAt(i) != c && text.charAt(i) != '\n') {
+                    i += text.charAt(i) == '\\' ? 2 : 1;
+                }
+                i++;
+                previousWord = null;
+                previousChar = c;
+            } else if (c == '-' && i + 1 < length && text.charAt(i + 1) == '>') {
+                // lambda 的箭头，后面不是声明
+                i += 2;
+                previousWord = null;
+                previousChar = c;
+            } else if (Character.isJavaIdentifierStart(c)) {
+                int start = i;
+                while (i < length && Character.isJavaIdentifierPart(text.charAt(i))) {
+                    i++;
+                }
+                if (i - start == name.length() && StringUtil.startsWith(text, start, name)
+                        && isDeclaration(text, start, i, declaration, matcher, previousWord, previousChar)) {
+                    return start;
+                }
+                previousWord = text.subSequence(start, i).toString();
+                previousChar = 0;
+            } else {
+                if (!Character.isWhitespace(c)) {
+                    previousWord = null;
+                    previousChar = c;
+                }
+                i++;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isDeclaration(CharSequence text, int start, int end, Declaration declaration, Matcher matcher,
+                                         String previousWord, char previousChar) {
+        switch (declaration) {
+            case CLASS:
+                return precededByClassKeyword(matcher, text, start);
+            case MEMBER: {
+                boolean afterType = previousWord != null ? !NOT_TYPES.contains(previousWord) : previousChar == '>' || previousChar == ']';
+                char next = charAfter(text, end, 0);
+                return afterType && (next == '(' || next == ';' || next == ','
+                        || next == '=' && charAfter(text, end, 1) != '='
+                        || next == '[' && charAfter(text, end, 1) == ']');
+            }
+            case ENUM_CONSTANT: {
+                boolean afterSeparator = previousWord != null ? !NOT_TYPES.contains(previousWord)
+                        : previousChar == '{' || previousChar == ',' || previousChar == ')';
+                char next = charAfter(text, end, 0);
+                return afterSeparator && (next == ',' || next == ';' || next == '(' || next == '{' || next == '}');
+            }
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * 位置之后跳过空白的第 n 个字符，没有时返回 0
+     */
+    private static char charAfter(CharSequence text, int from, int n) {
+        int i = from;
+        while (i < text.length() && Character.isWhitespace(text.charAt(i))) {
+            i++;
+        }
+        i += n;
+        return i < text.length() ? text.charAt(i) : 0;
+    }
+
+    private static boolean precededByClassKeyword(Matcher matcher, CharSequence text, int nameStart) {
+        int from = Math.max(0, nameStart - 32);
+        matcher.region(from, nameStart);
+        while (matcher.find()) {
+            if (matcher.end() == nameStart) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static <T extends AbstractP3cInspection> T find(List<? extends AbstractP3cInspection> inspections, Class<T> type) {
+        for (AbstractP3cInspection inspection : inspections) {
+            if (type.isInstance(inspection)) {
+                return type.cast(inspection);
+            }
+        }
+        return null;
+    }
+}
@@ -5,13 +5,18 @@ import com.intellij.openapi.editor.Editor;
 import com.intellij.openapi.editor.ScrollType;
 import com.intellij.openapi.fileEditor.FileEditorManager;
 import com.intellij.openapi.fileEditor.OpenFileDescriptor;
+import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.*;
+import com.code.inspections.base.AbstractP3cInspection;
+import com.code.inspections.base.P3cProblemsHolder;
 import com.code.inspections.bundle.CodeInspectionsBundle;
 import org.jetbrains.annotations.Nls;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -22,16 +27,20 @@ import java.util.regex.Pattern;
  * @author liuzhihang
  * @since 2024-04-30
  */
-public class SensitiveWordsInspection extends AbstractBaseJavaLocalInspectionTool {
+public class SensitiveWordsInspection extends AbstractP3cInspection {
 
     /**
      * 错误提示信息
      */
-    private static final String MESSAGE = CodeInspectionsBundle.message("ali.p3c.name.sensitive.words.message");
+    private static final Supplier<String> MESSAGE = CodeInspectionsBundle.messagePointer("ali.p3c.name.sensitive.words.message");
     /**
      * 快速修复提示信息
      */
-    private static final String QUICK_FIX = CodeInspectionsBundle.message("ali.p3c.name.sensitive.words.fix");
+    private static final Supplier<String> QUICK_FIX = CodeInspectionsBundle.messagePointer("ali.p3c.name.sensitive.words.fix");
+    /**
+     * 跳转到编辑位置的快速修复，无状态，所有问题共用一个实例。
+     */
+    private static final LocalQuickFix JUMP_TO_EDIT_LOCATION_FIX = new JumpToEditLocationQuickFix();
     /**
      * 敏感词汇列表，用于匹配字符串字面量和注释中的词汇。
      */
@@ -41,24 +50,50 @@ public class SensitiveWordsInspection extends AbstractBaseJavaLocalInspectionToo
     );
 
     /**
-     * 敏感词汇的正则表达式模式，用于匹配字符串字面量和注释中的词汇。
+     * 第一次检查或预热时才编译匹配器
      */
-    private static final Pattern SENSITIVE_PATTERN = Pattern.compile("(?i)\\b(" + String.join("|", SENSITIVE_PATTERNS) + ")\\b");
+    private static final class Matchers {
+
+        /**
+         * 敏感词汇的正则表达式模式，用于匹配字符串字面量和注释中的词汇。
+         */
+        private static final Pattern SENSITIVE_PATTERN = Pattern.compile("(?i)\\b(" + String.join("|", SENSITIVE_PATTERNS) + ")\\b");
+
+        /**
+         * 敏感词汇按驼峰切分后的小写词序列，用于匹配标识符的分词结果。
+         */
+        private static final String[][] SENSITIVE_TOKENS = SENSITIVE_PATTERNS.stream()
+                .map(IdentifierTokens::tokenize)
+                .map(tokens -> {
+                    String[] words = new String[tokens.size()];
+                    for (int i = 0; i < words.length; i++) {
+                        words[i] = tokens.token(i).toLowerCase(Locale.ROOT);
+                    }
+                    return words;
+                })
+                .toArray(String[][]::new);
+    }
+
+    /**
+     * 预热时编译匹配器
+     */
+    @Override
+    public void warmUp(@NotNull Project project) {
+        Matchers.SENSITIVE_PATTERN.matcher("").find();
+    }
 
     /**
      * 构建访问者，用于遍历Psi元素并检查敏感词汇。
      *
      * @param holder     问题持有者，用于报告发现的问题。
      * @param isOnTheFly 指示检查是否在“飞行模式”下执行。
+     * @param session    本地检查会话。
      * @return 返回一个PsiElementVisitor实例，用于递归遍历Java元素。
      */
     @NotNull
     @Override
-    public PsiElementVisitor buildVisitor(@NotNull ProblemsHolder holder, boolean isOnTheFly) {
+    protected PsiElementVisitor buildP3cVisitor(@NotNull P3cProblemsHolder holder, boolean isOnTheFly, @NotNull LocalInspectionToolSession session) {
         return new JavaElementVisitor() {
-            private final Pattern pattern = Pattern.compile(String.join("|", SENSITIVE_PATTERNS));
-
-
             /**
              * 访问注释，检查是否包含敏感词汇。
              *
@@ -68,11 +103,12 @@ public class SensitiveWordsInspection extends AbstractBaseJavaLocalInspectionToo
             public void visitComment(@NotNull PsiComment comment) {
                 super.visitComment(comment);
                 String commentText = comment.getText();
-                Matcher matcher = SENSITIVE_PATTERN.matcher(commentText);
+                Matcher matcher = Matchers.SENSITIVE_PATTERN.matcher(commentText);
 
                 while (matcher.find()) {
+                    ProgressManager.checkCanceled();
                     // 精确到敏感词，避免包括注释符号
-                    holder.registerProblem(comment, MESSAGE, ProblemHighlightType.GENERIC_ERROR_OR_WARNING, new JumpToEditLocationQuickFix(comment));
+                    holder.registerProblem(comment, MESSAGE.get(), ProblemHighlightType.GENERIC_ERROR_OR_WARNING, JUMP_TO_EDIT_LOCATION_FIX);
                 }
             }
 
@@ -84,9 +120,13 @@ public class SensitiveWordsInspection extends AbstractBaseJavaLocalInspectionToo
             @Override
             public void visitField(@NotNull PsiField field) {
                 super.visitField(field);
-                String text = field.getName();
-                if (pattern.matcher(text).find()) {
-                    holder.registerProblem(field, MESSAGE, ProblemHighlightType.GENERIC_ERROR_OR_WARNING, new JumpToEditLocationQuickFix(field));
+                // 读取会话中缓存的分词结果，按完整的词匹配敏感词汇
+                IdentifierTokens tokens = IdentifierTokenCache.get(session, field.getName());
+                for (String[] words : Matchers.SENSITIVE_TOKENS) {
+                    if (tokens.containsSequence(words)) {
+                        holder.registerProblem(field, MESSAGE.get(), ProblemHighlightType.GENERIC_ERROR_OR_WARNING, JUMP_TO_EDIT_LOCATION_FIX);
+                        break;
+                    }
                 }
             }
 
@@ -96,24 +136,11 @@ public class SensitiveWordsInspection extends AbstractBaseJavaLocalInspectionToo
 
     /**
      * 提供快速修复操作，用于替换或移除敏感词汇。
+     * <p>
+     * 要修复的元素从问题描述符中获取，不持有 PSI 引用。
      */
     private static class JumpToEditLocationQuickFix implements LocalQuickFix {
 
-        /**
-         * 要修复的Psi元素。
-         */
-        @SafeFieldForPreview
-        private final PsiElement element;
-
-        /**
-         * 构造快速修复实例。
-         *
-         * @param element 要修复的Psi元素。
-         */
-        JumpToEditLocationQuickFix(PsiElement element) {
-            this.element = element;
-        }
-
         /**
          * 返回快速修复操作的名称。
          *
@@ -123,7 +150,7 @@ public class SensitiveWordsInspection extends AbstractBaseJavaLocalInspectionToo
         @NotNull
         @Override
         public String getFamilyName() {
-            return QUICK_FIX;
+            return QUICK_FIX.get();
         }
 
         /**
@@ -134,7 +161,10 @@ public class SensitiveWordsInspection extends AbstractBaseJavaLocalInspectionToo
          */
         @Override
         public void applyFix(@NotNull Project project, @NotNull ProblemDescriptor descriptor) {
-            openFileInEditor(project, element.getContainingFile());
+            PsiElement element = descriptor.getPsiElement();
+            if (element != null && element.getContainingFile() != null) {
+                openFileInEditor(project, element.getContainingFile(), element.getTextRange().getStartOffset());
+            }
         }
 
         /**
@@ -142,11 +172,11 @@ public class SensitiveWordsInspection extends AbstractBaseJavaLocalInspectionToo
          *
          * @param project 当前项目。
          * @param psiFile 包含敏感词汇的Psi文件。
+         * @param offset  敏感词汇所在元素的起始偏移量。
          */
-        private void openFileInEditor(Project project, PsiFile psiFile) {
+        private void openFileInEditor(Project project, PsiFile psiFile, int offset) {
             Editor editor = FileEditorManager.getInstance(project).openTextEditor(new OpenFileDescriptor(project, psiFile.getVirtualFile()), true);
             if (editor != null) {
-                int offset = element.getTextRange().getStartOffset();
                 editor.getCaretModel().moveToOffset(offset);
                 editor.getScrollingModel().scrollToCaret(ScrollType.CENTER_UP);
             }
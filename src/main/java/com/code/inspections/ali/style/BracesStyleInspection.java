@@ -1,14 +1,19 @@
 package com.code.inspections.ali.style;
 
+import com.code.inspections.base.AbstractP3cInspection;
+import com.code.inspections.base.P3cProblemsHolder;
 import com.code.inspections.bundle.CodeInspectionsBundle;
-import com.intellij.codeInspection.AbstractBaseJavaLocalInspectionTool;
+import com.intellij.codeInspection.LocalInspectionToolSession;
 import com.intellij.codeInspection.ProblemsHolder;
 import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.openapi.util.TextRange;
 import com.intellij.psi.*;
 import com.intellij.psi.util.PsiTreeUtil;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.function.Supplier;
+
 /**
  * 检查Java代码块的大括号风格是否符合阿里P3C风格指南的规定。
  * 如果大括号内为空，要求写成{}，大括号中间无需换行和空格；
@@ -21,24 +26,25 @@ import org.jetbrains.annotations.NotNull;
  * @author liuzhihang
  * @version BracesStyleInspection.java, v 0.1 2024/5/5 liuzhihang
  */
-public class BracesStyleInspection extends AbstractBaseJavaLocalInspectionTool {
+public class BracesStyleInspection extends AbstractP3cInspection {
 
-    private static final String MESSAGE0 = CodeInspectionsBundle.message("ali.p3c.style.braces.style.message0");
-    private static final String MESSAGE1 = CodeInspectionsBundle.message("ali.p3c.style.braces.style.message1");
-    private static final String MESSAGE2 = CodeInspectionsBundle.message("ali.p3c.style.braces.style.message2");
-    private static final String MESSAGE3 = CodeInspectionsBundle.message("ali.p3c.style.braces.style.message3");
-    private static final String MESSAGE4 = CodeInspectionsBundle.message("ali.p3c.style.braces.style.message4");
+    private static final Supplier<String> MESSAGE0 = CodeInspectionsBundle.messagePointer("ali.p3c.style.braces.style.message0");
+    private static final Supplier<String> MESSAGE1 = CodeInspectionsBundle.messagePointer("ali.p3c.style.braces.style.message1");
+    private static final Supplier<String> MESSAGE2 = CodeInspectionsBundle.messagePointer("ali.p3c.style.braces.style.message2");
+    private static final Supplier<String> MESSAGE3 = CodeInspectionsBundle.messagePointer("ali.p3c.style.braces.style.message3");
+    private static final Supplier<String> MESSAGE4 = CodeInspectionsBundle.messagePointer("ali.p3c.style.braces.style.message4");
 
     /**
      * 创建检查访问者，用于遍历Java代码元素并检查大括号风格。
      *
      * @param holder     用于存储检查问题的对象。
      * @param isOnTheFly 表示检查是否在编辑时进行。
+     * @param session    本地检查会话。
      * @return 返回检查访问者对象。
      */
     @Override
     @NotNull
-    public PsiElementVisitor buildVisitor(@NotNull ProblemsHolder holder, boolean isOnTheFly) {
+    protected PsiElementVisitor buildP3cVisitor(@NotNull P3cProblemsHolder holder, boolean isOnTheFly, @NotNull LocalInspectionToolSession session) {
         return new JavaElementVisitor() {
             @Override
             public void visitCodeBlock(PsiCodeBlock block) {
@@ -64,7 +70,7 @@ public class BracesStyleInspection extends AbstractBaseJavaLocalInspectionTool {
         String text = block.getText();
         // 如果空代码块没有使用{}，则记录问题
         if (!text.equals("{}")) {
-            holder.registerProblem(block, MESSAGE0);
+            holder.registerProblem(block, MESSAGE0.get());
         }
     }
 
@@ -80,19 +86,19 @@ public class BracesStyleInspection extends AbstractBaseJavaLocalInspectionTool {
         if (lBrace != null) {
             // 左大括号前不换行
             if (isNewlineBeforeIgnoringSpaces(lBrace)) {
-                holder.registerProblem(lBrace, MESSAGE1);
+                holder.registerProblem(lBrace, MESSAGE1.get());
             }
 
             // 左大括号后换行
             if (!isNewlineAfterIgnoringSpaces(lBrace)) {
-                holder.registerProblem(lBrace, MESSAGE2);
+                holder.registerProblem(lBrace, MESSAGE2.get());
             }
         }
 
         if (rBrace != null) {
             // 右大括号前换行
             if (!isNewlineBeforeIgnoringSpaces(rBrace)) {
-                holder.registerProblem(rBrace, MESSAGE3);
+                holder.registerProblem(rBrace, MESSAGE3.get());
             }
 
             // 右大括号后还有 else 等代码则不换行；表示终止的右大括号后必须换行
@@ -101,6 +107,7 @@ public class BracesStyleInspection extends AbstractBaseJavaLocalInspectionTool {
             if (nextSibling != null) {
                 // 跳过可能存在的空白和注释，直接寻找下一个实际的代码元素
                 while (nextSibling instanceof PsiWhiteSpace || nextSibling instanceof PsiComment) {
+                    ProgressManager.checkCanceled();
                     nextSibling = PsiTreeUtil.nextLeaf(nextSibling);
                     if (nextSibling == null) break; // 防止无限循环
                 }
@@ -111,13 +118,13 @@ public class BracesStyleInspection extends AbstractBaseJavaLocalInspectionTool {
                 // 在 else 关键字前不允许有换行
                 if (isNewlineBeforeIgnoringSpaces(nextSibling)) {
                     // 如果有换行，这里报错
-                    holder.registerProblem(nextSibling, MESSAGE4);
+                    holder.registerProblem(nextSibling, MESSAGE4.get());
                 }
             }
             if (nextSibling == null) {
                 // 如果 nextSibling 为空或不是 ELSE 关键字，检查换行
                 if (!isNewlineAfterIgnoringSpaces(rBrace)) {
-                    holder.registerProblem(rBrace, MESSAGE4);
+                    holder.registerProblem(rBrace, MESSAGE4.get());
                 }
             }
         }
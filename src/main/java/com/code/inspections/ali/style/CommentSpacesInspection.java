@@ -1,26 +1,30 @@
 package com.code.inspections.ali.style;
 
+import com.code.inspections.base.AbstractP3cInspection;
+import com.code.inspections.base.P3cProblemsHolder;
 import com.code.inspections.bundle.CodeInspectionsBundle;
-import com.intellij.codeInspection.LocalInspectionTool;
+import com.intellij.codeInspection.LocalInspectionToolSession;
 import com.intellij.codeInspection.ProblemHighlightType;
-import com.intellij.codeInspection.ProblemsHolder;
+import com.intellij.openapi.project.DumbAware;
 import com.intellij.psi.JavaElementVisitor;
 import com.intellij.psi.PsiComment;
 import com.intellij.psi.PsiElementVisitor;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.function.Supplier;
+
 /**
  * 【强制】注释的双斜线与注释内容之间有且仅有一个空格。
  *
  * @author liuzhihang
  * @version SingleSpaceBetweenCommentSlashesAndTextInspection.java, v 0.1 2024/5/6 liuzhihang
  */
-public class CommentSpacesInspection extends LocalInspectionTool {
+public class CommentSpacesInspection extends AbstractP3cInspection implements DumbAware {
 
     /**
      * 提示信息
      */
-    private static final String MESSAGE = CodeInspectionsBundle.message("ali.p3c.style.comment.spaces.message");
+    private static final Supplier<String> MESSAGE = CodeInspectionsBundle.messagePointer("ali.p3c.style.comment.spaces.message");
 
 
     /**
@@ -29,11 +33,12 @@ public class CommentSpacesInspection extends LocalInspectionTool {
      *
      * @param holder     用于报告问题的容器。当找到潜在问题时，会使用此容器来注册问题。
      * @param isOnTheFly 表示是否在飞行模式下执行检查。true表示是在用户输入时实时进行的检查，false表示是在完整项目分析时进行的检查。
+     * @param session    本地检查会话。
      * @return 返回一个实现了PsiElementVisitor接口的对象，该对象在访问Java源代码元素时会执行特定的逻辑。
      */
     @NotNull
     @Override
-    public PsiElementVisitor buildVisitor(@NotNull ProblemsHolder holder, boolean isOnTheFly) {
+    protected PsiElementVisitor buildP3cVisitor(@NotNull P3cProblemsHolder holder, boolean isOnTheFly, @NotNull LocalInspectionToolSession session) {
         // 创建并返回一个Java元素访问者，特别关注注释元素
         return new JavaElementVisitor() {
             /**
@@ -56,7 +61,7 @@ public class CommentSpacesInspection extends LocalInspectionTool {
                     char firstCharAfterSlashes = commentText.charAt(start);
                     if (firstCharAfterSlashes != ' ' || start + 1 < commentText.length() && commentText.charAt(start + 1) == ' ') {
                         // 如果检查失败，即发现不规范的注释，则注册一个问题
-                        holder.registerProblem(comment, MESSAGE, ProblemHighlightType.GENERIC_ERROR_OR_WARNING);
+                        holder.registerProblem(comment, MESSAGE.get(), ProblemHighlightType.GENERIC_ERROR_OR_WARNING);
                     }
                 }
             }
@@ -1,11 +1,12 @@
 package com.code.inspections.ali.style;
 
+import com.code.inspections.base.AbstractP3cInspection;
+import com.code.inspections.base.P3cProblemsHolder;
 import com.code.inspections.bundle.CodeInspectionsBundle;
-import com.intellij.codeInspection.AbstractBaseJavaLocalInspectionTool;
 import com.intellij.codeInspection.LocalInspectionToolSession;
 import com.intellij.codeInspection.ProblemHighlightType;
-import com.intellij.codeInspection.ProblemsHolder;
 import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.openapi.util.TextRange;
 import com.intellij.psi.PsiElementVisitor;
 import com.intellij.psi.PsiFile;
@@ -13,9 +14,8 @@ import com.intellij.psi.PsiJavaFile;
 import org.jetbrains.annotations.NotNull;
 
 import javax.swing.*;
-import javax.swing.event.DocumentEvent;
-import javax.swing.event.DocumentListener;
 import java.awt.*;
+import java.util.function.Supplier;
 
 /**
  * 【强制】单行字符数限制不超过 120 个，超出需要换行，换行时遵循如下原则：
@@ -28,29 +28,24 @@ import java.awt.*;
  * @author liuzhihang
  * @version LineLengthLimitInspection.java, v 0.1 2024/5/6 liuzhihang
  */
-public class LineLengthLimitInspection extends AbstractBaseJavaLocalInspectionTool {
-
-    /**
-     * 单行字符数限制
-     */
-    private int maxLineLength = 120;
+public class LineLengthLimitInspection extends AbstractP3cInspection {
 
     /**
      * 提示信息
      */
-    private static final String MESSAGE1 = CodeInspectionsBundle.message("ali.p3c.style.line.length.message1");
+    private static final Supplier<String> MESSAGE1 = CodeInspectionsBundle.messagePointer("ali.p3c.style.line.length.message1");
     /**
      * 提示信息
      */
-    private static final String MESSAGE2 = CodeInspectionsBundle.message("ali.p3c.style.line.length.message2");
+    private static final Supplier<String> MESSAGE2 = CodeInspectionsBundle.messagePointer("ali.p3c.style.line.length.message2");
     /**
      * 提示信息
      */
-    private static final String MESSAGE3 = CodeInspectionsBundle.message("ali.p3c.style.line.length.message3");
+    private static final Supplier<String> MESSAGE3 = CodeInspectionsBundle.messagePointer("ali.p3c.style.line.length.message3");
     /**
      * 提示信息
      */
-    private static final String MESSAGE4 = CodeInspectionsBundle.message("ali.p3c.style.line.length.message4");
+    private static final Supplier<String> MESSAGE4 = CodeInspectionsBundle.messagePointer("ali.p3c.style.line.length.message4");
 
     /**
      * 创建一个选项面板，用于设置和显示单行字符数限制。
@@ -62,42 +57,11 @@ public class LineLengthLimitInspection extends AbstractBaseJavaLocalInspectionTo
         // 创建一个使用FlowLayout左对齐的面板
         JPanel panel = new JPanel(new FlowLayout(FlowLayout.LEFT));
 
-        // 添加"单行字符数："标签
-        JLabel label = new JLabel("单行字符数：");
-        panel.add(label);
-
-        // 创建一个文本字段，用于输入单行字符数限制，并设置工具提示文本
-        JTextField inputField = new JTextField(Integer.toString(maxLineLength));
-        inputField.setToolTipText("单行字符数");
-        panel.add(inputField);
-
-        // 为文本字段添加文档监听器，以在输入时更新maxLineLength
-        inputField.getDocument().addDocumentListener(new DocumentListener() {
-            // 当文档内容插入、移除或改变时更新maxLineLength
-            @Override
-            public void insertUpdate(DocumentEvent e) {
-                updateMaxLength();
-            }
-
-            @Override
-            public void removeUpdate(DocumentEvent e) {
-                updateMaxLength();
-            }
-
-            @Override
-            public void changedUpdate(DocumentEvent e) {
-                updateMaxLength();
-            }
+        // 单行字符数是共用的应用级设置，在设置页中修改
+        addSettingsLink(panel, "在 Ali-P3C 设置中修改单行字符数");
 
-            // 更新maxLineLength，并在输入无效时回退到之前的值
-            private void updateMaxLength() {
-                try {
-                    maxLineLength = Integer.parseInt(inputField.getText());
-                } catch (NumberFormatException ex) {
-                    inputField.setText(Integer.toString(maxLineLength));
-                }
-            }
-        });
+        // 添加单文件问题数上限
+        addProblemLimitField(panel);
 
         return panel;
     }
@@ -111,7 +75,9 @@ public class LineLengthLimitInspection extends AbstractBaseJavaLocalInspectionTo
      * @return PsiElementVisitor 返回一个实现了PsiElementVisitor接口的对象，该对象会访问并检查代码元素。
      */
     @Override
-    public @NotNull PsiElementVisitor buildVisitor(@NotNull ProblemsHolder holder, boolean isOnTheFly, @NotNull LocalInspectionToolSession session) {
+    protected @NotNull PsiElementVisitor buildP3cVisitor(@NotNull P3cProblemsHolder holder, boolean isOnTheFly, @NotNull LocalInspectionToolSession session) {
+        // 单行字符数限制从文件所在目录的配置中读取
+        int maxLineLength = holder.getConfig().maxLineLength();
         return new PsiElementVisitor() {
             @Override
             public void visitFile(@NotNull PsiFile file) {
@@ -120,6 +86,11 @@ public class LineLengthLimitInspection extends AbstractBaseJavaLocalInspectionTo
                     Document document = file.getFileDocument();
                     int lineCount = document.getLineCount();
                     for (int i = 0; i < lineCount; i++) {
+                        // 已取消时抛出异常结束检查，问题数达到上限或超过时间预算后不再检查剩余的行
+                        ProgressManager.checkCanceled();
+                        if (holder.shouldStop()) {
+                            break;
+                        }
                         int startOffset = document.getLineStartOffset(i);
                         int endOffset = document.getLineEndOffset(i);
                         TextRange textRange = new TextRange(startOffset, endOffset);
@@ -137,22 +108,22 @@ public class LineLengthLimitInspection extends AbstractBaseJavaLocalInspectionTo
 
                         // 检查运算符是否出现在行尾
                         if (endsWithAny(lineText, "+", "-", "*", "/", "%", "<<", ">>", ">>>", "|", "^", "!", "~", "=", "+=", "-=", "*=", "/=", "%=", "<<=", ">>=", ">>>=", "&=", "^=", "|=")) {
-                            holder.registerProblem(file, MESSAGE1, ProblemHighlightType.GENERIC_ERROR_OR_WARNING, textRange);
+                            holder.registerProblem(file, MESSAGE1.get(), ProblemHighlightType.GENERIC_ERROR_OR_WARNING, textRange);
                         }
 
                         // 检查是否以"."结尾
                         if (lineText.endsWith(".")) {
-                            holder.registerProblem(file, MESSAGE2, ProblemHighlightType.GENERIC_ERROR_OR_WARNING, textRange);
+                            holder.registerProblem(file, MESSAGE2.get(), ProblemHighlightType.GENERIC_ERROR_OR_WARNING, textRange);
                         }
 
                         // 检查是否以","开头
                         if (lineText.startsWith(",")) {
-                            holder.registerProblem(file, MESSAGE3, ProblemHighlightType.GENERIC_ERROR_OR_WARNING, textRange);
+                            holder.registerProblem(file, MESSAGE3.get(), ProblemHighlightType.GENERIC_ERROR_OR_WARNING, textRange);
                         }
 
                         // 检查是否以"("或")"开头
                         if (lineText.startsWith("(") || lineText.startsWith(")")) {
-                            holder.registerProblem(file, MESSAGE4, ProblemHighlightType.GENERIC_ERROR_OR_WARNING, textRange);
+                            holder.registerProblem(file, MESSAGE4.get(), ProblemHighlightType.GENERIC_ERROR_OR_WARNING, textRange);
                         }
                     }
 
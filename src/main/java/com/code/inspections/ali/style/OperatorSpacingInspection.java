@@ -1,25 +1,27 @@
 package com.code.inspections.ali.style;
 
+import com.code.inspections.base.AbstractP3cInspection;
+import com.code.inspections.base.P3cProblemsHolder;
 import com.code.inspections.bundle.CodeInspectionsBundle;
-import com.intellij.codeInspection.AbstractBaseJavaLocalInspectionTool;
 import com.intellij.codeInspection.LocalInspectionToolSession;
 import com.intellij.codeInspection.ProblemHighlightType;
-import com.intellij.codeInspection.ProblemsHolder;
 import com.intellij.psi.*;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.function.Supplier;
+
 /**
  * 【强制】任何二目、三目运算符的左右两边都需要加一个空格。
  *
  * @author liuzhihang
  * @version OperatorSpacingInspection.java, v 0.1 2024/5/5 liuzhihang
  */
-public class OperatorSpacingInspection extends AbstractBaseJavaLocalInspectionTool {
+public class OperatorSpacingInspection extends AbstractP3cInspection {
 
     /**
      * 提示信息
      */
-    private static final String MESSAGE = CodeInspectionsBundle.message("ali.p3c.style.operator.spaces.message");
+    private static final Supplier<String> MESSAGE = CodeInspectionsBundle.messagePointer("ali.p3c.style.operator.spaces.message");
 
     /**
      * 构建并返回一个访问者对象，用于检查二元、赋值和三元表达式中的操作符是否符合特定要求。
@@ -30,7 +32,7 @@ public class OperatorSpacingInspection extends AbstractBaseJavaLocalInspectionTo
      * @return 返回一个实现了JavaElementVisitor接口的匿名类对象，用于访问和检查代码中的元素。
      */
     @Override
-    public @NotNull PsiElementVisitor buildVisitor(@NotNull ProblemsHolder holder, boolean isOnTheFly, @NotNull LocalInspectionToolSession session) {
+    protected @NotNull PsiElementVisitor buildP3cVisitor(@NotNull P3cProblemsHolder holder, boolean isOnTheFly, @NotNull LocalInspectionToolSession session) {
         return new JavaElementVisitor() {
             /**
              * 访问二元表达式，检查操作符。
@@ -71,7 +73,7 @@ public class OperatorSpacingInspection extends AbstractBaseJavaLocalInspectionTo
                 PsiElement nextSibling = operator.getNextSibling();
                 if ((prevSibling != null && !prevSibling.getText().equals(" ")) ||
                         (nextSibling != null && !nextSibling.getText().equals(" "))) {
-                    holder.registerProblem(operator, MESSAGE, ProblemHighlightType.GENERIC_ERROR_OR_WARNING);
+                    holder.registerProblem(operator, MESSAGE.get(), ProblemHighlightType.GENERIC_ERROR_OR_WARNING);
                 }
             }
         };
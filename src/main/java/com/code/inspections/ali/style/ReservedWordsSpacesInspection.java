@@ -1,18 +1,17 @@
 package com.code.inspections.ali.style;
 
+import com.code.inspections.base.AbstractP3cInspection;
+import com.code.inspections.base.P3cProblemsHolder;
 import com.code.inspections.bundle.CodeInspectionsBundle;
-import com.intellij.codeInspection.AbstractBaseJavaLocalInspectionTool;
+import com.code.inspections.settings.KeywordSet;
 import com.intellij.codeInspection.LocalInspectionToolSession;
-import com.intellij.codeInspection.ProblemsHolder;
 import com.intellij.psi.*;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import javax.swing.*;
 import java.awt.*;
-import java.util.HashSet;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
 
 /**
  * 【强制】if / for / while / switch / do 等保留字与左右括号之间都必须加空格。
@@ -20,23 +19,12 @@ import java.util.stream.Collectors;
  * @author liuzhihang
  * @version ReservedWordsSpacesInspection.java, v 0.1 2024/5/5 liuzhihang
  */
-public class ReservedWordsSpacesInspection extends AbstractBaseJavaLocalInspectionTool {
+public class ReservedWordsSpacesInspection extends AbstractP3cInspection {
 
     /**
      * 错误提示
      */
-    private static final String MESSAGE = CodeInspectionsBundle.message("ali.p3c.style.reserved.words.spaces.message");
-
-    /**
-     * 保留字
-     */
-    private Set<String> reservedWords = new HashSet<>() {{
-        add("if");
-        add("for");
-        add("while");
-        add("do");
-        add("switch");
-    }};
+    private static final Supplier<String> MESSAGE = CodeInspectionsBundle.messagePointer("ali.p3c.style.reserved.words.spaces.message");
 
 
     /**
@@ -50,14 +38,11 @@ public class ReservedWordsSpacesInspection extends AbstractBaseJavaLocalInspecti
         // 创建一个使用左对齐的FlowLayout的JPanel
         JPanel panel = new JPanel(new FlowLayout(FlowLayout.LEFT));
 
-        // 添加一个标签显示"保留字：" 
-        JLabel label = new JLabel("保留字：");
-        panel.add(label);
+        // 保留字是共用的应用级设置，在设置页中修改
+        addSettingsLink(panel, "在 Ali-P3C 设置中修改保留字");
 
-        // 创建一个JTextField用于输入保留字，初始值为已定义的保留字列表，长度为20个字符
-        JTextField inputField = new JTextField(reservedWords.stream().collect(Collectors.joining(",")), 20);
-        inputField.setToolTipText("请输入保留字！");
-        panel.add(inputField);
+        // 添加单文件问题数上限
+        addProblemLimitField(panel);
 
         return panel;
     }
@@ -71,14 +56,16 @@ public class ReservedWordsSpacesInspection extends AbstractBaseJavaLocalInspecti
      * @return 返回一个Java元素访问者对象，用于遍历和检查Java代码元素。
      */
     @Override
-    public PsiElementVisitor buildVisitor(@NotNull ProblemsHolder holder, boolean isOnTheFly, @NotNull LocalInspectionToolSession session) {
+    protected PsiElementVisitor buildP3cVisitor(@NotNull P3cProblemsHolder holder, boolean isOnTheFly, @NotNull LocalInspectionToolSession session) {
+        // 保留字从文件所在目录的配置中读取，按词法类型判断，不比较文本
+        KeywordSet reservedWords = holder.getConfig().reservedWords();
         return new JavaElementVisitor() {
             // 检查if、for、while、do、switch等保留字与左括号之间是否有空格
             private void checkReservedWordSpacing(PsiElement element) {
-                if (element instanceof PsiKeyword keyword && reservedWords.contains(keyword.getText())) {
+                if (element instanceof PsiKeyword keyword && reservedWords.contains(keyword.getTokenType())) {
                     PsiElement nextSibling = keyword.getNextSibling();
                     if (nextSibling != null && nextSibling.getNode().getElementType() != JavaTokenType.WHITE_SPACE) {
-                        holder.registerProblem(nextSibling, MESSAGE);
+                        holder.registerProblem(nextSibling, MESSAGE.get());
                     }
                 }
             }
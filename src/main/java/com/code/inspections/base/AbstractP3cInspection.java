@@ -0,0 +1,272 @@
+package com.code.inspections.base;
+
+import com.code.inspections.baseline.P3cBaseline;
+import com.code.inspections.bundle.CodeInspectionsBundle;
+import com.code.inspections.settings.P3cConfigSnapshot;
+import com.code.inspections.settings.P3cDirectoryConfig;
+import com.code.inspections.settings.P3cSettingsConfigurable;
+import com.intellij.codeInspection.AbstractBaseJavaLocalInspectionTool;
+import com.intellij.codeInspection.LocalInspectionToolSession;
+import com.intellij.codeInspection.ProblemDescriptor;
+import com.intellij.codeInspection.ProblemsHolder;
+import com.intellij.notification.NotificationType;
+import com.intellij.openapi.options.ShowSettingsUtil;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Key;
+import com.intellij.psi.PsiElementVisitor;
+import com.intellij.ui.components.ActionLink;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import java.awt.*;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * 所有 Ali-P3C 检查的基类。
+ * <p>
+ * 统一在构建访问者之前通过 {@link P3cFileFilter} 跳过生成代码和超大文件，并包装 {@link ProblemsHolder}，由 {@link P3cProblemsHolder} 在问题描述符创建之前完成基线过滤、问题数上限等公共处理，
+ * 子类只需要实现 {@link #buildP3cVisitor(P3cProblemsHolder, boolean, LocalInspectionToolSession)}。
+ * <p>
+ * 超过分区行数的文件由 {@link P3cFilePartitions} 按成员分区并行检查，此时同一个会话中会为每个分区各构建一个访问者，
+ * 子类的访问者不应在元素之间保存状态。
+ *
+ * @author liuzhihang
+ * @version AbstractP3cInspection.java, v 0.1 2026/10/18 liuzhihang
+ */
+public abstract class AbstractP3cInspection extends AbstractBaseJavaLocalInspectionTool {
+
+    /**
+     * 会话标记，存在时不使用基线过滤问题（例如生成基线时）
+     */
+    public static final Key<Boolean> IGNORE_BASELINE = Key.create("ali.p3c.ignore.baseline");
+
+    /**
+     * 默认的单文件问题数上限
+     */
+    public static final int DEFAULT_PROBLEM_LIMIT = 500;
+
+    /**
+     * 默认的单文件时间预算，单位毫秒
+     */
+    public static final int DEFAULT_TIME_BUDGET_MS = 1000;
+
+    /**
+     * 每个规则在会话中保存问题持有者的 Key
+     */
+    private static final Map<String, Key<P3cProblemsHolder>> HOLDER_KEYS = new ConcurrentHashMap<>();
+
+    /**
+     * 已提示过超过时间预算的规则，每个规则在一次运行期间只提示一次
+     */
+    private static final Set<String> BUDGET_NOTIFIED = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 单文件问题数上限，仅对实时检查生效，达到上限后停止检查该文件并上报一条汇总问题，小于等于 0 表示不限制
+     */
+    public int problemLimit = DEFAULT_PROBLEM_LIMIT;
+
+    /**
+     * 单文件时间预算，单位毫秒，仅对实时检查生效，超过后停止检查该文件并提示一次，小于等于 0 表示不限制。
+     * 只累加该规则自身的耗时，见 {@link P3cTimeBudget}
+     */
+    public int timeBudgetMs = DEFAULT_TIME_BUDGET_MS;
+
+    /**
+     * 构建访问者，按文件所在目录的配置跳过生成代码和超大文件，包装问题持有者后交给子类构建具体的检查访问者。
+     *
+     * @param holder     问题持有者
+     * @param isOnTheFly 是否为实时检查
+     * @param session    本地检查会话
+     * @return 检查访问者
+     */
+    @NotNull
+    @Override
+    public final PsiElementVisitor buildVisitor(@NotNull ProblemsHolder holder, boolean isOnTheFly, @NotNull LocalInspectionToolSession session) {
+        long start = System.nanoTime();
+        P3cConfigSnapshot config = P3cDirectoryConfig.getInstance(holder.getProject()).getSnapshot(holder.getFile());
+        if (P3cFileFilter.shouldSkip(holder.getFile(), config.skipPolicy())) {
+            return PsiElementVisitor.EMPTY_VISITOR;
+        }
+        P3cBaseline baseline = Boolean.TRUE.equals(session.getUserData(IGNORE_BASELINE)) ? null : P3cBaseline.getInstance(holder.getProject());
+        int limit = isOnTheFly ? problemLimit : 0;
+        P3cTimeBudget budget = isOnTheFly && timeBudgetMs > 0 ? new P3cTimeBudget(timeBudgetMs) : null;
+        P3cProblemsHolder p3cHolder = new P3cProblemsHolder(holder, getShortName(), baseline, limit, config, budget);
+        session.putUserData(getHolderKey(), p3cHolder);
+
+        // 超大文件按成员分区并行检查，问题合并后交给原始问题持有者，平台不需要再遍历
+        P3cFilePartitions partitions = P3cFilePartitions.of(holder.getFile(), config.partitionLineCount(), session);
+        if (partitions != null) {
+            // 各分区访问元素的耗时由各自的访问者累加，这里只累加分区和构建访问者的预处理
+            addElapsed(budget, start);
+            Queue<P3cProblemsHolder> partitionHolders = new ConcurrentLinkedQueue<>();
+            List<ProblemDescriptor> problems = partitions.inspect(holder, partitionHolder -> {
+                long buildStart = System.nanoTime();
+                P3cProblemsHolder partitionP3cHolder = new P3cProblemsHolder(partitionHolder, getShortName(), baseline, limit, config, budget);
+                partitionHolders.add(partitionP3cHolder);
+                PsiElementVisitor visitor = new P3cElementVisitor(buildP3cVisitor(partitionP3cHolder, isOnTheFly, session), partitionP3cHolder);
+                addElapsed(budget, buildStart);
+                return visitor;
+            });
+            if (partitionHolders.stream().anyMatch(P3cProblemsHolder::isBudgetExceeded)) {
+                p3cHolder.markBudgetExceeded();
+            }
+            for (ProblemDescriptor problem : problems) {
+                p3cHolder.registerCheckedProblem(problem);
+            }
+            partitionHolders.forEach(p3cHolder::mergeLimit);
+            return PsiElementVisitor.EMPTY_VISITOR;
+        }
+        PsiElementVisitor visitor = new P3cElementVisitor(buildP3cVisitor(p3cHolder, isOnTheFly, session), p3cHolder);
+        addElapsed(budget, start);
+        return visitor;
+    }
+
+    /**
+     * 构建具体规则的检查访问者。
+     *
+     * @param holder     包装后的问题持有者
+     * @param isOnTheFly 是否为实时检查
+     * @param session    本地检查会话
+     * @return 检查访问者
+     */
+    @NotNull
+    protected abstract PsiElementVisitor buildP3cVisitor(@NotNull P3cProblemsHolder holder, boolean isOnTheFly, @NotNull LocalInspectionToolSession session);
+
+    /**
+     * 预热，由 {@link P3cWarmUpActivity} 在项目打开后于后台线程调用，不持有读锁。
+     * 类加载时不做耗时的初始化，需要编译正则等匹配器的子类在这里提前初始化，避免第一次高亮时等待。
+     *
+     * @param project 项目
+     */
+    public void warmUp(@NotNull Project project) {
+    }
+
+    /**
+     * 把构建访问者时的预处理耗时计入时间预算
+     */
+    private static void addElapsed(@Nullable P3cTimeBudget budget, long start) {
+        if (budget != null) {
+            budget.addSince(start);
+        }
+    }
+
+    /**
+     * 文件检查结束，问题数达到上限时上报一条汇总问题，超过时间预算时提示一次。
+     *
+     * @param session        本地检查会话
+     * @param problemsHolder 问题持有者
+     */
+    @Override
+    public void inspectionFinished(@NotNull LocalInspectionToolSession session, @NotNull ProblemsHolder problemsHolder) {
+        P3cProblemsHolder holder = session.getUserData(getHolderKey());
+        if (holder != null) {
+            holder.registerLimitSummary(getDisplayName());
+            if (holder.isBudgetExceeded() && BUDGET_NOTIFIED.add(getShortName())) {
+                P3cNotifications.notify(holder.getProject(), CodeInspectionsBundle.message("ali.p3c.common.time.budget.message",
+                        getDisplayName(), holder.getFile().getName(), timeBudgetMs), NotificationType.WARNING);
+            }
+        }
+        super.inspectionFinished(session, problemsHolder);
+    }
+
+    /**
+     * 创建选项面板，默认只包含问题数上限和时间预算。
+     *
+     * @return 选项面板
+     */
+    @Override
+    public JComponent createOptionsPanel() {
+        JPanel panel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        addProblemLimitField(panel);
+        return panel;
+    }
+
+    /**
+     * 向选项面板中添加问题数上限和时间预算输入框，子类自定义选项面板时调用。
+     *
+     * @param panel 选项面板
+     */
+    protected void addProblemLimitField(@NotNull JPanel panel) {
+        panel.add(new JLabel("单文件问题数上限："));
+
+        JTextField inputField = new JTextField(Integer.toString(problemLimit), 6);
+        inputField.setToolTipText("达到上限后停止检查该文件，小于等于 0 表示不限制");
+        panel.add(inputField);
+
+        // 输入无效时保持之前的值
+        addTextChangeListener(inputField, text -> {
+            try {
+                problemLimit = Integer.parseInt(text.trim());
+            } catch (NumberFormatException ignored) {
+            }
+        });
+
+        panel.add(new JLabel("单文件时间预算（毫秒）："));
+
+        JTextField budgetField = new JTextField(Integer.toString(timeBudgetMs), 6);
+        budgetField.setToolTipText("超过后停止检查该文件并提示一次，小于等于 0 表示不限制");
+        panel.add(budgetField);
+
+        addTextChangeListener(budgetField, text -> {
+            try {
+                timeBudgetMs = Integer.parseInt(text.trim());
+            } catch (NumberFormatException ignored) {
+            }
+        });
+    }
+
+    /**
+     * 向选项面板中添加打开 Ali-P3C 设置页的链接。
+     * 类名例外后缀、保留字和单行字符数是所有检查共用的应用级设置，只在设置页中通过“应用”保存，不在检查的选项面板中直接修改。
+     *
+     * @param panel 选项面板
+     * @param text  链接文字
+     */
+    protected static void addSettingsLink(@NotNull JPanel panel, @NotNull String text) {
+        panel.add(new ActionLink(text, e -> ShowSettingsUtil.getInstance().showSettingsDialog(null, P3cSettingsConfigurable.class)));
+    }
+
+    /**
+     * 监听输入框内容变化，选项面板中需要把输入写回检查自身的字段时使用，字段随检查配置一起应用或取消。
+     *
+     * @param inputField 输入框
+     * @param listener   变化后的内容回调
+     */
+    protected static void addTextChangeListener(@NotNull JTextField inputField, @NotNull Consumer<String> listener) {
+        inputField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                listener.accept(inputField.getText());
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                listener.accept(inputField.getText());
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                listener.accept(inputField.getText());
+            }
+        });
+    }
+
+    /**
+     * 获取当前规则在会话中保存问题持有者的 Key
+     *
+     * @return Key
+     */
+    private Key<P3cProblemsHolder> getHolderKey() {
+        return HOLDER_KEYS.computeIfAbsent(getShortName(), name -> Key.create("ali.p3c.holder." + name));
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.code.inspections.base;
+
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiElementVisitor;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * 包装具体规则的访问者，在分发元素之前检查规则是否需要停止访问，并检查是否已取消。
+ * <p>
+ * 设置了时间预算时，每次访问前后读取时间，只累加具体规则访问元素的耗时，两次访问之间平台运行其他规则等的时间不计入；
+ * 每 {@link #BUDGET_CHECK_INTERVAL} 个元素检查一次是否已取消和是否超过时间预算。
+ * <p>
+ * 平台对每个元素调用 {@code element.accept(visitor)}，对于包装访问者所有元素都会回调到 {@link #visitElement(PsiElement)}，
+ * 再由元素自身分发给具体规则的访问者，因此不影响 {@code JavaElementVisitor} 的各个 visit 方法。
+ *
+ * @author liuzhihang
+ * @version P3cElementVisitor.java, v 0.1 2026/10/18 liuzhihang
+ */
+final class P3cElementVisitor extends PsiElementVisitor {
+
+    /**
+     * 检查时间预算的元素间隔，必须是 2 的幂
+     */
+    private static final int BUDGET_CHECK_INTERVAL = 64;
+
+    /**
+     * 具体规则的访问者
+     */
+    private final PsiElementVisitor delegate;
+
+    /**
+     * 问题持有者
+     */
+    private final P3cProblemsHolder holder;
+
+    /**
+     * 已访问的元素数
+     */
+    private int visited;
+
+    P3cElementVisitor(@NotNull PsiElementVisitor delegate, @NotNull P3cProblemsHolder holder) {
+        this.delegate = delegate;
+        this.holder = holder;
+    }
+
+    @Override
+    public void visitElement(@NotNull PsiElement element) {
+        // 问题数达到上限或超过时间预算后不再访问
+        if (holder.isLimitReached() || holder.isBudgetExceeded()) {
+            return;
+        }
+        if ((++visited & (BUDGET_CHECK_INTERVAL - 1)) == 0) {
+            ProgressManager.checkCanceled();
+            if (holder.shouldStop()) {
+                return;
+            }
+        }
+        holder.beginVisit();
+        try {
+            element.accept(delegate);
+        } finally {
+            holder.endVisit();
+        }
+    }
+}
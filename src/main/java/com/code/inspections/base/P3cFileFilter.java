@@ -0,0 +1,159 @@
+package com.code.inspections.base;
+
+import com.code.inspections.settings.P3cDirectoryConfig;
+import com.code.inspections.settings.SkipPolicy;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.roots.GeneratedSourcesFilter;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaCodeReferenceElement;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiModifierList;
+import com.intellij.openapi.util.text.StringUtil;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * 所有 Ali-P3C 检查共用的文件前置过滤，跳过生成代码和超大文件。
+ * <p>
+ * 判断结果缓存在 {@link VirtualFile} 上，以文件修改戳和跳过策略作为缓存条件，
+ * 同一个文件的多个规则只计算一次，文件修改或设置变更后重新计算。
+ *
+ * @author liuzhihang
+ * @version P3cFileFilter.java, v 0.1 2026/10/18 liuzhihang
+ */
+public final class P3cFileFilter {
+
+    /**
+     * 缓存判断结果的 Key
+     */
+    private static final Key<Decision> DECISION_KEY = Key.create("ali.p3c.skip.decision");
+
+    /**
+     * 只在文件头部查找生成代码标记
+     */
+    private static final int HEADER_LENGTH = 4096;
+
+    private P3cFileFilter() {
+    }
+
+    /**
+     * 判断是否跳过文件
+     *
+     * @param file 文件
+     * @return 需要跳过返回 true
+     */
+    public static boolean shouldSkip(@NotNull PsiFile file) {
+        return shouldSkip(file, P3cDirectoryConfig.getInstance(file.getProject()).getSnapshot(file).skipPolicy());
+    }
+
+    /**
+     * 按指定的跳过策略判断是否跳过文件
+     *
+     * @param file   文件
+     * @param policy 文件所在目录的跳过策略
+     * @return 需要跳过返回 true
+     */
+    public static boolean shouldSkip(@NotNull PsiFile file, @NotNull SkipPolicy policy) {
+        if (!policy.enabled()) {
+            return false;
+        }
+        VirtualFile virtualFile = file.getOriginalFile().getVirtualFile();
+        if (virtualFile == null) {
+            return false;
+        }
+        long stamp = file.getModificationStamp();
+        Decision decision = virtualFile.getUserData(DECISION_KEY);
+        if (decision != null && decision.stamp == stamp && decision.policy == policy) {
+            return decision.skip;
+        }
+        boolean skip = computeSkip(file, virtualFile, policy);
+        virtualFile.putUserData(DECISION_KEY, new Decision(stamp, policy, skip));
+        return skip;
+    }
+
+    /**
+     * 计算是否跳过文件，依次判断大小、行数、输出目录、头部标记和 {@code @Generated} 注解，按开销从小到大排列
+     *
+     * @param file        文件
+     * @param virtualFile 虚拟文件
+     * @param policy      跳过策略
+     * @return 需要跳过返回 true
+     */
+    private static boolean computeSkip(@NotNull PsiFile file, @NotNull VirtualFile virtualFile, @NotNull SkipPolicy policy) {
+        if (policy.maxFileSize() > 0 && file.getTextLength() > policy.maxFileSize()) {
+            return true;
+        }
+        if (policy.maxLineCount() > 0 && lineCount(file) > policy.maxLineCount()) {
+            return true;
+        }
+        String path = virtualFile.getPath();
+        for (String segment : policy.directorySegments()) {
+            if (path.contains(segment)) {
+                return true;
+            }
+        }
+        if (GeneratedSourcesFilter.isGeneratedSourceByAnyFilter(virtualFile, file.getProject())) {
+            return true;
+        }
+        CharSequence text = file.getViewProvider().getContents();
+        CharSequence header = text.subSequence(0, Math.min(text.length(), HEADER_LENGTH));
+        for (String marker : policy.markers()) {
+            if (StringUtil.contains(header, marker)) {
+                return true;
+            }
+        }
+        return hasGeneratedAnnotation(file);
+    }
+
+    /**
+     * 获取文件行数，优先使用文档中已计算的行数
+     *
+     * @param file 文件
+     * @return 行数
+     */
+    static int lineCount(@NotNull PsiFile file) {
+        Document document = file.getViewProvider().getDocument();
+        if (document != null) {
+            return document.getLineCount();
+        }
+        return StringUtil.countNewLines(file.getViewProvider().getContents()) + 1;
+    }
+
+    /**
+     * 顶层类是否有 {@code @Generated} 注解，只比较注解的短名称，不需要解析引用
+     *
+     * @param file 文件
+     * @return 有注解返回 true
+     */
+    private static boolean hasGeneratedAnnotation(@NotNull PsiFile file) {
+        if (!(file instanceof PsiJavaFile javaFile)) {
+            return false;
+        }
+        for (PsiClass psiClass : javaFile.getClasses()) {
+            PsiModifierList modifierList = psiClass.getModifierList();
+            if (modifierList == null) {
+                continue;
+            }
+            for (PsiAnnotation annotation : modifierList.getAnnotations()) {
+                PsiJavaCodeReferenceElement reference = annotation.getNameReferenceElement();
+                if (reference != null && "Generated".equals(reference.getReferenceName())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 缓存的判断结果
+     *
+     * @param stamp  文件修改戳
+     * @param policy 计算时使用的跳过策略
+     * @param skip   是否跳过
+     */
+    private record Decision(long stamp, SkipPolicy policy, boolean skip) {
+    }
+}
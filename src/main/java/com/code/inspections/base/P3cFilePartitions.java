@@ -0,0 +1,198 @@
+package com.code.inspections.base;
+
+import com.intellij.codeInspection.LocalInspectionToolSession;
+import com.intellij.codeInspection.ProblemDescriptor;
+import com.intellij.codeInspection.ProblemsHolder;
+import com.intellij.concurrency.JobLauncher;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.util.TextRange;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiElementVisitor;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiMember;
+import com.intellij.psi.PsiRecursiveElementWalkingVisitor;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 超大文件的分区并行检查。
+ * <p>
+ * 按类的成员边界把文件切分为若干分区：第一个分区是文件本身，但不进入其他分区的成员，包含包声明、导入和类的声明头等；
+ * 其余分区各包含若干个相邻的成员，超过分区大小的嵌套类继续按它的成员切分。
+ * 各分区通过 {@link JobLauncher} 在 fork-join 线程池中并行运行同一个规则，沿用调用方的读锁和进度，调用方取消时所有分区随之停止。
+ * 每个分区使用独立的问题持有者，全部完成后按问题在文件中的位置合并。
+ * <p>
+ * 分区结果以文件修改为条件缓存在文件上，同一个文件的多个规则共用。
+ *
+ * @author liuzhihang
+ * @version P3cFilePartitions.java, v 0.1 2026/10/18 liuzhihang
+ */
+final class P3cFilePartitions {
+
+    /**
+     * 每个处理器分配的分区数，分区多于处理器数以平衡各分区耗时的差异
+     */
+    private static final int PARTITIONS_PER_PROCESSOR = 4;
+
+    /**
+     * 各分区的根元素，第一个分区为文件本身
+     */
+    private final List<List<PsiElement>> partitions;
+
+    /**
+     * 第一个分区不进入的成员
+     */
+    private final Set<PsiElement> members;
+
+    private P3cFilePartitions(List<List<PsiElement>> partitions, Set<PsiElement> members) {
+        this.partitions = partitions;
+        this.members = members;
+    }
+
+    /**
+     * 获取文件的分区，需要持有读锁
+     *
+     * @param file      文件
+     * @param lineCount 超过该行数的文件才分区，小于等于 0 表示不分区
+     * @param session   本地检查会话，只检查文件的一部分时不分区
+     * @return 分区，不需要分区时返回 null
+     */
+    @Nullable
+    static P3cFilePartitions of(@NotNull PsiFile file, int lineCount, @NotNull LocalInspectionToolSession session) {
+        if (lineCount <= 0 || !(file instanceof PsiJavaFile) || !session.getRestrictRange().contains(file.getTextRange())
+                || P3cFileFilter.lineCount(file) <= lineCount) {
+            return null;
+        }
+        P3cFilePartitions partitions = CachedValuesManager.getCachedValue(file,
+                () -> CachedValueProvider.Result.create(compute((PsiJavaFile) file), file));
+        return partitions.partitions.size() > 2 ? partitions : null;
+    }
+
+    /**
+     * 按成员文本长度把成员均匀地分配到分区中
+     *
+     * @param file 文件
+     * @return 分区
+     */
+    private static P3cFilePartitions compute(PsiJavaFile file) {
+        int target = Math.max(1, file.getTextLength() / (Runtime.getRuntime().availableProcessors() * PARTITIONS_PER_PROCESSOR));
+        List<PsiMember> members = new ArrayList<>();
+        for (PsiClass psiClass : file.getClasses()) {
+            collectMembers(psiClass, target, members);
+        }
+
+        List<List<PsiElement>> partitions = new ArrayList<>();
+        partitions.add(List.of(file));
+        List<PsiElement> current = new ArrayList<>();
+        int length = 0;
+        for (PsiMember member : members) {
+            current.add(member);
+            length += member.getTextLength();
+            if (length >= target) {
+                partitions.add(current);
+                current = new ArrayList<>();
+                length = 0;
+            }
+        }
+        if (!current.isEmpty()) {
+            partitions.add(current);
+        }
+        return new P3cFilePartitions(partitions, new HashSet<>(members));
+    }
+
+    /**
+     * 收集类的成员，超过分区大小的嵌套类展开为它的成员，类的声明头留在第一个分区
+     */
+    private static void collectMembers(PsiClass psiClass, int target, List<PsiMember> members) {
+        for (PsiElement child = psiClass.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child instanceof PsiClass inner && inner.getTextLength() > target) {
+                collectMembers(inner, target, members);
+            } else if (child instanceof PsiMember member) {
+                members.add(member);
+            }
+        }
+    }
+
+    /**
+     * 并行检查各分区
+     *
+     * @param holder  平台传入的问题持有者，用于创建各分区的问题持有者
+     * @param visitor 按分区的问题持有者构建规则的访问者，每个分区调用一次，可能在不同线程中调用
+     * @return 按位置排列的问题
+     */
+    @NotNull
+    List<ProblemDescriptor> inspect(@NotNull ProblemsHolder holder, @NotNull Function<ProblemsHolder, PsiElementVisitor> visitor) {
+        @SuppressWarnings("unchecked")
+        List<ProblemDescriptor>[] results = new List[partitions.size()];
+        List<Integer> indexes = new ArrayList<>();
+        for (int i = 0; i < partitions.size(); i++) {
+            indexes.add(i);
+        }
+        JobLauncher.getInstance().invokeConcurrentlyUnderProgress(indexes, ProgressManager.getInstance().getProgressIndicator(), index -> {
+            ProblemsHolder partitionHolder = new ProblemsHolder(holder.getManager(), holder.getFile(), holder.isOnTheFly());
+            walk(partitions.get(index), index == 0, visitor.apply(partitionHolder));
+            results[index] = partitionHolder.getResults();
+            return true;
+        });
+        return merge(results);
+    }
+
+    private void walk(List<PsiElement> roots, boolean skipMembers, PsiElementVisitor visitor) {
+        PsiRecursiveElementWalkingVisitor walker = new PsiRecursiveElementWalkingVisitor() {
+            @Override
+            public void visitElement(@NotNull PsiElement element) {
+                if (skipMembers && members.contains(element)) {
+                    return;
+                }
+                ProgressManager.checkCanceled();
+                element.accept(visitor);
+                super.visitElement(element);
+            }
+        };
+        for (PsiElement root : roots) {
+            root.accept(walker);
+        }
+    }
+
+    /**
+     * 按问题开始位置合并，位置相同时保持分区顺序
+     */
+    private static List<ProblemDescriptor> merge(List<ProblemDescriptor>[] results) {
+        List<ProblemDescriptor> merged = new ArrayList<>();
+        for (List<ProblemDescriptor> result : results) {
+            if (result != null) {
+                merged.addAll(result);
+            }
+        }
+        long[] keys = new long[merged.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = (long) startOffset(merged.get(i)) << 32 | i;
+        }
+        Arrays.sort(keys);
+        List<ProblemDescriptor> sorted = new ArrayList<>(keys.length);
+        for (long key : keys) {
+            sorted.add(merged.get((int) key));
+        }
+        return sorted;
+    }
+
+    private static int startOffset(ProblemDescriptor descriptor) {
+        PsiElement element = descriptor.getStartElement();
+        if (element == null) {
+            return 0;
+        }
+        TextRange range = descriptor.getTextRangeInElement();
+        return element.getTextRange().getStartOffset() + (range == null ? 0 : range.getStartOffset());
+    }
+}
@@ -0,0 +1,97 @@
+package com.code.inspections.base;
+
+import com.intellij.codeInsight.daemon.HighlightDisplayKey;
+import com.intellij.codeInspection.InspectionManager;
+import com.intellij.codeInspection.LocalInspectionToolSession;
+import com.intellij.codeInspection.ProblemDescriptor;
+import com.intellij.codeInspection.ProblemsHolder;
+import com.intellij.codeInspection.ex.InspectionProfileImpl;
+import com.intellij.codeInspection.ex.InspectionToolWrapper;
+import com.intellij.codeInspection.ex.LocalInspectionToolWrapper;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.profile.codeInspection.InspectionProjectProfileManager;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiElementVisitor;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiRecursiveElementWalkingVisitor;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * 在编辑器高亮之外运行 Ali-P3C 检查，例如生成基线、批量统计等场景。
+ * <p>
+ * 调用方需要持有读锁。索引未就绪时只运行声明了 {@link com.intellij.openapi.project.DumbAware} 的检查，
+ * 需要全部规则的结果时，调用方应通过 {@link DumbService#runReadActionInSmartMode} 等待索引就绪。
+ *
+ * @author liuzhihang
+ * @version P3cInspectionRunner.java, v 0.1 2026/10/18 liuzhihang
+ */
+public final class P3cInspectionRunner {
+
+    private P3cInspectionRunner() {
+    }
+
+    /**
+     * 获取当前检查配置中已启用的 Ali-P3C 检查
+     *
+     * @param project 项目
+     * @return 已启用的检查
+     */
+    @NotNull
+    public static List<AbstractP3cInspection> getEnabledInspections(@NotNull Project project) {
+        InspectionProfileImpl profile = InspectionProjectProfileManager.getInstance(project).getCurrentProfile();
+        List<AbstractP3cInspection> inspections = new ArrayList<>();
+        for (InspectionToolWrapper<?, ?> wrapper : profile.getInspectionTools(null)) {
+            if (wrapper instanceof LocalInspectionToolWrapper localWrapper
+                    && localWrapper.getTool() instanceof AbstractP3cInspection inspection
+                    && profile.isToolEnabled(HighlightDisplayKey.find(wrapper.getShortName()), null)) {
+                inspections.add(inspection);
+            }
+        }
+        return inspections;
+    }
+
+    /**
+     * 对文件运行检查
+     *
+     * @param file           文件
+     * @param inspections    检查
+     * @param ignoreBaseline 是否忽略基线
+     * @param consumer       问题回调
+     */
+    public static void inspect(@NotNull PsiFile file, @NotNull List<? extends AbstractP3cInspection> inspections, boolean ignoreBaseline,
+                               @NotNull BiConsumer<? super AbstractP3cInspection, ? super ProblemDescriptor> consumer) {
+        // 生成代码和超大文件不需要遍历
+        if (P3cFileFilter.shouldSkip(file)) {
+            return;
+        }
+        InspectionManager manager = InspectionManager.getInstance(file.getProject());
+        for (AbstractP3cInspection inspection : DumbService.getInstance(file.getProject()).filterByDumbAwareness(inspections)) {
+            ProblemsHolder holder = new ProblemsHolder(manager, file, false);
+            LocalInspectionToolSession session = new LocalInspectionToolSession(file, file.getTextRange(), file.getTextRange(), null);
+            if (ignoreBaseline) {
+                session.putUserData(AbstractP3cInspection.IGNORE_BASELINE, Boolean.TRUE);
+            }
+            inspection.inspectionStarted(session, false);
+            PsiElementVisitor visitor = inspection.buildVisitor(holder, false, session);
+            // 跳过的文件和分区检查过的超大文件返回空访问者，不需要再遍历
+            if (visitor != PsiElementVisitor.EMPTY_VISITOR) {
+                file.accept(new PsiRecursiveElementWalkingVisitor() {
+                    @Override
+                    public void visitElement(@NotNull PsiElement element) {
+                        element.accept(visitor);
+                        super.visitElement(element);
+                    }
+                });
+            }
+            inspection.inspectionFinished(session, holder);
+            for (ProblemDescriptor descriptor : holder.getResults()) {
+                consumer.accept(inspection, descriptor);
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.code.inspections.base;
+
+import com.intellij.notification.NotificationGroupManager;
+import com.intellij.notification.NotificationType;
+import com.intellij.openapi.project.Project;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Ali-P3C 通知。
+ *
+ * @author liuzhihang
+ * @version P3cNotifications.java, v 0.1 2026/10/18 liuzhihang
+ */
+public final class P3cNotifications {
+
+    /**
+     * 通知分组，与 plugin.xml 中注册的 notificationGroup 一致
+     */
+    public static final String GROUP = "Ali-P3C";
+
+    private P3cNotifications() {
+    }
+
+    /**
+     * 发送通知
+     *
+     * @param project 项目
+     * @param content 内容
+     * @param type    类型
+     */
+    public static void notify(@Nullable Project project, @NotNull String content, @NotNull NotificationType type) {
+        NotificationGroupManager.getInstance().getNotificationGroup(GROUP).createNotification(content, type).notify(project);
+    }
+}
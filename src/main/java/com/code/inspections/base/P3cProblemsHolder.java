@@ -0,0 +1,304 @@
+package com.code.inspections.base;
+
+import com.code.inspections.baseline.P3cBaseline;
+import com.code.inspections.bundle.CodeInspectionsBundle;
+import com.code.inspections.settings.P3cConfigSnapshot;
+import com.intellij.codeInspection.LocalQuickFix;
+import com.intellij.codeInspection.ProblemDescriptor;
+import com.intellij.codeInspection.ProblemHighlightType;
+import com.intellij.codeInspection.ProblemsHolder;
+import com.intellij.openapi.util.TextRange;
+import com.intellij.psi.PsiElement;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Ali-P3C 检查使用的问题持有者。
+ * <p>
+ * 在创建 {@link ProblemDescriptor} 之前判断问题是否需要上报，被过滤的问题不会分配描述符和快速修复，
+ * 通过过滤的问题转交给平台传入的原始问题持有者。
+ * <p>
+ * 单个文件的问题数达到上限后不再上报，检查结束时由 {@link #registerLimitSummary(String)} 上报一条汇总问题，
+ * 汇总中的问题数包括达到上限后仍然发现的问题；达到上限后不再访问其余元素，因此只是实际问题数的下限。
+ * 设置了时间预算时，访问元素的耗时由 {@link P3cElementVisitor} 通过 {@link #beginVisit()} 和 {@link #endVisit()} 累加，
+ * 超过预算后同样停止检查，由调用方在检查结束时提示。
+ *
+ * @author liuzhihang
+ * @version P3cProblemsHolder.java, v 0.1 2026/10/18 liuzhihang
+ */
+public class P3cProblemsHolder extends ProblemsHolder {
+
+    /**
+     * 平台传入的原始问题持有者
+     */
+    private final ProblemsHolder delegate;
+
+    /**
+     * 规则标识，即检查的 shortName
+     */
+    private final String ruleKey;
+
+    /**
+     * 基线，为 null 时不过滤
+     */
+    @Nullable
+    private final P3cBaseline baseline;
+
+    /**
+     * 问题数上限，小于等于 0 表示不限制
+     */
+    private final int limit;
+
+    /**
+     * 文件所在目录的有效配置
+     */
+    private final P3cConfigSnapshot config;
+
+    /**
+     * 时间预算，为 null 时不限制
+     */
+    @Nullable
+    private final P3cTimeBudget budget;
+
+    /**
+     * 正在访问的元素的开始时间，取自 {@link System#nanoTime()}
+     */
+    private long visitStart;
+
+    /**
+     * 是否正在访问元素
+     */
+    private boolean visiting;
+
+    /**
+     * 已上报的问题数
+     */
+    private int count;
+
+    /**
+     * 达到上限后发现但没有上报的问题数
+     */
+    private int dropped;
+
+    /**
+     * 是否已达到问题数上限
+     */
+    private volatile boolean limitReached;
+
+    /**
+     * 是否已超过时间预算
+     */
+    private volatile boolean budgetExceeded;
+
+    /**
+     * 构造函数
+     *
+     * @param delegate 原始问题持有者
+     * @param ruleKey  规则标识
+     * @param baseline 基线，为 null 时不过滤
+     * @param limit    问题数上限，小于等于 0 表示不限制
+     * @param config   文件所在目录的有效配置
+     */
+    public P3cProblemsHolder(@NotNull ProblemsHolder delegate, @NotNull String ruleKey, @Nullable P3cBaseline baseline, int limit,
+                             @NotNull P3cConfigSnapshot config) {
+        this(delegate, ruleKey, baseline, limit, config, null);
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param delegate 原始问题持有者
+     * @param ruleKey  规则标识
+     * @param baseline 基线，为 null 时不过滤
+     * @param limit    问题数上限，小于等于 0 表示不限制
+     * @param config   文件所在目录的有效配置
+     * @param budget   时间预算，为 null 时不限制
+     */
+    P3cProblemsHolder(@NotNull ProblemsHolder delegate, @NotNull String ruleKey, @Nullable P3cBaseline baseline, int limit,
+                      @NotNull P3cConfigSnapshot config, @Nullable P3cTimeBudget budget) {
+        super(delegate.getManager(), delegate.getFile(), delegate.isOnTheFly());
+        this.delegate = delegate;
+        this.ruleKey = ruleKey;
+        this.baseline = baseline;
+        this.limit = limit;
+        this.config = config;
+        this.budget = budget;
+    }
+
+    /**
+     * 获取规则标识
+     *
+     * @return 规则标识
+     */
+    @NotNull
+    public String getRuleKey() {
+        return ruleKey;
+    }
+
+    /**
+     * 获取文件所在目录的有效配置，规则需要读取配置时使用
+     *
+     * @return 配置快照
+     */
+    @NotNull
+    public P3cConfigSnapshot getConfig() {
+        return config;
+    }
+
+    /**
+     * 是否已达到问题数上限，规则内部有循环时可以据此提前结束
+     *
+     * @return 已达到上限返回 true
+     */
+    public boolean isLimitReached() {
+        return limitReached;
+    }
+
+    /**
+     * 是否需要停止检查：问题数达到上限或超过时间预算。规则内部有随文件大小增长的循环时应据此提前结束
+     *
+     * @return 需要停止返回 true
+     */
+    public boolean shouldStop() {
+        if (limitReached || budgetExceeded) {
+            return true;
+        }
+        // 规则在一次访问中循环时，正在进行的访问也计入
+        if (budget != null && budget.isExceeded(visiting ? System.nanoTime() - visitStart : 0)) {
+            budgetExceeded = true;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 开始访问一个元素，到 {@link #endVisit()} 之间的耗时计入时间预算
+     */
+    void beginVisit() {
+        if (budget != null) {
+            visitStart = System.nanoTime();
+            visiting = true;
+        }
+    }
+
+    /**
+     * 结束访问一个元素
+     */
+    void endVisit() {
+        if (budget != null) {
+            budget.addSince(visitStart);
+            visiting = false;
+        }
+    }
+
+    /**
+     * 是否因超过时间预算停止了检查
+     *
+     * @return 超过时间预算返回 true
+     */
+    public boolean isBudgetExceeded() {
+        return budgetExceeded;
+    }
+
+    /**
+     * 标记已超过时间预算，分区检查中任一分区超过预算时由调用方标记
+     */
+    void markBudgetExceeded() {
+        budgetExceeded = true;
+    }
+
+    /**
+     * 合并分区的问题数上限：分区达到上限时整个文件也视为达到上限，并计入分区没有上报的问题数
+     *
+     * @param partition 分区的问题持有者
+     */
+    void mergeLimit(@NotNull P3cProblemsHolder partition) {
+        if (partition.limitReached) {
+            limitReached = true;
+            dropped += partition.dropped;
+        }
+    }
+
+    /**
+     * 已达到问题数上限时上报一条汇总问题，包括已发现的问题数和已上报的问题数
+     *
+     * @param displayName 规则名称
+     */
+    public void registerLimitSummary(@NotNull String displayName) {
+        if (limitReached) {
+            String message = CodeInspectionsBundle.message("ali.p3c.common.problem.limit.message", displayName, count + dropped, count);
+            delegate.registerProblem(getManager().createProblemDescriptor(getFile(), message, isOnTheFly(), LocalQuickFix.EMPTY_ARRAY, ProblemHighlightType.GENERIC_ERROR_OR_WARNING));
+        }
+    }
+
+    @Override
+    public void registerProblem(@NotNull PsiElement psiElement, @NotNull String descriptionTemplate, LocalQuickFix... fixes) {
+        registerProblem(psiElement, descriptionTemplate, ProblemHighlightType.GENERIC_ERROR_OR_WARNING, fixes);
+    }
+
+    @Override
+    public void registerProblem(@NotNull PsiElement psiElement, @NotNull String descriptionTemplate, @NotNull ProblemHighlightType highlightType, LocalQuickFix... fixes) {
+        if (accept(psiElement, null)) {
+            registerProblem(getManager().createProblemDescriptor(psiElement, descriptionTemplate, isOnTheFly(), fixes, highlightType));
+        }
+    }
+
+    @Override
+    public void registerProblem(@NotNull PsiElement psiElement, @Nullable TextRange rangeInElement, @NotNull String message, LocalQuickFix... fixes) {
+        registerProblem(psiElement, message, ProblemHighlightType.GENERIC_ERROR_OR_WARNING, rangeInElement, fixes);
+    }
+
+    @Override
+    public void registerProblem(@NotNull PsiElement psiElement, @NotNull String message, @NotNull ProblemHighlightType highlightType, @Nullable TextRange rangeInElement, LocalQuickFix... fixes) {
+        if (accept(psiElement, rangeInElement)) {
+            registerProblem(getManager().createProblemDescriptor(psiElement, rangeInElement, message, highlightType, isOnTheFly(), fixes));
+        }
+    }
+
+    /**
+     * 已经创建好的问题描述符直接交给原始问题持有者。
+     *
+     * @param problemDescriptor 问题描述符
+     */
+    @Override
+    public void registerProblem(@NotNull ProblemDescriptor problemDescriptor) {
+        delegate.registerProblem(problemDescriptor);
+    }
+
+    /**
+     * 上报分区检查中已经通过基线过滤的问题，只计算问题数上限。
+     *
+     * @param problemDescriptor 问题描述符
+     */
+    void registerCheckedProblem(@NotNull ProblemDescriptor problemDescriptor) {
+        if (limitReached || (limit > 0 && count >= limit)) {
+            limitReached = true;
+            dropped++;
+            return;
+        }
+        count++;
+        delegate.registerProblem(problemDescriptor);
+    }
+
+    /**
+     * 判断问题是否需要上报，此时还没有创建问题描述符。
+     *
+     * @param psiElement     问题所在元素
+     * @param rangeInElement 元素内的范围
+     * @return 需要上报返回 true
+     */
+    protected boolean accept(@NotNull PsiElement psiElement, @Nullable TextRange rangeInElement) {
+        if (baseline != null && baseline.contains(ruleKey, psiElement, rangeInElement)) {
+            return false;
+        }
+        // 达到上限后只计数，不创建问题描述符
+        if (limitReached || (limit > 0 && count >= limit)) {
+            limitReached = true;
+            dropped++;
+            return false;
+        }
+        count++;
+        return true;
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.code.inspections.base;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 单个规则检查一个文件的时间预算，只累加规则自身的耗时：构建访问者时的预处理，以及每次访问元素的耗时。
+ * <p>
+ * 平台在两次访问之间还会运行其他规则、等待读锁或被写操作打断，这段时间不属于该规则，不计入预算。
+ * 分区并行检查时各分区共用一个预算，累加所有分区的耗时。
+ *
+ * @author liuzhihang
+ * @version P3cTimeBudget.java, v 0.1 2026/10/18 liuzhihang
+ */
+final class P3cTimeBudget {
+
+    /**
+     * 预算，单位纳秒
+     */
+    private final long budgetNanos;
+
+    /**
+     * 已累加的耗时，单位纳秒
+     */
+    private final AtomicLong spentNanos = new AtomicLong();
+
+    /**
+     * 构造函数
+     *
+     * @param budgetMs 预算，单位毫秒
+     */
+    P3cTimeBudget(int budgetMs) {
+        this.budgetNanos = budgetMs * 1_000_000L;
+    }
+
+    /**
+     * 累加从指定时间到现在的耗时
+     *
+     * @param start 开始时间，取自 {@link System#nanoTime()}
+     */
+    void addSince(long start) {
+        spentNanos.addAndGet(System.nanoTime() - start);
+    }
+
+    /**
+     * 判断是否已超过预算
+     *
+     * @param runningNanos 正在进行、尚未累加的耗时
+     * @return 超过预算返回 true
+     */
+    boolean isExceeded(long runningNanos) {
+        return spentNanos.get() + runningNanos > budgetNanos;
+    }
+}
@@ -0,0 +1,57 @@
+package com.code.inspections.base;
+
+import com.code.inspections.bundle.CodeInspectionsBundle;
+import com.code.inspections.settings.P3cSettings;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.startup.StartupActivity;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * 项目打开后在后台线程预热 Ali-P3C 检查：加载设置和资源包，创建已启用的检查实例，并调用 {@link AbstractP3cInspection#warmUp(Project)}
+ * 编译匹配器和自定义规则，第一次高亮时不再承担这些开销。
+ * <p>
+ * 可以在设置中关闭，不影响检查结果；索引期间同样执行。
+ *
+ * @author liuzhihang
+ * @version P3cWarmUpActivity.java, v 0.1 2026/10/18 liuzhihang
+ */
+public final class P3cWarmUpActivity implements StartupActivity.DumbAware {
+
+    private static final Logger LOG = Logger.getInstance(P3cWarmUpActivity.class);
+
+    @Override
+    public void runActivity(@NotNull Project project) {
+        if (ApplicationManager.getApplication().isUnitTestMode() || !P3cSettings.getInstance().getState().warmUpOnStartup) {
+            return;
+        }
+        AppExecutorUtil.getAppExecutorService().execute(() -> warmUp(project));
+    }
+
+    private static void warmUp(Project project) {
+        long start = System.nanoTime();
+        try {
+            P3cSettings.getInstance().getSnapshot();
+            CodeInspectionsBundle.message("ali.p3c.name.convention.message");
+            List<AbstractP3cInspection> inspections = ReadAction.compute(() -> project.isDisposed()
+                    ? List.<AbstractP3cInspection>of() : P3cInspectionRunner.getEnabledInspections(project));
+            for (AbstractP3cInspection inspection : inspections) {
+                if (project.isDisposed()) {
+                    return;
+                }
+                inspection.warmUp(project);
+            }
+            LOG.info("Ali-P3C warm-up finished in " + (System.nanoTime() - start) / 1_000_000 + " ms, " + inspections.size() + " inspections");
+        } catch (ProcessCanceledException ignored) {
+            // 项目关闭或应用退出
+        } catch (RuntimeException e) {
+            LOG.warn("Ali-P3C warm-up failed", e);
+        }
+    }
+}
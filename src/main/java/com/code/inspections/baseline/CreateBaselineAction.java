@@ -0,0 +1,104 @@
+package com.code.inspections.baseline;
+
+import com.code.inspections.base.AbstractP3cInspection;
+import com.code.inspections.base.P3cInspectionRunner;
+import com.code.inspections.base.P3cNotifications;
+import com.code.inspections.bundle.CodeInspectionsBundle;
+import com.intellij.codeInsight.daemon.DaemonCodeAnalyzer;
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.notification.NotificationType;
+import com.intellij.openapi.actionSystem.ActionUpdateThread;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.search.FileTypeIndex;
+import com.intellij.psi.search.GlobalSearchScope;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 对整个项目运行 Ali-P3C 检查，并将现有问题全部记录到基线文件中。
+ * <p>
+ * 基线需要包含所有规则的问题，文件列表和每个文件的检查都在索引就绪后执行，索引期间等待而不是跳过依赖索引的规则。
+ *
+ * @author liuzhihang
+ * @version CreateBaselineAction.java, v 0.1 2026/10/18 liuzhihang
+ */
+public class CreateBaselineAction extends AnAction {
+
+    @NotNull
+    @Override
+    public ActionUpdateThread getActionUpdateThread() {
+        return ActionUpdateThread.BGT;
+    }
+
+    @Override
+    public void update(@NotNull AnActionEvent e) {
+        e.getPresentation().setEnabledAndVisible(e.getProject() != null);
+    }
+
+    @Override
+    public void actionPerformed(@NotNull AnActionEvent e) {
+        Project project = e.getProject();
+        if (project == null) {
+            return;
+        }
+        new Task.Backgroundable(project, CodeInspectionsBundle.message("ali.p3c.baseline.progress"), true) {
+
+            /**
+             * 记录数
+             */
+            private int count;
+
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                DumbService dumbService = DumbService.getInstance(project);
+                List<VirtualFile> files = dumbService.runReadActionInSmartMode(() -> new ArrayList<>(FileTypeIndex.getFiles(JavaFileType.INSTANCE, GlobalSearchScope.projectScope(project))));
+                List<AbstractP3cInspection> inspections = ReadAction.compute(() -> P3cInspectionRunner.getEnabledInspections(project));
+                List<String> entries = new ArrayList<>();
+                indicator.setIndeterminate(false);
+                for (int i = 0; i < files.size(); i++) {
+                    indicator.checkCanceled();
+                    indicator.setFraction((double) i / files.size());
+                    VirtualFile file = files.get(i);
+                    dumbService.runReadActionInSmartMode(() -> {
+                        PsiFile psiFile = file.isValid() ? PsiManager.getInstance(project).findFile(file) : null;
+                        if (psiFile != null) {
+                            P3cInspectionRunner.inspect(psiFile, inspections, true, (inspection, descriptor) -> {
+                                String entry = P3cBaseline.toEntry(inspection.getShortName(), descriptor);
+                                if (entry != null) {
+                                    entries.add(entry);
+                                }
+                            });
+                        }
+                    });
+                }
+                try {
+                    P3cBaseline.getInstance(project).save(entries);
+                    count = entries.size();
+                } catch (IOException ex) {
+                    P3cNotifications.notify(project, CodeInspectionsBundle.message("ali.p3c.baseline.failed", ex.getMessage()), NotificationType.ERROR);
+                    count = -1;
+                }
+            }
+
+            @Override
+            public void onSuccess() {
+                if (count >= 0) {
+                    DaemonCodeAnalyzer.getInstance(project).restart();
+                    P3cNotifications.notify(project, CodeInspectionsBundle.message("ali.p3c.baseline.created", count), NotificationType.INFORMATION);
+                }
+            }
+        }.queue();
+    }
+}
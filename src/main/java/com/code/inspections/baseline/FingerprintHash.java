@@ -0,0 +1,88 @@
+package com.code.inspections.baseline;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * 违规指纹的哈希计算，不依赖 IntelliJ 平台。
+ * <p>
+ * IDE 中由 {@link ViolationFingerprint} 从 PSI 计算成员签名，独立引擎、编译期插件和语言服务器从 javac 语法树计算，
+ * 相同的规则、成员签名和行内容得到相同的指纹，各端共用同一份基线。
+ *
+ * @author liuzhihang
+ * @version FingerprintHash.java, v 0.1 2026/10/18 liuzhihang
+ */
+public final class FingerprintHash {
+
+    /**
+     * FNV-1a 初始值
+     */
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+
+    /**
+     * FNV-1a 乘数
+     */
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    /**
+     * 各部分之间的分隔符
+     */
+    private static final char SEPARATOR = '\u0000';
+
+    private FingerprintHash() {
+    }
+
+    /**
+     * 计算问题的指纹
+     *
+     * @param ruleKey   规则标识
+     * @param signature 问题所在成员的签名
+     * @param text      文件内容
+     * @param offset    问题在文件中的偏移量
+     * @return 指纹
+     */
+    public static long compute(@NotNull String ruleKey, @NotNull String signature, @NotNull CharSequence text, int offset) {
+        long hash = hash(FNV_OFFSET, ruleKey);
+        hash = hash(hash, signature);
+        return hashLine(hash, text, offset);
+    }
+
+    /**
+     * 累加字符串的哈希值
+     *
+     * @param hash 当前哈希值
+     * @param text 字符串
+     * @return 新的哈希值
+     */
+    private static long hash(long hash, CharSequence text) {
+        for (int i = 0; i < text.length(); i++) {
+            hash = (hash ^ text.charAt(i)) * FNV_PRIME;
+        }
+        return (hash ^ SEPARATOR) * FNV_PRIME;
+    }
+
+    /**
+     * 累加偏移量所在行的哈希值，忽略行内所有空白字符（包括 {@code \r}），换行符不同的文件得到相同的结果
+     *
+     * @param hash   当前哈希值
+     * @param text   文件内容
+     * @param offset 偏移量
+     * @return 新的哈希值
+     */
+    private static long hashLine(long hash, CharSequence text, int offset) {
+        int length = text.length();
+        int start = Math.min(offset, length);
+        while (start > 0 && text.charAt(start - 1) != '\n') {
+            start--;
+        }
+        for (int i = start; i < length; i++) {
+            char c = text.charAt(i);
+            if (c == '\n') {
+                break;
+            }
+            if (!Character.isWhitespace(c)) {
+                hash = (hash ^ c) * FNV_PRIME;
+            }
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,148 @@
+package com.code.inspections.baseline;
+
+/**
+ * 基于开放寻址的 long 集合，用于存放基线指纹。
+ * <p>
+ * 避免 {@code HashSet<Long>} 的装箱开销，二十万条基线也只占用几 MB 内存，查找为常数时间。
+ *
+ * @author liuzhihang
+ * @version LongHashSet.java, v 0.1 2026/10/18 liuzhihang
+ */
+final class LongHashSet {
+
+    /**
+     * 空槽位标记，值为 0 的指纹单独记录
+     */
+    private static final long EMPTY = 0L;
+
+    /**
+     * 槽位
+     */
+    private long[] slots;
+
+    /**
+     * 元素个数（不含 0）
+     */
+    private int size;
+
+    /**
+     * 是否包含 0
+     */
+    private boolean containsZero;
+
+    /**
+     * 构造函数
+     *
+     * @param expectedSize 预期元素个数
+     */
+    LongHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 2 - 1)) << 1;
+        this.slots = new long[capacity];
+    }
+
+    /**
+     * 添加元素
+     *
+     * @param value 元素
+     */
+    void add(long value) {
+        if (value == EMPTY) {
+            containsZero = true;
+            return;
+        }
+        if ((size + 1) * 2 > slots.length) {
+            rehash(slots.length << 1);
+        }
+        if (insert(slots, value)) {
+            size++;
+        }
+    }
+
+    /**
+     * 判断是否包含元素
+     *
+     * @param value 元素
+     * @return 包含返回 true
+     */
+    boolean contains(long value) {
+        if (value == EMPTY) {
+            return containsZero;
+        }
+        int mask = slots.length - 1;
+        int index = mix(value) & mask;
+        while (true) {
+            long slot = slots[index];
+            if (slot == EMPTY) {
+                return false;
+            }
+            if (slot == value) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    /**
+     * 元素个数
+     *
+     * @return 元素个数
+     */
+    int size() {
+        return containsZero ? size + 1 : size;
+    }
+
+    /**
+     * 是否为空
+     *
+     * @return 为空返回 true
+     */
+    boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * 扩容
+     *
+     * @param capacity 新容量
+     */
+    private void rehash(int capacity) {
+        long[] newSlots = new long[capacity];
+        for (long slot : slots) {
+            if (slot != EMPTY) {
+                insert(newSlots, slot);
+            }
+        }
+        slots = newSlots;
+    }
+
+    /**
+     * 插入元素
+     *
+     * @param table 槽位
+     * @param value 元素
+     * @return 新插入返回 true，已存在返回 false
+     */
+    private static boolean insert(long[] table, long value) {
+        int mask = table.length - 1;
+        int index = mix(value) & mask;
+        while (table[index] != EMPTY) {
+            if (table[index] == value) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        table[index] = value;
+        return true;
+    }
+
+    /**
+     * 打散哈希值
+     *
+     * @param value 元素
+     * @return 哈希值
+     */
+    private static int mix(long value) {
+        long h = value * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,185 @@
+package com.code.inspections.baseline;
+
+import com.intellij.codeInspection.ProblemDescriptor;
+import com.intellij.openapi.components.Service;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.TextRange;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.psi.PsiElement;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+
+/**
+ * 项目违规基线。
+ * <p>
+ * 基线文件位于项目根目录 {@value #FILE_NAME}，每行一条记录：{@code 指纹<TAB>规则<TAB>成员签名}，只有指纹参与匹配，
+ * 其余部分便于人工阅读。基线在项目内只加载一次，查找为常数时间，文件变化后由 {@code P3cConfigFileListener} 丢弃重新加载。
+ * 独立引擎、Gradle 任务、编译期插件和语言服务器通过 {@link P3cBaselineFile} 读取同一份基线，只报告新增问题。
+ *
+ * @author liuzhihang
+ * @version P3cBaseline.java, v 0.1 2026/10/18 liuzhihang
+ */
+@Service(Service.Level.PROJECT)
+public final class P3cBaseline {
+
+    /**
+     * 日志
+     */
+    private static final Logger LOG = Logger.getInstance(P3cBaseline.class);
+
+    /**
+     * 基线文件名
+     */
+    public static final String FILE_NAME = P3cBaselineFile.FILE_NAME;
+
+    /**
+     * 当前项目
+     */
+    private final Project project;
+
+    /**
+     * 基线指纹，首次使用时加载
+     */
+    private volatile P3cBaselineFile fingerprints;
+
+    public P3cBaseline(@NotNull Project project) {
+        this.project = project;
+    }
+
+    /**
+     * 获取项目的基线
+     *
+     * @param project 项目
+     * @return 基线
+     */
+    public static P3cBaseline getInstance(@NotNull Project project) {
+        return project.getService(P3cBaseline.class);
+    }
+
+    /**
+     * 判断问题是否已记录在基线中
+     *
+     * @param ruleKey        规则标识
+     * @param element        问题所在元素
+     * @param rangeInElement 元素内的范围
+     * @return 已记录返回 true
+     */
+    public boolean contains(@NotNull String ruleKey, @NotNull PsiElement element, @Nullable TextRange rangeInElement) {
+        P3cBaselineFile set = getFingerprints();
+        return !set.isEmpty() && set.contains(ViolationFingerprint.compute(ruleKey, element, rangeInElement));
+    }
+
+    /**
+     * 基线记录数
+     *
+     * @return 记录数
+     */
+    public int size() {
+        return getFingerprints().size();
+    }
+
+    /**
+     * 丢弃已加载的基线，下次使用时重新加载
+     */
+    public void reload() {
+        fingerprints = null;
+    }
+
+    /**
+     * 将问题转换为一行基线记录
+     *
+     * @param ruleKey    规则标识
+     * @param descriptor 问题描述符
+     * @return 基线记录，元素已失效时返回 null
+     */
+    @Nullable
+    public static String toEntry(@NotNull String ruleKey, @NotNull ProblemDescriptor descriptor) {
+        PsiElement element = descriptor.getPsiElement();
+        if (element == null || !element.isValid()) {
+            return null;
+        }
+        TextRange range = descriptor.getTextRangeInElement();
+        long fingerprint = ViolationFingerprint.compute(ruleKey, element, range);
+        String signature = ViolationFingerprint.signature(element.getContainingFile(), ViolationFingerprint.startOffset(element, range));
+        return Long.toHexString(fingerprint) + '\t' + ruleKey + '\t' + signature;
+    }
+
+    /**
+     * 写入基线文件并重新加载
+     *
+     * @param entries 基线记录
+     * @throws IOException 写入失败
+     */
+    public void save(@NotNull Collection<String> entries) throws IOException {
+        Path path = getPath();
+        if (path == null) {
+            throw new IOException("Project base path is not available");
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write("# Ali-P3C baseline, fingerprint\trule\tmember");
+            writer.newLine();
+            for (String entry : entries) {
+                writer.write(entry);
+                writer.newLine();
+            }
+        }
+        reload();
+        LocalFileSystem.getInstance().refreshAndFindFileByNioFile(path);
+    }
+
+    /**
+     * 获取已加载的基线指纹
+     *
+     * @return 基线指纹
+     */
+    private P3cBaselineFile getFingerprints() {
+        P3cBaselineFile set = fingerprints;
+        if (set == null) {
+            synchronized (this) {
+                set = fingerprints;
+                if (set == null) {
+                    set = load();
+                    fingerprints = set;
+                }
+            }
+        }
+        return set;
+    }
+
+    /**
+     * 从基线文件加载指纹
+     *
+     * @return 基线指纹
+     */
+    private P3cBaselineFile load() {
+        Path path = getPath();
+        if (path == null) {
+            return P3cBaselineFile.EMPTY;
+        }
+        try {
+            return P3cBaselineFile.load(path, line -> LOG.warn("Invalid baseline entry: " + line));
+        } catch (IOException e) {
+            LOG.warn("Failed to load baseline " + path, e);
+            return P3cBaselineFile.EMPTY;
+        }
+    }
+
+    /**
+     * 基线文件路径
+     *
+     * @return 基线文件路径，项目没有根目录时返回 null
+     */
+    @Nullable
+    private Path getPath() {
+        String basePath = project.getBasePath();
+        return basePath == null ? null : Path.of(basePath, FILE_NAME);
+    }
+}
@@ -0,0 +1,94 @@
+package com.code.inspections.baseline;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+/**
+ * 已加载的基线文件，不依赖 IntelliJ 平台，IDE、独立引擎、编译期插件和语言服务器共用。
+ * <p>
+ * 每行一条记录：{@code 指纹<TAB>规则<TAB>成员签名}，只有指纹参与匹配，{@code #} 开头的行为注释。
+ *
+ * @author liuzhihang
+ * @version P3cBaselineFile.java, v 0.1 2026/10/18 liuzhihang
+ */
+public final class P3cBaselineFile {
+
+    /**
+     * 基线文件名，位于项目根目录
+     */
+    public static final String FILE_NAME = ".p3c-baseline";
+
+    /**
+     * 没有基线文件时使用的空基线
+     */
+    public static final P3cBaselineFile EMPTY = new P3cBaselineFile(new LongHashSet(0));
+
+    /**
+     * 基线指纹
+     */
+    private final LongHashSet fingerprints;
+
+    private P3cBaselineFile(LongHashSet fingerprints) {
+        this.fingerprints = fingerprints;
+    }
+
+    /**
+     * 读取基线文件，文件不存在时返回空基线
+     *
+     * @param path         基线文件
+     * @param invalidEntry 无法解析的记录，跳过后交给调用方提示
+     * @return 基线
+     * @throws IOException 读取失败
+     */
+    @NotNull
+    public static P3cBaselineFile load(@NotNull Path path, @NotNull Consumer<String> invalidEntry) throws IOException {
+        if (!Files.isRegularFile(path)) {
+            return EMPTY;
+        }
+        LongHashSet set = new LongHashSet(1024);
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty() || line.charAt(0) == '#') {
+                    continue;
+                }
+                int end = line.indexOf('\t');
+                try {
+                    set.add(Long.parseUnsignedLong(end < 0 ? line : line.substring(0, end), 16));
+                } catch (NumberFormatException e) {
+                    invalidEntry.accept(line);
+                }
+            }
+        }
+        return new P3cBaselineFile(set);
+    }
+
+    /**
+     * 判断指纹是否已记录在基线中
+     *
+     * @param fingerprint 指纹
+     * @return 已记录返回 true
+     */
+    public boolean contains(long fingerprint) {
+        return fingerprints.contains(fingerprint);
+    }
+
+    /**
+     * 基线记录数
+     *
+     * @return 记录数
+     */
+    public int size() {
+        return fingerprints.size();
+    }
+
+    public boolean isEmpty() {
+        return fingerprints.isEmpty();
+    }
+}
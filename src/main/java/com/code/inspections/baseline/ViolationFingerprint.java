@@ -0,0 +1,100 @@
+package com.code.inspections.baseline;
+
+import com.intellij.openapi.util.TextRange;
+import com.intellij.psi.*;
+import com.intellij.psi.util.PsiTreeUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * 违规指纹。
+ * <p>
+ * 指纹由规则标识、所在成员签名和归一化后的行内容（去掉所有空白字符）共同计算，不包含行号，
+ * 因此上下插入或删除代码导致行号变化时，原有违规仍能匹配到基线。哈希由 {@link FingerprintHash} 计算，
+ * javac 语法树上的成员签名由 {@code P3cMemberSignatures} 按相同的格式生成。
+ *
+ * @author liuzhihang
+ * @version ViolationFingerprint.java, v 0.1 2026/10/18 liuzhihang
+ */
+public final class ViolationFingerprint {
+
+    private ViolationFingerprint() {
+    }
+
+    /**
+     * 计算问题的指纹
+     *
+     * @param ruleKey        规则标识
+     * @param element        问题所在元素
+     * @param rangeInElement 元素内的范围
+     * @return 指纹
+     */
+    public static long compute(@NotNull String ruleKey, @NotNull PsiElement element, @Nullable TextRange rangeInElement) {
+        PsiFile file = element.getContainingFile();
+        int offset = startOffset(element, rangeInElement);
+        return FingerprintHash.compute(ruleKey, signature(file, offset), file.getViewProvider().getContents(), offset);
+    }
+
+    /**
+     * 获取问题所在成员的签名，例如 {@code com.foo.Bar#baz(String,int)}，不在成员内时为文件名。
+     *
+     * @param file   文件
+     * @param offset 问题在文件中的偏移量
+     * @return 成员签名
+     */
+    @NotNull
+    public static String signature(@NotNull PsiFile file, int offset) {
+        PsiElement leaf = file.findElementAt(offset);
+        PsiMember member = PsiTreeUtil.getParentOfType(leaf, PsiMember.class, false);
+        if (member == null) {
+            return file.getName();
+        }
+        StringBuilder builder = new StringBuilder();
+        appendMember(builder, member);
+        return builder.toString();
+    }
+
+    /**
+     * 计算问题在文件中的起始偏移量
+     *
+     * @param element        问题所在元素
+     * @param rangeInElement 元素内的范围
+     * @return 起始偏移量
+     */
+    public static int startOffset(@NotNull PsiElement element, @Nullable TextRange rangeInElement) {
+        int offset = element.getTextRange().getStartOffset();
+        return rangeInElement == null ? offset : offset + rangeInElement.getStartOffset();
+    }
+
+    /**
+     * 追加成员签名，外层成员在前
+     *
+     * @param builder 签名
+     * @param member  成员
+     */
+    private static void appendMember(StringBuilder builder, PsiMember member) {
+        if (member instanceof PsiClass psiClass && psiClass.getQualifiedName() != null) {
+            builder.append(psiClass.getQualifiedName());
+            return;
+        }
+        PsiMember parent = PsiTreeUtil.getParentOfType(member, PsiMember.class, true);
+        if (parent != null) {
+            appendMember(builder, parent);
+            builder.append('#');
+        }
+        String name = member instanceof PsiNamedElement namedElement ? namedElement.getName() : null;
+        builder.append(name == null ? "{}" : name);
+        if (member instanceof PsiMethod method) {
+            builder.append('(');
+            PsiParameter[] parameters = method.getParameterList().getParameters();
+            for (int i = 0; i < parameters.length; i++) {
+                if (i > 0) {
+                    builder.append(',');
+                }
+                PsiTypeElement typeElement = parameters[i].getTypeElement();
+                builder.append(typeElement == null ? "" : typeElement.getText());
+            }
+            builder.append(')');
+        }
+    }
+}
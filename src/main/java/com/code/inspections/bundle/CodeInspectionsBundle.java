@@ -5,6 +5,8 @@ import org.jetbrains.annotations.NonNls;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.PropertyKey;
 
+import java.util.function.Supplier;
+
 /**
  * 此类用于代码检查的本地化资源包，继承自AbstractBundle类，提供针对各种检查键的本地化消息。
  */
@@ -39,5 +41,41 @@ public class CodeInspectionsBundle extends AbstractBundle {
     public static String message(@NotNull @PropertyKey(resourceBundle = BUNDLE) String key, @NotNull Object... params) {
         return INSTANCE.getMessage(key, params);
     }
+
+    /**
+     * 获取延迟加载的本地化消息，第一次调用 {@link Supplier#get()} 时才读取资源包，之后使用缓存的结果。
+     * 检查类的静态字段使用该方法，类加载时不读取资源包。
+     *
+     * @param key 要获取的本地化消息的键
+     * @return 延迟加载的消息
+     */
+    @NotNull
+    public static Supplier<String> messagePointer(@NotNull @PropertyKey(resourceBundle = BUNDLE) String key) {
+        return new LazyMessage(key);
+    }
+
+    /**
+     * 延迟加载的消息，多个线程同时首次读取时可能重复计算，结果相同
+     */
+    private static final class LazyMessage implements Supplier<String> {
+
+        private final String key;
+
+        private volatile String value;
+
+        private LazyMessage(String key) {
+            this.key = key;
+        }
+
+        @Override
+        public String get() {
+            String result = value;
+            if (result == null) {
+                result = message(key);
+                value = result;
+            }
+            return result;
+        }
+    }
 }
 
@@ -0,0 +1,148 @@
+package com.code.inspections.results;
+
+import com.code.inspections.base.AbstractP3cInspection;
+import com.code.inspections.base.P3cInspectionRunner;
+import com.code.inspections.bundle.CodeInspectionsBundle;
+import com.intellij.codeHighlighting.HighlightDisplayLevel;
+import com.intellij.codeInsight.daemon.HighlightDisplayKey;
+import com.intellij.codeInspection.ProblemDescriptor;
+import com.intellij.codeInspection.ex.InspectionProfileImpl;
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.actionSystem.ActionUpdateThread;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.CommonDataKeys;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.TextRange;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.wm.ToolWindow;
+import com.intellij.openapi.wm.ToolWindowManager;
+import com.intellij.profile.codeInspection.InspectionProjectProfileManager;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.search.FileTypeIndex;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.search.GlobalSearchScopesCore;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 对项目或选中的目录运行 Ali-P3C 检查，结果写入 {@link P3cResultStore} 并在结果窗口中显示。
+ * <p>
+ * 与标准的检查结果树不同，结果只以列式数据保存，几十万个问题时结果窗口依然可以流畅地分组和过滤。
+ * 与编辑器一样使用基线过滤问题，检查在索引就绪后执行。
+ *
+ * @author liuzhihang
+ * @version InspectToResultsAction.java, v 0.1 2026/10/18 liuzhihang
+ */
+public class InspectToResultsAction extends AnAction {
+
+    @NotNull
+    @Override
+    public ActionUpdateThread getActionUpdateThread() {
+        return ActionUpdateThread.BGT;
+    }
+
+    @Override
+    public void update(@NotNull AnActionEvent e) {
+        e.getPresentation().setEnabledAndVisible(e.getProject() != null);
+    }
+
+    @Override
+    public void actionPerformed(@NotNull AnActionEvent e) {
+        Project project = e.getProject();
+        if (project == null) {
+            return;
+        }
+        VirtualFile selected = e.getData(CommonDataKeys.VIRTUAL_FILE);
+        P3cResultStore store = new P3cResultStore();
+        P3cResultsService.getInstance(project).setStore(store);
+        ToolWindow toolWindow = ToolWindowManager.getInstance(project).getToolWindow(P3cResultsToolWindowFactory.ID);
+        if (toolWindow != null) {
+            toolWindow.activate(null);
+        }
+
+        new Task.Backgroundable(project, CodeInspectionsBundle.message("ali.p3c.results.progress"), true) {
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                try {
+                    inspect(project, selected, store, indicator);
+                } finally {
+                    store.finish();
+                }
+            }
+        }.queue();
+    }
+
+    private static void inspect(Project project, VirtualFile selected, P3cResultStore store, ProgressIndicator indicator) {
+        DumbService dumbService = DumbService.getInstance(project);
+        List<VirtualFile> files = dumbService.runReadActionInSmartMode(() -> new ArrayList<>(FileTypeIndex.getFiles(JavaFileType.INSTANCE, scope(project, selected))));
+        List<AbstractP3cInspection> inspections = ReadAction.compute(() -> P3cInspectionRunner.getEnabledInspections(project));
+        Map<String, Byte> severities = ReadAction.compute(() -> severities(project, inspections));
+        indicator.setIndeterminate(false);
+        for (int i = 0; i < files.size(); i++) {
+            indicator.checkCanceled();
+            indicator.setFraction((double) i / files.size());
+            VirtualFile file = files.get(i);
+            dumbService.runReadActionInSmartMode(() -> {
+                PsiFile psiFile = file.isValid() ? PsiManager.getInstance(project).findFile(file) : null;
+                if (psiFile == null) {
+                    return;
+                }
+                int fileId = store.addFile(file, psiFile instanceof PsiJavaFile javaFile ? javaFile.getPackageName() : "");
+                P3cInspectionRunner.inspect(psiFile, inspections, false, (inspection, descriptor) ->
+                        store.add(fileId, inspection.getShortName(), inspection.getDisplayName(), offsetOf(descriptor),
+                                descriptor.getLineNumber(), descriptor.getDescriptionTemplate(), severities.get(inspection.getShortName())));
+            });
+        }
+    }
+
+    /**
+     * 检查范围：选中的目录或文件，未选中或不在项目中时为整个项目
+     */
+    static GlobalSearchScope scope(Project project, VirtualFile selected) {
+        GlobalSearchScope projectScope = GlobalSearchScope.projectScope(project);
+        if (selected == null) {
+            return projectScope;
+        }
+        if (selected.isDirectory()) {
+            return GlobalSearchScopesCore.directoryScope(project, selected, true).intersectWith(projectScope);
+        }
+        return projectScope.contains(selected) ? GlobalSearchScope.fileScope(project, selected) : projectScope;
+    }
+
+    /**
+     * 按检查配置中的级别计算各规则的严重级别
+     */
+    static Map<String, Byte> severities(Project project, List<AbstractP3cInspection> inspections) {
+        InspectionProfileImpl profile = InspectionProjectProfileManager.getInstance(project).getCurrentProfile();
+        Map<String, Byte> severities = new HashMap<>();
+        for (AbstractP3cInspection inspection : inspections) {
+            HighlightDisplayKey key = HighlightDisplayKey.find(inspection.getShortName());
+            HighlightDisplayLevel level = key == null ? HighlightDisplayLevel.WARNING : profile.getErrorLevel(key, (PsiElement) null);
+            byte severity = level == HighlightDisplayLevel.ERROR ? P3cResultStore.ERROR
+                    : level == HighlightDisplayLevel.WARNING ? P3cResultStore.WARNING : P3cResultStore.WEAK_WARNING;
+            severities.put(inspection.getShortName(), severity);
+        }
+        return severities;
+    }
+
+    private static int offsetOf(ProblemDescriptor descriptor) {
+        PsiElement element = descriptor.getStartElement();
+        if (element == null) {
+            return 0;
+        }
+        TextRange range = descriptor.getTextRangeInElement();
+        return element.getTextRange().getStartOffset() + (range == null ? 0 : range.getStartOffset());
+    }
+}
@@ -0,0 +1,87 @@
+package com.code.inspections.results;
+
+import com.code.inspections.ali.name.P3cNamingAudit;
+import com.code.inspections.base.AbstractP3cInspection;
+import com.code.inspections.base.P3cInspectionRunner;
+import com.code.inspections.bundle.CodeInspectionsBundle;
+import com.intellij.openapi.actionSystem.ActionUpdateThread;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.CommonDataKeys;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.wm.ToolWindow;
+import com.intellij.openapi.wm.ToolWindowManager;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.search.GlobalSearchScope;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 对项目或选中的目录运行命名审计（{@link P3cNamingAudit}），只读取存根索引，结果显示在结果窗口中。
+ * <p>
+ * 只运行命名规则，不加载语法树，大型项目中比 {@link InspectToResultsAction} 的完整检查快得多。
+ *
+ * @author liuzhihang
+ * @version NamingAuditAction.java, v 0.1 2026/10/18 liuzhihang
+ */
+public class NamingAuditAction extends AnAction {
+
+    @NotNull
+    @Override
+    public ActionUpdateThread getActionUpdateThread() {
+        return ActionUpdateThread.BGT;
+    }
+
+    @Override
+    public void update(@NotNull AnActionEvent e) {
+        e.getPresentation().setEnabledAndVisible(e.getProject() != null);
+    }
+
+    @Override
+    public void actionPerformed(@NotNull AnActionEvent e) {
+        Project project = e.getProject();
+        if (project == null) {
+            return;
+        }
+        VirtualFile selected = e.getData(CommonDataKeys.VIRTUAL_FILE);
+        P3cResultStore store = new P3cResultStore();
+        P3cResultsService.getInstance(project).setStore(store);
+        ToolWindow toolWindow = ToolWindowManager.getInstance(project).getToolWindow(P3cResultsToolWindowFactory.ID);
+        if (toolWindow != null) {
+            toolWindow.activate(null);
+        }
+
+        new Task.Backgroundable(project, CodeInspectionsBundle.message("ali.p3c.results.naming.audit.progress"), true) {
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                try {
+                    audit(project, selected, store, indicator);
+                } finally {
+                    store.finish();
+                }
+            }
+        }.queue();
+    }
+
+    private static void audit(Project project, VirtualFile selected, P3cResultStore store, ProgressIndicator indicator) {
+        List<AbstractP3cInspection> inspections = ReadAction.compute(() -> P3cInspectionRunner.getEnabledInspections(project));
+        Map<String, Byte> severities = ReadAction.compute(() -> InspectToResultsAction.severities(project, inspections));
+        GlobalSearchScope scope = ReadAction.compute(() -> InspectToResultsAction.scope(project, selected));
+        Map<VirtualFile, Integer> fileIds = new HashMap<>();
+        P3cNamingAudit.run(project, scope, inspections, violation -> {
+            int fileId = fileIds.computeIfAbsent(violation.file(), file -> store.addFile(file,
+                    PsiManager.getInstance(project).findFile(file) instanceof PsiJavaFile javaFile ? javaFile.getPackageName() : ""));
+            AbstractP3cInspection inspection = violation.inspection();
+            store.add(fileId, inspection.getShortName(), inspection.getDisplayName(), violation.offset(), violation.line(),
+                    violation.message(), severities.get(inspection.getShortName()));
+        }, indicator);
+    }
+}
@@ -0,0 +1,245 @@
+package com.code.inspections.results;
+
+import com.intellij.openapi.vfs.VirtualFile;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 列式存储的检查结果。
+ * <p>
+ * 每个问题只保存规则、文件、位置、行号、提示信息和严重级别的编号，字符串和文件通过字典去重，
+ * 一百万个问题约占用 20MB。提示信息在界面显示时才格式化。
+ * <p>
+ * 写入在检查线程中进行，界面通过 {@link #snapshot()} 获取快照后无锁读取。
+ * 列数组只在末尾追加，扩容时复制到新数组，快照持有的旧数组中已有的数据不会再被修改。
+ *
+ * @author liuzhihang
+ * @version P3cResultStore.java, v 0.1 2026/10/18 liuzhihang
+ */
+public final class P3cResultStore {
+
+    /**
+     * 严重级别：错误
+     */
+    public static final byte ERROR = 0;
+
+    /**
+     * 严重级别：警告
+     */
+    public static final byte WARNING = 1;
+
+    /**
+     * 严重级别：弱警告及其他
+     */
+    public static final byte WEAK_WARNING = 2;
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final Dictionary ruleKeys = new Dictionary();
+
+    private String[] ruleNames = new String[16];
+
+    private final Dictionary packages = new Dictionary();
+
+    private final Dictionary messages = new Dictionary();
+
+    private VirtualFile[] files = new VirtualFile[INITIAL_CAPACITY];
+
+    private int[] filePackages = new int[INITIAL_CAPACITY];
+
+    private int fileCount;
+
+    private int[] ruleColumn = new int[INITIAL_CAPACITY];
+
+    private int[] fileColumn = new int[INITIAL_CAPACITY];
+
+    private int[] offsetColumn = new int[INITIAL_CAPACITY];
+
+    private int[] lineColumn = new int[INITIAL_CAPACITY];
+
+    private int[] messageColumn = new int[INITIAL_CAPACITY];
+
+    private byte[] severityColumn = new byte[INITIAL_CAPACITY];
+
+    private int size;
+
+    /**
+     * 检查是否已结束
+     */
+    private boolean finished;
+
+    /**
+     * 添加文件，同一个文件的问题添加之前调用一次
+     *
+     * @param file        文件
+     * @param packageName 文件的包名
+     * @return 文件编号
+     */
+    public synchronized int addFile(@NotNull VirtualFile file, @NotNull String packageName) {
+        if (fileCount == files.length) {
+            files = Arrays.copyOf(files, fileCount * 2);
+            filePackages = Arrays.copyOf(filePackages, fileCount * 2);
+        }
+        files[fileCount] = file;
+        filePackages[fileCount] = packages.id(packageName);
+        return fileCount++;
+    }
+
+    /**
+     * 添加问题
+     *
+     * @param fileId   {@link #addFile(VirtualFile, String)} 返回的文件编号
+     * @param ruleKey  规则标识，即检查的 shortName
+     * @param ruleName 规则名称
+     * @param offset   问题在文件中的位置
+     * @param line     问题所在行，从 0 开始
+     * @param message  提示信息模板
+     * @param severity 严重级别
+     */
+    public synchronized void add(int fileId, @NotNull String ruleKey, @NotNull String ruleName, int offset, int line,
+                                 @NotNull String message, byte severity) {
+        if (size == ruleColumn.length) {
+            int capacity = size * 2;
+            ruleColumn = Arrays.copyOf(ruleColumn, capacity);
+            fileColumn = Arrays.copyOf(fileColumn, capacity);
+            offsetColumn = Arrays.copyOf(offsetColumn, capacity);
+            lineColumn = Arrays.copyOf(lineColumn, capacity);
+            messageColumn = Arrays.copyOf(messageColumn, capacity);
+            severityColumn = Arrays.copyOf(severityColumn, capacity);
+        }
+        int rule = ruleKeys.id(ruleKey);
+        if (rule == ruleNames.length) {
+            ruleNames = Arrays.copyOf(ruleNames, rule * 2);
+        }
+        ruleNames[rule] = ruleName;
+        ruleColumn[size] = rule;
+        fileColumn[size] = fileId;
+        offsetColumn[size] = offset;
+        lineColumn[size] = line;
+        messageColumn[size] = messages.id(message);
+        severityColumn[size] = severity;
+        size++;
+    }
+
+    /**
+     * 标记检查结束
+     */
+    public synchronized void finish() {
+        finished = true;
+    }
+
+    /**
+     * 检查是否已结束
+     *
+     * @return 已结束返回 true
+     */
+    public synchronized boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * 问题数
+     *
+     * @return 问题数
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * 获取当前数据的快照
+     *
+     * @return 快照
+     */
+    @NotNull
+    public synchronized Snapshot snapshot() {
+        return new Snapshot(size, finished, ruleColumn, fileColumn, offsetColumn, lineColumn, messageColumn, severityColumn,
+                ruleKeys.values(), Arrays.copyOf(ruleNames, ruleKeys.size()), Arrays.copyOf(files, fileCount),
+                Arrays.copyOf(filePackages, fileCount), packages.values(), messages.values());
+    }
+
+    /**
+     * 不可变的快照，只读取编号小于 {@code size} 的数据
+     *
+     * @param size         问题数
+     * @param finished     检查是否已结束
+     * @param rules        规则列
+     * @param files        文件列
+     * @param offsets      位置列
+     * @param lines        行号列
+     * @param messages     提示信息列
+     * @param severities   严重级别列
+     * @param ruleKeys     规则标识字典
+     * @param ruleNames    规则名称，与规则标识字典对应
+     * @param fileRefs     文件字典
+     * @param filePackage  文件所在的包
+     * @param packages     包名字典
+     * @param messageTexts 提示信息字典
+     */
+    public record Snapshot(int size, boolean finished, int[] rules, int[] files, int[] offsets, int[] lines, int[] messages,
+                           byte[] severities, String[] ruleKeys, String[] ruleNames, VirtualFile[] fileRefs, int[] filePackage,
+                           String[] packages, String[] messageTexts) {
+
+        /**
+         * 问题所在的包编号
+         */
+        int packageOf(int row) {
+            return filePackage[files[row]];
+        }
+
+        /**
+         * 问题所在的文件
+         */
+        @NotNull
+        VirtualFile fileOf(int row) {
+            return fileRefs[files[row]];
+        }
+
+        /**
+         * 格式化提示信息，去掉平台模板中的 #ref、#loc 占位符，只在显示时调用
+         */
+        @NotNull
+        String messageOf(int row) {
+            String template = messageTexts[messages[row]];
+            if (template.indexOf('#') < 0) {
+                return template;
+            }
+            return template.replace("#ref", "").replace("#loc", "").replaceAll(" {2,}", " ").trim();
+        }
+    }
+
+    /**
+     * 只追加的字符串字典，值按首次出现的顺序编号
+     */
+    private static final class Dictionary {
+
+        private final Map<String, Integer> ids = new HashMap<>();
+
+        private String[] values = new String[16];
+
+        int id(String value) {
+            Integer id = ids.get(value);
+            if (id != null) {
+                return id;
+            }
+            int next = ids.size();
+            if (next == values.length) {
+                values = Arrays.copyOf(values, next * 2);
+            }
+            values[next] = value;
+            ids.put(value, next);
+            return next;
+        }
+
+        int size() {
+            return ids.size();
+        }
+
+        String[] values() {
+            return Arrays.copyOf(values, ids.size());
+        }
+    }
+}
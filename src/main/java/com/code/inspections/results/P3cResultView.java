@@ -0,0 +1,143 @@
+package com.code.inspections.results;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Locale;
+
+/**
+ * 结果快照按分组和过滤条件排列后的视图，不可变。
+ * <p>
+ * 过滤条件先在规则和包的字典上匹配，再按编号判断每个问题，不比较字符串；
+ * 分组按名称排序后用计数排序排列问题，同一分组内保持检查顺序，即按文件和位置排列。一百万个问题只需要线性时间。
+ *
+ * @param snapshot    结果快照
+ * @param grouping    分组方式
+ * @param rows        按显示顺序排列的问题编号
+ * @param groups      有问题的分组编号，按名称排列
+ * @param groupCounts 各分组的问题数，按分组编号索引
+ * @author liuzhihang
+ * @version P3cResultView.java, v 0.1 2026/10/18 liuzhihang
+ */
+record P3cResultView(@NotNull P3cResultStore.Snapshot snapshot, @NotNull Grouping grouping, int[] rows, int[] groups, int[] groupCounts) {
+
+    /**
+     * 分组方式
+     */
+    enum Grouping {
+
+        /**
+         * 按规则分组
+         */
+        RULE("规则"),
+
+        /**
+         * 按包分组
+         */
+        PACKAGE("包");
+
+        private final String displayName;
+
+        Grouping(String displayName) {
+            this.displayName = displayName;
+        }
+
+        int groupOf(P3cResultStore.Snapshot snapshot, int row) {
+            return this == RULE ? snapshot.rules()[row] : snapshot.packageOf(row);
+        }
+
+        String[] names(P3cResultStore.Snapshot snapshot) {
+            return this == RULE ? snapshot.ruleNames() : snapshot.packages();
+        }
+
+        @Override
+        public String toString() {
+            return displayName;
+        }
+    }
+
+    /**
+     * 构建视图
+     *
+     * @param snapshot      结果快照
+     * @param grouping      分组方式
+     * @param filter        过滤文本，规则标识、规则名称或包名包含该文本的问题保留，为空时不过滤
+     * @param selectedGroup 只显示该分组的问题，小于 0 时显示全部分组
+     * @return 视图
+     */
+    @NotNull
+    static P3cResultView build(@NotNull P3cResultStore.Snapshot snapshot, @NotNull Grouping grouping, @NotNull String filter, int selectedGroup) {
+        String text = filter.trim().toLowerCase(Locale.ROOT);
+        boolean[] ruleMatches = new boolean[snapshot.ruleKeys().length];
+        for (int i = 0; i < ruleMatches.length; i++) {
+            ruleMatches[i] = text.isEmpty() || snapshot.ruleKeys()[i].toLowerCase(Locale.ROOT).contains(text)
+                    || snapshot.ruleNames()[i].toLowerCase(Locale.ROOT).contains(text);
+        }
+        boolean[] packageMatches = new boolean[snapshot.packages().length];
+        for (int i = 0; i < packageMatches.length; i++) {
+            packageMatches[i] = text.isEmpty() || snapshot.packages()[i].toLowerCase(Locale.ROOT).contains(text);
+        }
+
+        // 每个问题的分组编号，未通过过滤的为 -1
+        String[] names = grouping.names(snapshot);
+        int[] groupOfRow = new int[snapshot.size()];
+        int[] counts = new int[names.length];
+        for (int row = 0; row < groupOfRow.length; row++) {
+            if (ruleMatches[snapshot.rules()[row]] || packageMatches[snapshot.packageOf(row)]) {
+                int group = grouping.groupOf(snapshot, row);
+                groupOfRow[row] = group;
+                counts[group]++;
+            } else {
+                groupOfRow[row] = -1;
+            }
+        }
+
+        // 分组按名称排列，计算每个分组在结果中的开始位置
+        Integer[] order = new Integer[names.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparing(i -> names[i]));
+        int[] starts = new int[names.length];
+        int groupTotal = 0;
+        int total = 0;
+        for (int group : order) {
+            if (counts[group] > 0 && (selectedGroup < 0 || group == selectedGroup)) {
+                starts[group] = total;
+                total += counts[group];
+            }
+            if (counts[group] > 0) {
+                groupTotal++;
+            }
+        }
+        int[] groups = new int[groupTotal];
+        int index = 0;
+        for (int group : order) {
+            if (counts[group] > 0) {
+                groups[index++] = group;
+            }
+        }
+
+        int[] rows = new int[total];
+        for (int row = 0; row < groupOfRow.length; row++) {
+            int group = groupOfRow[row];
+            if (group >= 0 && (selectedGroup < 0 || group == selectedGroup)) {
+                rows[starts[group]++] = row;
+            }
+        }
+        return new P3cResultView(snapshot, grouping, rows, groups, counts);
+    }
+
+    /**
+     * 分组名称
+     *
+     * @param group 分组编号
+     * @return 名称，默认包显示为 {@code <default>}
+     */
+    @NotNull
+    String groupName(int group) {
+        String name = grouping.names(snapshot)[group];
+        return name.isEmpty() ? "<default>" : name;
+    }
+}
@@ -0,0 +1,223 @@
+package com.code.inspections.results;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.fileEditor.OpenFileDescriptor;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.ComboBox;
+import com.intellij.openapi.ui.SimpleToolWindowPanel;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.ui.CollectionListModel;
+import com.intellij.ui.DocumentAdapter;
+import com.intellij.ui.DoubleClickListener;
+import com.intellij.ui.JBSplitter;
+import com.intellij.ui.ScrollPaneFactory;
+import com.intellij.ui.SearchTextField;
+import com.intellij.ui.SimpleListCellRenderer;
+import com.intellij.ui.components.JBLabel;
+import com.intellij.ui.components.JBList;
+import com.intellij.ui.table.JBTable;
+import com.intellij.util.ui.JBUI;
+import org.jetbrains.annotations.NotNull;
+
+import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import java.awt.*;
+import java.awt.event.KeyAdapter;
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseEvent;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 结果窗口：左侧为分组及问题数，右侧为问题表格。
+ * <p>
+ * 分组、过滤和选择分组时在界面线程中重新构建 {@link P3cResultView}，表格直接读取列数据，不为每个问题创建对象。
+ * 检查进行中时定时刷新，只在问题数变化后重新构建。
+ *
+ * @author liuzhihang
+ * @version P3cResultsPanel.java, v 0.1 2026/10/18 liuzhihang
+ */
+final class P3cResultsPanel extends SimpleToolWindowPanel implements Disposable {
+
+    /**
+     * 检查进行中时的刷新间隔，单位毫秒
+     */
+    private static final int REFRESH_INTERVAL = 500;
+
+    /**
+     * 分组列表中表示全部分组的项
+     */
+    private static final int ALL_GROUPS = -1;
+
+    private final Project project;
+
+    private final ComboBox<P3cResultView.Grouping> groupingBox = new ComboBox<>(P3cResultView.Grouping.values());
+
+    private final SearchTextField filterField = new SearchTextField(false);
+
+    private final CollectionListModel<Integer> groupModel = new CollectionListModel<>();
+
+    private final JBList<Integer> groupList = new JBList<>(groupModel);
+
+    private final P3cResultsTableModel tableModel;
+
+    private final JBTable table;
+
+    private final JBLabel status = new JBLabel();
+
+    private final Timer timer;
+
+    /**
+     * 当前显示的结果和问题数，用于判断是否需要刷新
+     */
+    private P3cResultStore shownStore;
+
+    private int shownSize = -1;
+
+    private boolean shownFinished;
+
+    /**
+     * 正在更新分组列表，忽略选择事件
+     */
+    private boolean updating;
+
+    P3cResultsPanel(@NotNull Project project) {
+        super(true, true);
+        this.project = project;
+        P3cResultsService service = P3cResultsService.getInstance(project);
+        this.tableModel = new P3cResultsTableModel(P3cResultView.build(service.getStore().snapshot(), P3cResultView.Grouping.RULE, "", ALL_GROUPS));
+        this.table = new JBTable(tableModel);
+        table.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        table.setAutoResizeMode(JTable.AUTO_RESIZE_LAST_COLUMN);
+        int[] widths = {50, 220, 220, 200};
+        for (int i = 0; i < widths.length; i++) {
+            table.getColumnModel().getColumn(i).setPreferredWidth(JBUI.scale(widths[i]));
+        }
+
+        groupList.setCellRenderer(SimpleListCellRenderer.create((label, group, index) -> label.setText(groupText(group))));
+        groupList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        groupList.addListSelectionListener(e -> {
+            if (!updating && !e.getValueIsAdjusting()) {
+                rebuild();
+            }
+        });
+        groupingBox.addActionListener(e -> {
+            groupList.clearSelection();
+            rebuild();
+        });
+        filterField.addDocumentListener(new DocumentAdapter() {
+            @Override
+            protected void textChanged(@NotNull DocumentEvent e) {
+                rebuild();
+            }
+        });
+        new DoubleClickListener() {
+            @Override
+            protected boolean onDoubleClick(@NotNull MouseEvent event) {
+                return navigate();
+            }
+        }.installOn(table);
+        table.addKeyListener(new KeyAdapter() {
+            @Override
+            public void keyPressed(KeyEvent e) {
+                if (e.getKeyCode() == KeyEvent.VK_ENTER && navigate()) {
+                    e.consume();
+                }
+            }
+        });
+
+        JPanel toolbar = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        toolbar.add(new JBLabel("分组："));
+        toolbar.add(groupingBox);
+        toolbar.add(new JBLabel("过滤规则或包："));
+        toolbar.add(filterField);
+        toolbar.add(status);
+        setToolbar(toolbar);
+
+        JBSplitter splitter = new JBSplitter(false, 0.25f);
+        splitter.setFirstComponent(ScrollPaneFactory.createScrollPane(groupList));
+        splitter.setSecondComponent(ScrollPaneFactory.createScrollPane(table));
+        setContent(splitter);
+
+        service.addListener(this::rebuild, this);
+        timer = new Timer(REFRESH_INTERVAL, e -> refreshIfChanged());
+        timer.start();
+        rebuild();
+    }
+
+    /**
+     * 结果有变化时重新构建
+     */
+    private void refreshIfChanged() {
+        P3cResultStore store = P3cResultsService.getInstance(project).getStore();
+        if (store != shownStore || store.size() != shownSize || store.isFinished() != shownFinished) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 按当前的分组、过滤和选择重新构建视图
+     */
+    private void rebuild() {
+        P3cResultStore store = P3cResultsService.getInstance(project).getStore();
+        P3cResultStore.Snapshot snapshot = store.snapshot();
+        if (store != shownStore) {
+            groupList.clearSelection();
+        }
+        P3cResultView.Grouping grouping = (P3cResultView.Grouping) groupingBox.getSelectedItem();
+        Integer selected = groupList.getSelectedValue();
+        int selectedGroup = selected == null ? ALL_GROUPS : selected;
+        P3cResultView view = P3cResultView.build(snapshot, grouping == null ? P3cResultView.Grouping.RULE : grouping, filterField.getText(), selectedGroup);
+        shownStore = store;
+        shownSize = snapshot.size();
+        shownFinished = snapshot.finished();
+
+        List<Integer> groups = new ArrayList<>(view.groups().length + 1);
+        groups.add(ALL_GROUPS);
+        for (int group : view.groups()) {
+            groups.add(group);
+        }
+        updating = true;
+        try {
+            tableModel.setView(view);
+            groupModel.replaceAll(groups);
+            groupList.setSelectedValue(selectedGroup, false);
+        } finally {
+            updating = false;
+        }
+        status.setText("共 " + snapshot.size() + " 个问题，显示 " + view.rows().length + " 个" + (snapshot.finished() ? "" : "，检查中…"));
+    }
+
+    private String groupText(Integer group) {
+        P3cResultView view = tableModel.getView();
+        if (group == null || group == ALL_GROUPS) {
+            return "全部";
+        }
+        return view.groupName(group) + " (" + view.groupCounts()[group] + ")";
+    }
+
+    /**
+     * 打开选中的问题所在位置
+     *
+     * @return 有选中的问题返回 true
+     */
+    private boolean navigate() {
+        int selectedRow = table.getSelectedRow();
+        if (selectedRow < 0) {
+            return false;
+        }
+        P3cResultStore.Snapshot snapshot = tableModel.getView().snapshot();
+        int row = tableModel.rowAt(selectedRow);
+        VirtualFile file = snapshot.fileOf(row);
+        if (!file.isValid()) {
+            return false;
+        }
+        new OpenFileDescriptor(project, file, snapshot.offsets()[row]).navigate(true);
+        return true;
+    }
+
+    @Override
+    public void dispose() {
+        timer.stop();
+    }
+}
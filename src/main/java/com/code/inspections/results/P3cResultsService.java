@@ -0,0 +1,66 @@
+package com.code.inspections.results;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.components.Service;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Disposer;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 保存项目最近一次检查到结果窗口的结果，结果替换时通知结果窗口。
+ *
+ * @author liuzhihang
+ * @version P3cResultsService.java, v 0.1 2026/10/18 liuzhihang
+ */
+@Service(Service.Level.PROJECT)
+public final class P3cResultsService {
+
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile P3cResultStore store = new P3cResultStore();
+
+    /**
+     * 获取项目的结果服务
+     *
+     * @param project 项目
+     * @return 结果服务
+     */
+    public static P3cResultsService getInstance(@NotNull Project project) {
+        return project.getService(P3cResultsService.class);
+    }
+
+    /**
+     * 当前结果
+     *
+     * @return 结果
+     */
+    @NotNull
+    public P3cResultStore getStore() {
+        return store;
+    }
+
+    /**
+     * 替换结果，在界面线程中通知监听者
+     *
+     * @param store 新的结果
+     */
+    public void setStore(@NotNull P3cResultStore store) {
+        this.store = store;
+        ApplicationManager.getApplication().invokeLater(() -> listeners.forEach(Runnable::run));
+    }
+
+    /**
+     * 监听结果替换
+     *
+     * @param listener         监听者
+     * @param parentDisposable 释放时移除监听者
+     */
+    void addListener(@NotNull Runnable listener, @NotNull Disposable parentDisposable) {
+        listeners.add(listener);
+        Disposer.register(parentDisposable, () -> listeners.remove(listener));
+    }
+}
@@ -0,0 +1,74 @@
+package com.code.inspections.results;
+
+import org.jetbrains.annotations.NotNull;
+
+import javax.swing.table.AbstractTableModel;
+
+/**
+ * 结果表格的数据模型，直接读取视图中的列数据。
+ * <p>
+ * 表格只绘制可见的行，单元格的值在绘制时才生成，提示信息和位置不会为不可见的行格式化。
+ *
+ * @author liuzhihang
+ * @version P3cResultsTableModel.java, v 0.1 2026/10/18 liuzhihang
+ */
+final class P3cResultsTableModel extends AbstractTableModel {
+
+    private static final String[] COLUMNS = {"级别", "规则", "包", "位置", "问题"};
+
+    private static final String[] SEVERITIES = {"错误", "警告", "提示"};
+
+    private P3cResultView view;
+
+    P3cResultsTableModel(@NotNull P3cResultView view) {
+        this.view = view;
+    }
+
+    void setView(@NotNull P3cResultView view) {
+        this.view = view;
+        fireTableDataChanged();
+    }
+
+    @NotNull
+    P3cResultView getView() {
+        return view;
+    }
+
+    /**
+     * 表格行对应的问题编号
+     *
+     * @param rowIndex 表格行
+     * @return 问题编号
+     */
+    int rowAt(int rowIndex) {
+        return view.rows()[rowIndex];
+    }
+
+    @Override
+    public int getRowCount() {
+        return view.rows().length;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMNS.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return COLUMNS[column];
+    }
+
+    @Override
+    public Object getValueAt(int rowIndex, int columnIndex) {
+        P3cResultStore.Snapshot snapshot = view.snapshot();
+        int row = view.rows()[rowIndex];
+        return switch (columnIndex) {
+            case 0 -> SEVERITIES[snapshot.severities()[row]];
+            case 1 -> snapshot.ruleNames()[snapshot.rules()[row]];
+            case 2 -> snapshot.packages()[snapshot.packageOf(row)];
+            case 3 -> snapshot.fileOf(row).getName() + ":" + (snapshot.lines()[row] + 1);
+            default -> snapshot.messageOf(row);
+        };
+    }
+}
@@ -0,0 +1,37 @@
+package com.code.inspections.results;
+
+import com.code.inspections.trend.P3cTrendPanel;
+import com.intellij.openapi.project.DumbAware;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.wm.ToolWindow;
+import com.intellij.openapi.wm.ToolWindowFactory;
+import com.intellij.ui.content.Content;
+import com.intellij.ui.content.ContentFactory;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Ali-P3C 结果窗口，显示 {@link InspectToResultsAction} 的检查结果和 {@link P3cTrendPanel} 问题数趋势。
+ *
+ * @author liuzhihang
+ * @version P3cResultsToolWindowFactory.java, v 0.1 2026/10/18 liuzhihang
+ */
+public class P3cResultsToolWindowFactory implements ToolWindowFactory, DumbAware {
+
+    /**
+     * 工具窗口 ID，与 plugin.xml 中注册的 toolWindow 一致
+     */
+    public static final String ID = "Ali-P3C";
+
+    @Override
+    public void createToolWindowContent(@NotNull Project project, @NotNull ToolWindow toolWindow) {
+        P3cResultsPanel panel = new P3cResultsPanel(project);
+        Content content = ContentFactory.getInstance().createContent(panel, "问题", false);
+        content.setDisposer(panel);
+        toolWindow.getContentManager().addContent(content);
+
+        P3cTrendPanel trendPanel = new P3cTrendPanel(project);
+        Content trendContent = ContentFactory.getInstance().createContent(trendPanel, "趋势", false);
+        trendContent.setDisposer(trendPanel);
+        toolWindow.getContentManager().addContent(trendContent);
+    }
+}
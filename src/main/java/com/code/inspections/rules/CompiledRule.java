@@ -0,0 +1,51 @@
+package com.code.inspections.rules;
+
+import com.code.inspections.ali.name.IdentifierTokens;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.MethodHandle;
+
+/**
+ * 编译后的自定义规则。
+ * <p>
+ * 规则中的条件在加载时组合为一个类型为 {@code (IdentifierTokens)boolean} 的 {@link MethodHandle}，
+ * 检查时直接调用，不再解释规则。
+ *
+ * @param id            规则标识
+ * @param target        检查目标
+ * @param packagePrefix 包名前缀，为空表示所有包
+ * @param message       提示信息
+ * @param severity      严重级别，ERROR、WARNING 或 WEAK_WARNING
+ * @param violation     判断名称是否违反规则
+ * @author liuzhihang
+ * @version CompiledRule.java, v 0.1 2026/10/18 liuzhihang
+ */
+public record CompiledRule(@NotNull String id, @NotNull RuleTarget target, @NotNull String packagePrefix,
+                           @NotNull String message, @NotNull String severity, @NotNull MethodHandle violation) {
+
+    /**
+     * 规则是否适用于包
+     *
+     * @param packageName 包名
+     * @return 适用返回 true
+     */
+    public boolean appliesToPackage(@NotNull String packageName) {
+        return packagePrefix.isEmpty() || packageName.equals(packagePrefix) || packageName.startsWith(packagePrefix + ".");
+    }
+
+    /**
+     * 名称是否违反规则
+     *
+     * @param tokens 名称的分词结果
+     * @return 违反返回 true
+     */
+    public boolean isViolatedBy(@NotNull IdentifierTokens tokens) {
+        try {
+            return (boolean) violation.invokeExact(tokens);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.code.inspections.rules;
+
+import com.code.inspections.baseline.P3cBaseline;
+import com.code.inspections.settings.P3cDirectoryConfig;
+import com.intellij.codeInsight.daemon.DaemonCodeAnalyzer;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * 监听 Ali-P3C 配置文件和基线文件的变化，丢弃已缓存的配置，例如拉取代码更新了基线后不需要重启。
+ *
+ * @author liuzhihang
+ * @version P3cConfigFileListener.java, v 0.1 2026/10/18 liuzhihang
+ */
+public class P3cConfigFileListener implements BulkFileListener {
+
+    /**
+     * 当前项目
+     */
+    private final Project project;
+
+    public P3cConfigFileListener(@NotNull Project project) {
+        this.project = project;
+    }
+
+    @Override
+    public void after(@NotNull List<? extends VFileEvent> events) {
+        boolean changed = false;
+        for (VFileEvent event : events) {
+            String path = event.getPath();
+            if (path.endsWith("/" + P3cRuleSet.FILE_NAME)) {
+                P3cRuleSet.getInstance(project).reload();
+                changed = true;
+            } else if (path.endsWith("/" + P3cDirectoryConfig.FILE_NAME)) {
+                P3cDirectoryConfig.getInstance(project).reload();
+                changed = true;
+            } else if (path.endsWith("/" + P3cBaseline.FILE_NAME)) {
+                P3cBaseline.getInstance(project).reload();
+                changed = true;
+            }
+        }
+        // 配置变化后重新检查已打开的文件
+        if (changed && !project.isDisposed()) {
+            DaemonCodeAnalyzer.getInstance(project).restart();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.code.inspections.rules;
+
+import com.code.inspections.base.P3cNotifications;
+import com.code.inspections.bundle.CodeInspectionsBundle;
+import com.intellij.notification.NotificationType;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.components.Service;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.project.Project;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.TestOnly;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 项目的自定义规则。
+ * <p>
+ * 规则文件位于项目根目录 {@value #FILE_NAME}，首次使用时解析并编译，之后直接返回编译结果；
+ * 规则文件格式不正确时只提示一次，之后使用空规则，不在每个文件上重新解析。
+ * 规则文件变化时由 {@link P3cConfigFileListener} 丢弃编译结果，下次使用时重新加载。
+ *
+ * @author liuzhihang
+ * @version P3cRuleSet.java, v 0.1 2026/10/18 liuzhihang
+ */
+@Service(Service.Level.PROJECT)
+public final class P3cRuleSet {
+
+    /**
+     * 日志
+     */
+    private static final Logger LOG = Logger.getInstance(P3cRuleSet.class);
+
+    /**
+     * 规则文件名
+     */
+    public static final String FILE_NAME = ".p3c-rules.yaml";
+
+    /**
+     * 当前项目
+     */
+    private final Project project;
+
+    /**
+     * 编译后的规则，首次使用时加载
+     */
+    private volatile List<CompiledRule> rules;
+
+    public P3cRuleSet(@NotNull Project project) {
+        this.project = project;
+    }
+
+    /**
+     * 获取项目的自定义规则
+     *
+     * @param project 项目
+     * @return 自定义规则
+     */
+    public static P3cRuleSet getInstance(@NotNull Project project) {
+        return project.getService(P3cRuleSet.class);
+    }
+
+    /**
+     * 获取编译后的规则
+     *
+     * @return 规则，规则文件不存在或格式不正确时返回空列表
+     */
+    @NotNull
+    public List<CompiledRule> getRules() {
+        List<CompiledRule> result = rules;
+        if (result == null) {
+            synchronized (this) {
+                result = rules;
+                if (result == null) {
+                    result = load();
+                    rules = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 丢弃已编译的规则，下次使用时重新加载
+     */
+    public void reload() {
+        rules = null;
+    }
+
+    /**
+     * 使用给定的规则代替规则文件，供测试使用，{@link #reload()} 后恢复为规则文件中的规则
+     *
+     * @param rules 编译后的规则
+     */
+    @TestOnly
+    public void setRules(@NotNull List<CompiledRule> rules) {
+        this.rules = List.copyOf(rules);
+    }
+
+    /**
+     * 加载并编译规则文件，格式不正确时都抛出 {@link IllegalArgumentException}，与读取失败一样返回空规则并由调用方缓存
+     *
+     * @return 规则
+     */
+    private List<CompiledRule> load() {
+        Path path = getPath();
+        if (path == null || !Files.isRegularFile(path)) {
+            return List.of();
+        }
+        try {
+            return RuleCompiler.compile(Files.readString(path, StandardCharsets.UTF_8));
+        } catch (IOException | IllegalArgumentException e) {
+            LOG.warn("Failed to load rules " + path, e);
+            if (!ApplicationManager.getApplication().isHeadlessEnvironment()) {
+                P3cNotifications.notify(project, CodeInspectionsBundle.message("ali.p3c.rules.load.failed", e.getMessage()), NotificationType.WARNING);
+            }
+            return List.of();
+        }
+    }
+
+    /**
+     * 规则文件路径
+     *
+     * @return 规则文件路径，项目没有根目录时返回 null
+     */
+    @Nullable
+    private Path getPath() {
+        String basePath = project.getBasePath();
+        return basePath == null ? null : Path.of(basePath, FILE_NAME);
+    }
+}
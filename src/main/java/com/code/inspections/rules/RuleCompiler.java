@@ -0,0 +1,267 @@
+package com.code.inspections.rules;
+
+import com.code.inspections.ali.name.IdentifierClassifier;
+import com.code.inspections.ali.name.IdentifierTokens;
+import com.code.inspections.settings.SuffixTrie;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * 将规则文件编译为 {@link CompiledRule}。
+ * <p>
+ * 规则文件格式（项目根目录下的 {@code .p3c-rules.yaml}）：
+ * <pre>
+ * rules:
+ *   - id: service-suffix
+ *     target: class                # class / method / field / parameter / variable
+ *     package: com.example.service # 可选，包名前缀
+ *     message: Service 包下的类名需要以 Service 或 ServiceImpl 结尾
+ *     severity: WARNING            # 可选，ERROR / WARNING / WEAK_WARNING
+ *     name:
+ *       style: UpperCamel          # 可选，lowerCamel / UpperCamel / UPPER_SNAKE
+ *       prefix: [Biz]              # 可选，必须以其中之一开头
+ *       suffix: [Service, ServiceImpl] # 可选，必须以其中之一结尾
+ *       pattern: "[A-Z]\\w*"       # 可选，必须完整匹配的正则表达式
+ *       banned: [manager, util]    # 可选，不允许出现的单词，按驼峰分词后忽略大小写匹配
+ *       exempt-suffix: [DTO]       # 可选，以其中之一结尾时不检查
+ * </pre>
+ * 每个条件编译为一个 {@code (IdentifierTokens)boolean} 的 {@link MethodHandle}，再通过 {@link MethodHandles#guardWithTest}
+ * 组合为整条规则的判断，前缀、后缀在编译时转换为字典树，正则表达式只编译一次。
+ *
+ * @author liuzhihang
+ * @version RuleCompiler.java, v 0.1 2026/10/18 liuzhihang
+ */
+public final class RuleCompiler {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /**
+     * 规则判断的类型
+     */
+    private static final MethodType PREDICATE = MethodType.methodType(boolean.class, IdentifierTokens.class);
+
+    private static final MethodHandle TRUE = MethodHandles.dropArguments(MethodHandles.constant(boolean.class, true), 0, IdentifierTokens.class);
+
+    private static final MethodHandle FALSE = MethodHandles.dropArguments(MethodHandles.constant(boolean.class, false), 0, IdentifierTokens.class);
+
+    private static final MethodHandle NOT = find("not", MethodType.methodType(boolean.class, boolean.class));
+
+    private static final MethodHandle HAS_VERDICT = find("hasVerdict", MethodType.methodType(boolean.class, int.class, IdentifierTokens.class));
+
+    private static final MethodHandle HAS_PREFIX = find("hasPrefix", MethodType.methodType(boolean.class, SuffixTrie.class, IdentifierTokens.class));
+
+    private static final MethodHandle HAS_SUFFIX = find("hasSuffix", MethodType.methodType(boolean.class, SuffixTrie.class, IdentifierTokens.class));
+
+    private static final MethodHandle MATCHES = find("matches", MethodType.methodType(boolean.class, Pattern.class, IdentifierTokens.class));
+
+    private static final MethodHandle CONTAINS_WORDS = find("containsWords", MethodType.methodType(boolean.class, String[].class, IdentifierTokens.class));
+
+    private RuleCompiler() {
+    }
+
+    /**
+     * 解析并编译规则文件
+     *
+     * @param text 规则文件内容
+     * @return 编译后的规则
+     * @throws IllegalArgumentException 规则文件格式不正确
+     */
+    @NotNull
+    public static List<CompiledRule> compile(@NotNull String text) {
+        Object root = YamlSubsetParser.parse(text);
+        if (!(root instanceof Map<?, ?> rootMap)) {
+            throw new IllegalArgumentException("规则文件的根节点需要为映射");
+        }
+        Object rules = rootMap.get("rules");
+        if (rules == null || "".equals(rules)) {
+            return List.of();
+        }
+        if (!(rules instanceof List<?> ruleList)) {
+            throw new IllegalArgumentException("rules 需要为列表");
+        }
+        List<CompiledRule> compiled = new ArrayList<>();
+        for (Object rule : ruleList) {
+            if (!(rule instanceof Map<?, ?> ruleMap)) {
+                throw new IllegalArgumentException("rules 中的每一项需要为映射");
+            }
+            compiled.add(compileRule(ruleMap));
+        }
+        return List.copyOf(compiled);
+    }
+
+    private static CompiledRule compileRule(Map<?, ?> rule) {
+        String id = string(rule, "id", null);
+        if (id == null || id.isEmpty()) {
+            throw new IllegalArgumentException("规则缺少 id");
+        }
+        RuleTarget target = RuleTarget.of(string(rule, "target", "class"));
+        if (target == null) {
+            throw new IllegalArgumentException(id + "：不支持的 target " + rule.get("target"));
+        }
+        String severity = string(rule, "severity", "WARNING").toUpperCase(Locale.ROOT);
+        if (!List.of("ERROR", "WARNING", "WEAK_WARNING").contains(severity)) {
+            throw new IllegalArgumentException(id + "：不支持的 severity " + severity);
+        }
+        Object name = rule.get("name");
+        if (!(name instanceof Map<?, ?> conditions)) {
+            throw new IllegalArgumentException(id + "：缺少 name 条件");
+        }
+        String message = string(rule, "message", "违反自定义规则 " + id);
+        return new CompiledRule(id, target, string(rule, "package", ""), message, severity, compileConditions(id, conditions));
+    }
+
+    /**
+     * 组合条件：不在例外中，且任一必需条件不满足或出现了禁用的单词
+     */
+    private static MethodHandle compileConditions(String id, Map<?, ?> conditions) {
+        List<MethodHandle> required = new ArrayList<>();
+        MethodHandle banned = null;
+        MethodHandle exempt = null;
+        for (Map.Entry<?, ?> entry : conditions.entrySet()) {
+            String key = String.valueOf(entry.getKey());
+            Object value = entry.getValue();
+            switch (key) {
+                case "style" -> required.add(MethodHandles.insertArguments(HAS_VERDICT, 0, style(id, scalar(id, key, value))));
+                case "prefix" -> required.add(MethodHandles.insertArguments(HAS_PREFIX, 0, SuffixTrie.ofPrefixes(list(id, key, value))));
+                case "suffix" -> required.add(MethodHandles.insertArguments(HAS_SUFFIX, 0, SuffixTrie.of(list(id, key, value))));
+                case "pattern" -> required.add(MethodHandles.insertArguments(MATCHES, 0, pattern(id, scalar(id, key, value))));
+                case "banned" -> banned = anyOf(list(id, key, value).stream()
+                        .map(word -> MethodHandles.insertArguments(CONTAINS_WORDS, 0, (Object) words(word)))
+                        .toList());
+                case "exempt-suffix" -> exempt = MethodHandles.insertArguments(HAS_SUFFIX, 0, SuffixTrie.of(list(id, key, value)));
+                default -> throw new IllegalArgumentException(id + "：不支持的条件 " + key);
+            }
+        }
+        List<MethodHandle> violations = new ArrayList<>();
+        for (MethodHandle handle : required) {
+            violations.add(MethodHandles.filterReturnValue(handle, NOT));
+        }
+        if (banned != null) {
+            violations.add(banned);
+        }
+        MethodHandle violation = anyOf(violations);
+        if (exempt != null) {
+            violation = MethodHandles.guardWithTest(exempt, FALSE, violation);
+        }
+        return violation.asType(PREDICATE);
+    }
+
+    /**
+     * 组合为短路的或
+     */
+    private static MethodHandle anyOf(List<MethodHandle> handles) {
+        MethodHandle result = FALSE;
+        for (int i = handles.size() - 1; i >= 0; i--) {
+            result = MethodHandles.guardWithTest(handles.get(i), TRUE, result);
+        }
+        return result;
+    }
+
+    private static int style(String id, String style) {
+        return switch (style) {
+            case "lowerCamel" -> IdentifierClassifier.LOWER_CAMEL;
+            case "UpperCamel" -> IdentifierClassifier.UPPER_CAMEL;
+            case "UPPER_SNAKE" -> IdentifierClassifier.UPPER_SNAKE;
+            default -> throw new IllegalArgumentException(id + "：不支持的 style " + style);
+        };
+    }
+
+    private static Pattern pattern(String id, String regex) {
+        try {
+            return Pattern.compile(regex);
+        } catch (PatternSyntaxException e) {
+            throw new IllegalArgumentException(id + "：pattern 不正确 " + e.getDescription());
+        }
+    }
+
+    /**
+     * 将单词按驼峰分词并转换为小写
+     */
+    private static String[] words(String word) {
+        IdentifierTokens tokens = IdentifierTokens.tokenize(word);
+        String[] words = new String[tokens.size()];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = tokens.token(i).toLowerCase(Locale.ROOT);
+        }
+        return words;
+    }
+
+    private static String string(Map<?, ?> map, String key, String defaultValue) {
+        Object value = map.get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        if (!(value instanceof String text)) {
+            throw new IllegalArgumentException(key + " 需要为字符串");
+        }
+        return text;
+    }
+
+    private static String scalar(String id, String key, Object value) {
+        if (!(value instanceof String text)) {
+            throw new IllegalArgumentException(id + "：" + key + " 需要为字符串");
+        }
+        return text;
+    }
+
+    /**
+     * 单个字符串或字符串列表，其他类型（例如映射）视为格式不正确
+     */
+    private static List<String> list(String id, String key, Object value) {
+        if (value instanceof String text) {
+            return text.isEmpty() ? List.of() : List.of(text);
+        }
+        if (!(value instanceof List<?> values)) {
+            throw new IllegalArgumentException(id + "：" + key + " 需要为字符串或列表");
+        }
+        List<String> items = new ArrayList<>();
+        for (Object item : values) {
+            if (!(item instanceof String text)) {
+                throw new IllegalArgumentException(id + "：" + key + " 需要为字符串或列表");
+            }
+            items.add(text);
+        }
+        return items;
+    }
+
+    private static MethodHandle find(String name, MethodType type) {
+        try {
+            return LOOKUP.findStatic(RuleCompiler.class, name, type);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static boolean not(boolean value) {
+        return !value;
+    }
+
+    private static boolean hasVerdict(int flag, IdentifierTokens tokens) {
+        return IdentifierClassifier.is(tokens.getVerdict(), flag);
+    }
+
+    private static boolean hasPrefix(SuffixTrie prefixes, IdentifierTokens tokens) {
+        return prefixes.matchesPrefixOf(tokens.getName());
+    }
+
+    private static boolean hasSuffix(SuffixTrie suffixes, IdentifierTokens tokens) {
+        return suffixes.matchesSuffixOf(tokens.getName());
+    }
+
+    private static boolean matches(Pattern pattern, IdentifierTokens tokens) {
+        return pattern.matcher(tokens.getName()).matches();
+    }
+
+    private static boolean containsWords(String[] words, IdentifierTokens tokens) {
+        return tokens.containsSequence(words);
+    }
+}
@@ -0,0 +1,56 @@
+package com.code.inspections.rules;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Locale;
+
+/**
+ * 自定义规则检查的目标。
+ *
+ * @author liuzhihang
+ * @version RuleTarget.java, v 0.1 2026/10/18 liuzhihang
+ */
+public enum RuleTarget {
+
+    /**
+     * 类、接口、枚举的名称
+     */
+    CLASS,
+
+    /**
+     * 方法名称
+     */
+    METHOD,
+
+    /**
+     * 成员变量名称
+     */
+    FIELD,
+
+    /**
+     * 方法参数名称
+     */
+    PARAMETER,
+
+    /**
+     * 局部变量名称
+     */
+    VARIABLE,
+    ;
+
+    /**
+     * 根据规则文件中的名称获取目标
+     *
+     * @param name 名称，不区分大小写
+     * @return 目标，不存在返回 null
+     */
+    @Nullable
+    public static RuleTarget of(String name) {
+        for (RuleTarget target : values()) {
+            if (target.name().equals(name.toUpperCase(Locale.ROOT))) {
+                return target;
+            }
+        }
+        return null;
+    }
+}
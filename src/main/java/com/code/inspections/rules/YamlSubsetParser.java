@@ -0,0 +1,248 @@
+package com.code.inspections.rules;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 规则文件使用的 YAML 子集解析器。
+ * <p>
+ * 只支持规则文件需要的语法：缩进表示的映射和列表、{@code [a, b]} 形式的行内列表、单引号或双引号字符串以及 {@code #} 注释，
+ * 解析结果为 {@link Map}、{@link List} 和 {@link String} 组成的树。不依赖 IDE 的类，命令行引擎也可以使用。
+ *
+ * @author liuzhihang
+ * @version YamlSubsetParser.java, v 0.1 2026/10/18 liuzhihang
+ */
+final class YamlSubsetParser {
+
+    /**
+     * 去除注释和空行后的行
+     */
+    private final List<Line> lines = new ArrayList<>();
+
+    /**
+     * 当前行
+     */
+    private int pos;
+
+    private YamlSubsetParser(String text) {
+        String[] rawLines = text.split("\r?\n", -1);
+        for (int i = 0; i < rawLines.length; i++) {
+            String raw = stripComment(rawLines[i]);
+            if (raw.isBlank()) {
+                continue;
+            }
+            int indent = 0;
+            while (indent < raw.length() && raw.charAt(indent) == ' ') {
+                indent++;
+            }
+            if (indent < raw.length() && raw.charAt(indent) == '\t') {
+                throw error(i + 1, "不支持使用 Tab 缩进");
+            }
+            lines.add(new Line(i + 1, indent, raw.substring(indent).stripTrailing()));
+        }
+    }
+
+    /**
+     * 解析文本
+     *
+     * @param text 文本
+     * @return 根节点，空文本返回空映射
+     */
+    @NotNull
+    static Object parse(@NotNull String text) {
+        YamlSubsetParser parser = new YamlSubsetParser(text);
+        if (parser.lines.isEmpty()) {
+            return new LinkedHashMap<String, Object>();
+        }
+        Object root = parser.parseNode(parser.lines.get(0).indent);
+        if (parser.pos < parser.lines.size()) {
+            throw error(parser.lines.get(parser.pos).number, "缩进不正确");
+        }
+        return root;
+    }
+
+    private Object parseNode(int indent) {
+        Line line = lines.get(pos);
+        return isListItem(line.text) ? parseList(indent) : parseMap(indent);
+    }
+
+    private List<Object> parseList(int indent) {
+        List<Object> list = new ArrayList<>();
+        while (pos < lines.size() && lines.get(pos).indent == indent && isListItem(lines.get(pos).text)) {
+            Line line = lines.get(pos);
+            String content = line.text.substring(1).trim();
+            if (content.isEmpty()) {
+                pos++;
+                list.add(pos < lines.size() && lines.get(pos).indent > indent ? parseNode(lines.get(pos).indent) : "");
+            } else if (keySeparator(content) >= 0) {
+                // "- key: value" 视为缩进更深一层的映射的第一行
+                int itemIndent = indent + line.text.indexOf(content);
+                lines.set(pos, new Line(line.number, itemIndent, content));
+                list.add(parseMap(itemIndent));
+            } else {
+                pos++;
+                list.add(parseScalar(content, line.number));
+            }
+        }
+        return list;
+    }
+
+    private Map<String, Object> parseMap(int indent) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        while (pos < lines.size() && lines.get(pos).indent == indent && !isListItem(lines.get(pos).text)) {
+            Line line = lines.get(pos);
+            int separator = keySeparator(line.text);
+            if (separator < 0) {
+                throw error(line.number, "缺少冒号：" + line.text);
+            }
+            String key = unquote(line.text.substring(0, separator).trim());
+            String value = line.text.substring(separator + 1).trim();
+            pos++;
+            if (!value.isEmpty()) {
+                map.put(key, parseScalar(value, line.number));
+            } else if (pos < lines.size() && (lines.get(pos).indent > indent || lines.get(pos).indent == indent && isListItem(lines.get(pos).text))) {
+                map.put(key, parseNode(lines.get(pos).indent));
+            } else {
+                map.put(key, "");
+            }
+        }
+        return map;
+    }
+
+    private static Object parseScalar(String value, int number) {
+        if (value.startsWith("[")) {
+            if (!value.endsWith("]")) {
+                throw error(number, "行内列表缺少 ]");
+            }
+            List<Object> list = new ArrayList<>();
+            String body = value.substring(1, value.length() - 1);
+            for (String item : splitFlow(body)) {
+                if (!item.isBlank()) {
+                    list.add(unquote(item.trim()));
+                }
+            }
+            return list;
+        }
+        return unquote(value);
+    }
+
+    /**
+     * 按逗号拆分行内列表，忽略引号中的逗号
+     */
+    private static List<String> splitFlow(String body) {
+        List<String> items = new ArrayList<>();
+        char quote = 0;
+        int start = 0;
+        for (int i = 0; i < body.length(); i++) {
+            char c = body.charAt(i);
+            if (quote != 0) {
+                if (c == '\\' && quote == '"') {
+                    i++;
+                } else if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+            } else if (c == ',') {
+                items.add(body.substring(start, i));
+                start = i + 1;
+            }
+        }
+        items.add(body.substring(start));
+        return items;
+    }
+
+    private static String unquote(String value) {
+        if (value.length() >= 2 && value.startsWith("'") && value.endsWith("'")) {
+            return value.substring(1, value.length() - 1).replace("''", "'");
+        }
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            StringBuilder builder = new StringBuilder();
+            for (int i = 1; i < value.length() - 1; i++) {
+                char c = value.charAt(i);
+                if (c == '\\' && i + 1 < value.length() - 1) {
+                    char next = value.charAt(++i);
+                    builder.append(switch (next) {
+                        case 'n' -> '\n';
+                        case 't' -> '\t';
+                        default -> next;
+                    });
+                } else {
+                    builder.append(c);
+                }
+            }
+            return builder.toString();
+        }
+        return value;
+    }
+
+    private static boolean isListItem(String text) {
+        return text.equals("-") || text.startsWith("- ");
+    }
+
+    /**
+     * 查找引号之外的 "key: value" 分隔冒号
+     *
+     * @return 冒号位置，不存在返回 -1
+     */
+    private static int keySeparator(String text) {
+        char quote = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '"' || c == '\'') {
+                if (i == 0) {
+                    quote = c;
+                }
+            } else if (c == '[') {
+                return -1;
+            } else if (c == ':' && (i + 1 == text.length() || text.charAt(i + 1) == ' ')) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 去除引号之外的注释
+     */
+    private static String stripComment(String line) {
+        char quote = 0;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quote != 0) {
+                if (c == '\\' && quote == '"') {
+                    i++;
+                } else if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+            } else if (c == '#' && (i == 0 || Character.isWhitespace(line.charAt(i - 1)))) {
+                return line.substring(0, i);
+            }
+        }
+        return line;
+    }
+
+    private static IllegalArgumentException error(int number, String message) {
+        return new IllegalArgumentException("第 " + number + " 行：" + message);
+    }
+
+    /**
+     * 行
+     *
+     * @param number 行号，从 1 开始
+     * @param indent 缩进
+     * @param text   去除缩进后的内容
+     */
+    private record Line(int number, int indent, String text) {
+    }
+}
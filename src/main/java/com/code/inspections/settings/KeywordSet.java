@@ -0,0 +1,59 @@
+package com.code.inspections.settings;
+
+import com.intellij.psi.impl.source.tree.ElementType;
+import com.intellij.psi.tree.IElementType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * 不可变的 Java 关键字集合，按关键字词法类型的下标保存在位图中，判断时不需要比较关键字文本。
+ *
+ * @author liuzhihang
+ * @version KeywordSet.java, v 0.1 2026/10/18 liuzhihang
+ */
+public final class KeywordSet {
+
+    /**
+     * 关键字词法类型下标
+     */
+    private final BitSet types;
+
+    private KeywordSet(BitSet types) {
+        this.types = types;
+    }
+
+    /**
+     * 根据关键字文本构建集合，忽略不是 Java 关键字的文本
+     *
+     * @param words 关键字文本，如 if、for
+     * @return 关键字集合
+     */
+    @NotNull
+    public static KeywordSet of(@NotNull Collection<String> words) {
+        BitSet types = new BitSet();
+        for (IElementType type : ElementType.KEYWORD_BIT_SET.getTypes()) {
+            // 关键字词法类型的名称为 IF_KEYWORD 这样的形式
+            String name = type.toString();
+            for (String word : words) {
+                if (name.equals(word.toUpperCase(Locale.ROOT) + "_KEYWORD")) {
+                    types.set(type.getIndex());
+                }
+            }
+        }
+        return new KeywordSet(types);
+    }
+
+    /**
+     * 是否包含关键字
+     *
+     * @param type 词法类型
+     * @return 包含返回 true
+     */
+    public boolean contains(@Nullable IElementType type) {
+        return type != null && types.get(type.getIndex());
+    }
+}
@@ -0,0 +1,33 @@
+package com.code.inspections.settings;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * 编译后的设置快照，不可变，设置变更时整体替换，检查过程中无锁读取。
+ *
+ * @param skipPolicy         生成代码和超大文件的跳过策略
+ * @param classNameSuffixes  类名例外后缀
+ * @param reservedWords      需要与括号之间加空格的保留字
+ * @param maxLineLength      单行字符数限制
+ * @param partitionLineCount 超过该行数的文件按成员分区并行检查，小于等于 0 表示不分区
+ * @author liuzhihang
+ * @version P3cConfigSnapshot.java, v 0.1 2026/10/18 liuzhihang
+ */
+public record P3cConfigSnapshot(@NotNull SkipPolicy skipPolicy, @NotNull SuffixTrie classNameSuffixes,
+                                @NotNull KeywordSet reservedWords, int maxLineLength, int partitionLineCount) {
+
+    /**
+     * 编译设置
+     *
+     * @param options 设置
+     * @return 设置快照
+     */
+    @NotNull
+    static P3cConfigSnapshot compile(@NotNull P3cSettings.Options options) {
+        return new P3cConfigSnapshot(SkipPolicy.compile(options),
+                SuffixTrie.of(P3cSettings.Options.split(options.classNameSuffixes)),
+                KeywordSet.of(P3cSettings.Options.split(options.reservedWords)),
+                options.maxLineLength,
+                options.partitionLineCount);
+    }
+}
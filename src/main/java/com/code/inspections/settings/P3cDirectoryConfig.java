@@ -0,0 +1,192 @@
+package com.code.inspections.settings;
+
+import com.intellij.openapi.components.Service;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.project.ProjectUtil;
+import com.intellij.openapi.roots.ProjectFileIndex;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
+import com.intellij.util.xmlb.XmlSerializerUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 按目录分层的 Ali-P3C 配置。
+ * <p>
+ * 目录下可以放置 {@value #FILE_NAME}，其中的值覆盖上级目录的配置，项目根目录的上级为全局设置 {@link P3cSettings}。
+ * 每个目录的有效配置只计算一次并缓存为 {@link P3cConfigSnapshot}，没有配置文件的目录直接共用上级目录的快照；
+ * 配置文件变化时由 {@link com.code.inspections.rules.P3cConfigFileListener} 清空缓存，全局设置变化时自动清空。
+ * <p>
+ * 只依赖 VFS，IDE 和命令行检查（inspect.sh）中行为一致。
+ *
+ * @author liuzhihang
+ * @version P3cDirectoryConfig.java, v 0.1 2026/10/18 liuzhihang
+ */
+@Service(Service.Level.PROJECT)
+public final class P3cDirectoryConfig {
+
+    /**
+     * 日志
+     */
+    private static final Logger LOG = Logger.getInstance(P3cDirectoryConfig.class);
+
+    /**
+     * 目录配置文件名
+     */
+    public static final String FILE_NAME = ".p3c.properties";
+
+    /**
+     * 当前项目
+     */
+    private final Project project;
+
+    /**
+     * 目录的有效配置
+     */
+    private final Map<VirtualFile, Resolved> cache = new ConcurrentHashMap<>();
+
+    /**
+     * 缓存计算时使用的全局设置快照
+     */
+    private volatile P3cConfigSnapshot baseSnapshot;
+
+    public P3cDirectoryConfig(@NotNull Project project) {
+        this.project = project;
+    }
+
+    /**
+     * 获取项目的目录配置
+     *
+     * @param project 项目
+     * @return 目录配置
+     */
+    public static P3cDirectoryConfig getInstance(@NotNull Project project) {
+        return project.getService(P3cDirectoryConfig.class);
+    }
+
+    /**
+     * 获取文件所在目录的有效配置
+     *
+     * @param file 文件
+     * @return 配置快照
+     */
+    @NotNull
+    public P3cConfigSnapshot getSnapshot(@NotNull PsiFile file) {
+        VirtualFile virtualFile = file.getOriginalFile().getVirtualFile();
+        return getSnapshot(virtualFile == null ? null : virtualFile.getParent());
+    }
+
+    /**
+     * 获取目录的有效配置
+     *
+     * @param directory 目录，为 null 时返回全局设置
+     * @return 配置快照
+     */
+    @NotNull
+    public P3cConfigSnapshot getSnapshot(@Nullable VirtualFile directory) {
+        P3cConfigSnapshot base = P3cSettings.getInstance().getSnapshot();
+        if (base != baseSnapshot) {
+            // 全局设置已变化
+            cache.clear();
+            baseSnapshot = base;
+        }
+        if (directory == null || !directory.isValid()) {
+            return base;
+        }
+        VirtualFile root = findRoot(directory);
+        if (root == null) {
+            return base;
+        }
+        return resolve(directory, root).snapshot;
+    }
+
+    /**
+     * 丢弃已缓存的配置，下次使用时重新计算
+     */
+    public void reload() {
+        cache.clear();
+    }
+
+    /**
+     * 计算目录的有效配置，先计算上级目录
+     *
+     * @param directory 目录
+     * @param root      配置的最上级目录
+     * @return 有效配置
+     */
+    private Resolved resolve(VirtualFile directory, VirtualFile root) {
+        Resolved resolved = cache.get(directory);
+        if (resolved != null) {
+            return resolved;
+        }
+        Resolved parent = directory.equals(root) || directory.getParent() == null
+                ? new Resolved(P3cSettings.getInstance().copyOptions(), P3cSettings.getInstance().getSnapshot())
+                : resolve(directory.getParent(), root);
+        Properties properties = load(directory.findChild(FILE_NAME));
+        if (properties == null) {
+            resolved = parent;
+        } else {
+            P3cSettings.Options options = new P3cSettings.Options();
+            XmlSerializerUtil.copyBean(parent.options, options);
+            options.overlay(properties);
+            resolved = new Resolved(options, P3cConfigSnapshot.compile(options));
+        }
+        Resolved previous = cache.putIfAbsent(directory, resolved);
+        return previous != null ? previous : resolved;
+    }
+
+    /**
+     * 配置的最上级目录：项目根目录下的文件为项目根目录，其他文件为所在的内容根目录
+     *
+     * @param directory 目录
+     * @return 最上级目录，不属于项目时返回 null
+     */
+    @Nullable
+    private VirtualFile findRoot(VirtualFile directory) {
+        VirtualFile projectDir = ProjectUtil.guessProjectDir(project);
+        if (projectDir != null && VfsUtilCore.isAncestor(projectDir, directory, false)) {
+            return projectDir;
+        }
+        return ProjectFileIndex.getInstance(project).getContentRootForFile(directory);
+    }
+
+    /**
+     * 读取配置文件
+     *
+     * @param file 配置文件
+     * @return 配置，文件不存在或读取失败时返回 null
+     */
+    @Nullable
+    private static Properties load(@Nullable VirtualFile file) {
+        if (file == null || file.isDirectory()) {
+            return null;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8)) {
+            properties.load(reader);
+            return properties;
+        } catch (IOException e) {
+            LOG.warn("Failed to load " + file.getPath(), e);
+            return null;
+        }
+    }
+
+    /**
+     * 目录的有效配置
+     *
+     * @param options  合并后的设置，用于计算下级目录
+     * @param snapshot 编译后的快照
+     */
+    private record Resolved(P3cSettings.Options options, P3cConfigSnapshot snapshot) {
+    }
+}
@@ -0,0 +1,206 @@
+package com.code.inspections.settings;
+
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.components.PersistentStateComponent;
+import com.intellij.openapi.components.Service;
+import com.intellij.openapi.components.State;
+import com.intellij.openapi.components.Storage;
+import com.intellij.util.xmlb.XmlSerializerUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.function.Consumer;
+
+/**
+ * Ali-P3C 全局设置。
+ * <p>
+ * 设置在修改或加载时编译为不可变的 {@link P3cConfigSnapshot}，检查过程中只读取编译结果，不再解析字符串。
+ *
+ * @author liuzhihang
+ * @version P3cSettings.java, v 0.1 2026/10/18 liuzhihang
+ */
+@Service(Service.Level.APP)
+@State(name = "AliP3cSettings", storages = @Storage("ali-p3c.xml"))
+public final class P3cSettings implements PersistentStateComponent<P3cSettings.Options> {
+
+    /**
+     * 当前设置
+     */
+    private Options options = new Options();
+
+    /**
+     * 编译后的设置快照
+     */
+    private volatile P3cConfigSnapshot snapshot = P3cConfigSnapshot.compile(options);
+
+    /**
+     * 获取设置
+     *
+     * @return 设置
+     */
+    public static P3cSettings getInstance() {
+        return ApplicationManager.getApplication().getService(P3cSettings.class);
+    }
+
+    @NotNull
+    @Override
+    public Options getState() {
+        return options;
+    }
+
+    @Override
+    public void loadState(@NotNull Options state) {
+        Options loaded = new Options();
+        XmlSerializerUtil.copyBean(state, loaded);
+        this.options = loaded;
+        this.snapshot = P3cConfigSnapshot.compile(loaded);
+    }
+
+    /**
+     * 修改设置并重新编译快照
+     *
+     * @param modifier 修改设置副本
+     */
+    public synchronized void update(@NotNull Consumer<Options> modifier) {
+        Options copy = copyOptions();
+        modifier.accept(copy);
+        loadState(copy);
+    }
+
+    /**
+     * 获取设置的副本，用于设置界面编辑
+     *
+     * @return 设置副本
+     */
+    @NotNull
+    public Options copyOptions() {
+        Options copy = new Options();
+        XmlSerializerUtil.copyBean(options, copy);
+        return copy;
+    }
+
+    /**
+     * 获取编译后的设置快照
+     *
+     * @return 设置快照
+     */
+    @NotNull
+    public P3cConfigSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * 获取编译后的跳过策略
+     *
+     * @return 跳过策略
+     */
+    @NotNull
+    public SkipPolicy getSkipPolicy() {
+        return snapshot.skipPolicy();
+    }
+
+    /**
+     * 持久化的设置项，字段需要为 public 以便序列化
+     */
+    public static class Options {
+
+        /**
+         * 是否跳过生成代码和超大文件
+         */
+        public boolean skipGeneratedFiles = true;
+
+        /**
+         * 生成代码输出目录，逗号分隔，按路径片段匹配
+         */
+        public String generatedDirectories = "build/generated,target/generated-sources,target/generated-test-sources,generated-sources";
+
+        /**
+         * 生成代码标记，逗号分隔，出现在文件头部时跳过
+         */
+        public String generatedMarkers = "Generated by the protocol buffer compiler,DO NOT EDIT,@mbg.generated,MyBatis Generator,Autogenerated,auto-generated";
+
+        /**
+         * 文件大小上限，单位 KB，小于等于 0 表示不限制
+         */
+        public int maxFileSizeKb = 10 * 1024;
+
+        /**
+         * 文件行数上限，小于等于 0 表示不限制
+         */
+        public int maxLineCount = 200_000;
+
+        /**
+         * 类名例外后缀，逗号分隔
+         */
+        public String classNameSuffixes = "DO,PO,DTO,BO,VO,UID";
+
+        /**
+         * 需要与括号之间加空格的保留字，逗号分隔
+         */
+        public String reservedWords = "if,for,while,do,switch";
+
+        /**
+         * 单行字符数限制
+         */
+        public int maxLineLength = 120;
+
+        /**
+         * 超过该行数的文件按成员分区并行检查，小于等于 0 表示不分区
+         */
+        public int partitionLineCount = 50_000;
+
+        /**
+         * 项目打开后是否在后台预热检查
+         */
+        public boolean warmUpOnStartup = true;
+
+        /**
+         * 使用目录配置文件中的值覆盖当前设置，键与字段名相同，未出现的键保持不变，数字格式不正确时忽略
+         *
+         * @param properties 目录配置
+         */
+        void overlay(@NotNull Properties properties) {
+            skipGeneratedFiles = Boolean.parseBoolean(properties.getProperty("skipGeneratedFiles", Boolean.toString(skipGeneratedFiles)).trim());
+            generatedDirectories = properties.getProperty("generatedDirectories", generatedDirectories);
+            generatedMarkers = properties.getProperty("generatedMarkers", generatedMarkers);
+            maxFileSizeKb = parseInt(properties.getProperty("maxFileSizeKb"), maxFileSizeKb);
+            maxLineCount = parseInt(properties.getProperty("maxLineCount"), maxLineCount);
+            classNameSuffixes = properties.getProperty("classNameSuffixes", classNameSuffixes);
+            reservedWords = properties.getProperty("reservedWords", reservedWords);
+            maxLineLength = parseInt(properties.getProperty("maxLineLength"), maxLineLength);
+            partitionLineCount = parseInt(properties.getProperty("partitionLineCount"), partitionLineCount);
+        }
+
+        private static int parseInt(String value, int defaultValue) {
+            if (value == null) {
+                return defaultValue;
+            }
+            try {
+                return Integer.parseInt(value.trim());
+            } catch (NumberFormatException ignored) {
+                return defaultValue;
+            }
+        }
+
+        /**
+         * 拆分逗号分隔的设置值
+         *
+         * @param value 设置值
+         * @return 去除空白后的非空项
+         */
+        static List<String> split(String value) {
+            List<String> items = new ArrayList<>();
+            if (value != null) {
+                for (String item : value.split(",")) {
+                    String trimmed = item.trim();
+                    if (!trimmed.isEmpty()) {
+                        items.add(trimmed);
+                    }
+                }
+            }
+            return items;
+        }
+    }
+}
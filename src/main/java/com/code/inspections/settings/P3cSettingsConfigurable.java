@@ -0,0 +1,154 @@
+package com.code.inspections.settings;
+
+import com.intellij.openapi.options.Configurable;
+import com.intellij.ui.components.JBCheckBox;
+import com.intellij.ui.components.JBTextField;
+import com.intellij.util.ui.FormBuilder;
+import org.jetbrains.annotations.Nls;
+import org.jetbrains.annotations.Nullable;
+
+import javax.swing.*;
+
+/**
+ * Ali-P3C 设置页面，位于 Settings | Tools | Ali-P3C。
+ *
+ * @author liuzhihang
+ * @version P3cSettingsConfigurable.java, v 0.1 2026/10/18 liuzhihang
+ */
+public class P3cSettingsConfigurable implements Configurable {
+
+    private JBCheckBox skipGeneratedFiles;
+
+    private JBTextField generatedDirectories;
+
+    private JBTextField generatedMarkers;
+
+    private JBTextField maxFileSizeKb;
+
+    private JBTextField maxLineCount;
+
+    private JBTextField classNameSuffixes;
+
+    private JBTextField reservedWords;
+
+    private JBTextField maxLineLength;
+
+    private JBTextField partitionLineCount;
+
+    private JBCheckBox warmUpOnStartup;
+
+    @Nls(capitalization = Nls.Capitalization.Title)
+    @Override
+    public String getDisplayName() {
+        return "Ali-P3C";
+    }
+
+    @Nullable
+    @Override
+    public JComponent createComponent() {
+        skipGeneratedFiles = new JBCheckBox("跳过生成代码和超大文件");
+        generatedDirectories = new JBTextField();
+        generatedMarkers = new JBTextField();
+        maxFileSizeKb = new JBTextField();
+        maxLineCount = new JBTextField();
+        classNameSuffixes = new JBTextField();
+        reservedWords = new JBTextField();
+        maxLineLength = new JBTextField();
+        partitionLineCount = new JBTextField();
+        warmUpOnStartup = new JBCheckBox("项目打开后在后台预热检查，缩短第一次高亮的等待");
+        reset();
+        return FormBuilder.createFormBuilder()
+                .addComponent(skipGeneratedFiles)
+                .addLabeledComponent("生成代码目录（逗号分隔）：", generatedDirectories)
+                .addLabeledComponent("生成代码标记（逗号分隔）：", generatedMarkers)
+                .addLabeledComponent("文件大小上限（KB）：", maxFileSizeKb)
+                .addLabeledComponent("文件行数上限：", maxLineCount)
+                .addSeparator()
+                .addLabeledComponent("类名例外后缀（逗号分隔）：", classNameSuffixes)
+                .addLabeledComponent("保留字（逗号分隔）：", reservedWords)
+                .addLabeledComponent("单行字符数：", maxLineLength)
+                .addSeparator()
+                .addLabeledComponent("分区并行检查的文件行数（小于等于 0 不分区）：", partitionLineCount)
+                .addComponent(warmUpOnStartup)
+                .addComponentFillVertically(new JPanel(), 0)
+                .getPanel();
+    }
+
+    @Override
+    public boolean isModified() {
+        P3cSettings.Options options = P3cSettings.getInstance().getState();
+        P3cSettings.Options edited = collect();
+        return options.skipGeneratedFiles != edited.skipGeneratedFiles
+                || !options.generatedDirectories.equals(edited.generatedDirectories)
+                || !options.generatedMarkers.equals(edited.generatedMarkers)
+                || options.maxFileSizeKb != edited.maxFileSizeKb
+                || options.maxLineCount != edited.maxLineCount
+                || !options.classNameSuffixes.equals(edited.classNameSuffixes)
+                || !options.reservedWords.equals(edited.reservedWords)
+                || options.maxLineLength != edited.maxLineLength
+                || options.partitionLineCount != edited.partitionLineCount
+                || options.warmUpOnStartup != edited.warmUpOnStartup;
+    }
+
+    @Override
+    public void apply() {
+        P3cSettings.getInstance().loadState(collect());
+    }
+
+    @Override
+    public void reset() {
+        P3cSettings.Options options = P3cSettings.getInstance().getState();
+        skipGeneratedFiles.setSelected(options.skipGeneratedFiles);
+        generatedDirectories.setText(options.generatedDirectories);
+        generatedMarkers.setText(options.generatedMarkers);
+        maxFileSizeKb.setText(Integer.toString(options.maxFileSizeKb));
+        maxLineCount.setText(Integer.toString(options.maxLineCount));
+        classNameSuffixes.setText(options.classNameSuffixes);
+        reservedWords.setText(options.reservedWords);
+        maxLineLength.setText(Integer.toString(options.maxLineLength));
+        partitionLineCount.setText(Integer.toString(options.partitionLineCount));
+        warmUpOnStartup.setSelected(options.warmUpOnStartup);
+    }
+
+    @Override
+    public void disposeUIResources() {
+        skipGeneratedFiles = null;
+        generatedDirectories = null;
+        generatedMarkers = null;
+        maxFileSizeKb = null;
+        maxLineCount = null;
+        classNameSuffixes = null;
+        reservedWords = null;
+        maxLineLength = null;
+        partitionLineCount = null;
+        warmUpOnStartup = null;
+    }
+
+    /**
+     * 从界面收集设置，数字输入无效时保持之前的值
+     *
+     * @return 设置
+     */
+    private P3cSettings.Options collect() {
+        P3cSettings.Options options = P3cSettings.getInstance().copyOptions();
+        options.skipGeneratedFiles = skipGeneratedFiles.isSelected();
+        options.generatedDirectories = generatedDirectories.getText().trim();
+        options.generatedMarkers = generatedMarkers.getText().trim();
+        options.maxFileSizeKb = parseInt(maxFileSizeKb.getText(), options.maxFileSizeKb);
+        options.maxLineCount = parseInt(maxLineCount.getText(), options.maxLineCount);
+        options.classNameSuffixes = classNameSuffixes.getText().trim();
+        options.reservedWords = reservedWords.getText().trim();
+        options.maxLineLength = parseInt(maxLineLength.getText(), options.maxLineLength);
+        options.partitionLineCount = parseInt(partitionLineCount.getText(), options.partitionLineCount);
+        options.warmUpOnStartup = warmUpOnStartup.isSelected();
+        return options;
+    }
+
+    private static int parseInt(String text, int defaultValue) {
+        try {
+            return Integer.parseInt(text.trim());
+        } catch (NumberFormatException ignored) {
+            return defaultValue;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.code.inspections.settings;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * 编译后的跳过策略，不可变，可以在任意线程无锁读取。
+ *
+ * @param enabled              是否启用
+ * @param directorySegments    生成代码目录，已转换为 {@code /dir/} 形式的路径片段
+ * @param markers              生成代码标记
+ * @param maxFileSize          文件大小上限，单位字节，小于等于 0 表示不限制
+ * @param maxLineCount         文件行数上限，小于等于 0 表示不限制
+ * @author liuzhihang
+ * @version SkipPolicy.java, v 0.1 2026/10/18 liuzhihang
+ */
+public record SkipPolicy(boolean enabled, @NotNull List<String> directorySegments, @NotNull List<String> markers,
+                         long maxFileSize, int maxLineCount) {
+
+    /**
+     * 编译设置
+     *
+     * @param options 设置
+     * @return 跳过策略
+     */
+    @NotNull
+    static SkipPolicy compile(@NotNull P3cSettings.Options options) {
+        List<String> segments = P3cSettings.Options.split(options.generatedDirectories).stream()
+                .map(dir -> "/" + dir.replace('\\', '/').replaceAll("^/+|/+$", "") + "/")
+                .toList();
+        return new SkipPolicy(options.skipGeneratedFiles, segments, List.copyOf(P3cSettings.Options.split(options.generatedMarkers)),
+                options.maxFileSizeKb * 1024L, options.maxLineCount);
+    }
+}
@@ -0,0 +1,164 @@
+package com.code.inspections.settings;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.TreeMap;
+
+/**
+ * 不可变的后缀字典树，按字符逆序保存后缀，判断时从名称末尾向前匹配，不需要遍历所有后缀。
+ * <p>
+ * 构建完成后每个节点的子节点保存为有序的字符数组，匹配时二分查找，不分配任何对象。
+ *
+ * @author liuzhihang
+ * @version SuffixTrie.java, v 0.1 2026/10/18 liuzhihang
+ */
+public final class SuffixTrie {
+
+    /**
+     * 空字典树
+     */
+    public static final SuffixTrie EMPTY = new SuffixTrie(new char[][]{new char[0]}, new int[][]{new int[0]}, new boolean[1]);
+
+    /**
+     * 每个节点的子节点字符，有序
+     */
+    private final char[][] keys;
+
+    /**
+     * 每个节点的子节点下标，与 keys 一一对应
+     */
+    private final int[][] children;
+
+    /**
+     * 节点是否为某个后缀的结尾
+     */
+    private final boolean[] terminal;
+
+    private SuffixTrie(char[][] keys, int[][] children, boolean[] terminal) {
+        this.keys = keys;
+        this.children = children;
+        this.terminal = terminal;
+    }
+
+    /**
+     * 构建字典树，忽略空后缀
+     *
+     * @param suffixes 后缀
+     * @return 字典树
+     */
+    @NotNull
+    public static SuffixTrie of(@NotNull Collection<String> suffixes) {
+        Node root = new Node();
+        int size = 1;
+        for (String suffix : suffixes) {
+            if (suffix.isEmpty()) {
+                continue;
+            }
+            Node node = root;
+            for (int i = suffix.length() - 1; i >= 0; i--) {
+                Node child = node.children.get(suffix.charAt(i));
+                if (child == null) {
+                    child = new Node();
+                    node.children.put(suffix.charAt(i), child);
+                    size++;
+                }
+                node = child;
+            }
+            node.terminal = true;
+        }
+        if (size == 1) {
+            return EMPTY;
+        }
+        char[][] keys = new char[size][];
+        int[][] children = new int[size][];
+        boolean[] terminal = new boolean[size];
+        freeze(root, 0, new int[]{1}, keys, children, terminal);
+        return new SuffixTrie(keys, children, terminal);
+    }
+
+    /**
+     * 构建前缀字典树，只能使用 {@link #matchesPrefixOf(CharSequence)} 判断
+     *
+     * @param prefixes 前缀
+     * @return 字典树
+     */
+    @NotNull
+    public static SuffixTrie ofPrefixes(@NotNull Collection<String> prefixes) {
+        // 逆序插入后，字典树中的字符顺序与前缀的正序一致
+        return of(prefixes.stream().map(prefix -> new StringBuilder(prefix).reverse().toString()).toList());
+    }
+
+    /**
+     * 名称是否以任一前缀开头，字典树需要由 {@link #ofPrefixes(Collection)} 构建
+     *
+     * @param name 名称
+     * @return 匹配返回 true
+     */
+    public boolean matchesPrefixOf(@NotNull CharSequence name) {
+        int node = 0;
+        for (int i = 0; i < name.length(); i++) {
+            int index = Arrays.binarySearch(keys[node], name.charAt(i));
+            if (index < 0) {
+                return false;
+            }
+            node = children[node][index];
+            if (terminal[node]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 名称是否以任一后缀结尾
+     *
+     * @param name 名称
+     * @return 匹配返回 true
+     */
+    public boolean matchesSuffixOf(@NotNull CharSequence name) {
+        int node = 0;
+        for (int i = name.length() - 1; i >= 0; i--) {
+            int index = Arrays.binarySearch(keys[node], name.charAt(i));
+            if (index < 0) {
+                return false;
+            }
+            node = children[node][index];
+            if (terminal[node]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 将构建用的节点转换为数组形式
+     *
+     * @return 当前节点的下标
+     */
+    private static int freeze(Node node, int id, int[] nextId, char[][] keys, int[][] children, boolean[] terminal) {
+        int count = node.children.size();
+        keys[id] = new char[count];
+        children[id] = new int[count];
+        terminal[id] = node.terminal;
+        int i = 0;
+        for (var entry : node.children.entrySet()) {
+            int childId = nextId[0]++;
+            keys[id][i] = entry.getKey();
+            children[id][i] = freeze(entry.getValue(), childId, nextId, keys, children, terminal);
+            i++;
+        }
+        return id;
+    }
+
+    /**
+     * 构建用的可变节点
+     */
+    private static final class Node {
+
+        private final TreeMap<Character, Node> children = new TreeMap<>();
+
+        private boolean terminal;
+    }
+}
@@ -0,0 +1,404 @@
+package com.code.inspections.trend;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * 问题数趋势文件，记录每次提交中各模块、各规则的问题数，只在末尾追加。
+ * <p>
+ * 文件以 {@code P3CT} 和版本号开头，之后是一条条记录：变长整数表示的长度、类型、内容和 CRC32 校验值。
+ * 规则名、模块名和（模块，规则）单元格第一次出现时各追加一条字典记录，之后只使用编号；
+ * 提交记录只保存与上一次提交相比发生变化的单元格，单元格编号和问题数都按差值以变长整数编码，
+ * 多年的历史通常只有几百 KB，一次顺序读取即可还原。
+ * <p>
+ * 写入中断留下的不完整记录在读取时忽略，下次追加时截断。
+ * 引擎（{@code p3c-engine --trend}）写入，IDE 中的趋势图读取，两边共用此类，不依赖 IntelliJ 平台。
+ *
+ * @author liuzhihang
+ * @version P3cTrendFile.java, v 0.1 2026/10/18 liuzhihang
+ */
+public final class P3cTrendFile {
+
+    /**
+     * 默认文件名，位于项目根目录
+     */
+    public static final String FILE_NAME = ".p3c-trend";
+
+    private static final byte[] MAGIC = {'P', '3', 'C', 'T', 1};
+
+    private static final byte RULE = 1;
+
+    private static final byte MODULE = 2;
+
+    private static final byte CELL = 3;
+
+    private static final byte COMMIT = 4;
+
+    private P3cTrendFile() {
+    }
+
+    /**
+     * 读取趋势文件
+     *
+     * @param file 文件，不存在时返回空的历史
+     * @return 历史
+     * @throws IOException 读取失败或不是趋势文件
+     */
+    @NotNull
+    public static History read(@NotNull Path file) throws IOException {
+        History history = new History();
+        if (!Files.exists(file)) {
+            return history;
+        }
+        byte[] data = Files.readAllBytes(file);
+        if (data.length == 0) {
+            return history;
+        }
+        if (data.length < MAGIC.length || !Arrays.equals(Arrays.copyOf(data, MAGIC.length), MAGIC)) {
+            throw new IOException("不是问题数趋势文件：" + file);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        buffer.position(MAGIC.length);
+        history.validLength = MAGIC.length;
+        while (buffer.hasRemaining()) {
+            try {
+                int length = readVarInt(buffer);
+                if (length < 1 || length + 4 > buffer.remaining()) {
+                    break;
+                }
+                CRC32 crc = new CRC32();
+                crc.update(data, buffer.position(), length);
+                int end = buffer.position() + length;
+                if ((int) crc.getValue() != buffer.getInt(end)) {
+                    break;
+                }
+                history.apply(buffer.slice(buffer.position(), length));
+                buffer.position(end + 4);
+                history.validLength = buffer.position();
+            } catch (RuntimeException e) {
+                // 不完整或无法识别的记录，之后的内容都忽略
+                break;
+            }
+        }
+        return history;
+    }
+
+    /**
+     * 追加一次提交的问题数，文件不存在时创建
+     *
+     * @param file   文件
+     * @param commit 提交标识
+     * @param time   提交时间，单位秒
+     * @param counts 各模块各规则的问题数，模块名到规则名到问题数，没有出现的单元格视为 0
+     * @throws IOException 读写失败
+     */
+    public static void append(@NotNull Path file, @NotNull String commit, long time,
+                              @NotNull Map<String, Map<String, Integer>> counts) throws IOException {
+        History history = read(file);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (history.validLength == 0) {
+            out.writeBytes(MAGIC);
+        }
+
+        // 新的名称和单元格先写字典记录
+        Map<Integer, Integer> values = new HashMap<>();
+        for (Map.Entry<String, Map<String, Integer>> module : counts.entrySet()) {
+            int moduleId = history.moduleIds.getOrDefault(module.getKey(), -1);
+            if (moduleId < 0) {
+                moduleId = history.modules.size();
+                writeRecord(out, MODULE, text(module.getKey()));
+                history.addName(MODULE, module.getKey());
+            }
+            for (Map.Entry<String, Integer> rule : module.getValue().entrySet()) {
+                int ruleId = history.ruleIds.getOrDefault(rule.getKey(), -1);
+                if (ruleId < 0) {
+                    ruleId = history.rules.size();
+                    writeRecord(out, RULE, text(rule.getKey()));
+                    history.addName(RULE, rule.getKey());
+                }
+                long key = (long) moduleId << 32 | ruleId;
+                Integer cell = history.cellIds.get(key);
+                if (cell == null) {
+                    ByteArrayOutputStream payload = new ByteArrayOutputStream();
+                    writeVarInt(payload, moduleId);
+                    writeVarInt(payload, ruleId);
+                    writeRecord(out, CELL, payload.toByteArray());
+                    cell = history.addCell(moduleId, ruleId);
+                }
+                values.put(cell, rule.getValue());
+            }
+        }
+
+        // 提交记录只包含变化的单元格
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        byte[] commitBytes = commit.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(payload, commitBytes.length);
+        payload.write(commitBytes);
+        writeVarLong(payload, zigzag(time - history.lastTime));
+        List<int[]> changes = new ArrayList<>();
+        for (int cell = 0; cell < history.cellCount; cell++) {
+            int value = values.getOrDefault(cell, 0);
+            if (value != history.current[cell]) {
+                changes.add(new int[]{cell, value - history.current[cell]});
+            }
+        }
+        writeVarInt(payload, changes.size());
+        int previous = 0;
+        for (int[] change : changes) {
+            writeVarInt(payload, change[0] - previous);
+            writeVarLong(payload, zigzag(change[1]));
+            previous = change[0];
+        }
+        writeRecord(out, COMMIT, payload.toByteArray());
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            // 截断写入中断留下的不完整记录
+            channel.truncate(history.validLength);
+            channel.position(history.validLength);
+            ByteBuffer bytes = ByteBuffer.wrap(out.toByteArray());
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            channel.force(false);
+        }
+    }
+
+    private static byte[] text(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeVarInt(out, bytes.length);
+        out.writeBytes(bytes);
+        return out.toByteArray();
+    }
+
+    private static void writeRecord(ByteArrayOutputStream out, byte type, byte[] payload) {
+        byte[] record = new byte[payload.length + 1];
+        record[0] = type;
+        System.arraycopy(payload, 0, record, 1, payload.length);
+        CRC32 crc = new CRC32();
+        crc.update(record);
+        writeVarInt(out, record.length);
+        out.writeBytes(record);
+        int value = (int) crc.getValue();
+        out.write(value >>> 24);
+        out.write(value >>> 16);
+        out.write(value >>> 8);
+        out.write(value);
+    }
+
+    private static long zigzag(long value) {
+        return value << 1 ^ value >> 63;
+    }
+
+    private static long unzigzag(long value) {
+        return value >>> 1 ^ -(value & 1);
+    }
+
+    private static void writeVarInt(ByteArrayOutputStream out, int value) {
+        writeVarLong(out, value & 0xFFFFFFFFL);
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) (value & 0x7F | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static int readVarInt(ByteBuffer buffer) {
+        return (int) readVarLong(buffer);
+    }
+
+    private static long readVarLong(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("变长整数过长");
+    }
+
+    /**
+     * 读取后的历史：按提交顺序排列的总数、各规则和各模块的问题数序列
+     */
+    public static final class History {
+
+        private final List<String> rules = new ArrayList<>();
+
+        private final Map<String, Integer> ruleIds = new HashMap<>();
+
+        private final List<String> modules = new ArrayList<>();
+
+        private final Map<String, Integer> moduleIds = new HashMap<>();
+
+        private final Map<Long, Integer> cellIds = new HashMap<>();
+
+        private int[] cellModules = new int[64];
+
+        private int[] cellRules = new int[64];
+
+        private int cellCount;
+
+        /**
+         * 最近一次提交中各单元格的问题数
+         */
+        private int[] current = new int[64];
+
+        private final List<String> commits = new ArrayList<>();
+
+        private long[] times = new long[64];
+
+        private long lastTime;
+
+        /**
+         * 各规则、各模块的问题数序列，按编号索引，长度为提交数的容量
+         */
+        private final List<int[]> ruleSeries = new ArrayList<>();
+
+        private final List<int[]> moduleSeries = new ArrayList<>();
+
+        /**
+         * 最后一条完整记录的结束位置
+         */
+        private long validLength;
+
+        private History() {
+        }
+
+        private void apply(ByteBuffer record) {
+            byte type = record.get();
+            switch (type) {
+                case RULE, MODULE -> {
+                    byte[] bytes = new byte[readVarInt(record)];
+                    record.get(bytes);
+                    addName(type, new String(bytes, StandardCharsets.UTF_8));
+                }
+                case CELL -> addCell(readVarInt(record), readVarInt(record));
+                case COMMIT -> applyCommit(record);
+                default -> throw new IllegalStateException("未知的记录类型：" + type);
+            }
+        }
+
+        private void addName(byte type, String name) {
+            List<String> names = type == RULE ? rules : modules;
+            (type == RULE ? ruleIds : moduleIds).put(name, names.size());
+            names.add(name);
+            (type == RULE ? ruleSeries : moduleSeries).add(new int[times.length]);
+        }
+
+        private int addCell(int module, int rule) {
+            if (cellCount == current.length) {
+                current = Arrays.copyOf(current, cellCount * 2);
+                cellModules = Arrays.copyOf(cellModules, cellCount * 2);
+                cellRules = Arrays.copyOf(cellRules, cellCount * 2);
+            }
+            cellModules[cellCount] = module;
+            cellRules[cellCount] = rule;
+            cellIds.put((long) module << 32 | rule, cellCount);
+            return cellCount++;
+        }
+
+        private void applyCommit(ByteBuffer record) {
+            byte[] bytes = new byte[readVarInt(record)];
+            record.get(bytes);
+            long time = lastTime + unzigzag(readVarLong(record));
+            int changes = readVarInt(record);
+            int cell = 0;
+            for (int i = 0; i < changes; i++) {
+                cell += readVarInt(record);
+                current[cell] += (int) unzigzag(readVarLong(record));
+            }
+
+            int index = commits.size();
+            if (index == times.length) {
+                times = Arrays.copyOf(times, index * 2);
+                ruleSeries.replaceAll(series -> Arrays.copyOf(series, times.length));
+                moduleSeries.replaceAll(series -> Arrays.copyOf(series, times.length));
+            }
+            commits.add(new String(bytes, StandardCharsets.UTF_8));
+            times[index] = time;
+            lastTime = time;
+            for (int i = 0; i < cellCount; i++) {
+                ruleSeries.get(cellRules[i])[index] += current[i];
+                moduleSeries.get(cellModules[i])[index] += current[i];
+            }
+        }
+
+        /**
+         * 提交数
+         */
+        public int size() {
+            return commits.size();
+        }
+
+        @NotNull
+        public String commit(int index) {
+            return commits.get(index);
+        }
+
+        /**
+         * 提交时间，单位秒
+         */
+        public long time(int index) {
+            return times[index];
+        }
+
+        @NotNull
+        public List<String> rules() {
+            return rules;
+        }
+
+        @NotNull
+        public List<String> modules() {
+            return modules;
+        }
+
+        /**
+         * 规则的问题数序列，长度为提交数
+         */
+        @NotNull
+        public int[] ruleSeries(int rule) {
+            return Arrays.copyOf(ruleSeries.get(rule), size());
+        }
+
+        /**
+         * 模块的问题数序列，长度为提交数
+         */
+        @NotNull
+        public int[] moduleSeries(int module) {
+            return Arrays.copyOf(moduleSeries.get(module), size());
+        }
+
+        /**
+         * 所有问题数之和的序列，长度为提交数
+         */
+        @NotNull
+        public int[] totalSeries() {
+            int[] total = new int[size()];
+            for (int[] series : ruleSeries) {
+                for (int i = 0; i < total.length; i++) {
+                    total[i] += series[i];
+                }
+            }
+            return total;
+        }
+    }
+}
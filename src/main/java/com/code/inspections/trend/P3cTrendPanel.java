@@ -0,0 +1,305 @@
+package com.code.inspections.trend;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.ComboBox;
+import com.intellij.openapi.ui.SimpleToolWindowPanel;
+import com.intellij.ui.JBColor;
+import com.intellij.ui.components.JBLabel;
+import com.intellij.util.ui.JBUI;
+import com.intellij.util.ui.UIUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseEvent;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 趋势窗口：读取项目根目录下的 {@link P3cTrendFile#FILE_NAME}，按规则或模块绘制每次提交的问题数折线图。
+ * <p>
+ * 趋势文件由 {@code p3c-engine --trend} 在 CI 或本地逐个提交记录，窗口只读取，不运行检查。
+ * 文件在后台线程中一次读取并还原为各序列，定时检查修改时间，变化后重新读取。
+ *
+ * @author liuzhihang
+ * @version P3cTrendPanel.java, v 0.1 2026/10/18 liuzhihang
+ */
+public final class P3cTrendPanel extends SimpleToolWindowPanel implements Disposable {
+
+    /**
+     * 检查趋势文件是否变化的间隔，单位毫秒
+     */
+    private static final int REFRESH_INTERVAL = 2000;
+
+    /**
+     * 除总数外最多显示的序列数，按最近一次提交的问题数取最多的几个
+     */
+    private static final int MAX_SERIES = 8;
+
+    private static final String BY_RULE = "规则";
+
+    private static final String BY_MODULE = "模块";
+
+    private static final Color[] COLORS = {
+            new JBColor(0x4E79A7, 0x6C9BD2), new JBColor(0xF28E2B, 0xF5A25D), new JBColor(0xE15759, 0xE87A7C),
+            new JBColor(0x76B7B2, 0x8FCBC6), new JBColor(0x59A14F, 0x7BBE71), new JBColor(0xB07AA1, 0xC495B7),
+            new JBColor(0x9C755F, 0xB8917A), new JBColor(0xBAB0AC, 0x9E9692)};
+
+    private final Path file;
+
+    private final ComboBox<String> groupingBox = new ComboBox<>(new String[]{BY_RULE, BY_MODULE});
+
+    private final JBLabel status = new JBLabel();
+
+    private final Chart chart = new Chart();
+
+    private final Timer timer;
+
+    /**
+     * 已读取的文件的修改时间，用于判断是否需要重新读取
+     */
+    private long loadedModified = -1;
+
+    private boolean loading;
+
+    private P3cTrendFile.History history;
+
+    public P3cTrendPanel(@NotNull Project project) {
+        super(true, true);
+        this.file = Path.of(project.getBasePath() == null ? "" : project.getBasePath(), P3cTrendFile.FILE_NAME);
+        groupingBox.addActionListener(e -> rebuild());
+
+        JPanel toolbar = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        toolbar.add(new JBLabel("按"));
+        toolbar.add(groupingBox);
+        toolbar.add(status);
+        setToolbar(toolbar);
+        setContent(chart);
+
+        timer = new Timer(REFRESH_INTERVAL, e -> reloadIfChanged());
+        timer.start();
+        reloadIfChanged();
+    }
+
+    /**
+     * 文件修改时间变化后在后台线程中重新读取
+     */
+    private void reloadIfChanged() {
+        long modified;
+        try {
+            modified = Files.exists(file) ? Files.getLastModifiedTime(file).toMillis() : 0;
+        } catch (IOException e) {
+            modified = 0;
+        }
+        if (loading || modified == loadedModified) {
+            return;
+        }
+        if (modified == 0) {
+            loadedModified = 0;
+            history = null;
+            status.setText("没有趋势记录，使用 p3c-engine --trend " + P3cTrendFile.FILE_NAME + " --commit <提交> 逐个提交记录");
+            chart.setSeries(null, List.of());
+            return;
+        }
+        loading = true;
+        long target = modified;
+        ApplicationManager.getApplication().executeOnPooledThread(() -> {
+            P3cTrendFile.History read;
+            String error = null;
+            try {
+                read = P3cTrendFile.read(file);
+            } catch (IOException e) {
+                read = null;
+                error = e.getMessage();
+            }
+            P3cTrendFile.History result = read;
+            String message = error;
+            ApplicationManager.getApplication().invokeLater(() -> {
+                loading = false;
+                loadedModified = target;
+                history = result;
+                if (message != null) {
+                    status.setText("无法读取趋势记录：" + message);
+                }
+                rebuild();
+            });
+        });
+    }
+
+    /**
+     * 按当前的分组选出序列
+     */
+    private void rebuild() {
+        P3cTrendFile.History current = history;
+        if (current == null || current.size() == 0) {
+            chart.setSeries(null, List.of());
+            return;
+        }
+        boolean byRule = !BY_MODULE.equals(groupingBox.getSelectedItem());
+        List<String> names = byRule ? current.rules() : current.modules();
+        List<Series> all = new ArrayList<>(names.size());
+        for (int i = 0; i < names.size(); i++) {
+            all.add(new Series(names.get(i), byRule ? current.ruleSeries(i) : current.moduleSeries(i)));
+        }
+        int last = current.size() - 1;
+        all.sort((a, b) -> Integer.compare(b.values[last], a.values[last]));
+        List<Series> shown = new ArrayList<>();
+        shown.add(new Series("总数", current.totalSeries()));
+        shown.addAll(all.subList(0, Math.min(MAX_SERIES, all.size())));
+        chart.setSeries(current, shown);
+        status.setText(current.size() + " 次提交，" + names.size() + " 个" + (byRule ? "规则" : "模块")
+                + (all.size() > MAX_SERIES ? "，显示问题最多的 " + MAX_SERIES + " 个" : ""));
+    }
+
+    @Override
+    public void dispose() {
+        timer.stop();
+    }
+
+    /**
+     * 一条折线
+     */
+    private record Series(String name, int[] values) {
+    }
+
+    /**
+     * 折线图，横轴为提交顺序，纵轴为问题数，第一条为总数
+     */
+    private static final class Chart extends JComponent {
+
+        private final SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm");
+
+        private P3cTrendFile.History history;
+
+        private List<Series> series = List.of();
+
+        private Chart() {
+            setToolTipText("");
+        }
+
+        void setSeries(@Nullable P3cTrendFile.History history, @NotNull List<Series> series) {
+            this.history = history;
+            this.series = series;
+            repaint();
+        }
+
+        private Rectangle plotArea() {
+            Insets insets = JBUI.insets(16, 64, 28, 200);
+            return new Rectangle(insets.left, insets.top, Math.max(1, getWidth() - insets.left - insets.right),
+                    Math.max(1, getHeight() - insets.top - insets.bottom));
+        }
+
+        private int maxValue() {
+            int max = 1;
+            for (Series item : series) {
+                for (int value : item.values) {
+                    max = Math.max(max, value);
+                }
+            }
+            return max;
+        }
+
+        @Override
+        protected void paintComponent(Graphics graphics) {
+            super.paintComponent(graphics);
+            if (history == null || series.isEmpty()) {
+                return;
+            }
+            Graphics2D g = (Graphics2D) graphics.create();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+                g.setFont(UIUtil.getLabelFont());
+                FontMetrics metrics = g.getFontMetrics();
+                Rectangle plot = plotArea();
+                int size = history.size();
+                int max = maxValue();
+
+                // 坐标轴和纵轴刻度
+                g.setColor(JBColor.border());
+                g.drawLine(plot.x, plot.y + plot.height, plot.x + plot.width, plot.y + plot.height);
+                g.drawLine(plot.x, plot.y, plot.x, plot.y + plot.height);
+                g.setColor(UIUtil.getContextHelpForeground());
+                for (int i = 0; i <= 4; i++) {
+                    int value = (int) ((long) max * i / 4);
+                    int y = plot.y + plot.height - plot.height * i / 4;
+                    String label = String.valueOf(value);
+                    g.drawString(label, plot.x - metrics.stringWidth(label) - JBUI.scale(6), y + metrics.getAscent() / 2);
+                }
+                String first = shortCommit(history.commit(0));
+                String last = shortCommit(history.commit(size - 1));
+                g.drawString(first, plot.x, plot.y + plot.height + metrics.getHeight());
+                if (size > 1) {
+                    g.drawString(last, plot.x + plot.width - metrics.stringWidth(last), plot.y + plot.height + metrics.getHeight());
+                }
+
+                // 折线，数据点比像素多时每个像素只画一段
+                int step = Math.max(1, size / Math.max(1, plot.width));
+                for (int s = series.size() - 1; s >= 0; s--) {
+                    int[] values = series.get(s).values;
+                    g.setColor(s == 0 ? UIUtil.getLabelForeground() : COLORS[(s - 1) % COLORS.length]);
+                    g.setStroke(new BasicStroke(JBUI.scale(s == 0 ? 2.5f : 1.5f)));
+                    int px = x(plot, 0, size);
+                    int py = y(plot, values[0], max);
+                    for (int i = step; i < size; i += step) {
+                        int nx = x(plot, i, size);
+                        int ny = y(plot, values[i], max);
+                        g.drawLine(px, py, nx, ny);
+                        px = nx;
+                        py = ny;
+                    }
+                    if (size == 1) {
+                        g.fillOval(px - JBUI.scale(3), py - JBUI.scale(3), JBUI.scale(6), JBUI.scale(6));
+                    }
+
+                    // 图例
+                    int ly = plot.y + s * (metrics.getHeight() + JBUI.scale(2));
+                    int lx = plot.x + plot.width + JBUI.scale(12);
+                    g.fillRect(lx, ly + metrics.getHeight() / 2 - JBUI.scale(2), JBUI.scale(12), JBUI.scale(4));
+                    g.setColor(UIUtil.getLabelForeground());
+                    g.drawString(series.get(s).name + " " + values[size - 1], lx + JBUI.scale(18), ly + metrics.getAscent());
+                }
+            } finally {
+                g.dispose();
+            }
+        }
+
+        @Override
+        public String getToolTipText(MouseEvent event) {
+            if (history == null || series.isEmpty()) {
+                return null;
+            }
+            Rectangle plot = plotArea();
+            int size = history.size();
+            int index = size == 1 ? 0 : Math.round((float) (event.getX() - plot.x) * (size - 1) / plot.width);
+            if (index < 0 || index >= size) {
+                return null;
+            }
+            StringBuilder text = new StringBuilder("<html><b>").append(shortCommit(history.commit(index))).append("</b> ")
+                    .append(dateFormat.format(new Date(history.time(index) * 1000)));
+            for (Series item : series) {
+                text.append("<br>").append(item.name).append("：").append(item.values[index]);
+            }
+            return text.append("</html>").toString();
+        }
+
+        private static int x(Rectangle plot, int index, int size) {
+            return size == 1 ? plot.x + plot.width / 2 : plot.x + (int) ((long) plot.width * index / (size - 1));
+        }
+
+        private static int y(Rectangle plot, int value, int max) {
+            return plot.y + plot.height - (int) ((long) plot.height * value / max);
+        }
+
+        private static String shortCommit(String commit) {
+            return commit.length() > 10 && commit.matches("[0-9a-f]+") ? commit.substring(0, 10) : commit;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.code.inspections.ali.constant;
+
+import com.code.inspections.base.P3cInspectionTestCase;
+import com.code.inspections.bundle.CodeInspectionsBundle;
+
+/**
+ * 常量定义检查的测试
+ *
+ * @author liuzhihang
+ * @version ConstantInspectionsTest.java, v 0.1 2026/10/18 liuzhihang
+ */
+public class ConstantInspectionsTest extends P3cInspectionTestCase {
+
+    public void testMagicValue() {
+        doHighlightingTest(new MagicValueInspection());
+    }
+
+    public void testMagicValueFix() {
+        doFixTest(new MagicValueInspection(), "Fix", CodeInspectionsBundle.message("ali.p3c.constant.magic.value.fix"));
+    }
+
+    public void testLowercaseLongLiteral() {
+        doHighlightingTest(new LowercaseLongLiteralInspection());
+    }
+
+    public void testLowercaseLongLiteralFix() {
+        doFixTest(new LowercaseLongLiteralInspection(), "Fix", CodeInspectionsBundle.message("ali.p3c.constant.lowercase.long.literal.fix"));
+    }
+}
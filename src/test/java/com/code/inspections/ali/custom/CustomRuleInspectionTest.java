@@ -0,0 +1,70 @@
+package com.code.inspections.ali.custom;
+
+import com.code.inspections.base.P3cInspectionTestCase;
+import com.code.inspections.rules.P3cRuleSet;
+import com.code.inspections.rules.RuleCompiler;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 自定义规则检查的测试，规则读取自测试数据中的 {@value P3cRuleSet#FILE_NAME}
+ *
+ * @author liuzhihang
+ * @version CustomRuleInspectionTest.java, v 0.1 2026/10/18 liuzhihang
+ */
+public class CustomRuleInspectionTest extends P3cInspectionTestCase {
+
+    public void testCustomRule() throws IOException {
+        CustomRuleInspection inspection = new CustomRuleInspection();
+        Path rules = Path.of(getTestDataPath(), inspection.getShortName(), P3cRuleSet.FILE_NAME);
+        P3cRuleSet ruleSet = P3cRuleSet.getInstance(getProject());
+        ruleSet.setRules(RuleCompiler.compile(Files.readString(rules, StandardCharsets.UTF_8)));
+        try {
+            doHighlightingTest(inspection);
+        } finally {
+            ruleSet.reload();
+        }
+    }
+
+    /**
+     * 条件的值为映射时报告格式错误，加载失败后使用空规则，规则文件变化之前不再重新解析
+     */
+    public void testMalformedRuleFile() throws IOException {
+        CustomRuleInspection inspection = new CustomRuleInspection();
+        String malformed = Files.readString(Path.of(getTestDataPath(), inspection.getShortName(), "malformed", P3cRuleSet.FILE_NAME),
+                StandardCharsets.UTF_8);
+        try {
+            RuleCompiler.compile(malformed);
+            fail("格式不正确的规则文件应当报错");
+        } catch (IllegalArgumentException e) {
+            assertEquals("no-util-method：banned 需要为字符串或列表", e.getMessage());
+        }
+
+        assertNotNull(getProject().getBasePath());
+        Path rules = Path.of(getProject().getBasePath(), P3cRuleSet.FILE_NAME);
+        Files.createDirectories(rules.getParent());
+        Files.writeString(rules, malformed, StandardCharsets.UTF_8);
+        P3cRuleSet ruleSet = P3cRuleSet.getInstance(getProject());
+        ruleSet.reload();
+        try {
+            myFixture.enableInspections(inspection);
+            myFixture.configureByFile(inspection.getShortName() + "/Highlighting.java");
+            assertEmpty(highlight(inspection.getShortName()));
+            assertEmpty(ruleSet.getRules());
+
+            // 不经过文件监听直接改为正确的规则，缓存的空规则保持不变，重新加载后才生效
+            Files.copy(Path.of(getTestDataPath(), inspection.getShortName(), P3cRuleSet.FILE_NAME), rules,
+                    StandardCopyOption.REPLACE_EXISTING);
+            assertEmpty(ruleSet.getRules());
+            ruleSet.reload();
+            assertNotEmpty(ruleSet.getRules());
+        } finally {
+            Files.deleteIfExists(rules);
+            ruleSet.reload();
+        }
+    }
+}
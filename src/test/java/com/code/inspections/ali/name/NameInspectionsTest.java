@@ -0,0 +1,99 @@
+package com.code.inspections.ali.name;
+
+import com.code.inspections.base.P3cInspectionTestCase;
+import com.code.inspections.bundle.CodeInspectionsBundle;
+
+/**
+ * 命名规约检查的测试
+ *
+ * @author liuzhihang
+ * @version NameInspectionsTest.java, v 0.1 2026/10/18 liuzhihang
+ */
+public class NameInspectionsTest extends P3cInspectionTestCase {
+
+    public void testNamingConvention() {
+        doHighlightingTest(new NamingConventionInspection());
+    }
+
+    public void testNamingConventionFix() {
+        doFixTest(new NamingConventionInspection(), "Fix", CodeInspectionsBundle.message("ali.p3c.name.convention.fix"));
+    }
+
+    public void testChineseAndPinyinMix() {
+        doHighlightingTest(new ChineseAndPinyinMixInspection());
+    }
+
+    public void testSensitiveWords() {
+        doHighlightingTest(new SensitiveWordsInspection());
+    }
+
+    public void testSensitiveWordsFix() {
+        // 快速修复只跳转到问题位置，不修改代码
+        doFixTest(new SensitiveWordsInspection(), "Fix", CodeInspectionsBundle.message("ali.p3c.name.sensitive.words.fix"));
+    }
+
+    public void testClassNameUpperCase() {
+        doHighlightingTest(new ClassNameUpperCaseInspection());
+    }
+
+    public void testClassNameUpperCaseFix() {
+        doFixTest(new ClassNameUpperCaseInspection(), "Fix", CodeInspectionsBundle.message("ali.p3c.name.class.name.upper.case.fix"));
+    }
+
+    public void testMethodAndParameterNaming() {
+        doHighlightingTest(new MethodAndParameterNamingInspection());
+    }
+
+    public void testMethodAndParameterNamingFix() {
+        doFixTest(new MethodAndParameterNamingInspection(), "Fix", CodeInspectionsBundle.message("ali.p3c.name.method.name.lower.case.fix"));
+    }
+
+    public void testClassNaming() {
+        doHighlightingTest(new ClassNamingInspection());
+    }
+
+    public void testClassNamingFix() {
+        doFixTest(new ClassNamingInspection(), "Fix", CodeInspectionsBundle.message("ali.p3c.name.class.name.fix", "AbstractShape"));
+    }
+
+    public void testArrayDefinition() {
+        doHighlightingTest(new ArrayDefinitionInspection());
+    }
+
+    public void testArrayDefinitionFix() {
+        doFixTest(new ArrayDefinitionInspection(), "Fix", CodeInspectionsBundle.message("ali.p3c.name.array.definition.fix"));
+    }
+
+    public void testBooleanVariableNaming() {
+        doHighlightingTest(new BooleanVariableNamingInspection());
+    }
+
+    public void testBooleanVariableNamingFix() {
+        doFixTest(new BooleanVariableNamingInspection(), "Fix", CodeInspectionsBundle.message("ali.p3c.name.boolean.variable.fix"));
+    }
+
+    public void testDuplicateVariableNaming() {
+        DuplicateVariableNamingInspection inspection = new DuplicateVariableNamingInspection();
+        myFixture.enableInspections(inspection);
+        myFixture.configureByFile(inspection.getShortName() + "/Highlighting.java");
+        // 字段隐藏图默认在后台构建，构建完成前没有子类隐藏的提示
+        P3cFieldShadowingGraph.getInstance(getProject()).buildNow();
+        checkHighlighting(inspection);
+    }
+
+    public void testDuplicateVariableNamingFix() {
+        doFixTest(new DuplicateVariableNamingInspection(), "Fix", CodeInspectionsBundle.message("ali.p3c.name.duplicate.variable.naming.fix"));
+    }
+
+    public void testEnumNaming() {
+        doHighlightingTest(new EnumNamingInspection());
+    }
+
+    public void testEnumNamingFix() {
+        doFixTest(new EnumNamingInspection(), "Fix", CodeInspectionsBundle.message("ali.p3c.name.enum.naming.fix"));
+    }
+
+    public void testEnumNamingConstantFix() {
+        doFixTest(new EnumNamingInspection(), "FixConstant", CodeInspectionsBundle.message("ali.p3c.name.enum.naming.fix"));
+    }
+}
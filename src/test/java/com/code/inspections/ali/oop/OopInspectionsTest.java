@@ -0,0 +1,16 @@
+package com.code.inspections.ali.oop;
+
+import com.code.inspections.base.P3cInspectionTestCase;
+
+/**
+ * OOP 规约检查的测试
+ *
+ * @author liuzhihang
+ * @version OopInspectionsTest.java, v 0.1 2026/10/18 liuzhihang
+ */
+public class OopInspectionsTest extends P3cInspectionTestCase {
+
+    public void testOverrideAnnotation() {
+        doHighlightingTest(new OverrideAnnotationInspection());
+    }
+}
@@ -0,0 +1,44 @@
+package com.code.inspections.ali.style;
+
+import com.code.inspections.base.P3cInspectionTestCase;
+
+/**
+ * 代码格式检查的测试
+ *
+ * @author liuzhihang
+ * @version StyleInspectionsTest.java, v 0.1 2026/10/18 liuzhihang
+ */
+public class StyleInspectionsTest extends P3cInspectionTestCase {
+
+    public void testBracesStyle() {
+        doHighlightingTest(new BracesStyleInspection());
+    }
+
+    public void testBracesSpaces() {
+        doHighlightingTest(new BracesSpacesInspection());
+    }
+
+    public void testReservedWordsSpaces() {
+        doHighlightingTest(new ReservedWordsSpacesInspection());
+    }
+
+    public void testOperatorSpacing() {
+        doHighlightingTest(new OperatorSpacingInspection());
+    }
+
+    public void testIndentationAndTab() {
+        doHighlightingTest(new IndentationAndTabInspection());
+    }
+
+    public void testCommentSpaces() {
+        doHighlightingTest(new CommentSpacesInspection());
+    }
+
+    public void testNoSpaceBetweenCastAndValue() {
+        doHighlightingTest(new NoSpaceBetweenCastAndValueInspection());
+    }
+
+    public void testLineLengthLimit() {
+        doHighlightingTest(new LineLengthLimitInspection());
+    }
+}
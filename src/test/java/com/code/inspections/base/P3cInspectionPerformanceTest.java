@@ -0,0 +1,159 @@
+package com.code.inspections.base;
+
+import com.code.inspections.ali.constant.LowercaseLongLiteralInspection;
+import com.code.inspections.ali.constant.MagicValueInspection;
+import com.code.inspections.ali.custom.CustomRuleInspection;
+import com.code.inspections.ali.name.ArrayDefinitionInspection;
+import com.code.inspections.ali.name.BooleanVariableNamingInspection;
+import com.code.inspections.ali.name.ChineseAndPinyinMixInspection;
+import com.code.inspections.ali.name.ClassNameUpperCaseInspection;
+import com.code.inspections.ali.name.ClassNamingInspection;
+import com.code.inspections.ali.name.DuplicateVariableNamingInspection;
+import com.code.inspections.ali.name.EnumNamingInspection;
+import com.code.inspections.ali.name.MethodAndParameterNamingInspection;
+import com.code.inspections.ali.name.NamingConventionInspection;
+import com.code.inspections.ali.name.SensitiveWordsInspection;
+import com.code.inspections.ali.oop.OverrideAnnotationInspection;
+import com.code.inspections.ali.style.BracesSpacesInspection;
+import com.code.inspections.ali.style.BracesStyleInspection;
+import com.code.inspections.ali.style.CommentSpacesInspection;
+import com.code.inspections.ali.style.IndentationAndTabInspection;
+import com.code.inspections.ali.style.LineLengthLimitInspection;
+import com.code.inspections.ali.style.NoSpaceBetweenCastAndValueInspection;
+import com.code.inspections.ali.style.OperatorSpacingInspection;
+import com.code.inspections.ali.style.ReservedWordsSpacesInspection;
+import com.intellij.codeInsight.daemon.DaemonCodeAnalyzer;
+import com.intellij.codeInspection.InspectionProfileEntry;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 全部检查在生成的大文件上的耗时测试，性能退化时测试失败。
+ * <p>
+ * 启用 plugin.xml 中注册的全部检查，关闭问题数上限和时间预算，预热一次后重复高亮，取耗时的中位数：
+ * 一方面不超过固定的预算，预算可以通过系统属性 {@value #BUDGET_PROPERTY} 调整；
+ * 另一方面成员数增加到 {@value #GROWTH} 倍时耗时不超过 {@value #MAX_GROWTH_FACTOR} 倍，与机器快慢无关，用于发现随文件大小超线性增长的检查。
+ *
+ * @author liuzhihang
+ * @version P3cInspectionPerformanceTest.java, v 0.1 2026/10/18 liuzhihang
+ */
+public class P3cInspectionPerformanceTest extends P3cInspectionTestCase {
+
+    private static final String BUDGET_PROPERTY = "p3c.test.budget.ms";
+
+    /**
+     * 生成的大文件的成员数，每个成员约 13 行
+     */
+    private static final int MEMBERS = 1000;
+
+    /**
+     * 大文件的耗时预算，单位毫秒
+     */
+    private static final long BUDGET_MS = Long.getLong(BUDGET_PROPERTY, 15_000);
+
+    /**
+     * 计时的次数，取中位数
+     */
+    private static final int ATTEMPTS = 5;
+
+    /**
+     * 增长测试中两个文件的成员数之比
+     */
+    private static final int GROWTH = 4;
+
+    /**
+     * 增长测试中允许的耗时之比，线性增长时约为 {@link #GROWTH}
+     */
+    private static final double MAX_GROWTH_FACTOR = 8.0;
+
+    private Set<String> shortNames;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        List<AbstractP3cInspection> inspections = List.of(
+                new NamingConventionInspection(), new ChineseAndPinyinMixInspection(), new SensitiveWordsInspection(),
+                new ClassNameUpperCaseInspection(), new MethodAndParameterNamingInspection(), new ClassNamingInspection(),
+                new ArrayDefinitionInspection(), new BooleanVariableNamingInspection(), new DuplicateVariableNamingInspection(),
+                new EnumNamingInspection(), new MagicValueInspection(), new LowercaseLongLiteralInspection(),
+                new BracesStyleInspection(), new BracesSpacesInspection(), new ReservedWordsSpacesInspection(),
+                new OperatorSpacingInspection(), new IndentationAndTabInspection(), new CommentSpacesInspection(),
+                new NoSpaceBetweenCastAndValueInspection(), new LineLengthLimitInspection(), new OverrideAnnotationInspection(),
+                new CustomRuleInspection());
+        for (AbstractP3cInspection inspection : inspections) {
+            // 测量完整的检查耗时，不在达到上限或超过预算时提前结束
+            inspection.problemLimit = 0;
+            inspection.timeBudgetMs = 0;
+        }
+        shortNames = inspections.stream().map(AbstractP3cInspection::getShortName).collect(Collectors.toSet());
+        myFixture.enableInspections(inspections.toArray(new InspectionProfileEntry[0]));
+    }
+
+    public void testLargeFile() {
+        long elapsed = measure(MEMBERS);
+        assertTrue("检查 " + MEMBERS + " 个成员的文件耗时 " + elapsed + " ms，超过预算 " + BUDGET_MS + " ms",
+                elapsed <= BUDGET_MS);
+    }
+
+    public void testLinearGrowth() {
+        long small = Math.max(1, measure(MEMBERS / GROWTH));
+        long large = measure(MEMBERS);
+        assertTrue("成员数增加到 " + GROWTH + " 倍时耗时从 " + small + " ms 增加到 " + large + " ms，超过 " + MAX_GROWTH_FACTOR + " 倍",
+                large <= small * MAX_GROWTH_FACTOR);
+    }
+
+    /**
+     * 生成文件并重复高亮，每次高亮的问题数需要相同
+     *
+     * @param members 成员数
+     * @return 耗时的中位数，单位毫秒
+     */
+    private long measure(int members) {
+        myFixture.configureByText("Generated.java", generate(members));
+        int expected = countProblems();
+        assertTrue("生成的文件中应有问题", expected > members);
+        long[] elapsed = new long[ATTEMPTS];
+        for (int i = 0; i < ATTEMPTS; i++) {
+            DaemonCodeAnalyzer.getInstance(getProject()).restart();
+            long start = System.nanoTime();
+            int count = countProblems();
+            elapsed[i] = (System.nanoTime() - start) / 1_000_000;
+            assertEquals(expected, count);
+        }
+        Arrays.sort(elapsed);
+        return elapsed[ATTEMPTS / 2];
+    }
+
+    private int countProblems() {
+        return (int) myFixture.doHighlighting().stream()
+                .filter(info -> shortNames.contains(info.getInspectionToolId()))
+                .count();
+    }
+
+    /**
+     * 生成包含多种问题的类，每个成员都违反命名、常量和格式规约
+     */
+    @NotNull
+    private static String generate(int members) {
+        StringBuilder text = new StringBuilder("class Generated {\n");
+        for (int i = 0; i < members; i++) {
+            text.append("    private boolean isFlag").append(i).append(";\n")
+                    .append("    private int _count").append(i).append(";\n")
+                    .append("    private int values").append(i).append("[];\n")
+                    .append("    void Method").append(i).append("(int Value) {\n")
+                    .append("        long total = ").append(i).append("l;\n")
+                    .append("        if(Value > 0) {\n")
+                    .append("            total=total + Value;\n")
+                    .append("        }\n")
+                    .append("        //comment ").append(i).append('\n')
+                    .append("        String text = (String) \"value\";\n")
+                    .append("        log( text);\n")
+                    .append("    }\n\n");
+        }
+        return text.append("    void log(String message) {\n    }\n}\n").toString();
+    }
+}
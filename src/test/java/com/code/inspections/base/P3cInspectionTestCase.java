@@ -0,0 +1,129 @@
+package com.code.inspections.base;
+
+import com.intellij.codeInsight.daemon.impl.HighlightInfo;
+import com.intellij.codeInsight.intention.IntentionAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.projectRoots.JavaSdk;
+import com.intellij.openapi.projectRoots.Sdk;
+import com.intellij.openapi.util.TextRange;
+import com.intellij.testFramework.LightProjectDescriptor;
+import com.intellij.testFramework.fixtures.DefaultLightProjectDescriptor;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Ali-P3C 检查的测试基类。
+ * <p>
+ * 每个检查的测试数据位于 {@code src/test/testData/<shortName>/}：
+ * <ul>
+ *     <li>{@code Highlighting.java} 与 {@code Highlighting.txt}：检查的输入和期望的问题，每行一个问题，格式为 {@code 行:列 '高亮文本' 描述}</li>
+ *     <li>{@code <名称>.java} 与 {@code <名称>_after.java}：快速修复的输入和期望的结果，输入中的 {@code <caret>} 为光标位置</li>
+ * </ul>
+ * 只启用被测的检查，并且只比较该检查的问题，测试数据不需要避开其他检查和编译错误。
+ * 使用运行测试的 JDK 作为项目的 SDK，不依赖 IDE 源码中的 mock JDK。
+ *
+ * @author liuzhihang
+ * @version P3cInspectionTestCase.java, v 0.1 2026/10/18 liuzhihang
+ */
+public abstract class P3cInspectionTestCase extends LightJavaCodeInsightFixtureTestCase {
+
+    /**
+     * 期望文件中高亮文本的最大长度，超过时截断
+     */
+    private static final int MAX_TEXT_LENGTH = 40;
+
+    private static final LightProjectDescriptor DESCRIPTOR = new DefaultLightProjectDescriptor() {
+        @Override
+        public Sdk getSdk() {
+            return JavaSdk.getInstance().createJdk("java", System.getProperty("java.home"), false);
+        }
+    };
+
+    @NotNull
+    @Override
+    protected LightProjectDescriptor getProjectDescriptor() {
+        return DESCRIPTOR;
+    }
+
+    @Override
+    protected String getTestDataPath() {
+        return "src/test/testData";
+    }
+
+    /**
+     * 检查 {@code Highlighting.java}，与 {@code Highlighting.txt} 比较
+     *
+     * @param inspection 被测的检查
+     */
+    protected void doHighlightingTest(@NotNull AbstractP3cInspection inspection) {
+        myFixture.enableInspections(inspection);
+        myFixture.configureByFile(inspection.getShortName() + "/Highlighting.java");
+        checkHighlighting(inspection);
+    }
+
+    /**
+     * 检查当前文件，与 {@code Highlighting.txt} 比较，需要在检查前准备项目状态的测试在配置文件后调用
+     *
+     * @param inspection 被测的检查，需要已启用
+     */
+    protected void checkHighlighting(@NotNull AbstractP3cInspection inspection) {
+        String actual = render(myFixture.getEditor().getDocument(), highlight(inspection.getShortName()));
+        assertSameLinesWithFile(getTestDataPath() + "/" + inspection.getShortName() + "/Highlighting.txt", actual);
+    }
+
+    /**
+     * 在 {@code <name>.java} 的光标处应用快速修复，与 {@code <name>_after.java} 比较
+     *
+     * @param inspection 被测的检查
+     * @param name       测试数据的名称
+     * @param fixText    快速修复的名称
+     */
+    protected void doFixTest(@NotNull AbstractP3cInspection inspection, @NotNull String name, @NotNull String fixText) {
+        myFixture.enableInspections(inspection);
+        myFixture.configureByFile(inspection.getShortName() + "/" + name + ".java");
+        IntentionAction action = myFixture.findSingleIntention(fixText);
+        myFixture.launchAction(action);
+        myFixture.checkResultByFile(inspection.getShortName() + "/" + name + "_after.java");
+    }
+
+    /**
+     * 高亮当前文件，只保留指定检查的问题
+     *
+     * @param shortName 检查的 shortName
+     * @return 问题
+     */
+    @NotNull
+    protected List<HighlightInfo> highlight(@NotNull String shortName) {
+        return myFixture.doHighlighting().stream()
+                .filter(info -> shortName.equals(info.getInspectionToolId()))
+                .toList();
+    }
+
+    /**
+     * 按位置输出问题，每行一个
+     */
+    private static String render(Document document, List<HighlightInfo> infos) {
+        StringBuilder result = new StringBuilder();
+        infos.stream()
+                .sorted(Comparator.comparingInt(HighlightInfo::getStartOffset)
+                        .thenComparingInt(HighlightInfo::getEndOffset)
+                        .thenComparing(info -> String.valueOf(info.getDescription())))
+                .forEach(info -> {
+                    int line = document.getLineNumber(info.getStartOffset());
+                    int column = info.getStartOffset() - document.getLineStartOffset(line);
+                    String text = document.getText(new TextRange(info.getStartOffset(), info.getEndOffset()))
+                            .replace("\n", "\\n")
+                            .replace("\t", "\\t");
+                    if (text.length() > MAX_TEXT_LENGTH) {
+                        text = text.substring(0, MAX_TEXT_LENGTH) + "...";
+                    }
+                    result.append(line + 1).append(':').append(column + 1)
+                            .append(" '").append(text).append("' ")
+                            .append(info.getDescription()).append('\n');
+                });
+        return result.toString();
+    }
+}
@@ -0,0 +1,92 @@
+package com.code.inspections.base;
+
+import com.code.inspections.ali.constant.LowercaseLongLiteralInspection;
+import com.code.inspections.ali.constant.MagicValueInspection;
+import com.code.inspections.ali.name.ArrayDefinitionInspection;
+import com.code.inspections.ali.name.BooleanVariableNamingInspection;
+import com.code.inspections.ali.name.ClassNameUpperCaseInspection;
+import com.code.inspections.ali.name.ClassNamingInspection;
+import com.code.inspections.ali.name.DuplicateVariableNamingInspection;
+import com.code.inspections.ali.name.EnumNamingInspection;
+import com.code.inspections.ali.name.MethodAndParameterNamingInspection;
+import com.code.inspections.ali.name.NamingConventionInspection;
+import com.code.inspections.ali.name.P3cFieldShadowingGraph;
+import com.code.inspections.ali.name.SensitiveWordsInspection;
+import com.intellij.codeInspection.GlobalInspectionContext;
+import com.intellij.codeInspection.InspectionManager;
+import com.intellij.codeInspection.ProblemDescriptor;
+import com.intellij.codeInspection.ex.InspectionEngine;
+import com.intellij.codeInspection.ex.LocalInspectionToolWrapper;
+import com.intellij.openapi.application.WriteAction;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.testFramework.GCWatcher;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.lang.ref.Reference;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 问题描述符和快速修复不持有语法树的测试：问题视图保留检查结果时，已关闭文件的语法树需要能被回收。
+ * <p>
+ * 对每个带快速修复的检查，在 {@code Highlighting.java} 上运行一次批量检查，保留全部问题和快速修复，
+ * 删除文件后强制回收，文件和问题所在的元素没有被回收时测试失败，失败信息中包含引用链。
+ *
+ * @author liuzhihang
+ * @version P3cQuickFixLeakTest.java, v 0.1 2026/10/18 liuzhihang
+ */
+public class P3cQuickFixLeakTest extends P3cInspectionTestCase {
+
+    public void testClosedFileNotRetainedByProblems() throws IOException {
+        List<AbstractP3cInspection> inspections = List.of(
+                new NamingConventionInspection(), new SensitiveWordsInspection(), new ClassNameUpperCaseInspection(),
+                new MethodAndParameterNamingInspection(), new ClassNamingInspection(), new ArrayDefinitionInspection(),
+                new BooleanVariableNamingInspection(), new DuplicateVariableNamingInspection(), new EnumNamingInspection(),
+                new MagicValueInspection(), new LowercaseLongLiteralInspection());
+        for (AbstractP3cInspection inspection : inspections) {
+            List<ProblemDescriptor> problems = new ArrayList<>();
+            GCWatcher watcher = inspectAndClose(inspection, problems);
+            assertTrue(inspection.getShortName() + " 应有带快速修复的问题",
+                    problems.stream().anyMatch(problem -> problem.getFixes() != null && problem.getFixes().length > 0));
+            watcher.ensureCollected();
+            // 回收期间问题和快速修复保持可达
+            Reference.reachabilityFence(problems);
+        }
+    }
+
+    /**
+     * 在新文件上运行检查，保存问题后删除文件，方法返回后文件和元素只可能被问题或快速修复引用
+     *
+     * @param inspection 检查
+     * @param problems   保存问题
+     * @return 跟踪文件和问题所在元素的回收
+     */
+    @NotNull
+    private GCWatcher inspectAndClose(AbstractP3cInspection inspection, List<ProblemDescriptor> problems) throws IOException {
+        String shortName = inspection.getShortName();
+        String text = Files.readString(Path.of(getTestDataPath(), shortName, "Highlighting.java"), StandardCharsets.UTF_8);
+        PsiFile file = myFixture.addFileToProject(shortName + "/Highlighting.java", text);
+        // 字段隐藏图在构建完成前没有结果，先在当前线程中构建
+        P3cFieldShadowingGraph.getInstance(getProject()).buildNow();
+
+        GlobalInspectionContext context = InspectionManager.getInstance(getProject()).createNewGlobalContext();
+        problems.addAll(InspectionEngine.runInspectionOnFile(file, new LocalInspectionToolWrapper(inspection), context));
+
+        List<Object> tracked = new ArrayList<>();
+        tracked.add(file);
+        for (ProblemDescriptor problem : problems) {
+            PsiElement element = problem.getPsiElement();
+            if (element != null) {
+                tracked.add(element);
+            }
+        }
+        GCWatcher watcher = GCWatcher.tracking(tracked.toArray());
+        WriteAction.run(() -> file.getVirtualFile().delete(this));
+        return watcher;
+    }
+}
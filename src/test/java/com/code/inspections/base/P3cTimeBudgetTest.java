@@ -0,0 +1,75 @@
+package com.code.inspections.base;
+
+import com.code.inspections.ali.constant.MagicValueInspection;
+import com.intellij.codeInspection.InspectionManager;
+import com.intellij.codeInspection.LocalInspectionToolSession;
+import com.intellij.codeInspection.ProblemDescriptor;
+import com.intellij.codeInspection.ProblemsHolder;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiElementVisitor;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiRecursiveElementWalkingVisitor;
+import com.intellij.util.TimeoutUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * 时间预算只累加规则自身耗时的测试：两次访问之间的停顿（平台运行其他规则、等待读锁等）不计入预算。
+ *
+ * @author liuzhihang
+ * @version P3cTimeBudgetTest.java, v 0.1 2026/10/18 liuzhihang
+ */
+public class P3cTimeBudgetTest extends P3cInspectionTestCase {
+
+    /**
+     * 时间预算，单位毫秒
+     */
+    private static final int BUDGET_MS = 100;
+
+    /**
+     * 每两次访问之间的停顿，单位毫秒
+     */
+    private static final int STALL_MS = 2;
+
+    public void testStallBetweenVisitsNotCounted() {
+        MagicValueInspection inspection = new MagicValueInspection();
+        PsiFile file = myFixture.configureByFile(inspection.getShortName() + "/Highlighting.java");
+        inspection.timeBudgetMs = 0;
+        List<ProblemDescriptor> expected = inspect(inspection, file, 0);
+        assertNotEmpty(expected);
+
+        inspection.timeBudgetMs = BUDGET_MS;
+        long start = System.nanoTime();
+        List<ProblemDescriptor> actual = inspect(inspection, file, STALL_MS);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        assertTrue("停顿的总时长 " + elapsedMs + " ms 应超过时间预算 " + BUDGET_MS + " ms", elapsedMs > 2L * BUDGET_MS);
+        assertEquals(expected.size(), actual.size());
+    }
+
+    /**
+     * 按实时检查构建访问者，逐个元素访问，每次访问之后停顿
+     *
+     * @param inspection 检查
+     * @param file       文件
+     * @param stallMs    每次访问之后的停顿，单位毫秒
+     * @return 问题
+     */
+    @NotNull
+    private List<ProblemDescriptor> inspect(AbstractP3cInspection inspection, PsiFile file, int stallMs) {
+        ProblemsHolder holder = new ProblemsHolder(InspectionManager.getInstance(getProject()), file, true);
+        LocalInspectionToolSession session = new LocalInspectionToolSession(file, file.getTextRange(), file.getTextRange(), null);
+        inspection.inspectionStarted(session, true);
+        PsiElementVisitor visitor = inspection.buildVisitor(holder, true, session);
+        file.accept(new PsiRecursiveElementWalkingVisitor() {
+            @Override
+            public void visitElement(@NotNull PsiElement element) {
+                element.accept(visitor);
+                TimeoutUtil.sleep(stallMs);
+                super.visitElement(element);
+            }
+        });
+        inspection.inspectionFinished(session, holder);
+        return holder.getResults();
+    }
+}
@@ -0,0 +1,146 @@
+package com.code.inspections.base;
+
+import com.code.inspections.bundle.CodeInspectionsBundle;
+import com.intellij.openapi.project.Project;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * 检查类加载开销的测试：创建检查实例时不读取资源包、不编译正则，这些开销由 {@link AbstractP3cInspection#warmUp} 或第一次检查承担。
+ * <p>
+ * 测试进程中的类和资源包可能已被其他测试加载，因此在只包含插件类的独立类加载器中重新加载全部检查，
+ * 记录加载器上的资源包读取，并检查已初始化的类中没有编译好的正则。最后调用预热和读取消息，确认记录的方式能观察到这些开销。
+ *
+ * @author liuzhihang
+ * @version P3cWarmUpTest.java, v 0.1 2026/10/18 liuzhihang
+ */
+public class P3cWarmUpTest extends P3cInspectionTestCase {
+
+    private static final String PLUGIN_PACKAGE = "com.code.inspections.";
+
+    private static final String BUNDLE_RESOURCE = CodeInspectionsBundle.BUNDLE.replace('.', '/');
+
+    /**
+     * plugin.xml 中注册的全部检查
+     */
+    private static final List<String> INSPECTIONS = List.of(
+            "ali.name.NamingConventionInspection", "ali.name.ChineseAndPinyinMixInspection", "ali.name.SensitiveWordsInspection",
+            "ali.name.ClassNameUpperCaseInspection", "ali.name.MethodAndParameterNamingInspection", "ali.name.ClassNamingInspection",
+            "ali.name.ArrayDefinitionInspection", "ali.name.BooleanVariableNamingInspection", "ali.name.DuplicateVariableNamingInspection",
+            "ali.name.EnumNamingInspection", "ali.constant.MagicValueInspection", "ali.constant.LowercaseLongLiteralInspection",
+            "ali.style.BracesStyleInspection", "ali.style.BracesSpacesInspection", "ali.style.ReservedWordsSpacesInspection",
+            "ali.style.OperatorSpacingInspection", "ali.style.IndentationAndTabInspection", "ali.style.CommentSpacesInspection",
+            "ali.style.NoSpaceBetweenCastAndValueInspection", "ali.style.LineLengthLimitInspection", "ali.oop.OverrideAnnotationInspection",
+            "ali.custom.CustomRuleInspection");
+
+    public void testLoadingInspectionsIsCheap() throws Exception {
+        try (PluginClassLoader loader = new PluginClassLoader()) {
+            List<Class<?>> classes = new ArrayList<>();
+            for (String name : INSPECTIONS) {
+                Class<?> inspectionClass = Class.forName(PLUGIN_PACKAGE + name, true, loader);
+                inspectionClass.getDeclaredConstructor().newInstance();
+                classes.add(inspectionClass);
+            }
+
+            assertEmpty("创建检查实例时读取了资源包", loader.bundleReads);
+            for (Class<?> inspectionClass : classes) {
+                assertNull(inspectionClass.getName() + " 在类加载时编译了正则", findCompiledPattern(inspectionClass));
+            }
+            String matchers = PLUGIN_PACKAGE + "ali.name.SensitiveWordsInspection$Matchers";
+            assertNull("创建检查实例时初始化了敏感词匹配器", loader.loaded(matchers));
+
+            // 预热编译匹配器，读取消息时加载资源包
+            Object sensitiveWords = Class.forName(PLUGIN_PACKAGE + "ali.name.SensitiveWordsInspection", true, loader)
+                    .getDeclaredConstructor().newInstance();
+            sensitiveWords.getClass().getMethod("warmUp", Project.class).invoke(sensitiveWords, getProject());
+            assertNotNull(loader.loaded(matchers));
+            assertNotNull(findCompiledPattern(loader.loaded(matchers)));
+            Class.forName(PLUGIN_PACKAGE + "bundle.CodeInspectionsBundle", true, loader)
+                    .getMethod("message", String.class, Object[].class)
+                    .invoke(null, "ali.p3c.name.convention.message", new Object[0]);
+            assertNotEmpty(loader.bundleReads);
+        }
+    }
+
+    /**
+     * 类中已初始化的正则静态字段
+     */
+    private static Pattern findCompiledPattern(@NotNull Class<?> type) throws IllegalAccessException {
+        for (Field field : type.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers()) && Pattern.class.isAssignableFrom(field.getType())) {
+                field.setAccessible(true);
+                Pattern pattern = (Pattern) field.get(null);
+                if (pattern != null) {
+                    return pattern;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 只从插件的类和资源目录加载插件的类，平台的类交给测试的类加载器，记录资源包的读取
+     */
+    private static final class PluginClassLoader extends URLClassLoader {
+
+        private final Set<String> bundleReads = ConcurrentHashMap.newKeySet();
+
+        PluginClassLoader() throws IOException {
+            super(new URL[]{root(AbstractP3cInspection.class.getName().replace('.', '/') + ".class"),
+                    root(BUNDLE_RESOURCE + ".properties")}, P3cWarmUpTest.class.getClassLoader());
+        }
+
+        /**
+         * 测试的类加载器中包含该资源的目录或 jar
+         */
+        private static URL root(String resource) throws IOException {
+            URL url = P3cWarmUpTest.class.getClassLoader().getResource(resource);
+            assertNotNull(resource, url);
+            String text = url.toString();
+            return new URL(text.substring(0, text.length() - resource.length()));
+        }
+
+        Class<?> loaded(String name) {
+            return findLoadedClass(name);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.startsWith(PLUGIN_PACKAGE)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> result = findLoadedClass(name);
+                if (result == null) {
+                    result = findClass(name);
+                }
+                if (resolve) {
+                    resolveClass(result);
+                }
+                return result;
+            }
+        }
+
+        @Override
+        public URL getResource(String name) {
+            if (name.startsWith(BUNDLE_RESOURCE)) {
+                bundleReads.add(name);
+                URL own = findResource(name);
+                if (own != null) {
+                    return own;
+                }
+            }
+            return super.getResource(name);
+        }
+    }
+}
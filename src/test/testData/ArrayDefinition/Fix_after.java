@@ -0,0 +1,3 @@
+class Fix {
+    private int[] counts;
+}
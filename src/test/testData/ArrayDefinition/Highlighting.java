@@ -0,0 +1,10 @@
+class Highlighting {
+    private int counts[];
+    private int[] sizes;
+    private String names[] = {"a"};
+
+    void fill(int values[], int[] other) {
+        int local[] = new int[1];
+        int[] copy = local;
+    }
+}
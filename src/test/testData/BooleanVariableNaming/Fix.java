@@ -0,0 +1,3 @@
+class Fix {
+    private boolean <caret>isDeleted;
+}
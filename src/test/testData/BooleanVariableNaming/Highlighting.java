@@ -0,0 +1,8 @@
+class Highlighting {
+    private boolean isDeleted;
+    private Boolean isActive;
+    private boolean deleted;
+    private boolean island;
+    private static boolean isCached;
+    private final boolean isReady = true;
+}
@@ -0,0 +1,13 @@
+class Highlighting {
+    void call(boolean flag) {
+        run( 1);
+        if (flag ) {
+            run(2);
+        }
+    }
+
+    void run(int value) {}
+
+    class Inner{
+    }
+}
@@ -0,0 +1,24 @@
+class Highlighting {
+    void empty() {
+    }
+
+    void compact() {}
+
+    void sameLine() { run(); }
+
+    void nextLine()
+    {
+        run();
+    }
+
+    void branch(boolean flag) {
+        if (flag) {
+            run();
+        }
+        else {
+            run();
+        }
+    }
+
+    void run() {}
+}
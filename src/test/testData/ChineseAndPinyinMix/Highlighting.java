@@ -0,0 +1,8 @@
+class Highlighting {
+    private String 名称;
+    private String name;
+
+    String describe() {
+        return name;
+    }
+}
@@ -0,0 +1,2 @@
+class user_<caret>info {
+}
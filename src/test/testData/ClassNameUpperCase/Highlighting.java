@@ -0,0 +1,14 @@
+class Highlighting {
+}
+
+class user_info {
+}
+
+class xmlParser {
+}
+
+class userDO {
+}
+
+class HttpClient {
+}
@@ -0,0 +1,2 @@
+abstract class Sh<caret>ape {
+}
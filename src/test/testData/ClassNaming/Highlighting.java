@@ -0,0 +1,14 @@
+abstract class Shape {
+}
+
+abstract class AbstractShape {
+}
+
+abstract class BaseShape {
+}
+
+class ParseError extends Exception {
+}
+
+class ParseException extends Exception {
+}
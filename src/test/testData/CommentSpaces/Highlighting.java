@@ -0,0 +1,12 @@
+class Highlighting {
+    //missing space
+    int a;
+    // single space
+    int b;
+    //  two spaces
+    int c;
+    //
+    int d;
+    /*block*/
+    int e;
+}
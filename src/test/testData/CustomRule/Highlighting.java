@@ -0,0 +1,12 @@
+package com.example.service;
+
+class OrderService {
+    void loadOrder() {
+    }
+
+    void utilHelper() {
+    }
+}
+
+class OrderManager {
+}
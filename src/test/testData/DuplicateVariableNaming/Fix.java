@@ -0,0 +1,7 @@
+class Base {
+    protected String name;
+}
+
+class Child extends Base {
+    protected String <caret>name;
+}
@@ -0,0 +1,6 @@
+class Base {
+    protected String name;
+}
+
+class Child extends Base {
+}
@@ -0,0 +1,26 @@
+class Base {
+    protected String name;
+    protected int age;
+
+    public String getName() {
+        return name;
+    }
+}
+
+class Child extends Base {
+    protected String name;
+}
+
+class Other extends Base {
+}
+
+interface Constants {
+    String TYPE = "base";
+}
+
+class Parent implements Constants {
+}
+
+class Derived extends Parent {
+    protected String TYPE;
+}
@@ -0,0 +1,3 @@
+enum Col<caret>or {
+    RED
+}
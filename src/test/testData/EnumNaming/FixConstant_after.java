@@ -0,0 +1,3 @@
+enum ColorEnum {
+    RED, DARKBLUE
+}
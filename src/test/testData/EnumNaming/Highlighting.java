@@ -0,0 +1,7 @@
+enum Color {
+    RED, darkBlue, LIGHT_GREEN
+}
+
+enum StatusEnum {
+    ACTIVE, inactive
+}
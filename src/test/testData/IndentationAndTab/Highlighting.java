@@ -0,0 +1,5 @@
+class Highlighting {
+	int tabbed;
+    int spaced;
+  	  int mixed;
+}
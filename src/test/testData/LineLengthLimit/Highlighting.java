@@ -0,0 +1,11 @@
+class Highlighting {
+    private static final String LONG_TEXT = "xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx";
+    private final int sum = 1 +
+            2;
+    private final String chain = LONG_TEXT.
+            trim();
+    private final int max = Math.max(1
+            , 2);
+    private final int min = Math.min
+            (1, 2);
+}
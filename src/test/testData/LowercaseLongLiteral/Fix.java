@@ -0,0 +1,3 @@
+class Fix {
+    private long timeout = 30<caret>l;
+}
@@ -0,0 +1,6 @@
+class Highlighting {
+    private long timeout = 10l;
+    private long delay = 10L;
+    private Long mask = 0x1Fl;
+    private int count = 1;
+}
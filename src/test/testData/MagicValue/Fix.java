@@ -0,0 +1,7 @@
+class Fix {
+
+    int compute() {
+        int base = <caret>42;
+        return base;
+    }
+}
@@ -0,0 +1,8 @@
+class Fix {
+    private static final int CONST_42 = 42;
+
+    int compute() {
+        int base = Fix.CONST_42;
+        return base;
+    }
+}
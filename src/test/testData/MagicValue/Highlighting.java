@@ -0,0 +1,17 @@
+class Highlighting {
+    private static final int LIMIT = 10;
+    private String label = "field";
+
+    int compute(int value) {
+        int base = 42;
+        String unit = "ms";
+        if (value > 100) {
+            return base;
+        }
+        log("done");
+        return value * 2;
+    }
+
+    void log(String message) {
+    }
+}
@@ -0,0 +1,4 @@
+class Fix {
+    void processOrder() {
+    }
+}
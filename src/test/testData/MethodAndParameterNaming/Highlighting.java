@@ -0,0 +1,11 @@
+class Highlighting {
+    void Process(int Count, int total_size) {
+    }
+
+    void handle(int value) {
+    }
+
+    int getURL() {
+        return 0;
+    }
+}
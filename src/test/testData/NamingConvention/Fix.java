@@ -0,0 +1,3 @@
+class Fix {
+    private int <caret>_count;
+}
@@ -0,0 +1,9 @@
+class Highlighting {
+    private int _count;
+    private String name$;
+    private int valid;
+
+    int $total(int value_) {
+        return _count + value_ + valid;
+    }
+}
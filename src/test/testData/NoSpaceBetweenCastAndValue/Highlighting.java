@@ -0,0 +1,8 @@
+class Highlighting {
+    int run(long value, Object object) {
+        int a = (int) value;
+        int b = (int)value;
+        String text = (String) object;
+        return a + b + text.length();
+    }
+}
@@ -0,0 +1,9 @@
+class Highlighting {
+    int run(int a, int b, boolean flag) {
+        int sum = a+b;
+        int diff = a - b;
+        sum=diff;
+        sum = flag ? a : b;
+        return flag?sum : diff;
+    }
+}
@@ -0,0 +1,17 @@
+class Highlighting implements Runnable {
+    public void run() {
+    }
+
+    @Override
+    public String toString() {
+        return "";
+    }
+
+    public boolean equals(Object other) {
+        return false;
+    }
+
+    public int size() {
+        return 0;
+    }
+}
@@ -0,0 +1,17 @@
+class Highlighting {
+    void run(int count) {
+        if(count > 0) {
+            count--;
+        }
+        for (int i = 0; i < count; i++) {
+            count--;
+        }
+        while(count > 0) {
+            count--;
+        }
+        switch(count) {
+            default:
+                break;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+class Highlighting {
+    private String userBlackList;
+    private String blackboard;
+    private int slaveCount;
+    private int total;
+
+    // keep the blackList in sync with the server
+}